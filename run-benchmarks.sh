@@ -0,0 +1,36 @@
+#!/bin/bash
+
+# JMH benchmark runner for CareConnect CoreAPI
+# Usage: ./run-benchmarks.sh [benchmark-regex] [baseline.json]
+#
+# Results are written as JMH JSON to target/jmh/<commit>.json so runs from
+# different commits can be compared. Pass a previous result as the second
+# argument to print a before/after table (requires jq).
+
+INCLUDE=${1:-.*}
+BASELINE=$2
+COMMIT=$(git rev-parse --short HEAD 2>/dev/null || echo "workspace")
+RESULT="target/jmh/${COMMIT}.json"
+
+mkdir -p target/jmh
+
+echo "⏱️  Running JMH benchmarks matching: $INCLUDE"
+echo "📝 Results: $RESULT"
+echo "=========================================="
+
+mvn -B -q -P benchmarks test-compile exec:exec -Djmh.include="$INCLUDE" -Djmh.result="$RESULT" || exit 1
+
+if [ -n "$BASELINE" ]; then
+    if ! command -v jq >/dev/null 2>&1; then
+        echo "⚠️  jq not found - skipping comparison"
+        exit 0
+    fi
+    echo ""
+    echo "📊 Comparison against $BASELINE (score, lower is better for avgt):"
+    jq -r -s '
+        (.[0] | map({key: (.benchmark + " " + ((.params // {}) | tostring)), value: .primaryMetric.score}) | from_entries) as $before
+        | .[1][]
+        | (.benchmark + " " + ((.params // {}) | tostring)) as $key
+        | [$key, ($before[$key] // "n/a"), .primaryMetric.score, .primaryMetric.scoreUnit]
+        | @tsv' "$BASELINE" "$RESULT" | column -t -s $'\t'
+fi
@@ -0,0 +1,119 @@
+package com.careconnect.coreapi.attendance.domain;
+
+import com.careconnect.coreapi.benchmark.BenchmarkFixtures;
+import com.careconnect.coreapi.childmgmt.domain.Child;
+import com.careconnect.coreapi.common.utils.UuidV7;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Inserting 1M attendance rows in JDBC batches with random version 4 IDs against time-ordered
+ * version 7 IDs. Each measurement starts from an empty table.
+ *
+ * Runs on H2 by default. Start the JVM with {@code -Dspring.datasource.url=jdbc:postgresql://...}
+ * (plus username and password) to measure PostgreSQL, where the size of the primary key index
+ * after each iteration is printed as well: version 4 inserts split random leaf pages and leave
+ * them half full, version 7 inserts append to the rightmost one.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@Fork(1)
+public class AttendanceInsertBenchmark {
+
+    private static final int ROWS = 1_000_000;
+    private static final String INSERT_SQL = "INSERT INTO attendance (id, child_id, facility_id, check_in, " +
+            "status, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?)";
+
+    @Param({"100", "1000"})
+    private int batchSize;
+
+    private ConfigurableApplicationContext context;
+    private JdbcTemplate jdbcTemplate;
+    private UUID[] childIds;
+    private UUID facilityId;
+    private boolean postgres;
+
+    @Setup
+    public void setUp() {
+        context = BenchmarkFixtures.startApplication();
+        jdbcTemplate = context.getBean(JdbcTemplate.class);
+        postgres = "PostgreSQL".equals(jdbcTemplate.execute(
+                (ConnectionCallback<String>) connection -> connection.getMetaData().getDatabaseProductName()));
+
+        childIds = BenchmarkFixtures.children(500, 42L).stream()
+                .map(Child::getId)
+                .toArray(UUID[]::new);
+        facilityId = UUID.randomUUID();
+    }
+
+    @Setup(Level.Iteration)
+    public void emptyTable() {
+        jdbcTemplate.update("DELETE FROM attendance");
+    }
+
+    @TearDown(Level.Iteration)
+    public void reportIndexSize() {
+        if (postgres) {
+            System.out.printf("%n  attendance primary key index: %s%n", jdbcTemplate.queryForObject(
+                    "SELECT pg_size_pretty(pg_relation_size(indexrelid)) FROM pg_index " +
+                    "WHERE indrelid = 'attendance'::regclass AND indisprimary", String.class));
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public int randomIds() {
+        return insert(UUID::randomUUID);
+    }
+
+    @Benchmark
+    public int timeOrderedIds() {
+        return insert(UuidV7::generate);
+    }
+
+    private int insert(Supplier<UUID> ids) {
+        Timestamp now = Timestamp.from(Instant.parse("2024-09-02T08:00:00Z"));
+        List<Object[]> batch = new ArrayList<>(batchSize);
+        int inserted = 0;
+        for (int i = 0; i < ROWS; i++) {
+            batch.add(new Object[]{ids.get(), childIds[i % childIds.length], facilityId, now, "PRESENT", now, now});
+            if (batch.size() == batchSize) {
+                inserted += jdbcTemplate.batchUpdate(INSERT_SQL, batch).length;
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) {
+            inserted += jdbcTemplate.batchUpdate(INSERT_SQL, batch).length;
+        }
+        return inserted;
+    }
+}
@@ -0,0 +1,161 @@
+package com.careconnect.coreapi.attendance.internal.service;
+
+import com.careconnect.coreapi.attendance.dto.AttendanceEventRequestDto;
+import com.careconnect.coreapi.attendance.dto.AttendanceEventResult;
+import com.careconnect.coreapi.benchmark.BenchmarkFixtures;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+import java.util.stream.Stream;
+
+/**
+ * Morning drop-off load test for {@link AttendanceService}: a steady stream of check-ins spread
+ * over several facilities, with a share of them replayed under the same idempotency key as a
+ * flaky tablet would, while the rosters are polled.
+ *
+ * Open loop: check-in {@code i} is due at {@code start + i / rate} and runs on its own virtual
+ * thread, and its latency is measured from when it was due, so a stalled flush shows up in the
+ * percentiles instead of slowing the generator down. At the end all events are flushed and the
+ * table and rosters are checked against what was sent.
+ *
+ * <pre>
+ * mvn -P benchmarks test-compile exec:java -Dexec.classpathScope=test \
+ *     -Dexec.mainClass=com.careconnect.coreapi.attendance.internal.service.AttendanceLoadSimulation \
+ *     -Dexec.args="5000 1 20"
+ * </pre>
+ * Arguments: check-ins per minute (5000), minutes (1), facilities (20).
+ */
+public final class AttendanceLoadSimulation {
+
+    // Every 50th check-in is sent twice
+    private static final int REPLAY_EVERY = 50;
+
+    private AttendanceLoadSimulation() {
+    }
+
+    public static void main(String[] args) throws InterruptedException {
+        int perMinute = args.length > 0 ? Integer.parseInt(args[0]) : 5_000;
+        int minutes = args.length > 1 ? Integer.parseInt(args[1]) : 1;
+        int facilityCount = args.length > 2 ? Integer.parseInt(args[2]) : 20;
+        int total = perMinute * minutes;
+        long intervalNanos = TimeUnit.MINUTES.toNanos(1) / perMinute;
+
+        boolean passed;
+        ConfigurableApplicationContext context = BenchmarkFixtures.startApplication();
+        try {
+            AttendanceService attendanceService = context.getBean(AttendanceService.class);
+            JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+            List<UUID> facilities = seedFacilities(jdbcTemplate, facilityCount);
+            List<UUID> children = seedChildren(jdbcTemplate, total);
+
+            long[] latencies = new long[total];
+            AtomicInteger replays = new AtomicInteger();
+            AtomicInteger duplicates = new AtomicInteger();
+            AtomicInteger errors = new AtomicInteger();
+            AtomicInteger rosterReads = new AtomicInteger();
+
+            System.out.printf("Simulating %d check-ins over %d minute(s) at %d facilities%n", total, minutes, facilityCount);
+            Thread poller = Thread.ofVirtual().start(() -> {
+                while (!Thread.currentThread().isInterrupted()) {
+                    for (UUID facilityId : facilities) {
+                        attendanceService.getRoster(facilityId);
+                        rosterReads.incrementAndGet();
+                    }
+                    LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(100));
+                }
+            });
+
+            long start = System.nanoTime();
+            try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+                for (int i = 0; i < total; i++) {
+                    long due = start + i * intervalNanos;
+                    long wait = due - System.nanoTime();
+                    if (wait > 0) {
+                        LockSupport.parkNanos(wait);
+                    }
+                    int index = i;
+                    executor.execute(() -> {
+                        AttendanceEventRequestDto request = AttendanceEventRequestDto.builder()
+                                .childId(children.get(index))
+                                .facilityId(facilities.get(index % facilityCount))
+                                .occurredAt(Instant.now())
+                                .build();
+                        String key = "load-" + index;
+                        try {
+                            attendanceService.checkIn(request, key);
+                            if (index % REPLAY_EVERY == 0) {
+                                replays.incrementAndGet();
+                                if (attendanceService.checkIn(request, key).status()
+                                        == AttendanceEventResult.Status.DUPLICATE) {
+                                    duplicates.incrementAndGet();
+                                }
+                            }
+                        } catch (RuntimeException e) {
+                            errors.incrementAndGet();
+                        }
+                        latencies[index] = System.nanoTime() - due;
+                    });
+                }
+            }
+            Duration sending = Duration.ofNanos(System.nanoTime() - start);
+            poller.interrupt();
+
+            long flushStart = System.nanoTime();
+            attendanceService.flush();
+            Duration finalFlush = Duration.ofNanos(System.nanoTime() - flushStart);
+
+            long rows = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM attendance", Long.class);
+            int onSite = facilities.stream().mapToInt(id -> attendanceService.getRoster(id).size()).sum();
+
+            Arrays.sort(latencies);
+            System.out.printf("Sent in %d ms (%.0f check-ins/min)%n", sending.toMillis(),
+                    total / (sending.toNanos() / (double) TimeUnit.MINUTES.toNanos(1)));
+            System.out.printf("Latency from due time: p50 %.2f ms, p95 %.2f ms, p99 %.2f ms, max %.2f ms%n",
+                    millis(latencies, 0.50), millis(latencies, 0.95), millis(latencies, 0.99),
+                    latencies[total - 1] / 1e6);
+            System.out.printf("Replays: %d sent, %d reported as duplicates; errors: %d; roster reads: %d%n",
+                    replays.get(), duplicates.get(), errors.get(), rosterReads.get());
+            System.out.printf("Final flush: %d ms; rows: %d, on site: %d, expected: %d%n",
+                    finalFlush.toMillis(), rows, onSite, total);
+            passed = rows == total && onSite == total && duplicates.get() == replays.get() && errors.get() == 0;
+        } finally {
+            context.close();
+        }
+        if (!passed) {
+            System.out.println("FAILED: table or rosters do not match the check-ins sent");
+            System.exit(1);
+        }
+    }
+
+    private static List<UUID> seedFacilities(JdbcTemplate jdbcTemplate, int facilityCount) {
+        List<UUID> facilities = Stream.generate(UUID::randomUUID).limit(facilityCount).toList();
+        Timestamp now = Timestamp.from(Instant.now());
+        jdbcTemplate.batchUpdate("INSERT INTO facilities (id, name, created_at, updated_at) VALUES (?, ?, ?, ?)",
+                facilities.stream().map(id -> new Object[]{id, "Facility " + id, now, now}).toList());
+        return facilities;
+    }
+
+    // Check-ins for children that do not exist are refused, so each check-in gets its own child
+    private static List<UUID> seedChildren(JdbcTemplate jdbcTemplate, int count) {
+        List<UUID> children = Stream.generate(UUID::randomUUID).limit(count).toList();
+        Timestamp now = Timestamp.from(Instant.now());
+        jdbcTemplate.batchUpdate("INSERT INTO children (id, first_name, last_name, created_at, updated_at) VALUES (?, ?, ?, ?, ?)",
+                children.stream().map(id -> new Object[]{id, "Child", id.toString(), now, now}).toList());
+        return children;
+    }
+
+    private static double millis(long[] sorted, double percentile) {
+        return sorted[(int) Math.min(sorted.length - 1, Math.ceil(percentile * sorted.length) - 1)] / 1e6;
+    }
+}
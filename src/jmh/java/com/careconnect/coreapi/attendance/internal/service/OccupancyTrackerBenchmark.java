@@ -0,0 +1,124 @@
+package com.careconnect.coreapi.attendance.internal.service;
+
+import com.careconnect.coreapi.facility.FacilityCapacities;
+import com.careconnect.coreapi.facility.FacilityCapacity;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 64 threads checking in and out at once: the compare-and-set counters of
+ * {@link OccupancyTracker} against one lock-guarded counter per facility. With a single facility
+ * every thread hits the same counter; with more the load spreads as it does across a real
+ * chain of facilities. The capacity is never reached, so every attempt does a full enter/leave.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(64)
+public class OccupancyTrackerBenchmark {
+
+    @Param({"1", "16", "256"})
+    private int facilityCount;
+
+    private UUID[] facilities;
+    private OccupancyTracker tracker;
+    private LockedCounter[] lockedCounters;
+
+    @Setup
+    public void setUp() {
+        facilities = new UUID[facilityCount];
+        lockedCounters = new LockedCounter[facilityCount];
+        for (int i = 0; i < facilityCount; i++) {
+            facilities[i] = UUID.randomUUID();
+            lockedCounters[i] = new LockedCounter(Integer.MAX_VALUE);
+        }
+        List<FacilityCapacity> capacities = Arrays.stream(facilities)
+                .map(id -> new FacilityCapacity(id, Integer.MAX_VALUE - 1))
+                .toList();
+        tracker = new OccupancyTracker(new FacilityCapacities() {
+            @Override
+            public Optional<FacilityCapacity> findCapacity(UUID facilityId) {
+                return capacities.stream().filter(capacity -> capacity.facilityId().equals(facilityId)).findFirst();
+            }
+
+            @Override
+            public List<FacilityCapacity> findAllCapacities() {
+                return capacities;
+            }
+        });
+        tracker.refresh();
+    }
+
+    @Benchmark
+    public boolean lockFree() {
+        UUID facilityId = facilities[ThreadLocalRandom.current().nextInt(facilityCount)];
+        boolean entered = tracker.tryEnter(facilityId);
+        if (entered) {
+            tracker.leave(facilityId);
+        }
+        return entered;
+    }
+
+    @Benchmark
+    public boolean locked() {
+        LockedCounter counter = lockedCounters[ThreadLocalRandom.current().nextInt(facilityCount)];
+        boolean entered = counter.tryEnter();
+        if (entered) {
+            counter.leave();
+        }
+        return entered;
+    }
+
+    private static final class LockedCounter {
+        private final ReentrantLock lock = new ReentrantLock();
+        private final int capacity;
+        private int occupied;
+
+        private LockedCounter(int capacity) {
+            this.capacity = capacity;
+        }
+
+        boolean tryEnter() {
+            lock.lock();
+            try {
+                if (occupied >= capacity) {
+                    return false;
+                }
+                occupied++;
+                return true;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        void leave() {
+            lock.lock();
+            try {
+                occupied--;
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+}
@@ -0,0 +1,154 @@
+package com.careconnect.coreapi.attendance.internal.service;
+
+import com.careconnect.coreapi.attendance.dto.AttendanceEventResult;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.LockSupport;
+import java.util.stream.Stream;
+
+/**
+ * Fan-out load test for {@link RosterStreamBus}: thousands of roster stream subscribers spread
+ * over a few facilities, each drained by its own virtual thread as the stream controller does,
+ * while check-ins and check-outs are published at a steady rate. One subscriber in a hundred
+ * stops reading, to show slow clients being dropped without holding anyone else up.
+ *
+ * Reports the heap held per subscriber, the delay from publish to receipt, and how many
+ * subscribers were dropped. Runs at the bus level; the HTTP connections themselves are not
+ * part of it.
+ *
+ * <pre>
+ * mvn -P benchmarks test-compile exec:java -Dexec.classpathScope=test \
+ *     -Dexec.mainClass=com.careconnect.coreapi.attendance.internal.service.RosterStreamSimulation \
+ *     -Dexec.args="10000 10 200 30"
+ * </pre>
+ * Arguments: subscribers (10000), facilities (10), events per second (200), seconds (30).
+ */
+public final class RosterStreamSimulation {
+
+    // Every 100th subscriber never reads
+    private static final int STALLED_EVERY = 100;
+    private static final int MAX_LAG_SAMPLES = 1_000_000;
+
+    private RosterStreamSimulation() {
+    }
+
+    public static void main(String[] args) throws InterruptedException {
+        int subscriberCount = args.length > 0 ? Integer.parseInt(args[0]) : 10_000;
+        int facilityCount = args.length > 1 ? Integer.parseInt(args[1]) : 10;
+        int perSecond = args.length > 2 ? Integer.parseInt(args[2]) : 200;
+        int seconds = args.length > 3 ? Integer.parseInt(args[3]) : 30;
+        int total = perSecond * seconds;
+        long intervalNanos = TimeUnit.SECONDS.toNanos(1) / perSecond;
+
+        RosterStreamBus bus = new RosterStreamBus(new ObjectMapper().findAndRegisterModules());
+        ReflectionTestUtils.setField(bus, "historySize", 1024);
+        ReflectionTestUtils.setField(bus, "subscriberBuffer", 256);
+        List<UUID> facilities = Stream.generate(UUID::randomUUID).limit(facilityCount).toList();
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        // Publish time of each event, indexed by its facility sequence and facility
+        AtomicLongArray published = new AtomicLongArray((total / facilityCount + 2) * facilityCount);
+        long[] lags = new long[MAX_LAG_SAMPLES];
+
+        long heapBefore = usedHeap(memory);
+        List<RosterSubscription> subscriptions = new ArrayList<>(subscriberCount);
+        for (int i = 0; i < subscriberCount; i++) {
+            subscriptions.add(bus.subscribe(facilities.get(i % facilityCount), null, List::of));
+        }
+        long heapSubscribed = usedHeap(memory);
+
+        AtomicInteger received = new AtomicInteger();
+        List<Thread> consumers = new ArrayList<>(subscriberCount);
+        for (int i = 0; i < subscriberCount; i++) {
+            RosterSubscription subscription = subscriptions.get(i);
+            int facilityIndex = i % facilityCount;
+            if (i % STALLED_EVERY == 0) {
+                continue;
+            }
+            consumers.add(Thread.ofVirtual().start(() -> {
+                try {
+                    while (!subscription.isClosed()) {
+                        RosterStreamEvent event = subscription.poll(Duration.ofSeconds(1));
+                        if (event == null) {
+                            continue;
+                        }
+                        long sequence = Long.parseLong(event.id().substring(event.id().indexOf(':') + 1));
+                        if (sequence > 0) {
+                            long lag = System.nanoTime() - published.get((int) sequence * facilityCount + facilityIndex);
+                            int slot = received.getAndIncrement();
+                            if (slot < lags.length) {
+                                lags[slot] = lag;
+                            }
+                        }
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }));
+        }
+
+        System.out.printf("Publishing %d events to %d subscribers at %d facilities%n", total, subscriberCount, facilityCount);
+        long start = System.nanoTime();
+        long heapPeak = 0;
+        for (int i = 0; i < total; i++) {
+            long due = start + i * intervalNanos;
+            long wait = due - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            int facilityIndex = i % facilityCount;
+            long sequence = i / facilityCount + 1;
+            published.set((int) sequence * facilityCount + facilityIndex, System.nanoTime());
+            bus.publish(facilities.get(facilityIndex), AttendanceEventResult.Type.CHECK_IN, UUID.randomUUID(), Instant.now());
+            if (i % perSecond == 0) {
+                heapPeak = Math.max(heapPeak, memory.getHeapMemoryUsage().getUsed());
+            }
+        }
+        Duration publishing = Duration.ofNanos(System.nanoTime() - start);
+        LockSupport.parkNanos(TimeUnit.SECONDS.toNanos(1));
+        long heapAfter = usedHeap(memory);
+
+        subscriptions.forEach(RosterSubscription::close);
+        for (Thread consumer : consumers) {
+            consumer.join();
+        }
+
+        long dropped = subscriptions.stream().filter(RosterSubscription::isDropped).count();
+        int samples = Math.min(received.get(), lags.length);
+        long[] sorted = Arrays.copyOf(lags, samples);
+        Arrays.sort(sorted);
+        System.out.printf("Published in %d ms (%.0f events/s), %d deliveries%n", publishing.toMillis(),
+                total / (publishing.toNanos() / 1e9), received.get());
+        System.out.printf("Heap per subscriber: %.1f KB after subscribing, %.1f KB after publishing; peak %d MB%n",
+                (heapSubscribed - heapBefore) / 1024.0 / subscriberCount,
+                (heapAfter - heapBefore) / 1024.0 / subscriberCount, heapPeak / (1024 * 1024));
+        System.out.printf("Delivery lag: p50 %.2f ms, p99 %.2f ms, max %.2f ms%n",
+                millis(sorted, 0.50), millis(sorted, 0.99), samples == 0 ? 0 : sorted[samples - 1] / 1e6);
+        System.out.printf("Dropped: %d of %d subscribers (%d never read)%n",
+                dropped, subscriberCount, (subscriberCount + STALLED_EVERY - 1) / STALLED_EVERY);
+    }
+
+    private static long usedHeap(MemoryMXBean memory) {
+        System.gc();
+        LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(200));
+        return memory.getHeapMemoryUsage().getUsed();
+    }
+
+    private static double millis(long[] sorted, double percentile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        return sorted[(int) Math.min(sorted.length - 1, Math.ceil(percentile * sorted.length) - 1)] / 1e6;
+    }
+}
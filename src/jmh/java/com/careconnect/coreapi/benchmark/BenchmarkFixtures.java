@@ -0,0 +1,134 @@
+package com.careconnect.coreapi.benchmark;
+
+import com.careconnect.coreapi.CoreapiApplication;
+import com.careconnect.coreapi.childmgmt.domain.Child;
+import com.careconnect.coreapi.childmgmt.domain.ChildGuardian;
+import com.careconnect.coreapi.childmgmt.domain.Guardian;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+/**
+ * Deterministic test data shared by the benchmarks.
+ */
+public final class BenchmarkFixtures {
+
+    private static final String[] FIRST_NAMES = {
+            "Emma", "Liam", "Olivia", "Noah", "Amelia", "Oliver", "Sophia", "Elijah", "Zoë", "Mateo",
+            "Aaliyah", "Jean-Luc", "Chloé", "Ravi", "Mei", "Søren", "Fatima", "Kai", "Nora", "Luca"};
+    private static final String[] LAST_NAMES = {
+            "Smith", "Johnson", "Williams", "Brown", "Tremblay", "Nguyen", "Martin", "Roy", "O'Brien", "García",
+            "Singh", "Lee", "MacDonald", "Kowalski", "Dubois", "Chen", "Patel", "Anderson", "Côté", "Wilson"};
+    private static final String[] NOTES = {
+            null,
+            "Needs an afternoon nap",
+            "Mild eczema - apply cream after outdoor play",
+            "<b>Epipen</b> in the front office, allergic to peanuts",
+            "Speech therapy on Tuesdays; pick-up at 14:30"};
+
+    private static final int SEED_BATCH_SIZE = 10_000;
+
+    private BenchmarkFixtures() {
+    }
+
+    /**
+     * Builds detached children with one or two guardian links each, as the list endpoints return them.
+     */
+    public static List<Child> children(int count, long seed) {
+        return children(new Random(seed), count);
+    }
+
+    private static List<Child> children(Random random, int count) {
+        List<Child> children = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Child child = new Child();
+            child.setId(new UUID(random.nextLong(), random.nextLong()));
+            child.setFirstName(FIRST_NAMES[random.nextInt(FIRST_NAMES.length)]);
+            child.setLastName(LAST_NAMES[random.nextInt(LAST_NAMES.length)]);
+            child.setDob(Instant.parse("2019-01-01T00:00:00Z").plusSeconds(random.nextInt(4 * 365) * 86_400L));
+            child.setGender(random.nextBoolean() ? "Female" : "Male");
+            child.setSpecialNeeds(NOTES[random.nextInt(NOTES.length)]);
+            child.setEmergencyContact("555-" + (100 + random.nextInt(900)) + "-" + (1000 + random.nextInt(9000)));
+            child.setCreatedAt(Instant.parse("2024-09-01T12:00:00Z"));
+            child.setUpdatedAt(Instant.parse("2024-09-01T12:00:00Z"));
+            int guardianCount = 1 + random.nextInt(2);
+            for (int g = 0; g < guardianCount; g++) {
+                Guardian guardian = new Guardian();
+                guardian.setId(new UUID(random.nextLong(), random.nextLong()));
+                ChildGuardian link = new ChildGuardian();
+                link.setChild(child);
+                link.setGuardian(guardian);
+                link.setPrimaryGuardian(g == 0);
+                child.getChildGuardians().add(link);
+            }
+            children.add(child);
+        }
+        return children;
+    }
+
+    /**
+     * Starts the application without a web server against the in-memory H2 database of the test profile.
+     *
+     * @param properties extra {@code key=value} properties, e.g. to enable Hibernate statistics
+     */
+    public static ConfigurableApplicationContext startApplication(String... properties) {
+        return startApplication(List.of(), properties);
+    }
+
+    /**
+     * Starts the application like {@link #startApplication(String...)}, with extra bean classes
+     * such as event listeners that only the benchmark needs.
+     */
+    public static ConfigurableApplicationContext startApplication(List<Class<?>> sources, String... properties) {
+        return new SpringApplicationBuilder(CoreapiApplication.class)
+                .sources(sources.toArray(Class<?>[]::new))
+                .profiles("test")
+                .web(WebApplicationType.NONE)
+                .properties("logging.level.root=WARN", "logging.level.com.careconnect.coreapi=WARN")
+                .properties(properties)
+                .run();
+    }
+
+    /**
+     * Inserts {@link #children} and their guardian links with JDBC batches, bypassing the persistence context.
+     */
+    public static void seed(JdbcTemplate jdbcTemplate, int count, long seed) {
+        Random random = new Random(seed);
+        for (int offset = 0; offset < count; offset += SEED_BATCH_SIZE) {
+            seedBatch(jdbcTemplate, children(random, Math.min(SEED_BATCH_SIZE, count - offset)), random);
+        }
+    }
+
+    private static void seedBatch(JdbcTemplate jdbcTemplate, List<Child> children, Random random) {
+        Timestamp now = Timestamp.from(Instant.parse("2024-09-01T12:00:00Z"));
+        List<Object[]> childRows = new ArrayList<>(children.size());
+        List<Object[]> guardianRows = new ArrayList<>();
+        List<Object[]> linkRows = new ArrayList<>();
+        for (Child child : children) {
+            childRows.add(new Object[]{child.getId(), child.getFirstName(), child.getLastName(),
+                    Timestamp.from(child.getDob()), child.getGender(), child.getSpecialNeeds(),
+                    child.getEmergencyContact(), now, now});
+            for (ChildGuardian link : child.getChildGuardians()) {
+                UUID guardianId = link.getGuardian().getId();
+                guardianRows.add(new Object[]{guardianId, new UUID(random.nextLong(), random.nextLong()),
+                        Boolean.TRUE.equals(link.getPrimaryGuardian()) ? "Mother" : "Father", now, now});
+                linkRows.add(new Object[]{new UUID(random.nextLong(), random.nextLong()), guardianId,
+                        child.getId(), link.getPrimaryGuardian(), now, now});
+            }
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO children (id, first_name, last_name, dob, gender, special_needs, " +
+                "emergency_contact, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)", childRows);
+        jdbcTemplate.batchUpdate("INSERT INTO guardians (id, user_id, relationship, pickup_authorized, created_at, " +
+                "updated_at) VALUES (?, ?, ?, TRUE, ?, ?)", guardianRows);
+        jdbcTemplate.batchUpdate("INSERT INTO child_guardians (id, guardian_id, child_id, primary_guardian, " +
+                "created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?)", linkRows);
+    }
+}
@@ -0,0 +1,89 @@
+package com.careconnect.coreapi.billing;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Summing 1M payment amounts: {@link BigDecimal} as read from the old {@code DECIMAL(65, 30)}
+ * columns (scale 30) and at scale 2, versus {@link Money} and the raw {@code long} cents it holds.
+ *
+ * Run with the default {@code -prof gc}: every {@code BigDecimal.add} allocates its result,
+ * the {@code long} sums allocate nothing.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MoneyBenchmark {
+
+    private static final int PAYMENTS = 1_000_000;
+
+    private BigDecimal[] decimalsScale30;
+    private BigDecimal[] decimalsScale2;
+    private List<Money> amounts;
+    private long[] cents;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42L);
+        decimalsScale30 = new BigDecimal[PAYMENTS];
+        decimalsScale2 = new BigDecimal[PAYMENTS];
+        amounts = new ArrayList<>(PAYMENTS);
+        cents = new long[PAYMENTS];
+        for (int i = 0; i < PAYMENTS; i++) {
+            long amount = 5_000 + random.nextInt(120_000);
+            decimalsScale2[i] = BigDecimal.valueOf(amount, 2);
+            decimalsScale30[i] = decimalsScale2[i].setScale(30);
+            amounts.add(Money.ofCents(amount));
+            cents[i] = amount;
+        }
+    }
+
+    @Benchmark
+    public BigDecimal bigDecimalScale30() {
+        BigDecimal total = BigDecimal.ZERO;
+        for (BigDecimal amount : decimalsScale30) {
+            total = total.add(amount);
+        }
+        return total;
+    }
+
+    @Benchmark
+    public BigDecimal bigDecimalScale2() {
+        BigDecimal total = BigDecimal.ZERO;
+        for (BigDecimal amount : decimalsScale2) {
+            total = total.add(amount);
+        }
+        return total;
+    }
+
+    @Benchmark
+    public Money money() {
+        return Money.sum(amounts);
+    }
+
+    @Benchmark
+    public long longCents() {
+        long total = 0;
+        for (long amount : cents) {
+            total = Math.addExact(total, amount);
+        }
+        return total;
+    }
+}
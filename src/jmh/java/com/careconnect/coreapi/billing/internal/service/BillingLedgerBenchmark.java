@@ -0,0 +1,131 @@
+package com.careconnect.coreapi.billing.internal.service;
+
+import com.careconnect.coreapi.benchmark.BenchmarkFixtures;
+import com.careconnect.coreapi.billing.dto.GuardianBalanceSummary;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A guardian's balance over 500k invoices (H2), half of them paid: summing their invoices and
+ * payments at query time versus reading the {@code guardian_balances} row kept by
+ * {@link BillingLedger}. The invoices are spread over {@code guardians} guardians, so the
+ * aggregate reads 500k / guardians invoices per call while the ledger reads one row.
+ *
+ * {@code reconcile} is the nightly {@link BalanceReconciliation} scan over all 500k invoices,
+ * one run per iteration.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BillingLedgerBenchmark {
+
+    private static final int INVOICES = 500_000;
+    private static final int BATCH_SIZE = 10_000;
+    private static final String AGGREGATE_SQL =
+            "SELECT (SELECT COALESCE(SUM(amount_cents), 0) FROM billing WHERE guardian_id = ?) - " +
+            "(SELECT COALESCE(SUM(p.amount_cents), 0) FROM payments p JOIN billing b ON b.id = p.billing_id " +
+            "WHERE b.guardian_id = ?)";
+
+    @Param({"1000", "50000"})
+    private int guardians;
+
+    private ConfigurableApplicationContext context;
+    private JdbcTemplate jdbcTemplate;
+    private BillingLedger billingLedger;
+    private BalanceReconciliation balanceReconciliation;
+    private UUID[] guardianIds;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        context = BenchmarkFixtures.startApplication("app.billing.reconcile.enabled=false");
+        jdbcTemplate = context.getBean(JdbcTemplate.class);
+        billingLedger = context.getBean(BillingLedger.class);
+        balanceReconciliation = context.getBean(BalanceReconciliation.class);
+        guardianIds = seed(new Random(42L));
+        // The invoices were inserted around the ledger: the first run fills guardian_balances
+        balanceReconciliation.reconcile();
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Long aggregateAtQueryTime() {
+        UUID guardianId = nextGuardian();
+        return jdbcTemplate.queryForObject(AGGREGATE_SQL, Long.class, guardianId, guardianId);
+    }
+
+    @Benchmark
+    public GuardianBalanceSummary materializedBalance() {
+        return billingLedger.getBalance(nextGuardian());
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public int reconcile() {
+        return balanceReconciliation.reconcile();
+    }
+
+    private UUID nextGuardian() {
+        UUID guardianId = guardianIds[next];
+        next = (next + 1) % guardianIds.length;
+        return guardianId;
+    }
+
+    private UUID[] seed(Random random) {
+        Timestamp now = Timestamp.from(Instant.parse("2024-09-01T12:00:00Z"));
+        UUID[] ids = new UUID[guardians];
+        List<Object[]> guardianRows = new ArrayList<>(guardians);
+        for (int i = 0; i < guardians; i++) {
+            ids[i] = new UUID(random.nextLong(), random.nextLong());
+            guardianRows.add(new Object[]{ids[i], new UUID(random.nextLong(), random.nextLong()), now, now});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO guardians (id, user_id, relationship, pickup_authorized, created_at, " +
+                "updated_at) VALUES (?, ?, 'Mother', TRUE, ?, ?)", guardianRows);
+        for (int offset = 0; offset < INVOICES; offset += BATCH_SIZE) {
+            List<Object[]> invoiceRows = new ArrayList<>(BATCH_SIZE);
+            List<Object[]> paymentRows = new ArrayList<>(BATCH_SIZE / 2);
+            for (int i = offset; i < offset + BATCH_SIZE; i++) {
+                UUID billingId = new UUID(random.nextLong(), random.nextLong());
+                long amountCents = 5_000 + random.nextInt(120_000);
+                invoiceRows.add(new Object[]{billingId, ids[i % guardians], amountCents, now, now, now});
+                if (i % 2 == 0) {
+                    paymentRows.add(new Object[]{new UUID(random.nextLong(), random.nextLong()), billingId, amountCents,
+                            now, "txn-" + i, now, now});
+                }
+            }
+            jdbcTemplate.batchUpdate("INSERT INTO billing (id, guardian_id, amount_cents, due_date, status, created_at, " +
+                    "updated_at) VALUES (?, ?, ?, ?, 'PENDING', ?, ?)", invoiceRows);
+            jdbcTemplate.batchUpdate("INSERT INTO payments (id, billing_id, amount_cents, payment_date, payment_method, " +
+                    "transaction_id, created_at, updated_at) VALUES (?, ?, ?, ?, 'CARD', ?, ?, ?)", paymentRows);
+        }
+        return ids;
+    }
+}
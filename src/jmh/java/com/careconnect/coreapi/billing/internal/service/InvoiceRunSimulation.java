@@ -0,0 +1,127 @@
+package com.careconnect.coreapi.billing.internal.service;
+
+import com.careconnect.coreapi.benchmark.BenchmarkFixtures;
+import com.careconnect.coreapi.billing.dto.InvoiceRunSummary;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+/**
+ * A monthly invoice run over a full-size roster: one primary guardian per child, nine in ten
+ * children enrolled (some starting or leaving mid-month) and attending on weekdays, the rest
+ * coming in for a few drop-in days.
+ *
+ * The run is timed from start to its last shard, and the invoices and ledger are checked
+ * against the guardians that had something to pay. Fails when the invoices do not match or the
+ * run takes longer than five minutes.
+ *
+ * <pre>
+ * mvn -P benchmarks test-compile exec:java -Dexec.classpathScope=test \
+ *     -Dexec.mainClass=com.careconnect.coreapi.billing.internal.service.InvoiceRunSimulation \
+ *     -Dexec.args="100000 20"
+ * </pre>
+ * Arguments: children, each with their own primary guardian (100000), and attended days per
+ * enrolled child (20).
+ */
+public final class InvoiceRunSimulation {
+
+    private static final YearMonth PERIOD = YearMonth.of(2024, 10);
+    private static final Duration TARGET = Duration.ofMinutes(5);
+    private static final int BATCH_SIZE = 10_000;
+
+    private InvoiceRunSimulation() {
+    }
+
+    public static void main(String[] args) {
+        int childCount = args.length > 0 ? Integer.parseInt(args[0]) : 100_000;
+        int attendedDays = args.length > 1 ? Integer.parseInt(args[1]) : 20;
+
+        boolean passed;
+        ConfigurableApplicationContext context = BenchmarkFixtures.startApplication(
+                "app.billing.invoice-run.enabled=false", "app.billing.reconcile.enabled=false");
+        try {
+            JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+            InvoiceRunner invoiceRunner = context.getBean(InvoiceRunner.class);
+
+            System.out.printf("Seeding %d children with %d attended day(s) each%n", childCount, attendedDays);
+            BenchmarkFixtures.seed(jdbcTemplate, childCount, 42L);
+            seedEnrollmentsAndAttendance(jdbcTemplate, attendedDays, new Random(7L));
+            long billable = jdbcTemplate.queryForObject("SELECT COUNT(DISTINCT cg.guardian_id) FROM child_guardians cg " +
+                    "WHERE cg.primary_guardian = TRUE AND (EXISTS (SELECT 1 FROM enrollments e WHERE e.child_id = cg.child_id) " +
+                    "OR EXISTS (SELECT 1 FROM attendance a WHERE a.child_id = cg.child_id))", Long.class);
+
+            long start = System.nanoTime();
+            InvoiceRunSummary summary = invoiceRunner.run(PERIOD).join();
+            Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+
+            long invoices = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM billing WHERE billing_period = ?",
+                    Long.class, Date.valueOf(PERIOD.atDay(1)));
+            long invoicedCents = jdbcTemplate.queryForObject("SELECT COALESCE(SUM(amount_cents), 0) FROM billing",
+                    Long.class);
+            long ledgerCents = jdbcTemplate.queryForObject(
+                    "SELECT COALESCE(SUM(invoiced_cents), 0) FROM guardian_balances", Long.class);
+
+            System.out.printf("Run %s in %.1f s: %d guardian(s), %d invoice(s), %s invoiced, %.0f guardians/s%n",
+                    summary.status(), elapsed.toMillis() / 1000.0, summary.guardiansProcessed(),
+                    summary.invoicesCreated(), summary.amount(),
+                    summary.guardiansProcessed() / Math.max(elapsed.toMillis() / 1000.0, 0.001));
+            System.out.printf("Billable guardians: %d, invoices: %d, ledger matches invoices: %b%n",
+                    billable, invoices, ledgerCents == invoicedCents);
+            passed = invoices == billable && invoices == summary.invoicesCreated()
+                    && ledgerCents == invoicedCents && elapsed.compareTo(TARGET) <= 0;
+        } finally {
+            context.close();
+        }
+        System.out.println(passed ? "PASSED" : "FAILED");
+        System.exit(passed ? 0 : 1);
+    }
+
+    private static void seedEnrollmentsAndAttendance(JdbcTemplate jdbcTemplate, int attendedDays, Random random) {
+        List<UUID> children = jdbcTemplate.queryForList("SELECT id FROM children ORDER BY id", UUID.class);
+        LocalDate first = PERIOD.atDay(1);
+        Timestamp now = Timestamp.from(Instant.now());
+        List<Object[]> enrollments = new ArrayList<>(BATCH_SIZE);
+        List<Object[]> visits = new ArrayList<>(BATCH_SIZE * attendedDays);
+        for (int i = 0; i < children.size(); i++) {
+            UUID childId = children.get(i);
+            boolean enrolled = random.nextInt(10) != 0;
+            if (enrolled) {
+                // One in five starts or leaves during the month
+                LocalDate startDate = random.nextInt(10) == 0 ? first.plusDays(random.nextInt(28)) : first.minusMonths(6);
+                LocalDate endDate = random.nextInt(10) == 0 ? first.plusDays(1 + random.nextInt(28)) : null;
+                enrollments.add(new Object[]{UUID.randomUUID(), childId, timestamp(startDate),
+                        endDate == null ? null : timestamp(endDate), now, now});
+            }
+            int days = enrolled ? attendedDays : 1 + random.nextInt(4);
+            for (int d = 0; d < days; d++) {
+                Instant checkIn = timestamp(first.plusDays(random.nextInt(PERIOD.lengthOfMonth()))).toInstant()
+                        .plusSeconds(7 * 3600 + random.nextInt(3 * 3600));
+                visits.add(new Object[]{UUID.randomUUID(), childId, Timestamp.from(checkIn),
+                        Timestamp.from(checkIn.plusSeconds(8 * 3600)), now, now});
+            }
+            if (enrollments.size() >= BATCH_SIZE || i == children.size() - 1) {
+                jdbcTemplate.batchUpdate("INSERT INTO enrollments (id, child_id, start_date, end_date, status, " +
+                        "created_at, updated_at) VALUES (?, ?, ?, ?, 'Active', ?, ?)", enrollments);
+                jdbcTemplate.batchUpdate("INSERT INTO attendance (id, child_id, check_in, check_out, status, " +
+                        "created_at, updated_at) VALUES (?, ?, ?, ?, 'CHECKED_OUT', ?, ?)", visits);
+                enrollments.clear();
+                visits.clear();
+            }
+        }
+    }
+
+    private static Timestamp timestamp(LocalDate date) {
+        return Timestamp.from(date.atStartOfDay().toInstant(ZoneOffset.UTC));
+    }
+}
@@ -0,0 +1,166 @@
+package com.careconnect.coreapi.billing.internal.service;
+
+import com.careconnect.coreapi.benchmark.BenchmarkFixtures;
+import com.careconnect.coreapi.billing.dto.PaymentRequestDto;
+import com.careconnect.coreapi.billing.dto.PaymentResult;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Payment processor webhook load test for {@link PaymentIngestion}: a steady stream of payment
+ * deliveries against a set of open invoices, one in four of them a redelivery of a recent
+ * transaction, often while the first delivery is still in flight.
+ *
+ * Open loop: delivery {@code i} is due at {@code start + i / rate} and runs on its own virtual
+ * thread, and its latency is measured from when it was due. At the end the invoice statuses are
+ * flushed and the tables are checked: one payment row per transaction, every redelivery
+ * reported as a duplicate, the ledger matching the payments and every paid invoice's status
+ * matching what was paid against it.
+ *
+ * <pre>
+ * mvn -P benchmarks test-compile exec:java -Dexec.classpathScope=test \
+ *     -Dexec.mainClass=com.careconnect.coreapi.billing.internal.service.PaymentWebhookSimulation \
+ *     -Dexec.args="1000 60 10000"
+ * </pre>
+ * Arguments: deliveries per second (1000), seconds (60), open invoices (10000).
+ */
+public final class PaymentWebhookSimulation {
+
+    // Every fourth delivery repeats one of the last RECENT transactions
+    private static final int REPLAY_EVERY = 4;
+    private static final int RECENT = 50;
+    private static final long INVOICE_CENTS = 20_000;
+    private static final BigDecimal PAYMENT = new BigDecimal("50.00");
+
+    private PaymentWebhookSimulation() {
+    }
+
+    public static void main(String[] args) throws InterruptedException {
+        int perSecond = args.length > 0 ? Integer.parseInt(args[0]) : 1_000;
+        int seconds = args.length > 1 ? Integer.parseInt(args[1]) : 60;
+        int invoiceCount = args.length > 2 ? Integer.parseInt(args[2]) : 10_000;
+        int total = perSecond * seconds;
+        long intervalNanos = TimeUnit.SECONDS.toNanos(1) / perSecond;
+
+        boolean passed;
+        ConfigurableApplicationContext context = BenchmarkFixtures.startApplication(
+                "app.billing.invoice-run.enabled=false", "app.billing.reconcile.enabled=false");
+        try {
+            PaymentIngestion paymentIngestion = context.getBean(PaymentIngestion.class);
+            JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+            List<UUID> invoices = seedInvoices(jdbcTemplate, invoiceCount);
+
+            long[] latencies = new long[total];
+            AtomicInteger replays = new AtomicInteger();
+            AtomicInteger duplicates = new AtomicInteger();
+            AtomicInteger errors = new AtomicInteger();
+
+            System.out.printf("Simulating %d payment deliveries over %d second(s) against %d invoices%n",
+                    total, seconds, invoiceCount);
+            long start = System.nanoTime();
+            try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+                for (int i = 0; i < total; i++) {
+                    long due = start + i * intervalNanos;
+                    long wait = due - System.nanoTime();
+                    if (wait > 0) {
+                        LockSupport.parkNanos(wait);
+                    }
+                    int index = i;
+                    executor.execute(() -> {
+                        boolean replay = index % REPLAY_EVERY == REPLAY_EVERY - 1;
+                        int sent = index - index / REPLAY_EVERY;
+                        int transaction = replay ? sent - 1 - new Random(index).nextInt(Math.min(sent, RECENT)) : sent;
+                        PaymentRequestDto request = PaymentRequestDto.builder()
+                                .billingId(invoices.get(transaction % invoiceCount))
+                                .amount(PAYMENT)
+                                .transactionId("sim-" + transaction)
+                                .paymentMethod("CARD")
+                                .build();
+                        try {
+                            PaymentResult result = paymentIngestion.ingest(request);
+                            if (replay) {
+                                replays.incrementAndGet();
+                            }
+                            if (result.status() == PaymentResult.Status.DUPLICATE) {
+                                duplicates.incrementAndGet();
+                            }
+                        } catch (RuntimeException e) {
+                            errors.incrementAndGet();
+                        }
+                        latencies[index] = System.nanoTime() - due;
+                    });
+                }
+            }
+            Duration sending = Duration.ofNanos(System.nanoTime() - start);
+            paymentIngestion.flush();
+
+            long transactions = total - total / REPLAY_EVERY;
+            long rows = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM payments", Long.class);
+            long distinct = jdbcTemplate.queryForObject("SELECT COUNT(DISTINCT transaction_id) FROM payments", Long.class);
+            long paidCents = jdbcTemplate.queryForObject("SELECT COALESCE(SUM(amount_cents), 0) FROM payments", Long.class);
+            long ledgerCents = jdbcTemplate.queryForObject("SELECT COALESCE(SUM(paid_cents), 0) FROM guardian_balances",
+                    Long.class);
+            long wrongStatus = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM billing b " +
+                    "WHERE EXISTS (SELECT 1 FROM payments p WHERE p.billing_id = b.id) AND b.status <> CASE " +
+                    "WHEN (SELECT SUM(p.amount_cents) FROM payments p WHERE p.billing_id = b.id) >= b.amount_cents " +
+                    "THEN 'PAID' ELSE 'PARTIALLY_PAID' END", Long.class);
+            double rate = total / (sending.toNanos() / (double) TimeUnit.SECONDS.toNanos(1));
+
+            Arrays.sort(latencies);
+            System.out.printf("Sent in %d ms (%.0f deliveries/s)%n", sending.toMillis(), rate);
+            System.out.printf("Latency from due time: p50 %.2f ms, p95 %.2f ms, p99 %.2f ms, max %.2f ms%n",
+                    millis(latencies, 0.50), millis(latencies, 0.95), millis(latencies, 0.99),
+                    latencies[total - 1] / 1e6);
+            System.out.printf("Redeliveries: %d sent, %d reported as duplicates; errors: %d; " +
+                    "Bloom filter false positives: %d%n", replays.get(), duplicates.get(), errors.get(),
+                    paymentIngestion.falsePositiveCount());
+            System.out.printf("Payment rows: %d (%d transactions), expected: %d; ledger matches: %b; " +
+                    "invoices with a wrong status: %d%n", rows, distinct, transactions, ledgerCents == paidCents,
+                    wrongStatus);
+            passed = rows == transactions && distinct == transactions && duplicates.get() == replays.get()
+                    && errors.get() == 0 && ledgerCents == paidCents && wrongStatus == 0 && rate >= perSecond * 0.95;
+        } finally {
+            context.close();
+        }
+        if (!passed) {
+            System.out.println("FAILED: duplicate or missing payments, or the delivery rate was not sustained");
+            System.exit(1);
+        }
+    }
+
+    private static List<UUID> seedInvoices(JdbcTemplate jdbcTemplate, int invoiceCount) {
+        BenchmarkFixtures.seed(jdbcTemplate, invoiceCount, 42L);
+        List<UUID> guardians = jdbcTemplate.queryForList("SELECT id FROM guardians ORDER BY id LIMIT ?", UUID.class,
+                invoiceCount);
+        Timestamp now = Timestamp.from(Instant.now());
+        List<UUID> invoices = new ArrayList<>(guardians.size());
+        List<Object[]> rows = new ArrayList<>(guardians.size());
+        for (UUID guardianId : guardians) {
+            UUID invoiceId = UUID.randomUUID();
+            invoices.add(invoiceId);
+            rows.add(new Object[]{invoiceId, guardianId, INVOICE_CENTS, now, now, now});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO billing (id, guardian_id, amount_cents, due_date, status, created_at, " +
+                "updated_at) VALUES (?, ?, ?, ?, 'PENDING', ?, ?)", rows);
+        return invoices;
+    }
+
+    private static double millis(long[] sorted, double percentile) {
+        return sorted[(int) Math.min(sorted.length - 1, Math.ceil(percentile * sorted.length) - 1)] / 1e6;
+    }
+}
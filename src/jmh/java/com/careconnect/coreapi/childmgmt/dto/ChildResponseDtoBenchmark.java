@@ -0,0 +1,49 @@
+package com.careconnect.coreapi.childmgmt.dto;
+
+import com.careconnect.coreapi.benchmark.BenchmarkFixtures;
+import com.careconnect.coreapi.childmgmt.domain.Child;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of turning entities into sanitized response DTOs, dominated by the
+ * {@code XSSProtectionUtil} calls made for every text field.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ChildResponseDtoBenchmark {
+
+    private Child child;
+    private List<Child> page;
+
+    @Setup
+    public void setUp() {
+        page = BenchmarkFixtures.children(100, 42L);
+        child = page.get(0);
+    }
+
+    @Benchmark
+    public ChildResponseDto fromEntity() {
+        return ChildResponseDto.fromEntity(child);
+    }
+
+    @Benchmark
+    public List<ChildResponseDto> fromEntityListOf100() {
+        return ChildResponseDto.fromEntityList(page);
+    }
+}
@@ -0,0 +1,75 @@
+package com.careconnect.coreapi.childmgmt.internal.search;
+
+import com.careconnect.coreapi.benchmark.BenchmarkFixtures;
+import com.careconnect.coreapi.childmgmt.domain.Child;
+import com.careconnect.coreapi.childmgmt.internal.repository.ChildRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * First page of a child name search over 100k children: the previous {@code LIKE '%name%'}
+ * repository query against the in-memory n-gram index used on H2.
+ *
+ * The {@code pg_trgm} engine needs PostgreSQL; run this against a dev database with
+ * {@code app.search.engine=postgres} to measure it. The typo query only matches on the n-gram
+ * index; the LIKE query still scans every row to find nothing.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ChildNameSearchBenchmark {
+
+    @Param({"trem", "kowalsky", "li"})
+    private String query;
+
+    private ConfigurableApplicationContext context;
+    private ChildRepository childRepository;
+    private ChildNameSearch childNameSearch;
+    private final Pageable pageable = PageRequest.of(0, 20);
+
+    @Setup
+    public void setUp() {
+        context = BenchmarkFixtures.startApplication("app.search.engine=memory");
+        BenchmarkFixtures.seed(context.getBean(JdbcTemplate.class), 100_000, 42L);
+        childRepository = context.getBean(ChildRepository.class);
+        childNameSearch = context.getBean(ChildNameSearch.class);
+        // Build the index outside the measurement
+        childNameSearch.search(query, null, pageable);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Page<Child> likeQuery() {
+        return childRepository.findByFilters(query, null, pageable);
+    }
+
+    @Benchmark
+    public Page<UUID> ngramIndex() {
+        return childNameSearch.search(query, null, pageable);
+    }
+}
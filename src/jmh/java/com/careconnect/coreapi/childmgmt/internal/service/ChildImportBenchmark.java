@@ -0,0 +1,106 @@
+package com.careconnect.coreapi.childmgmt.internal.service;
+
+import com.careconnect.coreapi.benchmark.BenchmarkFixtures;
+import com.careconnect.coreapi.childmgmt.domain.Child;
+import com.careconnect.coreapi.childmgmt.dto.ChildImportSummary;
+import com.careconnect.coreapi.childmgmt.dto.ChildRequestDto;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Onboarding 50k children: one {@code ChildService.createChild} per row, as clients of
+ * {@code POST /api/children} do today, against the streaming NDJSON import at several batch sizes.
+ * Each measurement starts from an empty table (H2).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@Fork(1)
+public class ChildImportBenchmark {
+
+    private static final int ROWS = 50_000;
+
+    @Param({"100", "500", "2000"})
+    private int batchSize;
+
+    private ConfigurableApplicationContext context;
+    private ChildService childService;
+    private ChildImportService childImportService;
+    private ObjectMapper objectMapper;
+    private JdbcTemplate jdbcTemplate;
+    private List<ChildRequestDto> requests;
+    private String ndjson;
+
+    @Setup
+    public void setUp() throws JsonProcessingException {
+        context = BenchmarkFixtures.startApplication("app.children.import.batch-size=" + batchSize);
+        childService = context.getBean(ChildService.class);
+        childImportService = context.getBean(ChildImportService.class);
+        objectMapper = context.getBean(ObjectMapper.class);
+        jdbcTemplate = context.getBean(JdbcTemplate.class);
+
+        requests = BenchmarkFixtures.children(ROWS, 42L).stream().map(ChildImportBenchmark::request).toList();
+        StringBuilder body = new StringBuilder();
+        for (ChildRequestDto request : requests) {
+            body.append(objectMapper.writeValueAsString(request)).append('\n');
+        }
+        ndjson = body.toString();
+    }
+
+    @Setup(Level.Iteration)
+    public void emptyTable() {
+        jdbcTemplate.update("DELETE FROM children");
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public void createOneByOne(Blackhole blackhole) {
+        for (ChildRequestDto request : requests) {
+            blackhole.consume(childService.createChild(request.toEntity()));
+        }
+    }
+
+    @Benchmark
+    public ChildImportSummary bulkImport(Blackhole blackhole) throws IOException {
+        return childImportService.importChildren(
+                ChildRowReader.ndjson(new StringReader(ndjson), objectMapper), blackhole::consume);
+    }
+
+    private static ChildRequestDto request(Child child) {
+        return ChildRequestDto.builder()
+                .firstName(child.getFirstName())
+                .lastName(child.getLastName())
+                .dob(child.getDob())
+                .gender(child.getGender())
+                .specialNeeds(child.getSpecialNeeds())
+                .emergencyContact(child.getEmergencyContact())
+                .build();
+    }
+}
@@ -0,0 +1,75 @@
+package com.careconnect.coreapi.childmgmt.internal.service;
+
+import com.careconnect.coreapi.benchmark.BenchmarkFixtures;
+import com.careconnect.coreapi.childmgmt.domain.Child;
+import com.careconnect.coreapi.childmgmt.dto.ChildResponseDto;
+import com.careconnect.coreapi.childmgmt.dto.ChildSummary;
+import com.careconnect.coreapi.common.response.PageResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Before/after for {@code GET /api/children}: hydrating managed {@link Child} entities in a
+ * read-write transaction versus selecting {@link ChildSummary} projections read-only.
+ *
+ * Run with the default {@code -prof gc} and compare {@code gc.alloc.rate.norm}
+ * (bytes allocated per page) alongside the time per page.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ChildListReadBenchmark {
+
+    @Param({"20", "100"})
+    private int pageSize;
+
+    private ConfigurableApplicationContext context;
+    private ChildService childService;
+    private Pageable pageable;
+
+    @Setup
+    public void setUp() {
+        context = BenchmarkFixtures.startApplication();
+        BenchmarkFixtures.seed(context.getBean(JdbcTemplate.class), 5_000, 42L);
+        childService = context.getBean(ChildService.class);
+        pageable = PageRequest.of(3, pageSize, Sort.by("lastName", "id"));
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<ChildResponseDto> managedEntities() {
+        PageResponse<Child> page = childService.getAllChildren(pageable);
+        return ChildResponseDto.fromEntityList(page.getData());
+    }
+
+    @Benchmark
+    public List<ChildResponseDto> readOnlyProjection() {
+        PageResponse<ChildSummary> page = childService.getChildSummaries(pageable);
+        return page.getData().stream().map(ChildResponseDto::fromSummary).toList();
+    }
+}
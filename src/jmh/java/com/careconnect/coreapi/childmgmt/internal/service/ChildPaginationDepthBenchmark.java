@@ -0,0 +1,83 @@
+package com.careconnect.coreapi.childmgmt.internal.service;
+
+import com.careconnect.coreapi.benchmark.BenchmarkFixtures;
+import com.careconnect.coreapi.childmgmt.dto.ChildSummary;
+import com.careconnect.coreapi.common.response.PageCursor;
+import com.careconnect.coreapi.common.response.PageResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Fetches one page of 20 children at increasing depths of a 1M row table, with OFFSET
+ * pagination (page query plus {@code COUNT(*)}) and with keyset pagination from a cursor
+ * pointing at the same position. Offset cost grows with depth; keyset cost should not.
+ *
+ * Seeding 1M children into H2 takes a while and needs a few GB of heap
+ * ({@code -Djmh.include=ChildPaginationDepthBenchmark} to run it on its own).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx6g")
+public class ChildPaginationDepthBenchmark {
+
+    private static final int CHILD_COUNT = 1_000_000;
+    private static final int PAGE_SIZE = 20;
+
+    @Param({"0", "10000", "500000", "999000"})
+    private int depth;
+
+    private ConfigurableApplicationContext context;
+    private ChildService childService;
+    private Pageable offsetPage;
+    private PageCursor cursor;
+
+    @Setup
+    public void setUp() {
+        context = BenchmarkFixtures.startApplication();
+        JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+        BenchmarkFixtures.seed(jdbcTemplate, CHILD_COUNT, 42L);
+        childService = context.getBean(ChildService.class);
+
+        offsetPage = PageRequest.of(depth / PAGE_SIZE, PAGE_SIZE, Sort.by("lastName", "id"));
+        cursor = depth == 0 ? null : jdbcTemplate.queryForObject(
+                "SELECT last_name, id FROM children ORDER BY last_name, id OFFSET ? ROWS FETCH FIRST 1 ROWS ONLY",
+                (rs, rowNum) -> new PageCursor(rs.getString(1), rs.getObject(2, UUID.class)),
+                depth - 1);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public PageResponse<ChildSummary> offset() {
+        return childService.getChildSummaries(offsetPage);
+    }
+
+    @Benchmark
+    public PageResponse<ChildSummary> keyset() {
+        return childService.getChildSummariesAfter(cursor, PAGE_SIZE, false);
+    }
+}
@@ -0,0 +1,52 @@
+package com.careconnect.coreapi.common.config;
+
+import com.careconnect.coreapi.benchmark.BenchmarkFixtures;
+import com.careconnect.coreapi.childmgmt.dto.ChildResponseDto;
+import com.careconnect.coreapi.common.response.PageResponse;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serialization of a 100-child {@code GET /api/children} page with the application's
+ * {@link JacksonConfig} object mapper.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ChildPageSerializationBenchmark {
+
+    private ObjectMapper objectMapper;
+    private PageResponse<ChildResponseDto> page;
+
+    @Setup
+    public void setUp() {
+        objectMapper = new JacksonConfig().objectMapper();
+        List<ChildResponseDto> children = ChildResponseDto.fromEntityList(BenchmarkFixtures.children(100, 7L));
+        page = new PageResponse<>(new PageImpl<>(children, PageRequest.of(0, 100), 2_500),
+                "https://api.careconnect.example/api/children", Map.of());
+    }
+
+    @Benchmark
+    public byte[] serializePageOf100() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(page);
+    }
+}
@@ -0,0 +1,251 @@
+package com.careconnect.coreapi.common.config;
+
+import com.careconnect.coreapi.CoreapiApplication;
+import com.careconnect.coreapi.benchmark.BenchmarkFixtures;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import jakarta.servlet.Filter;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.Ordered;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Platform against virtual request threads: {@code GET /api/children/{id}} from thousands of
+ * concurrent connections, once with Tomcat's thread pool and once with
+ * {@code spring.threads.virtual.enabled=true}.
+ *
+ * Each request first sleeps in a servlet filter for the given latency, standing in for the
+ * Clerk round trip {@code RequestAuthenticationFilter} makes on a token cache miss, then reads
+ * the child over JDBC. With platform threads at most 200 requests are in flight and the rest
+ * queue in Tomcat; with virtual threads all of them are, and the connection pool becomes the
+ * limit. Clients run closed loop, each sending its next request when the previous one returns.
+ *
+ * While the virtual run is in progress, {@code jdk.VirtualThreadPinned} events are recorded
+ * with JFR and the frames that pinned are printed: any listed from our packages point at a
+ * {@code synchronized} block that blocks.
+ *
+ * Runs on H2 by default. Start the JVM with {@code -Dspring.datasource.url=jdbc:postgresql://...}
+ * (plus username and password) to put PostgreSQL behind the pool.
+ *
+ * <pre>
+ * mvn -P benchmarks test-compile exec:java -Dexec.classpathScope=test \
+ *     -Dexec.mainClass=com.careconnect.coreapi.common.config.ThreadModeLoadSimulation \
+ *     -Dexec.args="2000 30 50"
+ * </pre>
+ * Arguments: concurrent connections (2000), seconds per mode (30), simulated auth latency in ms (50).
+ */
+public final class ThreadModeLoadSimulation {
+
+    private static final int CHILDREN = 10_000;
+    private static final Duration WARM_UP = Duration.ofSeconds(5);
+    private static final int MAX_SAMPLES = 5_000_000;
+
+    // Pinned frames, keyed by the first frame in our code or else the top frame
+    private static final Map<String, LongAdder> PINNED = new ConcurrentHashMap<>();
+
+    private ThreadModeLoadSimulation() {
+    }
+
+    public static void main(String[] args) throws InterruptedException {
+        int connections = args.length > 0 ? Integer.parseInt(args[0]) : 2_000;
+        int seconds = args.length > 1 ? Integer.parseInt(args[1]) : 30;
+        int latencyMillis = args.length > 2 ? Integer.parseInt(args[2]) : 50;
+
+        System.out.printf("%d connections, %d s per mode, %d ms simulated auth latency%n",
+                connections, seconds, latencyMillis);
+        Result platform = run(false, connections, Duration.ofSeconds(seconds), latencyMillis);
+        Result virtual = run(true, connections, Duration.ofSeconds(seconds), latencyMillis);
+        System.out.printf("%nVirtual/platform throughput: %.2fx, p99 latency: %.2fx%n",
+                virtual.throughput() / platform.throughput(), virtual.p99Millis() / platform.p99Millis());
+    }
+
+    private static Result run(boolean virtualThreads, int connections, Duration duration, int latencyMillis)
+            throws InterruptedException {
+        String mode = virtualThreads ? "virtual" : "platform";
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(CoreapiApplication.class)
+                .profiles("test")
+                .web(WebApplicationType.SERVLET)
+                .properties("server.port=0", "logging.level.root=WARN", "logging.level.com.careconnect.coreapi=WARN",
+                        "spring.threads.virtual.enabled=" + virtualThreads)
+                .initializers(applicationContext -> applicationContext.getBeanFactory()
+                        .registerSingleton("simulatedAuthLatency", latencyFilter(latencyMillis)))
+                .run();
+        RecordingStream pinning = virtualThreads ? pinningRecorder() : null;
+        try {
+            JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+            BenchmarkFixtures.seed(jdbcTemplate, CHILDREN, 42L);
+            List<UUID> childIds = jdbcTemplate.queryForList("SELECT id FROM children", UUID.class);
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            HikariPoolMXBean pool = context.getBean(DataSource.class).unwrap(HikariDataSource.class).getHikariPoolMXBean();
+            return load(mode, port, childIds, connections, duration, pool);
+        } catch (SQLException e) {
+            throw new IllegalStateException("Data source is not a Hikari pool", e);
+        } finally {
+            if (pinning != null) {
+                pinning.close();
+                printPinning();
+            }
+            context.close();
+        }
+    }
+
+    private static Result load(String mode, int port, List<UUID> childIds, int connections, Duration duration,
+                               HikariPoolMXBean pool) throws InterruptedException {
+        long[] latencies = new long[MAX_SAMPLES];
+        AtomicInteger samples = new AtomicInteger();
+        LongAdder errors = new LongAdder();
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        threads.resetPeakThreadCount();
+
+        long start = System.nanoTime();
+        long measureFrom = start + WARM_UP.toNanos();
+        long end = measureFrom + duration.toNanos();
+        int[] peaks = new int[2];
+        Thread sampler = Thread.ofVirtual().start(() -> {
+            while (System.nanoTime() < end) {
+                peaks[0] = Math.max(peaks[0], pool.getActiveConnections());
+                peaks[1] = Math.max(peaks[1], pool.getThreadsAwaitingConnection());
+                LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(100));
+            }
+        });
+
+        // The clients are closed first, which waits for every loop to finish
+        try (HttpClient http = HttpClient.newBuilder()
+                     .version(HttpClient.Version.HTTP_1_1)
+                     .connectTimeout(Duration.ofSeconds(10))
+                     .build();
+             ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int c = 0; c < connections; c++) {
+                clients.execute(() -> {
+                    while (System.nanoTime() < end) {
+                        UUID childId = childIds.get(ThreadLocalRandom.current().nextInt(childIds.size()));
+                        HttpRequest request = HttpRequest.newBuilder(
+                                URI.create("http://localhost:" + port + "/api/children/" + childId))
+                                .timeout(Duration.ofSeconds(30))
+                                .build();
+                        long sent = System.nanoTime();
+                        boolean ok;
+                        try {
+                            ok = http.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() == 200;
+                        } catch (Exception e) {
+                            ok = false;
+                        }
+                        long received = System.nanoTime();
+                        if (sent < measureFrom) {
+                            continue;
+                        }
+                        if (!ok) {
+                            errors.increment();
+                        }
+                        int slot = samples.getAndIncrement();
+                        if (slot < latencies.length) {
+                            latencies[slot] = received - sent;
+                        }
+                    }
+                });
+            }
+        }
+        sampler.join();
+
+        int count = Math.min(samples.get(), latencies.length);
+        long[] sorted = Arrays.copyOf(latencies, count);
+        Arrays.sort(sorted);
+        Result result = new Result(samples.get() / (double) duration.toSeconds(), millis(sorted, 0.50),
+                millis(sorted, 0.99));
+        System.out.printf("%n[%s] %.0f requests/s, latency p50 %.1f ms, p99 %.1f ms, max %.1f ms, errors %d%n",
+                mode, result.throughput(), result.p50Millis(), result.p99Millis(),
+                count == 0 ? 0 : sorted[count - 1] / 1e6, errors.sum());
+        System.out.printf("[%s] peak platform threads %d; pool: peak active %d of %d, peak waiting %d%n",
+                mode, threads.getPeakThreadCount(), peaks[0], pool.getTotalConnections(), peaks[1]);
+        return result;
+    }
+
+    private static FilterRegistrationBean<Filter> latencyFilter(int latencyMillis) {
+        Filter filter = (request, response, chain) -> {
+            try {
+                Thread.sleep(latencyMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            chain.doFilter(request, response);
+        };
+        FilterRegistrationBean<Filter> registration = new FilterRegistrationBean<>(filter);
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return registration;
+    }
+
+    private static RecordingStream pinningRecorder() {
+        PINNED.clear();
+        RecordingStream stream = new RecordingStream();
+        stream.enable("jdk.VirtualThreadPinned").withThreshold(Duration.ofMillis(1)).withStackTrace();
+        stream.onEvent("jdk.VirtualThreadPinned", event -> PINNED
+                .computeIfAbsent(pinnedAt(event), frame -> new LongAdder()).increment());
+        stream.startAsync();
+        return stream;
+    }
+
+    private static String pinnedAt(RecordedEvent event) {
+        if (event.getStackTrace() == null) {
+            return "(no stack trace)";
+        }
+        List<RecordedFrame> frames = event.getStackTrace().getFrames();
+        for (RecordedFrame frame : frames) {
+            String type = frame.getMethod().getType().getName();
+            if (type.startsWith("com.careconnect.")) {
+                return type + "." + frame.getMethod().getName() + ":" + frame.getLineNumber();
+            }
+        }
+        return frames.isEmpty() ? "(empty stack trace)"
+                : frames.get(0).getMethod().getType().getName() + "." + frames.get(0).getMethod().getName();
+    }
+
+    private static void printPinning() {
+        long total = PINNED.values().stream().mapToLong(LongAdder::sum).sum();
+        System.out.printf("[virtual] pinned virtual threads (>1 ms): %d%n", total);
+        List<Map.Entry<String, LongAdder>> top = new ArrayList<>(PINNED.entrySet());
+        top.sort(Comparator.comparingLong((Map.Entry<String, LongAdder> entry) -> entry.getValue().sum()).reversed());
+        top.stream().limit(10).forEach(entry ->
+                System.out.printf("    %6d  %s%n", entry.getValue().sum(), entry.getKey()));
+    }
+
+    private static double millis(long[] sorted, double percentile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        return sorted[(int) Math.min(sorted.length - 1, Math.ceil(percentile * sorted.length) - 1)] / 1e6;
+    }
+
+    private record Result(double throughput, double p50Millis, double p99Millis) {
+    }
+}
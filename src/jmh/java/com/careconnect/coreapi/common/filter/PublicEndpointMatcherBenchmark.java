@@ -0,0 +1,80 @@
+package com.careconnect.coreapi.common.filter;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.util.AntPathMatcher;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the compiled {@link PublicEndpointMatcher} with the previous per-request
+ * {@link AntPathMatcher} stream scan over the configured public endpoints.
+ *
+ * Each invocation checks a protected path (the common case, which has to scan every
+ * pattern), a literal public path and a public prefix path.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PublicEndpointMatcherBenchmark {
+
+    @Param({"10", "100", "1000"})
+    private int patternCount;
+
+    private List<String> patterns;
+    private AntPathMatcher antPathMatcher;
+    private PublicEndpointMatcher compiledMatcher;
+
+    private final String protectedPath = "/api/children/3f1c2a9e-6c3b-4d7e-9a51-0b8f3e6d2c47/guardians";
+    private String literalPath;
+    private String prefixPath;
+
+    @Setup
+    public void setUp() {
+        patterns = new ArrayList<>(patternCount);
+        for (int i = 0; i < patternCount; i++) {
+            switch (i % 5) {
+                case 0, 1 -> patterns.add("/api/module" + i + "/**");
+                case 2, 3 -> patterns.add("/api/resource" + i + "/status");
+                default -> patterns.add("/api/items" + i + "/*/details");
+            }
+        }
+        literalPath = "/api/resource" + (patternCount - 2) + "/status";
+        prefixPath = "/api/module" + (patternCount - 5) + "/reports/daily";
+        antPathMatcher = new AntPathMatcher();
+        compiledMatcher = new PublicEndpointMatcher(() -> patterns);
+    }
+
+    @Benchmark
+    public void antPathMatcherScan(Blackhole blackhole) {
+        blackhole.consume(scan(protectedPath));
+        blackhole.consume(scan(literalPath));
+        blackhole.consume(scan(prefixPath));
+    }
+
+    @Benchmark
+    public void compiledMatcher(Blackhole blackhole) {
+        blackhole.consume(compiledMatcher.matches(protectedPath));
+        blackhole.consume(compiledMatcher.matches(literalPath));
+        blackhole.consume(compiledMatcher.matches(prefixPath));
+    }
+
+    private boolean scan(String path) {
+        return patterns.stream().anyMatch(pattern -> antPathMatcher.match(pattern, path));
+    }
+}
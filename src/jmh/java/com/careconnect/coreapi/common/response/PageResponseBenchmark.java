@@ -0,0 +1,63 @@
+package com.careconnect.coreapi.common.response;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of building {@link PageResponse} metadata and HATEOAS links for a search page.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PageResponseBenchmark {
+
+    private static final String BASE_URL = "https://api.careconnect.example/api/children/search";
+
+    private Page<Integer> page;
+    private Map<String, String[]> requestParams;
+
+    @Setup
+    public void setUp() {
+        List<Integer> content = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            content.add(i);
+        }
+        page = new PageImpl<>(content, PageRequest.of(3, 20, Sort.by("lastName", "firstName")), 1_000);
+        requestParams = Map.of(
+                "page", new String[]{"3"},
+                "size", new String[]{"20"},
+                "name", new String[]{"smi"},
+                "gender", new String[]{"Female"},
+                "sort", new String[]{"lastName,asc"});
+    }
+
+    @Benchmark
+    public PageResponse<Integer> buildWithLinks() {
+        return new PageResponse<>(page, BASE_URL, requestParams);
+    }
+
+    @Benchmark
+    public PageResponse<Integer> buildWithRelativeLinks() {
+        return new PageResponse<>(page, null, requestParams);
+    }
+}
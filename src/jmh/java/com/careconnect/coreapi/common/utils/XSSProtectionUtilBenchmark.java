@@ -0,0 +1,98 @@
+package com.careconnect.coreapi.common.utils;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.owasp.html.HtmlPolicyBuilder;
+import org.owasp.html.PolicyFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Plain-text fast path in {@link XSSProtectionUtil} against running the OWASP policy on
+ * every value. Each invocation sanitizes a whole corpus:
+ * <ul>
+ *   <li>{@code names}: first/last names, gender codes and phone numbers, all plain text,</li>
+ *   <li>{@code notes}: sentence-length notes where one in five contains {@code &}, an email or markup.</li>
+ * </ul>
+ * The corpora are larger than the memoization cache is likely to keep warm for notes, and
+ * {@code owaspPolicy} shows the cost without either optimization.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class XSSProtectionUtilBenchmark {
+
+    private static final String[] FIRST_NAMES = {"Emma", "Liam", "Zoë", "Noah", "Mia", "José", "Aarav", "Chloé", "Ethan", "Sofía"};
+    private static final String[] LAST_NAMES = {"Smith", "García", "O Connor", "Nguyen", "Müller", "Van der Berg", "Kowalski", "Dubois"};
+    private static final String[] NOTE_TEMPLATES = {
+            "Picked up early by grandmother, signed out at %d:15.",
+            "Allergic to peanuts; carries an EpiPen in the blue backpack (room %d).",
+            "Nap lasted %d minutes, ate most of lunch.",
+            "Prefers to be called by middle name. Speech therapy on Tuesdays, week %d.",
+            "Mom & dad both authorized, contact parent%d@example.com first.",
+            "Bring <b>extra clothes</b> for water play on day %d."
+    };
+
+    private static final PolicyFactory NO_HTML_POLICY = new HtmlPolicyBuilder().toFactory();
+
+    @Param({"names", "notes"})
+    private String corpus;
+
+    private List<String> values;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42L);
+        values = new ArrayList<>(1_000);
+        for (int i = 0; i < 1_000; i++) {
+            if ("names".equals(corpus)) {
+                values.add(switch (i % 4) {
+                    case 0 -> FIRST_NAMES[random.nextInt(FIRST_NAMES.length)];
+                    case 1 -> LAST_NAMES[random.nextInt(LAST_NAMES.length)];
+                    case 2 -> random.nextBoolean() ? "F" : "M";
+                    default -> String.format("(555) %03d-%04d", random.nextInt(1000), random.nextInt(10000));
+                });
+            } else {
+                String template = NOTE_TEMPLATES[random.nextInt(NOTE_TEMPLATES.length)];
+                values.add(String.format(template, random.nextInt(100_000)));
+            }
+        }
+    }
+
+    @Benchmark
+    public void owaspPolicy(Blackhole blackhole) {
+        for (String value : values) {
+            blackhole.consume(NO_HTML_POLICY.sanitize(value).trim());
+        }
+    }
+
+    @Benchmark
+    public void sanitizeText(Blackhole blackhole) {
+        for (String value : values) {
+            blackhole.consume(XSSProtectionUtil.sanitizeText(value));
+        }
+    }
+
+    @Benchmark
+    public void plainTextScan(Blackhole blackhole) {
+        for (String value : values) {
+            blackhole.consume(XSSProtectionUtil.isPlainText(value));
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package com.careconnect.coreapi.communications.internal.service;
+
+import com.careconnect.coreapi.benchmark.BenchmarkFixtures;
+import com.careconnect.coreapi.common.response.PageCursor;
+import com.careconnect.coreapi.common.response.PageResponse;
+import com.careconnect.coreapi.communications.dto.MessageResponseDto;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A recipient's unread badge and inbox over 500k messages (H2), a third of them unread, spread
+ * over {@code recipients} recipients: counting the unread messages at query time versus reading
+ * the count kept in memory by {@link UnreadCounters}, and the second page of an inbox through
+ * its cursor.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MessageInboxBenchmark {
+
+    private static final int MESSAGES = 500_000;
+    private static final int BATCH_SIZE = 10_000;
+    private static final int PAGE_SIZE = 20;
+    private static final String COUNT_SQL =
+            "SELECT COUNT(*) FROM messages WHERE recipient_id = ? AND read_status = FALSE";
+
+    @Param({"1000", "50000"})
+    private int recipients;
+
+    private ConfigurableApplicationContext context;
+    private JdbcTemplate jdbcTemplate;
+    private UnreadCounters unreadCounters;
+    private MessageService messageService;
+    private UUID[] recipientIds;
+    private PageCursor[] secondPages;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        context = BenchmarkFixtures.startApplication();
+        jdbcTemplate = context.getBean(JdbcTemplate.class);
+        unreadCounters = context.getBean(UnreadCounters.class);
+        messageService = context.getBean(MessageService.class);
+        seed(new Random(42L));
+        secondPages = new PageCursor[recipients];
+        for (int i = 0; i < recipients; i++) {
+            String cursor = messageService.getInbox(recipientIds[i], null, PAGE_SIZE).getMeta().getNextCursor();
+            secondPages[i] = PageCursor.decode(cursor);
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Integer countAtQueryTime() {
+        return jdbcTemplate.queryForObject(COUNT_SQL, Integer.class, recipientIds[nextRecipient()]);
+    }
+
+    @Benchmark
+    public int inMemoryCount() {
+        return unreadCounters.get(recipientIds[nextRecipient()]);
+    }
+
+    @Benchmark
+    public PageResponse<MessageResponseDto> inboxSecondPage() {
+        int recipient = nextRecipient();
+        return messageService.getInbox(recipientIds[recipient], secondPages[recipient], PAGE_SIZE);
+    }
+
+    private int nextRecipient() {
+        int recipient = next;
+        next = (next + 1) % recipients;
+        return recipient;
+    }
+
+    private void seed(Random random) {
+        recipientIds = new UUID[recipients];
+        for (int i = 0; i < recipients; i++) {
+            recipientIds[i] = new UUID(random.nextLong(), random.nextLong());
+        }
+        UUID senderId = new UUID(random.nextLong(), random.nextLong());
+        int[] unread = new int[recipients];
+        Instant start = Instant.parse("2024-09-01T08:00:00Z");
+        for (int offset = 0; offset < MESSAGES; offset += BATCH_SIZE) {
+            List<Object[]> rows = new ArrayList<>(BATCH_SIZE);
+            for (int i = offset; i < offset + BATCH_SIZE; i++) {
+                int recipient = i % recipients;
+                boolean read = random.nextInt(3) != 0;
+                if (!read) {
+                    unread[recipient]++;
+                }
+                Timestamp sentAt = Timestamp.from(start.plusSeconds(i));
+                rows.add(new Object[]{new UUID(random.nextLong(), random.nextLong()), senderId, recipientIds[recipient],
+                        "Subject " + i, "Message " + i, read, sentAt, sentAt});
+            }
+            jdbcTemplate.batchUpdate("INSERT INTO messages (id, sender_id, recipient_id, subject, content, read_status, " +
+                    "created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?)", rows);
+        }
+        // Inserted around the counters: give them what the messages add up to
+        for (int i = 0; i < recipients; i++) {
+            unreadCounters.add(recipientIds[i], unread[i]);
+        }
+        unreadCounters.flush();
+    }
+}
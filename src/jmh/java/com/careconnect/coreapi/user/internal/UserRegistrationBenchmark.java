@@ -0,0 +1,114 @@
+package com.careconnect.coreapi.user.internal;
+
+import com.careconnect.coreapi.benchmark.BenchmarkFixtures;
+import com.careconnect.coreapi.common.events.EventListenerExecutor;
+import com.careconnect.coreapi.common.events.EventPublicationCompletions;
+import com.careconnect.coreapi.user.UserInfo;
+import com.careconnect.coreapi.user.api.RegisterUserCommand;
+import com.careconnect.coreapi.user.api.UserManagement;
+import com.careconnect.coreapi.user.events.UserRegisteredEvent;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.modulith.events.ApplicationModuleListener;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * {@code registerUser} from 8 threads with the event publication registry on: each registration
+ * writes one {@code event_publication} row per listener in its transaction, and each listener
+ * runs after commit on the listener executor and is then marked completed, either in bulk or
+ * one update at a time ({@code completionBatching=false}, Modulith's own behaviour).
+ * With no listeners nothing is recorded, which gives the baseline.
+ *
+ * After each trial the listeners are drained and the number of publications left incomplete
+ * is printed; it should be 0.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+@Threads(8)
+public class UserRegistrationBenchmark {
+
+    private static final List<Class<?>> LISTENERS = List.of(WelcomeListener.class, AuditListener.class, DirectoryListener.class);
+
+    @Param({"0", "1", "3"})
+    private int listeners;
+
+    @Param({"true", "false"})
+    private boolean completionBatching;
+
+    private final AtomicLong sequence = new AtomicLong();
+    private ConfigurableApplicationContext context;
+    private UserManagement userManagement;
+
+    @Setup
+    public void setUp() {
+        context = BenchmarkFixtures.startApplication(LISTENERS.subList(0, listeners),
+                "app.events.completion.batching=" + completionBatching);
+        userManagement = context.getBean(UserManagement.class);
+    }
+
+    @TearDown
+    public void tearDown() throws InterruptedException {
+        EventListenerExecutor executor = context.getBean(EventListenerExecutor.class);
+        while (executor.queued() + executor.active() > 0) {
+            Thread.sleep(50);
+        }
+        context.getBean(EventPublicationCompletions.class).flush();
+        Long incomplete = context.getBean(JdbcTemplate.class).queryForObject(
+                "SELECT COUNT(*) FROM event_publication WHERE completion_date IS NULL", Long.class);
+        System.out.printf("%n  %d users registered, %d publications incomplete%n", sequence.get(), incomplete);
+        context.close();
+    }
+
+    @Benchmark
+    public UserInfo registerUser() {
+        return userManagement.registerUser(RegisterUserCommand.of("user_bench_" + sequence.incrementAndGet()));
+    }
+
+    static class WelcomeListener {
+        private final LongAdder received = new LongAdder();
+
+        @ApplicationModuleListener
+        public void on(UserRegisteredEvent event) {
+            received.increment();
+        }
+    }
+
+    static class AuditListener {
+        private final LongAdder received = new LongAdder();
+
+        @ApplicationModuleListener
+        public void on(UserRegisteredEvent event) {
+            received.increment();
+        }
+    }
+
+    static class DirectoryListener {
+        private final LongAdder received = new LongAdder();
+
+        @ApplicationModuleListener
+        public void on(UserRegisteredEvent event) {
+            received.increment();
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.careconnect.coreapi.attendance.domain;
 
+import com.careconnect.coreapi.common.persistence.GeneratedUuidV7;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.Setter;
@@ -11,10 +12,13 @@ import java.util.UUID;
 @Getter
 @Setter
 @Entity
-@Table(name = "attendance")
+@Table(name = "attendance", indexes = {
+        @Index(name = "idx_attendance_child_check_in", columnList = "child_id, check_in"),
+        @Index(name = "uk_attendance_idempotency_key", columnList = "idempotency_key", unique = true)
+})
 public class Attendance {
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @GeneratedUuidV7
     @Column(name = "id", nullable = false, updatable = false)
     private UUID id;
 
@@ -36,6 +40,9 @@ public class Attendance {
     @Column(name = "notes", length = Integer.MAX_VALUE)
     private String notes;
 
+    @Column(name = "idempotency_key", length = 100)
+    private String idempotencyKey;
+
     @ColumnDefault("CURRENT_TIMESTAMP")
     @Column(name = "created_at", nullable = false)
     private Instant createdAt;
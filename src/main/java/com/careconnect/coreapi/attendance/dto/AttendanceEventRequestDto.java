@@ -0,0 +1,34 @@
+package com.careconnect.coreapi.attendance.dto;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Body of a check-in or check-out request. The idempotency key travels in the
+ * {@code Idempotency-Key} header.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AttendanceEventRequestDto {
+
+    @NotNull(message = "Child ID is required")
+    private UUID childId;
+
+    @NotNull(message = "Facility ID is required")
+    private UUID facilityId;
+
+    // When the child actually arrived or left; defaults to the time the request is received
+    private Instant occurredAt;
+
+    @Size(max = 500, message = "Notes must not exceed 500 characters")
+    private String notes;
+}
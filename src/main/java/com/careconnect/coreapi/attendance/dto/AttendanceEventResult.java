@@ -0,0 +1,38 @@
+package com.careconnect.coreapi.attendance.dto;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Acknowledgement of a check-in or check-out. The event is on the roster at once and in the
+ * {@code attendance} table after the next flush.
+ *
+ * @param idempotencyKey the client's key, or the one generated for the event
+ * @param status whether this request was new or a replay of an earlier one
+ * @param type check-in or check-out
+ * @param occurredAt when the child arrived or left, as recorded
+ */
+public record AttendanceEventResult(
+        String idempotencyKey,
+        Status status,
+        Type type,
+        UUID childId,
+        UUID facilityId,
+        Instant occurredAt) {
+
+    public enum Type {
+        CHECK_IN,
+        CHECK_OUT
+    }
+
+    public enum Status {
+        /** Applied to the roster and queued for writing */
+        ACCEPTED,
+        /** Same idempotency key as an event already accepted; nothing changed */
+        DUPLICATE
+    }
+
+    public AttendanceEventResult asDuplicate() {
+        return new AttendanceEventResult(idempotencyKey, Status.DUPLICATE, type, childId, facilityId, occurredAt);
+    }
+}
@@ -0,0 +1,12 @@
+package com.careconnect.coreapi.attendance.dto;
+
+import java.util.UUID;
+
+/**
+ * Children currently on site at a facility against its licensed capacity.
+ *
+ * @param capacity null when the facility has no limit set
+ * @param available places left, null when there is no limit
+ */
+public record FacilityOccupancy(UUID facilityId, int occupied, Integer capacity, Integer available) {
+}
@@ -0,0 +1,13 @@
+package com.careconnect.coreapi.attendance.dto;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * One change to a facility's roster, sent as a {@code delta} event on the roster stream.
+ * Apply a check-in by adding the child and a check-out by removing it.
+ *
+ * @param sequence position in the facility's stream, one more than the previous event's
+ */
+public record RosterDelta(long sequence, AttendanceEventResult.Type type, UUID childId, Instant occurredAt) {
+}
@@ -0,0 +1,10 @@
+package com.careconnect.coreapi.attendance.dto;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * A child currently on site at a facility.
+ */
+public record RosterEntry(UUID childId, Instant checkedInAt) {
+}
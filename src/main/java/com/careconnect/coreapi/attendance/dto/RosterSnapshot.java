@@ -0,0 +1,13 @@
+package com.careconnect.coreapi.attendance.dto;
+
+import java.util.List;
+
+/**
+ * The whole roster of a facility, sent as the {@code snapshot} event that opens a roster stream
+ * when the client cannot resume from where it left off.
+ *
+ * @param sequence the sequence of the last delta the snapshot includes; deltas that follow it
+ *        start at {@code sequence + 1}
+ */
+public record RosterSnapshot(long sequence, List<RosterEntry> entries) {
+}
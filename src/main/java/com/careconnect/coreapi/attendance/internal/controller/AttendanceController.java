@@ -0,0 +1,82 @@
+package com.careconnect.coreapi.attendance.internal.controller;
+
+import com.careconnect.coreapi.attendance.dto.AttendanceEventRequestDto;
+import com.careconnect.coreapi.attendance.dto.AttendanceEventResult;
+import com.careconnect.coreapi.attendance.dto.FacilityOccupancy;
+import com.careconnect.coreapi.attendance.dto.RosterEntry;
+import com.careconnect.coreapi.attendance.internal.service.AttendanceService;
+import com.careconnect.coreapi.common.response.ApiResponse;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Check-in/check-out events and the live roster and headcount of each facility.
+ *
+ * A new event is answered with 202 Accepted: the roster already reflects it, the
+ * {@code attendance} table will after the next flush. A replay with the same
+ * {@code Idempotency-Key} is answered with 200 and status {@code DUPLICATE}.
+ */
+@Slf4j
+@RestController
+@RequiredArgsConstructor
+public class AttendanceController {
+
+    static final String IDEMPOTENCY_KEY = "Idempotency-Key";
+
+    private final AttendanceService attendanceService;
+
+    @PostMapping("/api/attendance/check-ins")
+    public ResponseEntity<ApiResponse<AttendanceEventResult>> checkIn(
+            @RequestHeader(value = IDEMPOTENCY_KEY, required = false) String idempotencyKey,
+            @Valid @RequestBody AttendanceEventRequestDto request) {
+        log.debug("POST /api/attendance/check-ins - Child {} at facility {}", request.getChildId(), request.getFacilityId());
+
+        AttendanceEventResult result = attendanceService.checkIn(request, idempotencyKey);
+        return respond(result, "Check-in accepted");
+    }
+
+    @PostMapping("/api/attendance/check-outs")
+    public ResponseEntity<ApiResponse<AttendanceEventResult>> checkOut(
+            @RequestHeader(value = IDEMPOTENCY_KEY, required = false) String idempotencyKey,
+            @Valid @RequestBody AttendanceEventRequestDto request) {
+        log.debug("POST /api/attendance/check-outs - Child {} at facility {}", request.getChildId(), request.getFacilityId());
+
+        AttendanceEventResult result = attendanceService.checkOut(request, idempotencyKey);
+        return respond(result, "Check-out accepted");
+    }
+
+    @GetMapping("/api/facilities/{facilityId}/roster")
+    public ResponseEntity<ApiResponse<List<RosterEntry>>> getRoster(@PathVariable UUID facilityId) {
+        log.info("GET /api/facilities/{}/roster - Fetching children on site", facilityId);
+
+        List<RosterEntry> roster = attendanceService.getRoster(facilityId);
+        return ResponseEntity.ok(ApiResponse.success(roster, "Roster retrieved successfully"));
+    }
+
+    @GetMapping("/api/facilities/{facilityId}/occupancy")
+    public ResponseEntity<ApiResponse<FacilityOccupancy>> getOccupancy(@PathVariable UUID facilityId) {
+        log.debug("GET /api/facilities/{}/occupancy - Fetching headcount", facilityId);
+
+        FacilityOccupancy occupancy = attendanceService.getOccupancy(facilityId);
+        return ResponseEntity.ok(ApiResponse.success(occupancy, "Occupancy retrieved successfully"));
+    }
+
+    private static ResponseEntity<ApiResponse<AttendanceEventResult>> respond(AttendanceEventResult result, String message) {
+        if (result.status() == AttendanceEventResult.Status.DUPLICATE) {
+            return ResponseEntity.ok(ApiResponse.success(result, "Duplicate request, already accepted"));
+        }
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(ApiResponse.success(result, message));
+    }
+}
@@ -0,0 +1,96 @@
+package com.careconnect.coreapi.attendance.internal.controller;
+
+import com.careconnect.coreapi.attendance.internal.service.AttendanceService;
+import com.careconnect.coreapi.attendance.internal.service.RosterStreamEvent;
+import com.careconnect.coreapi.attendance.internal.service.RosterSubscription;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.UUID;
+
+/**
+ * Live roster of a facility as a stream of server-sent events.
+ *
+ * The stream opens with a {@code snapshot} event holding the whole roster and continues with a
+ * {@code delta} event per check-in or check-out. A client that reconnects with the ID of the last
+ * event it received, in the {@code Last-Event-ID} header (browsers send it on their own) or the
+ * {@code lastEventId} parameter, gets the deltas it missed instead of a new snapshot when they are
+ * still available. A client that falls behind by more than its buffer is disconnected and
+ * resumes the same way.
+ *
+ * Each stream is written by its own virtual thread, which waits on the subscription between
+ * events, so idle streams hold no platform thread.
+ */
+@Slf4j
+@RestController
+@RequiredArgsConstructor
+public class RosterStreamController {
+
+    static final String LAST_EVENT_ID = "Last-Event-ID";
+
+    private final AttendanceService attendanceService;
+
+    @Value("${app.attendance.stream.timeout:PT30M}")
+    private Duration timeout;
+
+    @Value("${app.attendance.stream.heartbeat:PT15S}")
+    private Duration heartbeat;
+
+    @GetMapping(value = "/api/facilities/{facilityId}/roster/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamRoster(@PathVariable UUID facilityId,
+                                   @RequestHeader(value = LAST_EVENT_ID, required = false) String lastEventIdHeader,
+                                   @RequestParam(value = "lastEventId", required = false) String lastEventIdParam) {
+        String lastEventId = lastEventIdHeader != null ? lastEventIdHeader : lastEventIdParam;
+        log.debug("GET /api/facilities/{}/roster/stream - Subscribing from {}", facilityId, lastEventId);
+
+        RosterSubscription subscription = attendanceService.subscribeRoster(facilityId, lastEventId);
+        SseEmitter emitter = new SseEmitter(timeout.toMillis());
+        emitter.onCompletion(subscription::close);
+        emitter.onTimeout(subscription::close);
+        emitter.onError(error -> subscription.close());
+
+        Thread.ofVirtual()
+                .name("roster-stream-" + facilityId)
+                .start(() -> send(emitter, subscription));
+        return emitter;
+    }
+
+    private void send(SseEmitter emitter, RosterSubscription subscription) {
+        try {
+            while (!subscription.isClosed()) {
+                RosterStreamEvent event = subscription.poll(heartbeat);
+                if (event != null) {
+                    emitter.send(SseEmitter.event()
+                            .id(event.id())
+                            .name(event.name())
+                            .data(event.data(), MediaType.APPLICATION_JSON));
+                } else if (subscription.isDropped()) {
+                    // Everything queued before the drop has been sent; the client resumes from there
+                    emitter.complete();
+                    return;
+                } else {
+                    // Keeps proxies from closing an idle connection and detects clients that went away
+                    emitter.send(SseEmitter.event().comment("heartbeat"));
+                }
+            }
+        } catch (IOException | IllegalStateException e) {
+            log.debug("Roster stream closed: {}", e.getMessage());
+            emitter.completeWithError(e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            emitter.complete();
+        } finally {
+            subscription.close();
+        }
+    }
+}
@@ -0,0 +1,7 @@
+/**
+ * Internal implementation for the attendance module.
+ *
+ * This package contains the check-in/check-out engine and its controller.
+ * These should not be accessed directly by other modules.
+ */
+package com.careconnect.coreapi.attendance.internal;
@@ -0,0 +1,25 @@
+package com.careconnect.coreapi.attendance.internal.service;
+
+import com.careconnect.coreapi.attendance.dto.AttendanceEventResult;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * A validated check-in or check-out waiting in a facility's {@link AttendanceEventBuffer}.
+ *
+ * @param notes already sanitized
+ */
+public record AttendanceEvent(
+        AttendanceEventResult.Type type,
+        UUID childId,
+        UUID facilityId,
+        Instant occurredAt,
+        String idempotencyKey,
+        String notes) {
+
+    AttendanceEventResult accepted() {
+        return new AttendanceEventResult(idempotencyKey, AttendanceEventResult.Status.ACCEPTED, type,
+                childId, facilityId, occurredAt);
+    }
+}
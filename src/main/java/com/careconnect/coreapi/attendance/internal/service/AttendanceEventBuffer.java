@@ -0,0 +1,67 @@
+package com.careconnect.coreapi.attendance.internal.service;
+
+import java.util.Collection;
+
+/**
+ * Fixed-capacity FIFO ring of events accepted for one facility and not yet handed to the
+ * {@link AttendanceWriter}. The array is allocated once, so a drop-off burst allocates nothing
+ * but the events themselves.
+ *
+ * Not thread-safe; {@link FacilityAttendance} guards it with its lock.
+ */
+final class AttendanceEventBuffer {
+
+    private final AttendanceEvent[] events;
+    private int head;
+    private int size;
+
+    AttendanceEventBuffer(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Capacity must be positive: " + capacity);
+        }
+        this.events = new AttendanceEvent[capacity];
+    }
+
+    /**
+     * Appends the event unless the buffer is full.
+     *
+     * @return false if the buffer is full
+     */
+    boolean offer(AttendanceEvent event) {
+        if (size == events.length) {
+            return false;
+        }
+        events[(head + size) % events.length] = event;
+        size++;
+        return true;
+    }
+
+    /**
+     * Moves every buffered event, oldest first, to the target.
+     *
+     * @return the number of events moved
+     */
+    int drainTo(Collection<? super AttendanceEvent> target) {
+        int drained = size;
+        for (int i = 0; i < drained; i++) {
+            int index = (head + i) % events.length;
+            target.add(events[index]);
+            events[index] = null;
+        }
+        head = (head + drained) % events.length;
+        size = 0;
+        return drained;
+    }
+
+    boolean isFull() {
+        return size == events.length;
+    }
+
+    int size() {
+        return size;
+    }
+
+    int capacity() {
+        return events.length;
+    }
+}
@@ -0,0 +1,397 @@
+package com.careconnect.coreapi.attendance.internal.service;
+
+import com.careconnect.coreapi.attendance.dto.AttendanceEventRequestDto;
+import com.careconnect.coreapi.attendance.dto.AttendanceEventResult;
+import com.careconnect.coreapi.attendance.dto.FacilityOccupancy;
+import com.careconnect.coreapi.attendance.dto.RosterEntry;
+import com.careconnect.coreapi.common.exceptions.ConflictException;
+import com.careconnect.coreapi.common.exceptions.DuplicateResourceException;
+import com.careconnect.coreapi.common.exceptions.ResourceNotFoundException;
+import com.careconnect.coreapi.common.exceptions.ValidationException;
+import com.careconnect.coreapi.common.utils.UuidV7;
+import com.careconnect.coreapi.common.utils.XSSProtectionUtil;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Check-in/check-out engine.
+ *
+ * An event is validated against the facility's in-memory roster, applied to it and queued in
+ * the facility's {@link AttendanceEventBuffer}, all under the facility's lock and without
+ * touching the database, so the request returns as soon as the roster reflects it. A background
+ * thread hands the buffered events to the {@link AttendanceWriter} every
+ * {@code app.attendance.flush-interval}; a request that finds its facility's buffer full writes
+ * it out itself first, which throttles clients to the speed of the database.
+ *
+ * Accepted events not yet flushed are lost if the process dies. Clients retry with the same
+ * {@code Idempotency-Key}: a replay within the last {@code app.attendance.idempotency-window}
+ * events of the facility, or of a check-in whose visit is still open, is reported as a duplicate,
+ * and the unique key on the table stops a check-in from being written twice.
+ *
+ * Events for a facility that does not exist, and check-ins of a child that does not exist, are
+ * refused before anything is kept for them: the writer could not insert their rows.
+ *
+ * Check-ins also claim a place in the {@link OccupancyTracker} and are refused once the facility
+ * is at its {@code maxCapacity}. Capacities are reloaded every
+ * {@code app.attendance.capacity-refresh-interval}.
+ *
+ * Every accepted event is published to the {@link RosterStreamBus}, under the same lock that
+ * orders it on the roster, so stream subscribers see the facility's changes in roster order.
+ *
+ * The roster and headcounts are rebuilt at startup from visits opened within
+ * {@code app.attendance.roster-window} and not yet closed. They only see events accepted by this
+ * instance.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AttendanceService {
+
+    // How far ahead of the server clock a device may report an event
+    private static final Duration MAX_CLOCK_SKEW = Duration.ofMinutes(5);
+    private static final int MAX_IDEMPOTENCY_KEY_LENGTH = 100;
+    private static final String CHILD_EXISTS_SQL = "SELECT COUNT(*) FROM children WHERE id = ?";
+    private static final String OPEN_VISITS_SQL = "SELECT child_id, facility_id, check_in, idempotency_key " +
+            "FROM attendance WHERE check_out IS NULL AND facility_id IS NOT NULL AND check_in >= ? ORDER BY check_in";
+
+    private final AttendanceWriter attendanceWriter;
+    private final OccupancyTracker occupancyTracker;
+    private final RosterStreamBus rosterStreamBus;
+    private final JdbcTemplate jdbcTemplate;
+
+    private final Map<UUID, FacilityAttendance> facilities = new ConcurrentHashMap<>();
+
+    // Facility each on-site child is at, so a child cannot be checked in at two facilities
+    private final Map<UUID, UUID> onSite = new ConcurrentHashMap<>();
+
+    private final ReentrantLock loadLock = new ReentrantLock();
+    private volatile boolean loaded;
+    private ScheduledExecutorService scheduler;
+
+    @Value("${app.attendance.buffer-capacity:1024}")
+    private int bufferCapacity;
+
+    @Value("${app.attendance.flush-interval:PT0.5S}")
+    private Duration flushInterval;
+
+    @Value("${app.attendance.idempotency-window:10000}")
+    private int idempotencyWindow;
+
+    @Value("${app.attendance.roster-window:PT24H}")
+    private Duration rosterWindow;
+
+    @Value("${app.attendance.capacity-refresh-interval:PT1M}")
+    private Duration capacityRefreshInterval;
+
+    @PostConstruct
+    void start() {
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "attendance-flush");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long periodMillis = flushInterval.toMillis();
+        scheduler.scheduleWithFixedDelay(this::flushQuietly, periodMillis, periodMillis, TimeUnit.MILLISECONDS);
+        long refreshMillis = capacityRefreshInterval.toMillis();
+        scheduler.scheduleWithFixedDelay(this::refreshCapacitiesQuietly, refreshMillis, refreshMillis,
+                TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void stop() {
+        scheduler.shutdown();
+        try {
+            scheduler.awaitTermination(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        flushQuietly();
+    }
+
+    /**
+     * Rebuilds the roster now rather than on the first request.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    void warmUp() {
+        ensureLoaded();
+    }
+
+    /**
+     * Puts the child on the facility's roster.
+     *
+     * @param idempotencyKey the client's key for this event, or null to generate one
+     * @throws ResourceNotFoundException if the child or facility does not exist
+     * @throws DuplicateResourceException if the child is already checked in under another key
+     * @throws ConflictException if the facility is at capacity
+     */
+    public AttendanceEventResult checkIn(AttendanceEventRequestDto request, String idempotencyKey) {
+        AttendanceEvent event = toEvent(AttendanceEventResult.Type.CHECK_IN, request, idempotencyKey);
+        requireFacility(event.facilityId());
+        requireChild(event.childId());
+        return submit(event);
+    }
+
+    /**
+     * Takes the child off the facility's roster.
+     *
+     * @param idempotencyKey the client's key for this event, or null to generate one
+     * @throws ResourceNotFoundException if the facility does not exist
+     * @throws ValidationException if the child is not checked in at the facility
+     */
+    public AttendanceEventResult checkOut(AttendanceEventRequestDto request, String idempotencyKey) {
+        AttendanceEvent event = toEvent(AttendanceEventResult.Type.CHECK_OUT, request, idempotencyKey);
+        requireFacility(event.facilityId());
+        return submit(event);
+    }
+
+    /**
+     * Children on site at the facility, earliest arrival first.
+     *
+     * @throws ResourceNotFoundException if the facility does not exist
+     */
+    public List<RosterEntry> getRoster(UUID facilityId) {
+        requireFacility(facilityId);
+        FacilityAttendance facility = facilities.get(facilityId);
+        return facility == null ? List.of() : roster(facility);
+    }
+
+    /**
+     * Subscribes to changes of the facility's roster.
+     *
+     * @param lastEventId the stream event ID the client saw last, or null to start from a snapshot
+     * @throws ResourceNotFoundException if the facility does not exist
+     */
+    public RosterSubscription subscribeRoster(UUID facilityId, String lastEventId) {
+        requireFacility(facilityId);
+        FacilityAttendance facility = facility(facilityId);
+        // Holding the facility lock keeps the snapshot and the sequence it is taken at in step
+        facility.lock.lock();
+        try {
+            return rosterStreamBus.subscribe(facilityId, lastEventId, () -> roster(facility));
+        } finally {
+            facility.lock.unlock();
+        }
+    }
+
+    /**
+     * Headcount of the facility, served from memory.
+     *
+     * @throws ResourceNotFoundException if the facility does not exist
+     */
+    public FacilityOccupancy getOccupancy(UUID facilityId) {
+        requireFacility(facilityId);
+        return occupancyTracker.getOccupancy(facilityId)
+                .orElseThrow(() -> new ResourceNotFoundException("Facility", "id", facilityId));
+    }
+
+    /**
+     * Writes every buffered event.
+     *
+     * @return the number of events written
+     */
+    public int flush() {
+        int written = 0;
+        for (FacilityAttendance facility : facilities.values()) {
+            written += flush(facility);
+        }
+        return written;
+    }
+
+    private AttendanceEventResult submit(AttendanceEvent event) {
+        FacilityAttendance facility = facility(event.facilityId());
+        while (true) {
+            facility.lock.lock();
+            try {
+                AttendanceEventResult previous = facility.previousResult(event);
+                if (previous != null) {
+                    return previous.asDuplicate();
+                }
+                if (!facility.buffer.isFull()) {
+                    if (event.type() == AttendanceEventResult.Type.CHECK_IN) {
+                        applyCheckIn(facility, event);
+                    } else {
+                        applyCheckOut(facility, event);
+                    }
+                    facility.buffer.offer(event);
+                    rosterStreamBus.publish(facility.facilityId, event.type(), event.childId(), event.occurredAt());
+                    AttendanceEventResult result = event.accepted();
+                    facility.remember(result);
+                    return result;
+                }
+            } finally {
+                facility.lock.unlock();
+            }
+            // Buffer full: write it out on this thread before queuing more
+            flush(facility);
+        }
+    }
+
+    private void applyCheckIn(FacilityAttendance facility, AttendanceEvent event) {
+        UUID current = onSite.putIfAbsent(event.childId(), facility.facilityId);
+        if (current != null) {
+            throw new DuplicateResourceException(current.equals(facility.facilityId)
+                    ? "Child is already checked in: " + event.childId()
+                    : "Child is checked in at another facility: " + event.childId());
+        }
+        if (!occupancyTracker.tryEnter(facility.facilityId)) {
+            onSite.remove(event.childId(), facility.facilityId);
+            throw new ConflictException("Facility is at capacity: " + facility.facilityId);
+        }
+        facility.roster.put(event.childId(), new FacilityAttendance.Visit(event.occurredAt(), event.idempotencyKey()));
+    }
+
+    private void applyCheckOut(FacilityAttendance facility, AttendanceEvent event) {
+        FacilityAttendance.Visit visit = facility.roster.get(event.childId());
+        if (visit == null) {
+            throw new ValidationException("Child is not checked in at this facility: " + event.childId());
+        }
+        if (event.occurredAt().isBefore(visit.checkIn())) {
+            throw new ValidationException("Check-out cannot be before check-in");
+        }
+        facility.roster.remove(event.childId());
+        onSite.remove(event.childId(), facility.facilityId);
+        occupancyTracker.leave(facility.facilityId);
+    }
+
+    private int flush(FacilityAttendance facility) {
+        facility.writeLock.lock();
+        try {
+            // Events left over from a failed flush go first, on their own
+            if (!facility.unwritten.isEmpty()) {
+                write(facility);
+            }
+            facility.lock.lock();
+            try {
+                facility.buffer.drainTo(facility.unwritten);
+            } finally {
+                facility.lock.unlock();
+            }
+            return write(facility);
+        } finally {
+            facility.writeLock.unlock();
+        }
+    }
+
+    private int write(FacilityAttendance facility) {
+        int count = facility.unwritten.size();
+        if (count > 0) {
+            attendanceWriter.write(facility.unwritten);
+            facility.unwritten.clear();
+        }
+        return count;
+    }
+
+    private void flushQuietly() {
+        try {
+            flush();
+        } catch (RuntimeException e) {
+            log.warn("Attendance flush failed, will retry: {}", e.getMessage());
+        }
+    }
+
+    private void refreshCapacitiesQuietly() {
+        try {
+            occupancyTracker.refresh();
+        } catch (RuntimeException e) {
+            log.warn("Could not reload facility capacities, keeping the previous ones: {}", e.getMessage());
+        }
+    }
+
+    private static List<RosterEntry> roster(FacilityAttendance facility) {
+        return facility.roster.entrySet().stream()
+                .map(entry -> new RosterEntry(entry.getKey(), entry.getValue().checkIn()))
+                .sorted(Comparator.comparing(RosterEntry::checkedInAt).thenComparing(RosterEntry::childId))
+                .toList();
+    }
+
+    // Checked before any state is created for the facility and outside its lock, as it may look
+    // the facility up
+    private void requireFacility(UUID facilityId) {
+        ensureLoaded();
+        if (!occupancyTracker.exists(facilityId)) {
+            throw new ResourceNotFoundException("Facility", "id", facilityId);
+        }
+    }
+
+    // Otherwise the writer drops the row on its foreign key and the child stays on site in memory
+    private void requireChild(UUID childId) {
+        Integer count = jdbcTemplate.queryForObject(CHILD_EXISTS_SQL, Integer.class, childId);
+        if (count == null || count == 0) {
+            throw new ResourceNotFoundException("Child", "id", childId);
+        }
+    }
+
+    private FacilityAttendance facility(UUID facilityId) {
+        return facilities.computeIfAbsent(facilityId,
+                id -> new FacilityAttendance(id, bufferCapacity, idempotencyWindow));
+    }
+
+    private void ensureLoaded() {
+        if (loaded) {
+            return;
+        }
+        loadLock.lock();
+        try {
+            if (loaded) {
+                return;
+            }
+            occupancyTracker.refresh();
+            Timestamp since = Timestamp.from(Instant.now().minus(rosterWindow));
+            jdbcTemplate.query(OPEN_VISITS_SQL, rs -> {
+                UUID childId = rs.getObject("child_id", UUID.class);
+                UUID facilityId = rs.getObject("facility_id", UUID.class);
+                FacilityAttendance.Visit visit = new FacilityAttendance.Visit(
+                        rs.getTimestamp("check_in").toInstant(), rs.getString("idempotency_key"));
+                // Ordered by check-in, so the latest open visit of a child wins
+                UUID previous = onSite.put(childId, facilityId);
+                if (previous != null) {
+                    facility(previous).roster.remove(childId);
+                }
+                facility(facilityId).roster.put(childId, visit);
+            }, since);
+            facilities.values().forEach(facility ->
+                    occupancyTracker.rebuild(facility.facilityId, facility.roster.size()));
+            loaded = true;
+            log.info("Loaded attendance roster: {} children on site at {} facilities", onSite.size(), facilities.size());
+        } finally {
+            loadLock.unlock();
+        }
+    }
+
+    private static AttendanceEvent toEvent(AttendanceEventResult.Type type, AttendanceEventRequestDto request,
+                                           String idempotencyKey) {
+        Instant now = Instant.now();
+        Instant occurredAt = request.getOccurredAt() != null ? request.getOccurredAt() : now;
+        if (occurredAt.isAfter(now.plus(MAX_CLOCK_SKEW))) {
+            throw new ValidationException("Attendance time cannot be in the future");
+        }
+        String key = idempotencyKey != null && !idempotencyKey.isBlank()
+                ? idempotencyKey.trim()
+                : UuidV7.generate().toString();
+        if (key.length() > MAX_IDEMPOTENCY_KEY_LENGTH) {
+            throw new ValidationException("Idempotency key must not exceed " + MAX_IDEMPOTENCY_KEY_LENGTH + " characters");
+        }
+        return new AttendanceEvent(type, request.getChildId(), request.getFacilityId(), occurredAt, key,
+                XSSProtectionUtil.sanitizeText(request.getNotes()));
+    }
+}
@@ -0,0 +1,160 @@
+package com.careconnect.coreapi.attendance.internal.service;
+
+import com.careconnect.coreapi.attendance.dto.AttendanceEventResult;
+import com.careconnect.coreapi.common.utils.UuidV7;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Writes drained attendance events to the {@code attendance} table.
+ *
+ * Events are coalesced first: a check-in and the check-out that follows it in the same batch
+ * become one row with both times. What remains is written in one transaction as a JDBC batch of
+ * check-out updates followed by a batch of check-in inserts. Updates go first because they can
+ * only close visits written by earlier batches; running them after the inserts could also close
+ * a child's new visit from this batch.
+ *
+ * Each check-in row carries its idempotency key under a unique index. If the batch violates a
+ * constraint, it is retried row by row and a duplicate key is taken as already written. Any
+ * other failure, such as a lost connection, is rethrown so the caller can keep the events and
+ * retry them whole.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AttendanceWriter {
+
+    static final String CHECKED_IN = "CHECKED_IN";
+    static final String CHECKED_OUT = "CHECKED_OUT";
+
+    private static final String INSERT_SQL = "INSERT INTO attendance (id, child_id, facility_id, check_in, " +
+            "check_out, status, notes, idempotency_key, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String CHECK_OUT_SQL = "UPDATE attendance SET check_out = ?, status = '" + CHECKED_OUT +
+            "', notes = COALESCE(?, notes), updated_at = ? " +
+            "WHERE child_id = ? AND facility_id = ? AND check_out IS NULL AND check_in <= ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * Writes the events, oldest first.
+     *
+     * @throws org.springframework.dao.DataAccessException if the database could not be reached;
+     *         nothing from the batch was written and it can be retried
+     */
+    public void write(List<AttendanceEvent> events) {
+        Batch batch = coalesce(events);
+        Timestamp now = Timestamp.from(Instant.now());
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                update(batch.checkOuts, now);
+                insert(batch.visits, now);
+            });
+        } catch (DataIntegrityViolationException e) {
+            log.warn("Attendance batch of {} events failed, retrying row by row: {}",
+                    events.size(), e.getMostSpecificCause().getMessage());
+            for (AttendanceEvent checkOut : batch.checkOuts) {
+                writeOne(() -> update(List.of(checkOut), now), checkOut);
+            }
+            for (Visit visit : batch.visits) {
+                writeOne(() -> insert(List.of(visit), now), visit.checkIn);
+            }
+        }
+        log.debug("Wrote {} attendance events as {} inserts and {} updates",
+                events.size(), batch.visits.size(), batch.checkOuts.size());
+    }
+
+    private void writeOne(Runnable statement, AttendanceEvent event) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> statement.run());
+        } catch (DuplicateKeyException e) {
+            log.debug("Attendance event {} was already written", event.idempotencyKey());
+        } catch (DataIntegrityViolationException e) {
+            log.error("Dropping attendance event {} for child {}: {}", event.idempotencyKey(), event.childId(),
+                    e.getMostSpecificCause().getMessage());
+        }
+    }
+
+    private void insert(List<Visit> visits, Timestamp now) {
+        if (visits.isEmpty()) {
+            return;
+        }
+        List<Object[]> rows = new ArrayList<>(visits.size());
+        for (Visit visit : visits) {
+            AttendanceEvent checkIn = visit.checkIn;
+            rows.add(new Object[]{UuidV7.generate(), checkIn.childId(), checkIn.facilityId(),
+                    Timestamp.from(checkIn.occurredAt()),
+                    visit.checkOut != null ? Timestamp.from(visit.checkOut) : null,
+                    visit.checkOut != null ? CHECKED_OUT : CHECKED_IN,
+                    visit.notes, checkIn.idempotencyKey(), now, now});
+        }
+        jdbcTemplate.batchUpdate(INSERT_SQL, rows);
+    }
+
+    private void update(List<AttendanceEvent> checkOuts, Timestamp now) {
+        if (checkOuts.isEmpty()) {
+            return;
+        }
+        List<Object[]> rows = new ArrayList<>(checkOuts.size());
+        for (AttendanceEvent checkOut : checkOuts) {
+            Timestamp occurredAt = Timestamp.from(checkOut.occurredAt());
+            rows.add(new Object[]{occurredAt, checkOut.notes(), now, checkOut.childId(), checkOut.facilityId(),
+                    occurredAt});
+        }
+        jdbcTemplate.batchUpdate(CHECK_OUT_SQL, rows);
+    }
+
+    // Pairs each check-out with a check-in earlier in the same batch where there is one
+    private static Batch coalesce(List<AttendanceEvent> events) {
+        Batch batch = new Batch();
+        Map<UUID, Visit> open = new HashMap<>();
+        for (AttendanceEvent event : events) {
+            if (event.type() == AttendanceEventResult.Type.CHECK_IN) {
+                Visit visit = new Visit(event);
+                batch.visits.add(visit);
+                open.put(event.childId(), visit);
+            } else {
+                Visit visit = open.remove(event.childId());
+                if (visit != null) {
+                    visit.checkOut = event.occurredAt();
+                    if (event.notes() != null) {
+                        visit.notes = event.notes();
+                    }
+                } else {
+                    batch.checkOuts.add(event);
+                }
+            }
+        }
+        return batch;
+    }
+
+    private static final class Batch {
+        private final List<Visit> visits = new ArrayList<>();
+        private final List<AttendanceEvent> checkOuts = new ArrayList<>();
+    }
+
+    // One row to insert
+    private static final class Visit {
+        private final AttendanceEvent checkIn;
+        private Instant checkOut;
+        private String notes;
+
+        private Visit(AttendanceEvent checkIn) {
+            this.checkIn = checkIn;
+            this.notes = checkIn.notes();
+        }
+    }
+}
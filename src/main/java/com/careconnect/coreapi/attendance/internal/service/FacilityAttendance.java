@@ -0,0 +1,78 @@
+package com.careconnect.coreapi.attendance.internal.service;
+
+import com.careconnect.coreapi.attendance.dto.AttendanceEventResult;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * In-memory attendance state of one facility.
+ *
+ * {@link #lock} is held briefly while an event is validated against the roster and queued, so
+ * events of one facility are applied in a single order; the roster map can be read without it.
+ * {@link #writeLock} is held while queued events are written, so batches of one facility reach
+ * the database in the order they were accepted.
+ */
+final class FacilityAttendance {
+
+    final UUID facilityId;
+    final ReentrantLock lock = new ReentrantLock();
+    final ReentrantLock writeLock = new ReentrantLock();
+
+    // Children on site; written under lock
+    final Map<UUID, Visit> roster = new ConcurrentHashMap<>();
+
+    // Guarded by lock
+    final AttendanceEventBuffer buffer;
+
+    // Drained but not yet written, e.g. while the database is unavailable; guarded by writeLock
+    final List<AttendanceEvent> unwritten = new ArrayList<>();
+
+    // Results of the most recent events by idempotency key; guarded by lock
+    private final Map<String, AttendanceEventResult> recentResults;
+
+    FacilityAttendance(UUID facilityId, int bufferCapacity, int idempotencyWindow) {
+        this.facilityId = facilityId;
+        this.buffer = new AttendanceEventBuffer(bufferCapacity);
+        this.recentResults = new LinkedHashMap<>() {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, AttendanceEventResult> eldest) {
+                return size() > idempotencyWindow;
+            }
+        };
+    }
+
+    /**
+     * The result of an earlier event with the same idempotency key, if still remembered. A
+     * check-in whose visit is still open is recognised even after a restart.
+     */
+    AttendanceEventResult previousResult(AttendanceEvent event) {
+        AttendanceEventResult previous = recentResults.get(event.idempotencyKey());
+        if (previous == null && event.type() == AttendanceEventResult.Type.CHECK_IN) {
+            Visit visit = roster.get(event.childId());
+            if (visit != null && event.idempotencyKey().equals(visit.idempotencyKey())) {
+                previous = new AttendanceEvent(event.type(), event.childId(), facilityId, visit.checkIn(),
+                        visit.idempotencyKey(), null).accepted();
+            }
+        }
+        return previous;
+    }
+
+    void remember(AttendanceEventResult result) {
+        recentResults.put(result.idempotencyKey(), result);
+    }
+
+    /**
+     * An open visit.
+     *
+     * @param idempotencyKey key of the check-in that opened it
+     */
+    record Visit(Instant checkIn, String idempotencyKey) {
+    }
+}
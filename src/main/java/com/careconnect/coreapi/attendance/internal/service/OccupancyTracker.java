@@ -0,0 +1,147 @@
+package com.careconnect.coreapi.attendance.internal.service;
+
+import com.careconnect.coreapi.attendance.dto.FacilityOccupancy;
+import com.careconnect.coreapi.facility.FacilityCapacities;
+import com.careconnect.coreapi.facility.FacilityCapacity;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Headcount of every facility, kept in memory and updated without locks.
+ *
+ * Each facility has its own counter, so check-ins at different facilities never contend. A
+ * check-in claims a place with a compare-and-set that fails once the count has reached the
+ * facility's {@code maxCapacity}, so concurrent check-ins can never overfill it.
+ *
+ * Capacities are loaded for all facilities at once by {@link #refresh}, which
+ * {@link AttendanceService} runs at startup and every {@code app.attendance.capacity-refresh-interval},
+ * so a changed capacity is enforced from the next refresh and a deleted facility stops taking
+ * check-ins. {@link #exists} looks up a facility created since the last refresh once; nothing
+ * else reads the database, and a facility that does not exist is never given a counter.
+ *
+ * {@link AttendanceService} seeds the counts from the open visits it reloads at startup.
+ */
+@Component
+@RequiredArgsConstructor
+public class OccupancyTracker {
+
+    private final FacilityCapacities facilityCapacities;
+    private final Map<UUID, Occupancy> facilities = new ConcurrentHashMap<>();
+
+    /**
+     * Reloads the capacity of every facility.
+     *
+     * @return the number of facilities
+     */
+    public int refresh() {
+        List<FacilityCapacity> capacities = facilityCapacities.findAllCapacities();
+        Set<UUID> found = new HashSet<>(capacities.size() * 2);
+        for (FacilityCapacity capacity : capacities) {
+            found.add(capacity.facilityId());
+            update(capacity);
+        }
+        // Kept rather than removed, so a facility restored meanwhile keeps its headcount
+        facilities.forEach((facilityId, occupancy) -> {
+            if (!found.contains(facilityId)) {
+                occupancy.exists = false;
+            }
+        });
+        return capacities.size();
+    }
+
+    /**
+     * Whether the facility exists, looking it up if it was created since the last refresh.
+     */
+    public boolean exists(UUID facilityId) {
+        Occupancy occupancy = facilities.get(facilityId);
+        if (occupancy != null && occupancy.exists) {
+            return true;
+        }
+        Optional<FacilityCapacity> capacity = facilityCapacities.findCapacity(facilityId);
+        capacity.ifPresent(this::update);
+        return capacity.isPresent();
+    }
+
+    /**
+     * Claims a place at the facility.
+     *
+     * @return false if the facility is full or does not exist; nothing was claimed
+     */
+    public boolean tryEnter(UUID facilityId) {
+        Occupancy occupancy = facilities.get(facilityId);
+        return occupancy != null && occupancy.exists && occupancy.tryEnter();
+    }
+
+    /**
+     * Releases a place claimed by {@link #tryEnter}.
+     */
+    public void leave(UUID facilityId) {
+        Occupancy occupancy = facilities.get(facilityId);
+        if (occupancy != null) {
+            occupancy.leave();
+        }
+    }
+
+    /**
+     * The facility's headcount, or empty if the facility does not exist.
+     */
+    public Optional<FacilityOccupancy> getOccupancy(UUID facilityId) {
+        Occupancy occupancy = facilities.get(facilityId);
+        if (occupancy == null || !occupancy.exists) {
+            return Optional.empty();
+        }
+        int occupied = occupancy.occupied.get();
+        int capacity = occupancy.capacity;
+        if (capacity == Integer.MAX_VALUE) {
+            return Optional.of(new FacilityOccupancy(facilityId, occupied, null, null));
+        }
+        return Optional.of(new FacilityOccupancy(facilityId, occupied, capacity, Math.max(0, capacity - occupied)));
+    }
+
+    /**
+     * Sets the headcount rebuilt from the database. May exceed the capacity if it was lowered;
+     * check-ins are then refused until enough children have left.
+     */
+    void rebuild(UUID facilityId, int occupied) {
+        Occupancy occupancy = facilities.get(facilityId);
+        if (occupancy != null) {
+            occupancy.occupied.set(occupied);
+        }
+    }
+
+    private void update(FacilityCapacity capacity) {
+        Occupancy occupancy = facilities.computeIfAbsent(capacity.facilityId(), id -> new Occupancy());
+        occupancy.capacity = capacity.maxCapacity() != null ? capacity.maxCapacity() : Integer.MAX_VALUE;
+        occupancy.exists = true;
+    }
+
+    private static final class Occupancy {
+        private final AtomicInteger occupied = new AtomicInteger();
+        private volatile int capacity = Integer.MAX_VALUE;
+        private volatile boolean exists;
+
+        boolean tryEnter() {
+            int current;
+            do {
+                current = occupied.get();
+                if (current >= capacity) {
+                    return false;
+                }
+            } while (!occupied.compareAndSet(current, current + 1));
+            return true;
+        }
+
+        void leave() {
+            occupied.getAndUpdate(current -> current > 0 ? current - 1 : 0);
+        }
+    }
+}
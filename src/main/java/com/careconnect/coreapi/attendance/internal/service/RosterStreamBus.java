@@ -0,0 +1,168 @@
+package com.careconnect.coreapi.attendance.internal.service;
+
+import com.careconnect.coreapi.attendance.dto.AttendanceEventResult;
+import com.careconnect.coreapi.attendance.dto.RosterDelta;
+import com.careconnect.coreapi.attendance.dto.RosterEntry;
+import com.careconnect.coreapi.attendance.dto.RosterSnapshot;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * In-process fan-out of roster changes to stream subscribers.
+ *
+ * Every change {@link AttendanceService} applies to a facility's roster is numbered, serialized
+ * once and offered to each subscriber's bounded queue; a subscriber whose queue is full is
+ * dropped rather than slowing the publisher down. The last {@code app.attendance.stream.history}
+ * events of each facility are kept so that a reconnecting client can resume from the ID of the
+ * last event it received. A client that cannot resume (new, too far behind, or connected to an
+ * earlier run of the application) starts from a snapshot of the roster instead.
+ *
+ * Event IDs carry an epoch that is new for every start of the application, since sequences are
+ * not persisted.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RosterStreamBus {
+
+    static final String SNAPSHOT = "snapshot";
+    static final String DELTA = "delta";
+
+    private final ObjectMapper objectMapper;
+
+    private final String epoch = Long.toString(System.currentTimeMillis(), 36);
+    private final Map<UUID, Topic> topics = new ConcurrentHashMap<>();
+
+    @Value("${app.attendance.stream.history:1024}")
+    private int historySize;
+
+    @Value("${app.attendance.stream.subscriber-buffer:256}")
+    private int subscriberBuffer;
+
+    /**
+     * Numbers the change and offers it to every subscriber of the facility. Callers publish a
+     * facility's changes in the order they applied them.
+     */
+    public void publish(UUID facilityId, AttendanceEventResult.Type type, UUID childId, Instant occurredAt) {
+        Topic topic = topic(facilityId);
+        topic.lock.lock();
+        try {
+            long sequence = ++topic.sequence;
+            RosterStreamEvent event = event(DELTA, sequence, new RosterDelta(sequence, type, childId, occurredAt));
+            topic.history.addLast(event);
+            if (topic.history.size() > historySize) {
+                topic.history.removeFirst();
+            }
+            for (RosterSubscription subscription : topic.subscribers) {
+                if (!subscription.offer(event)) {
+                    topic.subscribers.remove(subscription);
+                    log.info("Dropped slow roster stream subscriber of facility {} at sequence {}", facilityId, sequence);
+                }
+            }
+        } finally {
+            topic.lock.unlock();
+        }
+    }
+
+    /**
+     * Subscribes to the facility's changes. The subscription first receives either the events
+     * after {@code lastEventId}, if they are all still in the history, or a snapshot.
+     *
+     * @param lastEventId the ID of the last event the client received, or null
+     * @param roster the facility's current roster; called only when a snapshot is needed
+     */
+    public RosterSubscription subscribe(UUID facilityId, String lastEventId, Supplier<List<RosterEntry>> roster) {
+        Topic topic = topic(facilityId);
+        RosterSubscription subscription = new RosterSubscription(subscriberBuffer, topic.subscribers::remove);
+        topic.lock.lock();
+        try {
+            List<RosterStreamEvent> missed = missedEvents(topic, lastEventId);
+            if (missed != null && missed.size() < subscriberBuffer) {
+                missed.forEach(subscription::offer);
+            } else {
+                subscription.offer(event(SNAPSHOT, topic.sequence, new RosterSnapshot(topic.sequence, roster.get())));
+            }
+            topic.subscribers.add(subscription);
+        } finally {
+            topic.lock.unlock();
+        }
+        return subscription;
+    }
+
+    /**
+     * Number of open subscriptions across all facilities.
+     */
+    public int subscriberCount() {
+        return topics.values().stream().mapToInt(topic -> topic.subscribers.size()).sum();
+    }
+
+    // Events after lastEventId, or null if the client has to start from a snapshot
+    private List<RosterStreamEvent> missedEvents(Topic topic, String lastEventId) {
+        Long lastSequence = parseSequence(lastEventId);
+        if (lastSequence == null || lastSequence > topic.sequence) {
+            return null;
+        }
+        long oldestKept = topic.sequence - topic.history.size() + 1;
+        if (lastSequence + 1 < oldestKept) {
+            return null;
+        }
+        List<RosterStreamEvent> missed = new ArrayList<>((int) (topic.sequence - lastSequence));
+        int skip = (int) (lastSequence + 1 - oldestKept);
+        for (RosterStreamEvent event : topic.history) {
+            if (skip-- <= 0) {
+                missed.add(event);
+            }
+        }
+        return missed;
+    }
+
+    private Long parseSequence(String eventId) {
+        if (eventId == null) {
+            return null;
+        }
+        int separator = eventId.indexOf(':');
+        if (separator < 0 || !eventId.substring(0, separator).equals(epoch)) {
+            return null;
+        }
+        try {
+            return Long.parseLong(eventId.substring(separator + 1));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private RosterStreamEvent event(String name, long sequence, Object payload) {
+        try {
+            return new RosterStreamEvent(epoch + ":" + sequence, name, objectMapper.writeValueAsString(payload));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize roster " + name, e);
+        }
+    }
+
+    private Topic topic(UUID facilityId) {
+        return topics.computeIfAbsent(facilityId, id -> new Topic());
+    }
+
+    private static final class Topic {
+        private final ReentrantLock lock = new ReentrantLock();
+        private final Deque<RosterStreamEvent> history = new ArrayDeque<>();
+        private final Set<RosterSubscription> subscribers = ConcurrentHashMap.newKeySet();
+        private long sequence;
+    }
+}
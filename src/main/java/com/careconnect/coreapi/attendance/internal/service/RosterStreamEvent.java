@@ -0,0 +1,11 @@
+package com.careconnect.coreapi.attendance.internal.service;
+
+/**
+ * A roster stream event, serialized once and shared by every subscriber of the facility.
+ *
+ * @param id the SSE event ID, {@code <epoch>:<sequence>}; clients send it back as {@code Last-Event-ID}
+ * @param name {@code snapshot} or {@code delta}
+ * @param data JSON of a {@code RosterSnapshot} or {@code RosterDelta}
+ */
+public record RosterStreamEvent(String id, String name, String data) {
+}
@@ -0,0 +1,82 @@
+package com.careconnect.coreapi.attendance.internal.service;
+
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * One client's view of a facility's roster stream: a bounded queue that the
+ * {@link RosterStreamBus} fills and the client's sender drains.
+ *
+ * The publisher never waits on a subscriber. When the queue is full the subscription is marked
+ * dropped and receives nothing more; its sender then ends the stream, and the client reconnects
+ * with the ID of the last event it got.
+ */
+public final class RosterSubscription implements AutoCloseable {
+
+    private final BlockingQueue<RosterStreamEvent> queue;
+    private final Consumer<RosterSubscription> onClose;
+    private volatile boolean dropped;
+    private volatile boolean closed;
+
+    RosterSubscription(int capacity, Consumer<RosterSubscription> onClose) {
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.onClose = onClose;
+    }
+
+    /**
+     * Queues the event without blocking.
+     *
+     * @return false if the subscription has been dropped or closed
+     */
+    boolean offer(RosterStreamEvent event) {
+        if (dropped || closed) {
+            return false;
+        }
+        if (!queue.offer(event)) {
+            dropped = true;
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * The next event, or null if none arrived within the timeout. Once dropped, returns what was
+     * queued before the drop without waiting and then null.
+     */
+    public RosterStreamEvent poll(Duration timeout) throws InterruptedException {
+        if (dropped) {
+            return queue.poll();
+        }
+        return queue.poll(timeout.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * True once the client fell behind by more than the queue holds.
+     */
+    public boolean isDropped() {
+        return dropped;
+    }
+
+    public boolean isClosed() {
+        return closed;
+    }
+
+    int pending() {
+        return queue.size();
+    }
+
+    /**
+     * Unsubscribes. Safe to call more than once.
+     */
+    @Override
+    public void close() {
+        if (!closed) {
+            closed = true;
+            queue.clear();
+            onClose.accept(this);
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.careconnect.coreapi.billing;
+
+import com.careconnect.coreapi.common.exceptions.ValidationException;
+
+import java.math.BigDecimal;
+
+/**
+ * An amount of money as a whole number of cents.
+ *
+ * Stored as {@code BIGINT} through {@code MoneyConverter} and added with {@code long}
+ * arithmetic, which overflows loudly rather than silently. {@link BigDecimal} only appears at
+ * the edges, when amounts are parsed from or written to JSON.
+ */
+public record Money(long cents) implements Comparable<Money> {
+
+    public static final Money ZERO = new Money(0);
+
+    private static final int SCALE = 2;
+
+    public static Money ofCents(long cents) {
+        return cents == 0 ? ZERO : new Money(cents);
+    }
+
+    /**
+     * Converts a decimal amount such as {@code 12.50}.
+     *
+     * @throws ValidationException when the amount has a fraction of a cent
+     */
+    public static Money of(BigDecimal amount) {
+        try {
+            return ofCents(amount.movePointRight(SCALE).longValueExact());
+        } catch (ArithmeticException e) {
+            throw new ValidationException("Amount must be a whole number of cents: " + amount);
+        }
+    }
+
+    /**
+     * Adds up amounts as {@code long} cents, without an intermediate {@code Money} per addition.
+     */
+    public static Money sum(Iterable<Money> amounts) {
+        long total = 0;
+        for (Money amount : amounts) {
+            total = Math.addExact(total, amount.cents);
+        }
+        return ofCents(total);
+    }
+
+    public Money plus(Money other) {
+        return ofCents(Math.addExact(cents, other.cents));
+    }
+
+    public Money minus(Money other) {
+        return ofCents(Math.subtractExact(cents, other.cents));
+    }
+
+    public boolean isPositive() {
+        return cents > 0;
+    }
+
+    public BigDecimal toBigDecimal() {
+        return BigDecimal.valueOf(cents, SCALE);
+    }
+
+    @Override
+    public int compareTo(Money other) {
+        return Long.compare(cents, other.cents);
+    }
+
+    @Override
+    public String toString() {
+        return toBigDecimal().toPlainString();
+    }
+}
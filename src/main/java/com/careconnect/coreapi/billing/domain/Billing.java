@@ -1,29 +1,34 @@
 package com.careconnect.coreapi.billing.domain;
 
+import com.careconnect.coreapi.billing.Money;
+import com.careconnect.coreapi.common.persistence.GeneratedUuidV7;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.Setter;
 import org.hibernate.annotations.ColumnDefault;
 
-import java.math.BigDecimal;
 import java.time.Instant;
+import java.time.LocalDate;
 import java.util.UUID;
 
 @Getter
 @Setter
 @Entity
-@Table(name = "billing")
+@Table(name = "billing", indexes = {
+        @Index(name = "idx_billing_guardian_due_date", columnList = "guardian_id, due_date"),
+        @Index(name = "uk_billing_guardian_period", columnList = "guardian_id, billing_period", unique = true)
+})
 public class Billing {
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @GeneratedUuidV7
     @Column(name = "id", nullable = false, updatable = false)
     private UUID id;
 
     @Column(name = "guardian_id", nullable = false)
     private UUID guardianId;
 
-    @Column(name = "amount", precision = 65, scale = 30)
-    private BigDecimal amount;
+    @Column(name = "amount_cents")
+    private Money amount;
 
     @Column(name = "due_date")
     private Instant dueDate;
@@ -34,6 +39,10 @@ public class Billing {
     @Column(name = "description", length = Integer.MAX_VALUE)
     private String description;
 
+    /** First day of the month an invoice run billed; null for invoices raised by hand. */
+    @Column(name = "billing_period")
+    private LocalDate billingPeriod;
+
     @ColumnDefault("CURRENT_TIMESTAMP")
     @Column(name = "created_at", nullable = false)
     private Instant createdAt;
@@ -0,0 +1,43 @@
+package com.careconnect.coreapi.billing.domain;
+
+import com.careconnect.coreapi.billing.Money;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * A row of the {@code guardian_balances} ledger: the totals a guardian has been invoiced and has
+ * paid. Written only by {@code BillingLedger}, with SQL that adds to the totals in place.
+ */
+@Getter
+@Setter
+@Entity
+@Table(name = "guardian_balances")
+public class GuardianBalance {
+
+    @Id
+    @Column(name = "guardian_id", nullable = false, updatable = false)
+    private UUID guardianId;
+
+    @Column(name = "invoiced_cents", nullable = false)
+    private Money invoiced;
+
+    @Column(name = "paid_cents", nullable = false)
+    private Money paid;
+
+    @Column(name = "updated_at", nullable = false)
+    private Instant updatedAt;
+
+    /**
+     * What the guardian still owes; negative when they have paid ahead.
+     */
+    public Money getBalance() {
+        return invoiced.minus(paid);
+    }
+}
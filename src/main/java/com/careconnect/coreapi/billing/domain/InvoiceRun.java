@@ -0,0 +1,48 @@
+package com.careconnect.coreapi.billing.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * A monthly invoice run, one per billing period. Written by {@code InvoiceRunner}, with the
+ * progress of each shard in {@link InvoiceRunShard}.
+ */
+@Getter
+@Setter
+@Entity
+@Table(name = "invoice_runs")
+public class InvoiceRun {
+
+    @Id
+    @Column(name = "id", nullable = false, updatable = false)
+    private UUID id;
+
+    @Column(name = "billing_period", nullable = false, unique = true)
+    private LocalDate billingPeriod;
+
+    @Column(name = "status", nullable = false, length = 20)
+    private String status;
+
+    @Column(name = "shard_count", nullable = false)
+    private int shardCount;
+
+    @Column(name = "last_error", length = Integer.MAX_VALUE)
+    private String lastError;
+
+    @Column(name = "started_at", nullable = false)
+    private Instant startedAt;
+
+    @Column(name = "completed_at")
+    private Instant completedAt;
+
+    @Column(name = "updated_at", nullable = false)
+    private Instant updatedAt;
+}
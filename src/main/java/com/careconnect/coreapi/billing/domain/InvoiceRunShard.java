@@ -0,0 +1,67 @@
+package com.careconnect.coreapi.billing.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.Getter;
+import lombok.Setter;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * One shard of an {@link InvoiceRun}: the primary guardians with IDs from
+ * {@code firstGuardianId} to {@code lastGuardianId}, and how far billing them has got.
+ */
+@Getter
+@Setter
+@Entity
+@Table(name = "invoice_run_shards", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_invoice_run_shards_run_shard", columnNames = {"run_id", "shard"})
+})
+public class InvoiceRunShard {
+
+    @Id
+    @Column(name = "id", nullable = false, updatable = false)
+    private UUID id;
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    @JoinColumn(name = "run_id", nullable = false)
+    private InvoiceRun run;
+
+    @Column(name = "shard", nullable = false)
+    private int shard;
+
+    @Column(name = "first_guardian_id", nullable = false)
+    private UUID firstGuardianId;
+
+    @Column(name = "last_guardian_id", nullable = false)
+    private UUID lastGuardianId;
+
+    /** The checkpoint: the shard resumes from this guardian; null once it is done. */
+    @Column(name = "next_guardian_id")
+    private UUID nextGuardianId;
+
+    @Column(name = "guardians_processed", nullable = false)
+    private int guardiansProcessed;
+
+    @Column(name = "invoices_created", nullable = false)
+    private int invoicesCreated;
+
+    @Column(name = "amount_cents", nullable = false)
+    private long amountCents;
+
+    @Column(name = "completed_at")
+    private Instant completedAt;
+
+    @Column(name = "updated_at", nullable = false)
+    private Instant updatedAt;
+}
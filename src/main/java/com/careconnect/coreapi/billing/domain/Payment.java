@@ -1,5 +1,7 @@
 package com.careconnect.coreapi.billing.domain;
 
+import com.careconnect.coreapi.billing.Money;
+import com.careconnect.coreapi.common.persistence.GeneratedUuidV7;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.Setter;
@@ -7,17 +9,19 @@ import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.OnDelete;
 import org.hibernate.annotations.OnDeleteAction;
 
-import java.math.BigDecimal;
 import java.time.Instant;
 import java.util.UUID;
 
 @Getter
 @Setter
 @Entity
-@Table(name = "payments")
+@Table(name = "payments", indexes = {
+        @Index(name = "idx_payments_billing_id", columnList = "billing_id"),
+        @Index(name = "uk_payments_transaction_id", columnList = "transaction_id", unique = true)
+})
 public class Payment {
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @GeneratedUuidV7
     @Column(name = "id", nullable = false, updatable = false)
     private UUID id;
 
@@ -26,8 +30,8 @@ public class Payment {
     @JoinColumn(name = "billing_id", nullable = false)
     private Billing billing;
 
-    @Column(name = "amount", precision = 65, scale = 30)
-    private BigDecimal amount;
+    @Column(name = "amount_cents")
+    private Money amount;
 
     @Column(name = "payment_date")
     private Instant paymentDate;
@@ -0,0 +1,15 @@
+package com.careconnect.coreapi.billing.dto;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * What a guardian has been invoiced and has paid, in the currency's minor unit precision.
+ *
+ * @param balance invoiced minus paid; negative when the guardian is in credit
+ * @param updatedAt when the totals last changed, null when nothing has been invoiced yet
+ */
+public record GuardianBalanceSummary(UUID guardianId, BigDecimal invoiced, BigDecimal paid, BigDecimal balance,
+                                     Instant updatedAt) {
+}
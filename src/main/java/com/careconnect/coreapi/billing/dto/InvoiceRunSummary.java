@@ -0,0 +1,18 @@
+package com.careconnect.coreapi.billing.dto;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Progress of a monthly invoice run.
+ *
+ * @param period the billed month, e.g. {@code 2026-09}
+ * @param status {@code RUNNING}, {@code COMPLETED} or {@code FAILED}
+ * @param amount total invoiced so far
+ * @param lastError why the run last failed; a failed run resumes when started again
+ */
+public record InvoiceRunSummary(UUID id, String period, String status, int shards, int shardsCompleted,
+                                long guardiansProcessed, long invoicesCreated, BigDecimal amount,
+                                String lastError, Instant startedAt, Instant completedAt) {
+}
@@ -0,0 +1,40 @@
+package com.careconnect.coreapi.billing.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * A payment reported by a payment processor. Processors deliver the same payment again until
+ * it is acknowledged; the transaction ID identifies it across deliveries.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PaymentRequestDto {
+
+    @NotNull(message = "Billing ID is required")
+    private UUID billingId;
+
+    @NotNull(message = "Amount is required")
+    private BigDecimal amount;
+
+    @NotBlank(message = "Transaction ID is required")
+    @Size(max = 255, message = "Transaction ID must not exceed 255 characters")
+    private String transactionId;
+
+    @Size(max = 50, message = "Payment method must not exceed 50 characters")
+    private String paymentMethod;
+
+    // When the processor took the payment; defaults to the time the request is received
+    private Instant paymentDate;
+}
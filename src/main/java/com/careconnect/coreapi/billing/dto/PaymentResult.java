@@ -0,0 +1,28 @@
+package com.careconnect.coreapi.billing.dto;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Acknowledgement of a payment delivery. The payment and the guardian's balance are recorded
+ * at once; the invoice's status follows after the next flush.
+ *
+ * @param paymentId the payment recorded for the transaction, by this delivery or an earlier one
+ * @param status whether this delivery was new or a replay of an earlier one
+ */
+public record PaymentResult(
+        UUID paymentId,
+        String transactionId,
+        Status status,
+        UUID billingId,
+        BigDecimal amount,
+        Instant paymentDate) {
+
+    public enum Status {
+        /** Recorded by this delivery */
+        ACCEPTED,
+        /** Same transaction ID as a payment already recorded; nothing changed */
+        DUPLICATE
+    }
+}
@@ -0,0 +1,32 @@
+package com.careconnect.coreapi.billing.internal.controller;
+
+import com.careconnect.coreapi.billing.dto.GuardianBalanceSummary;
+import com.careconnect.coreapi.billing.internal.service.BillingLedger;
+import com.careconnect.coreapi.common.response.ApiResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.UUID;
+
+/**
+ * Guardian balances, read from the billing ledger.
+ */
+@Slf4j
+@RestController
+@RequiredArgsConstructor
+public class BillingController {
+
+    private final BillingLedger billingLedger;
+
+    @GetMapping("/api/guardians/{guardianId}/balance")
+    public ResponseEntity<ApiResponse<GuardianBalanceSummary>> getBalance(@PathVariable UUID guardianId) {
+        log.debug("GET /api/guardians/{}/balance - Fetching balance", guardianId);
+
+        GuardianBalanceSummary balance = billingLedger.getBalance(guardianId);
+        return ResponseEntity.ok(ApiResponse.success(balance, "Balance retrieved successfully"));
+    }
+}
@@ -0,0 +1,58 @@
+package com.careconnect.coreapi.billing.internal.controller;
+
+import com.careconnect.coreapi.billing.dto.InvoiceRunSummary;
+import com.careconnect.coreapi.billing.internal.service.InvoiceRunner;
+import com.careconnect.coreapi.common.exceptions.ResourceNotFoundException;
+import com.careconnect.coreapi.common.exceptions.ValidationException;
+import com.careconnect.coreapi.common.response.ApiResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.YearMonth;
+import java.time.ZoneId;
+
+/**
+ * Monthly invoice runs. Starting a run answers 202 Accepted with its progress so far; poll
+ * {@code GET /api/billing/invoice-runs/{period}} until it is {@code COMPLETED}. Starting a run
+ * that failed resumes it.
+ */
+@Slf4j
+@RestController
+@RequiredArgsConstructor
+public class InvoiceRunController {
+
+    private final InvoiceRunner invoiceRunner;
+
+    @Value("${app.billing.invoice-run.zone:UTC}")
+    private String zone;
+
+    @PostMapping("/api/billing/invoice-runs")
+    public ResponseEntity<ApiResponse<InvoiceRunSummary>> startRun(@RequestParam YearMonth period) {
+        log.info("POST /api/billing/invoice-runs - Billing {}", period);
+
+        if (!period.isBefore(YearMonth.now(ZoneId.of(zone)))) {
+            throw new ValidationException("Only past months can be billed: " + period);
+        }
+        invoiceRunner.run(period);
+        InvoiceRunSummary summary = invoiceRunner.getRun(period)
+                .orElseThrow(() -> new ResourceNotFoundException("Invoice run", "period", period));
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(ApiResponse.success(summary, "Invoice run started"));
+    }
+
+    @GetMapping("/api/billing/invoice-runs/{period}")
+    public ResponseEntity<ApiResponse<InvoiceRunSummary>> getRun(@PathVariable YearMonth period) {
+        log.debug("GET /api/billing/invoice-runs/{} - Fetching progress", period);
+
+        InvoiceRunSummary summary = invoiceRunner.getRun(period)
+                .orElseThrow(() -> new ResourceNotFoundException("Invoice run", "period", period));
+        return ResponseEntity.ok(ApiResponse.success(summary, "Invoice run retrieved successfully"));
+    }
+}
@@ -0,0 +1,40 @@
+package com.careconnect.coreapi.billing.internal.controller;
+
+import com.careconnect.coreapi.billing.dto.PaymentRequestDto;
+import com.careconnect.coreapi.billing.dto.PaymentResult;
+import com.careconnect.coreapi.billing.internal.service.PaymentIngestion;
+import com.careconnect.coreapi.common.response.ApiResponse;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Payment deliveries from payment processors.
+ *
+ * A new payment is answered with 201 Created. A replay of a transaction already recorded is
+ * answered with 200 and status {@code DUPLICATE}, so the processor stops retrying; one that
+ * names another invoice or amount is answered with 409.
+ */
+@Slf4j
+@RestController
+@RequiredArgsConstructor
+public class PaymentController {
+
+    private final PaymentIngestion paymentIngestion;
+
+    @PostMapping("/api/payments")
+    public ResponseEntity<ApiResponse<PaymentResult>> recordPayment(@Valid @RequestBody PaymentRequestDto request) {
+        log.debug("POST /api/payments - Transaction {} for invoice {}", request.getTransactionId(), request.getBillingId());
+
+        PaymentResult result = paymentIngestion.ingest(request);
+        if (result.status() == PaymentResult.Status.DUPLICATE) {
+            return ResponseEntity.ok(ApiResponse.success(result, "Duplicate delivery, already recorded"));
+        }
+        return ResponseEntity.status(HttpStatus.CREATED).body(ApiResponse.success(result, "Payment recorded"));
+    }
+}
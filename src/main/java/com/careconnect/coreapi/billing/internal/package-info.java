@@ -0,0 +1,8 @@
+/**
+ * Internal implementation for the billing module.
+ *
+ * This package contains the invoice and payment ledger, its reconciliation job, monthly invoice
+ * runs, payment ingestion and their controllers.
+ * These should not be accessed directly by other modules.
+ */
+package com.careconnect.coreapi.billing.internal;
@@ -0,0 +1,14 @@
+package com.careconnect.coreapi.billing.internal.repository;
+
+import com.careconnect.coreapi.billing.domain.GuardianBalance;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.UUID;
+
+/**
+ * Reads the {@code guardian_balances} ledger; {@code BillingLedger} writes it with SQL.
+ */
+@Repository
+public interface GuardianBalanceRepository extends JpaRepository<GuardianBalance, UUID> {
+}
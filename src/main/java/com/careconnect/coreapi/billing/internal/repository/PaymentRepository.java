@@ -0,0 +1,11 @@
+package com.careconnect.coreapi.billing.internal.repository;
+
+import com.careconnect.coreapi.billing.domain.Payment;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.UUID;
+
+@Repository
+public interface PaymentRepository extends JpaRepository<Payment, UUID> {
+}
@@ -0,0 +1,186 @@
+package com.careconnect.coreapi.billing.internal.service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Nightly check of {@code guardian_balances} against {@code billing} and {@code payments}.
+ *
+ * One aggregate query compares every guardian's stored totals with the sums of their invoices and
+ * payments and streams back only the guardians that differ, {@code app.billing.reconcile.fetch-size}
+ * rows at a time, so the job never holds the invoices in memory. Each of those guardians is then
+ * recomputed in its own short transaction, with their ledger row locked first so that a payment
+ * recorded meanwhile is neither lost nor counted twice.
+ *
+ * Runs every day at {@code app.billing.reconcile.time} in {@code app.billing.reconcile.zone};
+ * {@code app.billing.reconcile.enabled=false} turns the schedule off.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BalanceReconciliation {
+
+    private static final String DRIFT_SQL =
+            "SELECT guardian_id FROM (" +
+            "SELECT guardian_id, COALESCE(amount_cents, 0) AS invoiced, 0 AS paid, " +
+            "0 AS stored_invoiced, 0 AS stored_paid FROM billing " +
+            "UNION ALL SELECT b.guardian_id, 0, COALESCE(p.amount_cents, 0), 0, 0 " +
+            "FROM payments p JOIN billing b ON b.id = p.billing_id " +
+            "UNION ALL SELECT guardian_id, 0, 0, invoiced_cents, paid_cents FROM guardian_balances) t " +
+            "GROUP BY guardian_id " +
+            "HAVING SUM(invoiced) <> SUM(stored_invoiced) OR SUM(paid) <> SUM(stored_paid)";
+    private static final String SUM_INVOICED_SQL =
+            "SELECT COALESCE(SUM(amount_cents), 0) FROM billing WHERE guardian_id = ?";
+    private static final String SUM_PAID_SQL =
+            "SELECT COALESCE(SUM(p.amount_cents), 0) FROM payments p JOIN billing b ON b.id = p.billing_id " +
+            "WHERE b.guardian_id = ?";
+    private static final String SELECT_BALANCE_SQL =
+            "SELECT invoiced_cents, paid_cents FROM guardian_balances WHERE guardian_id = ?";
+    private static final String UPDATE_BALANCE_SQL =
+            "UPDATE guardian_balances SET invoiced_cents = ?, paid_cents = ?, updated_at = ? WHERE guardian_id = ?";
+
+    private final BillingLedger billingLedger;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final LongAdder corrected = new LongAdder();
+    private ScheduledExecutorService scheduler;
+    private JdbcTemplate streamingJdbcTemplate;
+
+    @Value("${app.billing.reconcile.enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.billing.reconcile.time:02:30}")
+    private String time;
+
+    @Value("${app.billing.reconcile.zone:UTC}")
+    private String zone;
+
+    @Value("${app.billing.reconcile.fetch-size:1000}")
+    private int fetchSize;
+
+    @PostConstruct
+    void start() {
+        streamingJdbcTemplate = new JdbcTemplate(jdbcTemplate.getDataSource());
+        streamingJdbcTemplate.setFetchSize(fetchSize);
+        if (!enabled) {
+            return;
+        }
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "billing-balance-reconciliation");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduleNext();
+    }
+
+    @PreDestroy
+    void stop() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+    }
+
+    /**
+     * Recomputes every guardian whose stored totals differ from their invoices and payments.
+     *
+     * @return the number of guardians whose balance was corrected
+     */
+    public int reconcile() {
+        lock.lock();
+        try {
+            List<UUID> drifted = findDrifted();
+            int total = 0;
+            for (UUID guardianId : drifted) {
+                try {
+                    if (Boolean.TRUE.equals(transactionTemplate.execute(status -> recompute(guardianId)))) {
+                        total++;
+                    }
+                } catch (RuntimeException e) {
+                    log.warn("Could not reconcile balance of guardian {}: {}", guardianId, e.getMessage());
+                }
+            }
+            corrected.add(total);
+            return total;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Guardian balances corrected since startup.
+     */
+    public long correctedCount() {
+        return corrected.sum();
+    }
+
+    private List<UUID> findDrifted() {
+        List<UUID> drifted = new ArrayList<>();
+        // Inside a transaction, so the PostgreSQL driver fetches through a cursor
+        transactionTemplate.executeWithoutResult(status -> streamingJdbcTemplate.query(DRIFT_SQL,
+                (RowCallbackHandler) resultSet -> drifted.add(resultSet.getObject(1, UUID.class))));
+        return drifted;
+    }
+
+    private boolean recompute(UUID guardianId) {
+        Instant now = Instant.now();
+        // Locks the row (creating it if missing) before the sums are read
+        billingLedger.applyDelta(guardianId, 0, 0, now);
+        long invoiced = jdbcTemplate.queryForObject(SUM_INVOICED_SQL, Long.class, guardianId);
+        long paid = jdbcTemplate.queryForObject(SUM_PAID_SQL, Long.class, guardianId);
+        long[] stored = jdbcTemplate.queryForObject(SELECT_BALANCE_SQL,
+                (resultSet, rowNum) -> new long[]{resultSet.getLong(1), resultSet.getLong(2)}, guardianId);
+        if (invoiced == stored[0] && paid == stored[1]) {
+            return false;
+        }
+        log.info("Reconciled balance of guardian {}: invoiced {} -> {}, paid {} -> {} cents", guardianId,
+                stored[0], invoiced, stored[1], paid);
+        jdbcTemplate.update(UPDATE_BALANCE_SQL, invoiced, paid, Timestamp.from(now), guardianId);
+        return true;
+    }
+
+    private void scheduleNext() {
+        ZonedDateTime now = ZonedDateTime.now(ZoneId.of(zone));
+        ZonedDateTime next = now.with(LocalTime.parse(time));
+        if (!next.isAfter(now)) {
+            next = next.plusDays(1);
+        }
+        scheduler.schedule(this::reconcileQuietly, Duration.between(now, next).toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    private void reconcileQuietly() {
+        try {
+            int fixed = reconcile();
+            log.info("Billing balance reconciliation corrected {} guardian(s)", fixed);
+        } catch (RuntimeException e) {
+            log.warn("Billing balance reconciliation failed, will retry tomorrow: {}", e.getMessage());
+        } finally {
+            if (!scheduler.isShutdown()) {
+                scheduleNext();
+            }
+        }
+    }
+}
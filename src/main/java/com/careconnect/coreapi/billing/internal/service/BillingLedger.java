@@ -0,0 +1,189 @@
+package com.careconnect.coreapi.billing.internal.service;
+
+import com.careconnect.coreapi.billing.Money;
+import com.careconnect.coreapi.billing.domain.Billing;
+import com.careconnect.coreapi.billing.domain.GuardianBalance;
+import com.careconnect.coreapi.billing.domain.Payment;
+import com.careconnect.coreapi.billing.dto.GuardianBalanceSummary;
+import com.careconnect.coreapi.billing.internal.repository.BillingRepository;
+import com.careconnect.coreapi.billing.internal.repository.GuardianBalanceRepository;
+import com.careconnect.coreapi.billing.internal.repository.PaymentRepository;
+import com.careconnect.coreapi.childmgmt.domain.Guardian;
+import com.careconnect.coreapi.common.exceptions.ResourceNotFoundException;
+import com.careconnect.coreapi.common.exceptions.ValidationException;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Records invoices and payments and keeps each guardian's running totals in
+ * {@code guardian_balances}.
+ *
+ * Every write adds its amount to the guardian's row in the same transaction, with a single
+ * upsert that increments the totals in place: concurrent writes for one guardian queue on that
+ * row instead of reading and rewriting it, and a rolled back write leaves no trace in the
+ * ledger. Reading a balance is then a primary key lookup, however many invoices the guardian has.
+ * {@link BalanceReconciliation} corrects any drift left by writes made around this class.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BillingLedger {
+
+    public static final String PENDING = "PENDING";
+
+    private static final String POSTGRES_UPSERT_SQL =
+            "INSERT INTO guardian_balances (guardian_id, invoiced_cents, paid_cents, updated_at) VALUES (?, ?, ?, ?) " +
+            "ON CONFLICT (guardian_id) DO UPDATE SET " +
+            "invoiced_cents = guardian_balances.invoiced_cents + EXCLUDED.invoiced_cents, " +
+            "paid_cents = guardian_balances.paid_cents + EXCLUDED.paid_cents, updated_at = EXCLUDED.updated_at";
+    private static final String MERGE_SQL =
+            "MERGE INTO guardian_balances b USING (VALUES (CAST(? AS UUID), CAST(? AS BIGINT), CAST(? AS BIGINT), " +
+            "CAST(? AS TIMESTAMP))) AS d (guardian_id, invoiced_cents, paid_cents, updated_at) " +
+            "ON b.guardian_id = d.guardian_id " +
+            "WHEN MATCHED THEN UPDATE SET invoiced_cents = b.invoiced_cents + d.invoiced_cents, " +
+            "paid_cents = b.paid_cents + d.paid_cents, updated_at = d.updated_at " +
+            "WHEN NOT MATCHED THEN INSERT (guardian_id, invoiced_cents, paid_cents, updated_at) " +
+            "VALUES (d.guardian_id, d.invoiced_cents, d.paid_cents, d.updated_at)";
+    private static final String INSERT_INVOICE_SQL =
+            "INSERT INTO billing (id, guardian_id, amount_cents, due_date, status, description, billing_period, " +
+            "created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final BillingRepository billingRepository;
+    private final PaymentRepository paymentRepository;
+    private final GuardianBalanceRepository guardianBalanceRepository;
+    private final JdbcTemplate jdbcTemplate;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private String upsertSql;
+
+    @PostConstruct
+    void start() {
+        boolean postgres = "PostgreSQL".equals(jdbcTemplate.execute(
+                (ConnectionCallback<String>) connection -> connection.getMetaData().getDatabaseProductName()));
+        upsertSql = postgres ? POSTGRES_UPSERT_SQL : MERGE_SQL;
+    }
+
+    /**
+     * Invoices a guardian and adds the amount to what they owe.
+     */
+    @Transactional
+    public Billing recordInvoice(UUID guardianId, Money amount, Instant dueDate, String description) {
+        requirePositive(amount);
+        if (entityManager.find(Guardian.class, guardianId) == null) {
+            throw new ResourceNotFoundException("Guardian", "id", guardianId);
+        }
+        Instant now = Instant.now();
+        Billing billing = new Billing();
+        billing.setGuardianId(guardianId);
+        billing.setAmount(amount);
+        billing.setDueDate(dueDate);
+        billing.setStatus(PENDING);
+        billing.setDescription(description);
+        billing.setCreatedAt(now);
+        billing.setUpdatedAt(now);
+        Billing saved = billingRepository.save(billing);
+        applyDelta(guardianId, amount.cents(), 0, now);
+        log.debug("Invoiced guardian {}: {}", guardianId, amount);
+        return saved;
+    }
+
+    /**
+     * Records a payment against an invoice and deducts it from what the invoiced guardian owes.
+     */
+    @Transactional
+    public Payment recordPayment(UUID billingId, Money amount, String paymentMethod, String transactionId,
+                                 Instant paymentDate) {
+        requirePositive(amount);
+        Billing billing = billingRepository.findById(billingId)
+                .orElseThrow(() -> new ResourceNotFoundException("Billing", "id", billingId));
+        Instant now = Instant.now();
+        Payment payment = new Payment();
+        payment.setBilling(billing);
+        payment.setAmount(amount);
+        payment.setPaymentMethod(paymentMethod);
+        payment.setTransactionId(transactionId);
+        payment.setPaymentDate(paymentDate != null ? paymentDate : now);
+        payment.setCreatedAt(now);
+        payment.setUpdatedAt(now);
+        Payment saved = paymentRepository.save(payment);
+        applyDelta(billing.getGuardianId(), 0, amount.cents(), now);
+        log.debug("Recorded payment of {} against invoice {}", amount, billingId);
+        return saved;
+    }
+
+    /**
+     * Inserts invoices in one JDBC batch and adds each to its guardian's totals in a second,
+     * in the caller's transaction. The invoices need their IDs set; pass at most one per guardian,
+     * ordered by guardian, so that concurrent callers lock ledger rows in the same order.
+     */
+    void recordInvoices(List<Billing> invoices, Instant now) {
+        if (invoices.isEmpty()) {
+            return;
+        }
+        Timestamp timestamp = Timestamp.from(now);
+        List<Object[]> invoiceRows = new ArrayList<>(invoices.size());
+        List<Object[]> deltaRows = new ArrayList<>(invoices.size());
+        for (Billing invoice : invoices) {
+            invoiceRows.add(new Object[]{invoice.getId(), invoice.getGuardianId(), invoice.getAmount().cents(),
+                    Timestamp.from(invoice.getDueDate()), invoice.getStatus(), invoice.getDescription(),
+                    invoice.getBillingPeriod() == null ? null : Date.valueOf(invoice.getBillingPeriod()),
+                    timestamp, timestamp});
+            deltaRows.add(new Object[]{invoice.getGuardianId(), invoice.getAmount().cents(), 0L, timestamp});
+        }
+        jdbcTemplate.batchUpdate(INSERT_INVOICE_SQL, invoiceRows);
+        jdbcTemplate.batchUpdate(upsertSql, deltaRows);
+    }
+
+    /**
+     * A guardian's totals, read from the ledger row. A guardian who has never been invoiced has
+     * no row and a zero balance.
+     */
+    @Transactional(readOnly = true)
+    public GuardianBalanceSummary getBalance(UUID guardianId) {
+        return guardianBalanceRepository.findById(guardianId)
+                .map(BillingLedger::toSummary)
+                .orElseGet(() -> {
+                    if (entityManager.find(Guardian.class, guardianId) == null) {
+                        throw new ResourceNotFoundException("Guardian", "id", guardianId);
+                    }
+                    BigDecimal zero = Money.ZERO.toBigDecimal();
+                    return new GuardianBalanceSummary(guardianId, zero, zero, zero, null);
+                });
+    }
+
+    /**
+     * Adds to a guardian's totals, creating their row on the first write. Runs in the caller's
+     * transaction and holds the row lock until it ends.
+     */
+    void applyDelta(UUID guardianId, long invoicedCents, long paidCents, Instant now) {
+        jdbcTemplate.update(upsertSql, guardianId, invoicedCents, paidCents, Timestamp.from(now));
+    }
+
+    private static GuardianBalanceSummary toSummary(GuardianBalance balance) {
+        return new GuardianBalanceSummary(balance.getGuardianId(), balance.getInvoiced().toBigDecimal(),
+                balance.getPaid().toBigDecimal(), balance.getBalance().toBigDecimal(), balance.getUpdatedAt());
+    }
+
+    private static void requirePositive(Money amount) {
+        if (amount == null || !amount.isPositive()) {
+            throw new ValidationException("Amount must be greater than zero");
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package com.careconnect.coreapi.billing.internal.service;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.YearMonth;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * Prices one billing month for a child from the days they were enrolled and the days they
+ * attended.
+ *
+ * The days of the month are the bits of an {@code int}, bit 0 being the 1st, so a child's month
+ * is two {@code int}s however many enrollments and visits it has. Tuition is the monthly fee
+ * prorated by enrolled days and rounded half up to the cent; days attended without an
+ * enrollment covering them are charged as drop-in days.
+ */
+public final class InvoiceCalculator {
+
+    private final ZoneId zone;
+    private final long monthlyTuitionCents;
+    private final long dropInDayCents;
+    private final LocalDate firstDay;
+    private final int length;
+    private final Instant start;
+    private final Instant end;
+
+    public InvoiceCalculator(YearMonth period, ZoneId zone, long monthlyTuitionCents, long dropInDayCents) {
+        this.zone = zone;
+        this.monthlyTuitionCents = monthlyTuitionCents;
+        this.dropInDayCents = dropInDayCents;
+        this.firstDay = period.atDay(1);
+        this.length = period.lengthOfMonth();
+        this.start = firstDay.atStartOfDay(zone).toInstant();
+        this.end = period.plusMonths(1).atDay(1).atStartOfDay(zone).toInstant();
+    }
+
+    /** Start of the month's first day in the billing zone. */
+    public Instant start() {
+        return start;
+    }
+
+    /** Start of the next month's first day in the billing zone. */
+    public Instant end() {
+        return end;
+    }
+
+    public LocalDate firstDay() {
+        return firstDay;
+    }
+
+    /**
+     * The days of the month covered by an enrollment. A day counts if the enrollment covers any
+     * part of it.
+     *
+     * @param startDate when the enrollment starts, null if it always has
+     * @param endDate when it ends (exclusive), null if it has not
+     */
+    public int enrolledDays(Instant startDate, Instant endDate) {
+        long from = startDate == null ? 0 : dayIndex(startDate);
+        long to = length;
+        if (endDate != null) {
+            ZonedDateTime endTime = endDate.atZone(zone);
+            to = dayIndex(endDate) + (endTime.toLocalTime().equals(LocalTime.MIDNIGHT) ? 0 : 1);
+        }
+        from = Math.max(from, 0);
+        to = Math.min(to, length);
+        if (from >= to) {
+            return 0;
+        }
+        return (int) (((1L << (to - from)) - 1) << from);
+    }
+
+    /**
+     * The day of the month of a check-in, or no day if it falls outside the month.
+     */
+    public int attendedDay(Instant checkIn) {
+        long day = dayIndex(checkIn);
+        return day >= 0 && day < length ? 1 << day : 0;
+    }
+
+    /**
+     * What a child owes for the month, in cents.
+     */
+    public long charge(int enrolledDays, int attendedDays) {
+        long tuition = (Math.multiplyExact(monthlyTuitionCents, 2L * Integer.bitCount(enrolledDays)) + length)
+                / (2L * length);
+        long dropIn = Math.multiplyExact(dropInDayCents, (long) Integer.bitCount(attendedDays & ~enrolledDays));
+        return Math.addExact(tuition, dropIn);
+    }
+
+    private long dayIndex(Instant instant) {
+        return ChronoUnit.DAYS.between(firstDay, LocalDate.ofInstant(instant, zone));
+    }
+}
@@ -0,0 +1,109 @@
+package com.careconnect.coreapi.billing.internal.service;
+
+import com.careconnect.coreapi.common.exceptions.ConflictException;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalTime;
+import java.time.YearMonth;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Starts {@link InvoiceRunner} for the previous month on day
+ * {@code app.billing.invoice-run.day-of-month} at {@code app.billing.invoice-run.time} (in
+ * {@code app.billing.invoice-run.zone}), and once the application is ready resumes the runs
+ * the last shutdown interrupted. {@code app.billing.invoice-run.enabled=false} turns both off;
+ * runs can still be started through the API.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class InvoiceRunSchedule {
+
+    private final InvoiceRunner invoiceRunner;
+
+    private ScheduledExecutorService scheduler;
+
+    @Value("${app.billing.invoice-run.enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.billing.invoice-run.day-of-month:1}")
+    private int dayOfMonth;
+
+    @Value("${app.billing.invoice-run.time:01:00}")
+    private String time;
+
+    @Value("${app.billing.invoice-run.zone:UTC}")
+    private String zone;
+
+    @EventListener(ApplicationReadyEvent.class)
+    void start() {
+        if (!enabled) {
+            return;
+        }
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "invoice-run-schedule");
+            thread.setDaemon(true);
+            return thread;
+        });
+        for (YearMonth period : invoiceRunner.interruptedRuns()) {
+            log.info("Resuming interrupted invoice run for {}", period);
+            start(period);
+        }
+        scheduleNext();
+    }
+
+    @PreDestroy
+    void stop() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+    }
+
+    private void scheduleNext() {
+        ZonedDateTime now = ZonedDateTime.now(ZoneId.of(zone));
+        ZonedDateTime next = at(now);
+        if (!next.isAfter(now)) {
+            next = at(now.plusMonths(1));
+        }
+        scheduler.schedule(this::runPreviousMonth, Duration.between(now, next).toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    private ZonedDateTime at(ZonedDateTime month) {
+        int day = Math.min(dayOfMonth, month.toLocalDate().lengthOfMonth());
+        return month.withDayOfMonth(day).with(LocalTime.parse(time));
+    }
+
+    private void runPreviousMonth() {
+        try {
+            start(YearMonth.now(ZoneId.of(zone)).minusMonths(1));
+        } finally {
+            if (!scheduler.isShutdown()) {
+                scheduleNext();
+            }
+        }
+    }
+
+    private void start(YearMonth period) {
+        try {
+            invoiceRunner.run(period).exceptionally(failure -> {
+                log.warn("Invoice run for {} failed, start it again to resume: {}", period, failure.getMessage());
+                return null;
+            });
+        } catch (ConflictException e) {
+            log.info("Invoice run for {} skipped: {}", period, e.getMessage());
+        } catch (RuntimeException e) {
+            log.warn("Could not start the invoice run for {}: {}", period, e.getMessage());
+        }
+    }
+}
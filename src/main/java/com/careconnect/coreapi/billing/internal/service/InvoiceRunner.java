@@ -0,0 +1,404 @@
+package com.careconnect.coreapi.billing.internal.service;
+
+import com.careconnect.coreapi.billing.Money;
+import com.careconnect.coreapi.billing.domain.Billing;
+import com.careconnect.coreapi.billing.dto.InvoiceRunSummary;
+import com.careconnect.coreapi.common.exceptions.ConflictException;
+import com.careconnect.coreapi.common.utils.UuidV7;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.YearMonth;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Generates a month's invoices: one per primary guardian, for the tuition and drop-in days of
+ * the children they are primary guardian of (see {@link InvoiceCalculator}).
+ *
+ * A run splits the primary guardians into {@code app.billing.invoice-run.shards} ranges of
+ * guardian IDs holding about as many guardians each (IDs are time-ordered, so equal slices of
+ * the ID space would not be), and bills the shards in parallel on
+ * {@code app.billing.invoice-run.parallelism} threads. A shard walks its range
+ * {@code app.billing.invoice-run.chunk-size} guardians at a time: the chunk's enrollments and
+ * attendance are streamed through a cursor into two day masks per child, and its invoices are
+ * inserted, added to the ledger and the shard's checkpoint moved past the chunk in one
+ * transaction. A run interrupted by a crash or a failure therefore resumes from the last
+ * committed chunk of each shard, and never bills a guardian twice for a month.
+ *
+ * The runs in progress are tracked in-process: start a run on one instance only. The unique
+ * index on {@code billing (guardian_id, billing_period)} fails a second instance's chunks
+ * rather than invoicing twice.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class InvoiceRunner {
+
+    static final String RUNNING = "RUNNING";
+    static final String COMPLETED = "COMPLETED";
+    static final String FAILED = "FAILED";
+
+    private static final UUID FIRST_ID = new UUID(0L, 0L);
+    private static final UUID LAST_ID = new UUID(-1L, -1L);
+
+    private static final String COUNT_GUARDIANS_SQL =
+            "SELECT COUNT(DISTINCT guardian_id) FROM child_guardians WHERE primary_guardian = TRUE";
+    private static final String ALL_GUARDIANS_SQL =
+            "SELECT DISTINCT guardian_id FROM child_guardians WHERE primary_guardian = TRUE ORDER BY guardian_id";
+    private static final String CHUNK_GUARDIANS_SQL =
+            "SELECT DISTINCT guardian_id FROM child_guardians " +
+            "WHERE primary_guardian = TRUE AND guardian_id BETWEEN ? AND ? ORDER BY guardian_id LIMIT ?";
+    private static final String ENROLLMENTS_SQL =
+            "SELECT cg.guardian_id, e.child_id, e.start_date, e.end_date FROM child_guardians cg " +
+            "JOIN enrollments e ON e.child_id = cg.child_id " +
+            "WHERE cg.primary_guardian = TRUE AND cg.guardian_id BETWEEN ? AND ? " +
+            "AND (e.start_date IS NULL OR e.start_date < ?) AND (e.end_date IS NULL OR e.end_date > ?) " +
+            "AND (e.status IS NULL OR UPPER(e.status) <> 'CANCELLED')";
+    private static final String ATTENDANCE_SQL =
+            "SELECT cg.guardian_id, a.child_id, a.check_in FROM child_guardians cg " +
+            "JOIN attendance a ON a.child_id = cg.child_id " +
+            "WHERE cg.primary_guardian = TRUE AND cg.guardian_id BETWEEN ? AND ? " +
+            "AND a.check_in >= ? AND a.check_in < ?";
+    private static final String INVOICED_SQL =
+            "SELECT guardian_id FROM billing WHERE billing_period = ? AND guardian_id BETWEEN ? AND ?";
+    private static final String FIND_RUN_SQL =
+            "SELECT id, status FROM invoice_runs WHERE billing_period = ?";
+    private static final String INSERT_RUN_SQL =
+            "INSERT INTO invoice_runs (id, billing_period, status, shard_count, started_at, updated_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?)";
+    private static final String INSERT_SHARD_SQL =
+            "INSERT INTO invoice_run_shards (id, run_id, shard, first_guardian_id, last_guardian_id, " +
+            "next_guardian_id, guardians_processed, invoices_created, amount_cents, updated_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, 0, 0, 0, ?)";
+    private static final String PENDING_SHARDS_SQL =
+            "SELECT id, next_guardian_id, last_guardian_id FROM invoice_run_shards " +
+            "WHERE run_id = ? AND next_guardian_id IS NOT NULL ORDER BY shard";
+    private static final String CHECKPOINT_SQL =
+            "UPDATE invoice_run_shards SET next_guardian_id = ?, guardians_processed = guardians_processed + ?, " +
+            "invoices_created = invoices_created + ?, amount_cents = amount_cents + ?, completed_at = ?, " +
+            "updated_at = ? WHERE id = ?";
+    private static final String RUN_STATUS_SQL =
+            "UPDATE invoice_runs SET status = ?, last_error = ?, completed_at = ?, updated_at = ? WHERE id = ?";
+    private static final String SUMMARY_SQL =
+            "SELECT r.id, r.status, r.shard_count, r.last_error, r.started_at, r.completed_at, " +
+            "COUNT(s.completed_at) AS shards_completed, COALESCE(SUM(s.guardians_processed), 0) AS guardians, " +
+            "COALESCE(SUM(s.invoices_created), 0) AS invoices, COALESCE(SUM(s.amount_cents), 0) AS amount_cents " +
+            "FROM invoice_runs r LEFT JOIN invoice_run_shards s ON s.run_id = r.id WHERE r.billing_period = ? " +
+            "GROUP BY r.id, r.status, r.shard_count, r.last_error, r.started_at, r.completed_at";
+
+    private final BillingLedger billingLedger;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Map<YearMonth, CompletableFuture<InvoiceRunSummary>> running = new ConcurrentHashMap<>();
+    private ExecutorService executor;
+    private JdbcTemplate streamingJdbcTemplate;
+
+    @Value("${app.billing.invoice-run.shards:16}")
+    private int shards;
+
+    @Value("${app.billing.invoice-run.parallelism:4}")
+    private int parallelism;
+
+    @Value("${app.billing.invoice-run.chunk-size:500}")
+    private int chunkSize;
+
+    @Value("${app.billing.invoice-run.fetch-size:1000}")
+    private int fetchSize;
+
+    @Value("${app.billing.invoice-run.zone:UTC}")
+    private String zone;
+
+    @Value("${app.billing.invoice-run.monthly-tuition-cents:85000}")
+    private long monthlyTuitionCents;
+
+    @Value("${app.billing.invoice-run.drop-in-day-cents:6500}")
+    private long dropInDayCents;
+
+    @Value("${app.billing.invoice-run.due-after:P14D}")
+    private Duration dueAfter;
+
+    @PostConstruct
+    void start() {
+        streamingJdbcTemplate = new JdbcTemplate(jdbcTemplate.getDataSource());
+        streamingJdbcTemplate.setFetchSize(fetchSize);
+        AtomicInteger threads = new AtomicInteger();
+        executor = Executors.newFixedThreadPool(parallelism, runnable -> {
+            Thread thread = new Thread(runnable, "invoice-run-" + threads.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    void stop() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Starts billing a month, or resumes a run of it that failed or was interrupted.
+     *
+     * @return completes with the final summary when every shard is done, exceptionally if one failed
+     * @throws ConflictException if the month has already been billed
+     */
+    public CompletableFuture<InvoiceRunSummary> run(YearMonth period) {
+        lock.lock();
+        try {
+            CompletableFuture<InvoiceRunSummary> inProgress = running.get(period);
+            if (inProgress != null && !inProgress.isDone()) {
+                return inProgress;
+            }
+            Optional<Map<String, Object>> existing = jdbcTemplate.queryForList(FIND_RUN_SQL, Date.valueOf(period.atDay(1)))
+                    .stream().findFirst();
+            UUID runId;
+            if (existing.isEmpty()) {
+                runId = create(period);
+            } else {
+                if (COMPLETED.equals(existing.get().get("status"))) {
+                    throw new ConflictException("Invoices for " + period + " have already been generated");
+                }
+                runId = (UUID) existing.get().get("id");
+                updateStatus(runId, RUNNING, null, null);
+                log.info("Resuming invoice run for {}", period);
+            }
+            CompletableFuture<InvoiceRunSummary> future = submit(runId, period);
+            running.put(period, future);
+            return future;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Progress of the run for a month, if it was ever started.
+     */
+    public Optional<InvoiceRunSummary> getRun(YearMonth period) {
+        return jdbcTemplate.query(SUMMARY_SQL, (resultSet, rowNum) -> {
+            Timestamp completedAt = resultSet.getTimestamp("completed_at");
+            return new InvoiceRunSummary(resultSet.getObject("id", UUID.class), period.toString(),
+                    resultSet.getString("status"), resultSet.getInt("shard_count"),
+                    resultSet.getInt("shards_completed"), resultSet.getLong("guardians"),
+                    resultSet.getLong("invoices"), Money.ofCents(resultSet.getLong("amount_cents")).toBigDecimal(),
+                    resultSet.getString("last_error"), resultSet.getTimestamp("started_at").toInstant(),
+                    completedAt == null ? null : completedAt.toInstant());
+        }, Date.valueOf(period.atDay(1))).stream().findFirst();
+    }
+
+    /**
+     * Months whose run was started but neither completed nor failed, e.g. because the
+     * application stopped while it was running.
+     */
+    public List<YearMonth> interruptedRuns() {
+        return jdbcTemplate.queryForList("SELECT billing_period FROM invoice_runs WHERE status = ? ORDER BY billing_period",
+                Date.class, RUNNING).stream().map(date -> YearMonth.from(date.toLocalDate())).toList();
+    }
+
+    private UUID create(YearMonth period) {
+        UUID runId = UuidV7.generate();
+        List<UUID> bounds = shardBounds();
+        Timestamp now = Timestamp.from(Instant.now());
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.update(INSERT_RUN_SQL, runId, Date.valueOf(period.atDay(1)), RUNNING, bounds.size(), now, now);
+            List<Object[]> rows = new ArrayList<>(bounds.size());
+            for (int shard = 0; shard < bounds.size(); shard++) {
+                UUID first = shard == 0 ? FIRST_ID : bounds.get(shard);
+                UUID last = shard == bounds.size() - 1 ? LAST_ID : predecessor(bounds.get(shard + 1));
+                rows.add(new Object[]{UuidV7.generate(), runId, shard, first, last, first, now});
+            }
+            jdbcTemplate.batchUpdate(INSERT_SHARD_SQL, rows);
+        });
+        log.info("Started invoice run for {} with {} shard(s)", period, bounds.size());
+        return runId;
+    }
+
+    /**
+     * The first guardian ID of each shard: every {@code count / shards}-th primary guardian in
+     * ID order, read through a cursor.
+     */
+    private List<UUID> shardBounds() {
+        long count = jdbcTemplate.queryForObject(COUNT_GUARDIANS_SQL, Long.class);
+        List<UUID> bounds = new ArrayList<>(shards);
+        if (count == 0) {
+            bounds.add(FIRST_ID);
+            return bounds;
+        }
+        long step = Math.max(1, (count + shards - 1) / shards);
+        long[] position = {0};
+        transactionTemplate.executeWithoutResult(status -> streamingJdbcTemplate.query(ALL_GUARDIANS_SQL,
+                (RowCallbackHandler) resultSet -> {
+                    if (position[0]++ % step == 0) {
+                        bounds.add(resultSet.getObject(1, UUID.class));
+                    }
+                }));
+        return bounds;
+    }
+
+    private CompletableFuture<InvoiceRunSummary> submit(UUID runId, YearMonth period) {
+        InvoiceCalculator calculator = new InvoiceCalculator(period, ZoneId.of(zone), monthlyTuitionCents,
+                dropInDayCents);
+        List<CompletableFuture<Void>> shardRuns = jdbcTemplate.query(PENDING_SHARDS_SQL, (resultSet, rowNum) -> {
+            UUID shardId = resultSet.getObject("id", UUID.class);
+            UUID next = resultSet.getObject("next_guardian_id", UUID.class);
+            UUID last = resultSet.getObject("last_guardian_id", UUID.class);
+            return CompletableFuture.runAsync(() -> runShard(calculator, shardId, next, last), executor);
+        }, runId);
+        return CompletableFuture.allOf(shardRuns.toArray(CompletableFuture[]::new))
+                .handle((ignored, failure) -> finish(runId, period, failure));
+    }
+
+    private InvoiceRunSummary finish(UUID runId, YearMonth period, Throwable failure) {
+        if (failure == null) {
+            updateStatus(runId, COMPLETED, null, Instant.now());
+        } else {
+            Throwable cause = failure.getCause() != null ? failure.getCause() : failure;
+            updateStatus(runId, FAILED, cause.getMessage(), null);
+        }
+        InvoiceRunSummary summary = getRun(period).orElseThrow();
+        log.info("Invoice run for {} {}: {} invoice(s) for {} guardian(s), {} in total", period,
+                summary.status(), summary.invoicesCreated(), summary.guardiansProcessed(), summary.amount());
+        if (failure != null) {
+            throw new IllegalStateException("Invoice run for " + period + " failed: " + summary.lastError(), failure);
+        }
+        return summary;
+    }
+
+    private void runShard(InvoiceCalculator calculator, UUID shardId, UUID next, UUID last) {
+        UUID from = next;
+        while (from != null) {
+            UUID chunkStart = from;
+            from = transactionTemplate.execute(status -> billChunk(calculator, shardId, chunkStart, last));
+        }
+    }
+
+    /**
+     * Bills the next chunk of a shard's guardians and moves its checkpoint past them.
+     *
+     * @return where the shard continues, null once it is done
+     */
+    private UUID billChunk(InvoiceCalculator calculator, UUID shardId, UUID from, UUID last) {
+        Instant now = Instant.now();
+        List<UUID> guardians = jdbcTemplate.queryForList(CHUNK_GUARDIANS_SQL, UUID.class, from, last, chunkSize);
+        if (guardians.isEmpty()) {
+            jdbcTemplate.update(CHECKPOINT_SQL, null, 0, 0, 0L, Timestamp.from(now), Timestamp.from(now), shardId);
+            return null;
+        }
+        UUID to = guardians.get(guardians.size() - 1);
+        Timestamp monthStart = Timestamp.from(calculator.start());
+        Timestamp monthEnd = Timestamp.from(calculator.end());
+
+        Map<UUID, ChildMonth> children = new HashMap<>();
+        streamingJdbcTemplate.query(ENROLLMENTS_SQL, (RowCallbackHandler) resultSet -> {
+            UUID guardianId = resultSet.getObject(1, UUID.class);
+            ChildMonth child = children.computeIfAbsent(resultSet.getObject(2, UUID.class),
+                    id -> new ChildMonth(guardianId));
+            child.enrolled |= calculator.enrolledDays(instant(resultSet.getTimestamp(3)),
+                    instant(resultSet.getTimestamp(4)));
+        }, from, to, monthEnd, monthStart);
+        streamingJdbcTemplate.query(ATTENDANCE_SQL, (RowCallbackHandler) resultSet -> {
+            UUID guardianId = resultSet.getObject(1, UUID.class);
+            ChildMonth child = children.computeIfAbsent(resultSet.getObject(2, UUID.class),
+                    id -> new ChildMonth(guardianId));
+            child.attended |= calculator.attendedDay(resultSet.getTimestamp(3).toInstant());
+        }, from, to, monthStart, monthEnd);
+
+        Map<UUID, Long> totals = new HashMap<>();
+        for (ChildMonth child : children.values()) {
+            totals.merge(child.guardianId, calculator.charge(child.enrolled, child.attended), Math::addExact);
+        }
+        Date period = Date.valueOf(calculator.firstDay());
+        Set<UUID> invoiced = new HashSet<>(jdbcTemplate.queryForList(INVOICED_SQL, UUID.class, period, from, to));
+        List<Billing> invoices = new ArrayList<>();
+        long amount = 0;
+        for (UUID guardianId : guardians) {
+            long cents = totals.getOrDefault(guardianId, 0L);
+            if (cents > 0 && !invoiced.contains(guardianId)) {
+                invoices.add(invoice(calculator, guardianId, cents));
+                amount += cents;
+            }
+        }
+        billingLedger.recordInvoices(invoices, now);
+
+        UUID next = guardians.size() < chunkSize ? null : successor(to);
+        jdbcTemplate.update(CHECKPOINT_SQL, next, guardians.size(), invoices.size(), amount,
+                next == null ? Timestamp.from(now) : null, Timestamp.from(now), shardId);
+        return next;
+    }
+
+    private Billing invoice(InvoiceCalculator calculator, UUID guardianId, long cents) {
+        Billing invoice = new Billing();
+        invoice.setId(UuidV7.generate());
+        invoice.setGuardianId(guardianId);
+        invoice.setAmount(Money.ofCents(cents));
+        invoice.setDueDate(calculator.end().plus(dueAfter));
+        invoice.setStatus(BillingLedger.PENDING);
+        invoice.setDescription("Childcare for " + YearMonth.from(calculator.firstDay()));
+        invoice.setBillingPeriod(calculator.firstDay());
+        return invoice;
+    }
+
+    private void updateStatus(UUID runId, String status, String error, Instant completedAt) {
+        jdbcTemplate.update(RUN_STATUS_SQL, status, error, completedAt == null ? null : Timestamp.from(completedAt),
+                Timestamp.from(Instant.now()), runId);
+    }
+
+    private static Instant instant(Timestamp timestamp) {
+        return timestamp == null ? null : timestamp.toInstant();
+    }
+
+    /** The next UUID in the order PostgreSQL and H2 sort them (unsigned), null after the last. */
+    static UUID successor(UUID id) {
+        if (id.getLeastSignificantBits() != -1L) {
+            return new UUID(id.getMostSignificantBits(), id.getLeastSignificantBits() + 1);
+        }
+        if (id.getMostSignificantBits() != -1L) {
+            return new UUID(id.getMostSignificantBits() + 1, 0L);
+        }
+        return null;
+    }
+
+    /** The UUID before {@code id}, which must not be the first. */
+    static UUID predecessor(UUID id) {
+        if (id.getLeastSignificantBits() != 0L) {
+            return new UUID(id.getMostSignificantBits(), id.getLeastSignificantBits() - 1);
+        }
+        return new UUID(id.getMostSignificantBits() - 1, -1L);
+    }
+
+    /** A child's enrolled and attended days of the month, billed to their primary guardian. */
+    private static final class ChildMonth {
+
+        private final UUID guardianId;
+        private int enrolled;
+        private int attended;
+
+        private ChildMonth(UUID guardianId) {
+            this.guardianId = guardianId;
+        }
+    }
+}
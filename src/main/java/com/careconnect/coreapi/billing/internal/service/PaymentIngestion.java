@@ -0,0 +1,257 @@
+package com.careconnect.coreapi.billing.internal.service;
+
+import com.careconnect.coreapi.billing.Money;
+import com.careconnect.coreapi.billing.dto.PaymentRequestDto;
+import com.careconnect.coreapi.billing.dto.PaymentResult;
+import com.careconnect.coreapi.common.exceptions.ConflictException;
+import com.careconnect.coreapi.common.exceptions.ResourceNotFoundException;
+import com.careconnect.coreapi.common.exceptions.ValidationException;
+import com.careconnect.coreapi.common.utils.BloomFilter;
+import com.careconnect.coreapi.common.utils.UuidV7;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Records payments delivered by payment processors, each exactly once however often it is
+ * delivered.
+ *
+ * A payment is identified by its processor transaction ID, unique in {@code payments}. The IDs
+ * recorded so far are kept in a {@link BloomFilter}: a transaction the filter has never seen is
+ * inserted straight away, and only one it might have seen is looked up first, so a new payment
+ * costs no extra read and a retried one is answered from the index without writing. The unique
+ * index has the last word: two deliveries racing past the filter, or a payment recorded by
+ * another instance, end with one row and the other delivery reported as a duplicate.
+ *
+ * The payment and the guardian's ledger total are written in one transaction. Moving the
+ * invoice to {@code PARTIALLY_PAID} or {@code PAID} is left to a background thread that applies
+ * the invoices paid since its last pass as one JDBC batch every
+ * {@code app.billing.payments.flush-interval}, so a burst of deliveries does not queue on the
+ * invoice rows. Invoices left behind by a shutdown are caught up at startup.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PaymentIngestion {
+
+    static final String PAID = "PAID";
+    static final String PARTIALLY_PAID = "PARTIALLY_PAID";
+
+    private static final String INVOICE_SQL = "SELECT guardian_id FROM billing WHERE id = ?";
+    private static final String INSERT_SQL = "INSERT INTO payments (id, billing_id, amount_cents, payment_date, " +
+            "payment_method, transaction_id, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String FIND_SQL =
+            "SELECT id, billing_id, amount_cents, payment_date FROM payments WHERE transaction_id = ?";
+    private static final String TRANSACTION_IDS_SQL =
+            "SELECT transaction_id FROM payments WHERE transaction_id IS NOT NULL";
+    // Only unpaid invoices move; a cancelled or written-off invoice keeps its status
+    private static final String PAID_CENTS_SQL =
+            "(SELECT COALESCE(SUM(p.amount_cents), 0) FROM payments p WHERE p.billing_id = billing.id)";
+    private static final String SET_STATUS_SQL = "UPDATE billing SET status = CASE WHEN " + PAID_CENTS_SQL +
+            " >= billing.amount_cents THEN '" + PAID + "' ELSE '" + PARTIALLY_PAID + "' END, updated_at = ? " +
+            "WHERE UPPER(status) IN ('" + BillingLedger.PENDING + "', '" + PARTIALLY_PAID + "')";
+    private static final String STATUS_SQL = SET_STATUS_SQL + " AND id = ?";
+    // Only the invoices whose status would change
+    private static final String CATCH_UP_SQL = SET_STATUS_SQL + " AND EXISTS (SELECT 1 FROM payments p " +
+            "WHERE p.billing_id = billing.id) AND (UPPER(status) = '" + BillingLedger.PENDING + "' OR " +
+            PAID_CENTS_SQL + " >= billing.amount_cents)";
+
+    private final BillingLedger billingLedger;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    // Invoices paid since the last flush
+    private final Set<UUID> paidInvoices = ConcurrentHashMap.newKeySet();
+    private final AtomicLong falsePositives = new AtomicLong();
+    private BloomFilter recorded;
+    private ScheduledExecutorService scheduler;
+
+    @Value("${app.billing.payments.expected-transactions:1000000}")
+    private long expectedTransactions;
+
+    @Value("${app.billing.payments.false-positive-rate:0.001}")
+    private double falsePositiveRate;
+
+    @Value("${app.billing.payments.fetch-size:1000}")
+    private int fetchSize;
+
+    @Value("${app.billing.payments.flush-interval:PT0.5S}")
+    private Duration flushInterval;
+
+    @PostConstruct
+    void start() {
+        recorded = new BloomFilter(expectedTransactions, falsePositiveRate);
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "payment-status-flush");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long periodMillis = flushInterval.toMillis();
+        scheduler.scheduleWithFixedDelay(this::flushQuietly, periodMillis, periodMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void stop() {
+        scheduler.shutdown();
+        try {
+            scheduler.awaitTermination(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        flushQuietly();
+    }
+
+    /**
+     * Fills the filter with the transactions already recorded and brings the status of invoices
+     * paid before the last shutdown up to date. Deliveries accepted meanwhile are still checked
+     * against the unique index.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    void warmUp() {
+        long[] loaded = {0};
+        JdbcTemplate streamingJdbcTemplate = new JdbcTemplate(jdbcTemplate.getDataSource());
+        streamingJdbcTemplate.setFetchSize(fetchSize);
+        transactionTemplate.executeWithoutResult(status -> streamingJdbcTemplate.query(TRANSACTION_IDS_SQL,
+                (RowCallbackHandler) resultSet -> {
+                    recorded.put(resultSet.getString(1));
+                    loaded[0]++;
+                }));
+        int caughtUp = jdbcTemplate.update(CATCH_UP_SQL, Timestamp.from(Instant.now()));
+        log.info("Loaded {} payment transaction ID(s); updated the status of {} paid invoice(s)", loaded[0], caughtUp);
+    }
+
+    /**
+     * Records the payment unless its transaction has been recorded already.
+     *
+     * @throws ResourceNotFoundException if the invoice does not exist
+     * @throws ValidationException if the amount is not positive or has fractions of a cent
+     * @throws ConflictException if the transaction was recorded for another invoice or amount
+     */
+    public PaymentResult ingest(PaymentRequestDto request) {
+        Money amount = Money.of(request.getAmount());
+        if (!amount.isPositive()) {
+            throw new ValidationException("Amount must be greater than zero");
+        }
+        String transactionId = request.getTransactionId();
+        if (recorded.mightContain(transactionId)) {
+            Optional<PaymentResult> existing = find(transactionId);
+            if (existing.isPresent()) {
+                return duplicate(existing.get(), request, amount);
+            }
+            falsePositives.incrementAndGet();
+        }
+
+        UUID guardianId = jdbcTemplate.queryForList(INVOICE_SQL, UUID.class, request.getBillingId()).stream()
+                .findFirst()
+                .orElseThrow(() -> new ResourceNotFoundException("Billing", "id", request.getBillingId()));
+        UUID paymentId = UuidV7.generate();
+        Instant now = Instant.now();
+        Instant paymentDate = request.getPaymentDate() != null ? request.getPaymentDate() : now;
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                jdbcTemplate.update(INSERT_SQL, paymentId, request.getBillingId(), amount.cents(),
+                        Timestamp.from(paymentDate), request.getPaymentMethod(), transactionId,
+                        Timestamp.from(now), Timestamp.from(now));
+                billingLedger.applyDelta(guardianId, 0, amount.cents(), now);
+            });
+        } catch (DuplicateKeyException e) {
+            // A concurrent delivery of the same transaction, or one recorded by another instance
+            recorded.put(transactionId);
+            return duplicate(find(transactionId).orElseThrow(() -> e), request, amount);
+        }
+        recorded.put(transactionId);
+        paidInvoices.add(request.getBillingId());
+        log.debug("Recorded payment {} of {} against invoice {}", transactionId, amount, request.getBillingId());
+        return new PaymentResult(paymentId, transactionId, PaymentResult.Status.ACCEPTED, request.getBillingId(),
+                amount.toBigDecimal(), paymentDate);
+    }
+
+    /**
+     * Moves the invoices paid since the last flush to {@code PARTIALLY_PAID} or {@code PAID}.
+     *
+     * @return the number of invoices checked
+     */
+    public int flush() {
+        if (paidInvoices.isEmpty()) {
+            return 0;
+        }
+        List<UUID> invoices = new ArrayList<>(paidInvoices.size());
+        for (Iterator<UUID> iterator = paidInvoices.iterator(); iterator.hasNext(); ) {
+            invoices.add(iterator.next());
+            iterator.remove();
+        }
+        // Same order on every pass, so passes from two instances lock the rows in the same order
+        Collections.sort(invoices);
+        Timestamp now = Timestamp.from(Instant.now());
+        List<Object[]> rows = new ArrayList<>(invoices.size());
+        for (UUID invoice : invoices) {
+            rows.add(new Object[]{now, invoice});
+        }
+        try {
+            transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(STATUS_SQL, rows));
+        } catch (RuntimeException e) {
+            paidInvoices.addAll(invoices);
+            throw e;
+        }
+        return invoices.size();
+    }
+
+    /**
+     * Lookups made because the filter reported a transaction that had not been recorded.
+     */
+    public long falsePositiveCount() {
+        return falsePositives.get();
+    }
+
+    private void flushQuietly() {
+        try {
+            flush();
+        } catch (RuntimeException e) {
+            log.warn("Could not update the status of paid invoices, retrying on the next pass: {}", e.getMessage());
+        }
+    }
+
+    private Optional<PaymentResult> find(String transactionId) {
+        return jdbcTemplate.query(FIND_SQL, (resultSet, rowNum) -> {
+            Timestamp paymentDate = resultSet.getTimestamp("payment_date");
+            return new PaymentResult(resultSet.getObject("id", UUID.class), transactionId,
+                    PaymentResult.Status.DUPLICATE, resultSet.getObject("billing_id", UUID.class),
+                    Money.ofCents(resultSet.getLong("amount_cents")).toBigDecimal(),
+                    paymentDate == null ? null : paymentDate.toInstant());
+        }, transactionId).stream().findFirst();
+    }
+
+    private static PaymentResult duplicate(PaymentResult existing, PaymentRequestDto request, Money amount) {
+        if (!existing.billingId().equals(request.getBillingId())
+                || Money.of(existing.amount()).compareTo(amount) != 0) {
+            throw new ConflictException("Transaction " + existing.transactionId()
+                    + " was already recorded for another invoice or amount");
+        }
+        return existing;
+    }
+}
@@ -1,10 +1,14 @@
 package com.careconnect.coreapi.childmgmt.domain;
 
+import com.careconnect.coreapi.common.persistence.GeneratedUuidV7;
+import com.careconnect.coreapi.common.persistence.ReferenceDataCache;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
 import lombok.Getter;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.ColumnDefault;
 
 import java.time.Instant;
@@ -14,9 +18,11 @@ import java.util.UUID;
 @Setter
 @Entity
 @Table(name = "allergies")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = ReferenceDataCache.ALLERGIES)
 public class Allergy {
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @GeneratedUuidV7
     @Column(name = "id", nullable = false, updatable = false)
     private UUID id;
 
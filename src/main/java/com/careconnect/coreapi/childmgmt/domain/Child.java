@@ -1,5 +1,6 @@
 package com.careconnect.coreapi.childmgmt.domain;
 
+import com.careconnect.coreapi.common.persistence.GeneratedUuidV7;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
@@ -7,6 +8,7 @@ import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
 import lombok.Getter;
 import lombok.Setter;
+import org.hibernate.annotations.BatchSize;
 import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.OnDelete;
 import org.hibernate.annotations.OnDeleteAction;
@@ -19,10 +21,13 @@ import java.util.UUID;
 @Getter
 @Setter
 @Entity
-@Table(name = "children")
+@Table(name = "children", indexes = {
+        @Index(name = "idx_children_last_name_id", columnList = "last_name, id"),
+        @Index(name = "idx_children_guardian_id", columnList = "guardian_id")
+})
 public class Child {
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @GeneratedUuidV7
     @Column(name = "id", nullable = false, updatable = false)
     private UUID id;
 
@@ -66,8 +71,10 @@ public class Child {
     @JsonIgnore
     private Guardian guardian;
     
-    // All guardians through the join table
+    // All guardians through the join table; batch-initialized for children loaded
+    // without ChildRepository.fetchGuardianLinks
     @OneToMany(mappedBy = "child", fetch = FetchType.LAZY, cascade = CascadeType.ALL)
+    @BatchSize(size = 50)
     @JsonIgnore
     private List<ChildGuardian> childGuardians = new ArrayList<>();
     
@@ -1,5 +1,6 @@
 package com.careconnect.coreapi.childmgmt.domain;
 
+import com.careconnect.coreapi.common.persistence.GeneratedUuidV7;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.Setter;
@@ -13,10 +14,13 @@ import java.util.UUID;
 @Getter
 @Setter
 @Entity
-@Table(name = "child_allergies")
+@Table(name = "child_allergies", indexes = {
+        @Index(name = "idx_child_allergies_child_allergy", columnList = "child_id, allergy_id"),
+        @Index(name = "idx_child_allergies_allergy_id", columnList = "allergy_id")
+})
 public class ChildAllergy {
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @GeneratedUuidV7
     @Column(name = "id", nullable = false, updatable = false)
     private UUID id;
 
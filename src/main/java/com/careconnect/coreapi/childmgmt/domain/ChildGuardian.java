@@ -1,5 +1,6 @@
 package com.careconnect.coreapi.childmgmt.domain;
 
+import com.careconnect.coreapi.common.persistence.GeneratedUuidV7;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
 import lombok.Getter;
@@ -14,10 +15,13 @@ import java.util.UUID;
 @Getter
 @Setter
 @Entity
-@Table(name = "child_guardians")
+@Table(name = "child_guardians", indexes = {
+        @Index(name = "idx_child_guardians_child_guardian", columnList = "child_id, guardian_id"),
+        @Index(name = "idx_child_guardians_guardian_id", columnList = "guardian_id")
+})
 public class ChildGuardian {
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @GeneratedUuidV7
     @Column(name = "id", nullable = false, updatable = false)
     private UUID id;
 
@@ -0,0 +1,19 @@
+package com.careconnect.coreapi.childmgmt.dto;
+
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+/**
+ * One row of a bulk child import: the usual create request plus an optional client-generated ID.
+ * Supplying the ID makes a retried import report rows that already exist instead of duplicating them.
+ */
+@Data
+@EqualsAndHashCode(callSuper = true)
+@NoArgsConstructor
+public class ChildBulkRequestDto extends ChildRequestDto {
+
+    private UUID id;
+}
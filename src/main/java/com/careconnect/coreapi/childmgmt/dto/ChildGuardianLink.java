@@ -0,0 +1,9 @@
+package com.careconnect.coreapi.childmgmt.dto;
+
+import java.util.UUID;
+
+/**
+ * One child/guardian link, selected as a projection when building {@link ChildSummary} lists.
+ */
+public record ChildGuardianLink(UUID childId, UUID guardianId, Boolean primaryGuardian) {
+}
@@ -0,0 +1,38 @@
+package com.careconnect.coreapi.childmgmt.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.util.UUID;
+
+/**
+ * Outcome of one row of a bulk child import, streamed back as a line of NDJSON.
+ *
+ * @param row 1-based row number in the uploaded file, not counting a CSV header
+ * @param status what happened to the row
+ * @param id the child's ID when the row was created, or the ID it asked for
+ * @param error why the row was rejected
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record ChildImportResult(long row, Status status, UUID id, String error) {
+
+    public enum Status {
+        /** Inserted */
+        CREATED,
+        /** Unparseable or failed validation; nothing was written */
+        INVALID,
+        /** Valid, but the database rejected it, e.g. a duplicate ID */
+        FAILED
+    }
+
+    public static ChildImportResult created(long row, UUID id) {
+        return new ChildImportResult(row, Status.CREATED, id, null);
+    }
+
+    public static ChildImportResult invalid(long row, String error) {
+        return new ChildImportResult(row, Status.INVALID, null, error);
+    }
+
+    public static ChildImportResult failed(long row, UUID id, String error) {
+        return new ChildImportResult(row, Status.FAILED, id, error);
+    }
+}
@@ -0,0 +1,11 @@
+package com.careconnect.coreapi.childmgmt.dto;
+
+/**
+ * Final line of a bulk child import response, after every {@link ChildImportResult}.
+ *
+ * @param rows rows read from the upload
+ * @param created rows inserted
+ * @param rejected rows reported as {@code INVALID} or {@code FAILED}
+ */
+public record ChildImportSummary(long rows, long created, long rejected) {
+}
@@ -0,0 +1,11 @@
+package com.careconnect.coreapi.childmgmt.dto;
+
+/**
+ * Outcome of rebuilding the child read tables.
+ *
+ * @param children rows written to {@code child_summaries}
+ * @param guardianChildren rows written to {@code guardian_children}
+ * @param durationMillis how long the rebuild took
+ */
+public record ChildProjectionRebuildResult(long children, long guardianChildren, long durationMillis) {
+}
@@ -70,6 +70,32 @@ public class ChildResponseDto {
                 .build();
     }
     
+    /**
+     * Creates a sanitized ChildResponseDto from a read-only {@link ChildSummary} projection.
+     *
+     * @param summary the projected child
+     * @return sanitized ChildResponseDto
+     */
+    public static ChildResponseDto fromSummary(ChildSummary summary) {
+        if (summary == null) {
+            return null;
+        }
+
+        return ChildResponseDto.builder()
+                .id(summary.id())
+                .firstName(XSSProtectionUtil.sanitizeText(summary.firstName()))
+                .lastName(XSSProtectionUtil.sanitizeText(summary.lastName()))
+                .dob(summary.dob())
+                .gender(XSSProtectionUtil.sanitizeText(summary.gender()))
+                .specialNeeds(XSSProtectionUtil.sanitizeFormattedText(summary.specialNeeds()))
+                .emergencyContact(XSSProtectionUtil.sanitizeText(summary.emergencyContact()))
+                .createdAt(summary.createdAt())
+                .updatedAt(summary.updatedAt())
+                .primaryGuardianId(summary.primaryGuardianId())
+                .allGuardianIds(summary.guardianIds())
+                .build();
+    }
+
     /**
      * Converts a list of Child entities to sanitized DTOs.
      * 
@@ -0,0 +1,50 @@
+package com.careconnect.coreapi.childmgmt.dto;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Read-only projection of a child for list endpoints.
+ *
+ * Selected directly by JPQL constructor expression, so no managed {@code Child} entity,
+ * dirty-checking snapshot or lazy collection is created. Guardian IDs are attached
+ * afterwards from a second projection query via {@link #withGuardians}.
+ */
+public record ChildSummary(
+        UUID id,
+        String firstName,
+        String lastName,
+        Instant dob,
+        String gender,
+        String specialNeeds,
+        String emergencyContact,
+        Instant createdAt,
+        Instant updatedAt,
+        UUID primaryGuardianId,
+        List<UUID> guardianIds) {
+
+    public ChildSummary {
+        guardianIds = guardianIds == null ? List.of() : List.copyOf(guardianIds);
+    }
+
+    /**
+     * Constructor used by the JPQL projection, before guardian IDs are known.
+     */
+    public ChildSummary(UUID id, String firstName, String lastName, Instant dob, String gender,
+                        String specialNeeds, String emergencyContact, Instant createdAt, Instant updatedAt) {
+        this(id, firstName, lastName, dob, gender, specialNeeds, emergencyContact, createdAt, updatedAt, null, List.of());
+    }
+
+    /**
+     * Returns a copy carrying the child's guardian IDs.
+     *
+     * @param primaryGuardianId the primary guardian's ID, or null
+     * @param guardianIds all guardian IDs linked to the child
+     * @return the completed summary
+     */
+    public ChildSummary withGuardians(UUID primaryGuardianId, List<UUID> guardianIds) {
+        return new ChildSummary(id, firstName, lastName, dob, gender, specialNeeds, emergencyContact,
+                createdAt, updatedAt, primaryGuardianId, guardianIds);
+    }
+}
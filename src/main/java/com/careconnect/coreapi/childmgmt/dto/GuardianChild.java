@@ -0,0 +1,29 @@
+package com.careconnect.coreapi.childmgmt.dto;
+
+import com.careconnect.coreapi.common.utils.XSSProtectionUtil;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * One of a guardian's children, for {@code GET /api/guardians/{id}/children}.
+ *
+ * Built from the {@code guardian_children} read table, or by a JPQL constructor expression over
+ * {@code child_guardians} when the read tables are not used.
+ */
+public record GuardianChild(
+        UUID childId,
+        String firstName,
+        String lastName,
+        Instant dob,
+        String gender,
+        Boolean primaryGuardian) {
+
+    /**
+     * Returns a copy with the user-entered fields sanitized, as {@link ChildResponseDto} does.
+     */
+    public GuardianChild sanitized() {
+        return new GuardianChild(childId, XSSProtectionUtil.sanitizeText(firstName),
+                XSSProtectionUtil.sanitizeText(lastName), dob, XSSProtectionUtil.sanitizeText(gender), primaryGuardian);
+    }
+}
@@ -0,0 +1,18 @@
+package com.careconnect.coreapi.childmgmt.events;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Event published when a child is deleted.
+ */
+public final class ChildDeletedEvent extends ChildEvent {
+    
+    public ChildDeletedEvent(UUID childId, Instant occurredAt) {
+        super(childId, occurredAt);
+    }
+    
+    public static ChildDeletedEvent now(UUID childId) {
+        return new ChildDeletedEvent(childId, Instant.now());
+    }
+}
@@ -6,7 +6,8 @@ import java.util.UUID;
 /**
  * Base class for all child management domain events.
  */
-public abstract sealed class ChildEvent permits ChildRegisteredEvent, ChildUpdatedEvent, GuardianAssignedEvent {
+public abstract sealed class ChildEvent permits ChildRegisteredEvent, ChildUpdatedEvent, ChildDeletedEvent,
+        GuardianAssignedEvent, GuardianRemovedEvent {
     
     private final UUID childId;
     private final Instant occurredAt;
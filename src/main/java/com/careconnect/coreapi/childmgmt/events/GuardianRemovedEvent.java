@@ -0,0 +1,25 @@
+package com.careconnect.coreapi.childmgmt.events;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Event published when a guardian is removed from a child, directly or by deleting the guardian.
+ */
+public final class GuardianRemovedEvent extends ChildEvent {
+    
+    private final UUID guardianId;
+    
+    public GuardianRemovedEvent(UUID childId, UUID guardianId, Instant occurredAt) {
+        super(childId, occurredAt);
+        this.guardianId = guardianId;
+    }
+    
+    public static GuardianRemovedEvent now(UUID childId, UUID guardianId) {
+        return new GuardianRemovedEvent(childId, guardianId, Instant.now());
+    }
+    
+    public UUID getGuardianId() {
+        return guardianId;
+    }
+}
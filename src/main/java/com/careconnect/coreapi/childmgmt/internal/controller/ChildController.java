@@ -5,9 +5,12 @@ import com.careconnect.coreapi.childmgmt.domain.ChildGuardian;
 import com.careconnect.coreapi.childmgmt.domain.Guardian;
 import com.careconnect.coreapi.childmgmt.dto.ChildRequestDto;
 import com.careconnect.coreapi.childmgmt.dto.ChildResponseDto;
+import com.careconnect.coreapi.childmgmt.dto.ChildSummary;
 import com.careconnect.coreapi.childmgmt.internal.service.ChildGuardianService;
+import com.careconnect.coreapi.childmgmt.internal.service.ChildResponseSanitizer;
 import com.careconnect.coreapi.childmgmt.internal.service.ChildService;
 import com.careconnect.coreapi.common.response.ApiResponse;
+import com.careconnect.coreapi.common.response.PageCursor;
 import com.careconnect.coreapi.common.response.PageResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -30,6 +33,7 @@ public class ChildController {
 
     private final ChildService childService;
     private final ChildGuardianService childGuardianService;
+    private final ChildResponseSanitizer childResponseSanitizer;
 
     @GetMapping
     public PageResponse<ChildResponseDto> getAllChildren(
@@ -37,16 +41,43 @@ public class ChildController {
         log.info("GET /api/children - Fetching all children with pagination: page={}, size={}", 
                 pageable.getPageNumber(), pageable.getPageSize());
 
-        // Get the service result and check if it returns PageResponse or Page
-        PageResponse<Child> childrenPageResponse = this.childService.getAllChildren(pageable);
-        
+        // Read-only projection path; no managed entities are loaded for the list
+        PageResponse<ChildSummary> summaries = this.childService.getChildSummaries(pageable);
+
         // Convert to safe DTOs
-        List<ChildResponseDto> safeChildren = ChildResponseDto.fromEntityList(childrenPageResponse.getData());
-        
+        List<ChildResponseDto> safeChildren = summaries.getData().stream()
+                .map(childResponseSanitizer::fromSummary)
+                .toList();
+
+        return PageResponse.<ChildResponseDto>builder()
+                .data(safeChildren)
+                .meta(summaries.getMeta())
+                .links(summaries.getLinks())
+                .build();
+    }
+
+    /**
+     * Keyset (cursor) paginated listing ordered by last name. Selected by the presence of the
+     * {@code cursor} parameter; pass it empty for the first page, then follow {@code links.next}.
+     */
+    @GetMapping(params = "cursor")
+    public PageResponse<ChildResponseDto> getChildrenByCursor(
+            @RequestParam String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "false") boolean count) {
+        log.info("GET /api/children - Fetching children by cursor: size={}", size);
+
+        PageResponse<ChildSummary> summaries = childService.getChildSummariesAfter(
+                PageCursor.decode(cursor), PageCursor.clampSize(size), count);
+
+        List<ChildResponseDto> safeChildren = summaries.getData().stream()
+                .map(childResponseSanitizer::fromSummary)
+                .toList();
+
         return PageResponse.<ChildResponseDto>builder()
                 .data(safeChildren)
-                .meta(childrenPageResponse.getMeta())
-                .links(childrenPageResponse.getLinks())
+                .meta(summaries.getMeta())
+                .links(summaries.getLinks())
                 .build();
     }
 
@@ -55,7 +86,7 @@ public class ChildController {
         log.info("GET /api/children/{} - Fetching child by ID", id);
 
         Child child = childService.getChildById(id);
-        ChildResponseDto safeChild = ChildResponseDto.fromEntity(child);
+        ChildResponseDto safeChild = childResponseSanitizer.fromEntity(child);
         return ResponseEntity.ok(ApiResponse.success(safeChild, "Child retrieved successfully"));
     }
 
@@ -67,7 +98,7 @@ public class ChildController {
         // Convert sanitized DTO to entity
         Child child = childRequest.toEntity();
         Child createdChild = childService.createChild(child);
-        ChildResponseDto safeChild = ChildResponseDto.fromEntity(createdChild);
+        ChildResponseDto safeChild = childResponseSanitizer.fromEntity(createdChild);
         return ResponseEntity.status(HttpStatus.CREATED)
                 .body(ApiResponse.success(safeChild, "Child created successfully"));
     }
@@ -82,7 +113,7 @@ public class ChildController {
         Child existingChild = childService.getChildById(id);
         Child updatedData = childRequest.updateEntity(existingChild);
         Child updatedChild = childService.updateChild(id, updatedData);
-        ChildResponseDto safeChild = ChildResponseDto.fromEntity(updatedChild);
+        ChildResponseDto safeChild = childResponseSanitizer.fromEntity(updatedChild);
         return ResponseEntity.ok(ApiResponse.success(safeChild, "Child updated successfully"));
     }
 
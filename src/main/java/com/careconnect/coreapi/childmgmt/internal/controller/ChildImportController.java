@@ -0,0 +1,90 @@
+package com.careconnect.coreapi.childmgmt.internal.controller;
+
+import com.careconnect.coreapi.childmgmt.dto.ChildImportSummary;
+import com.careconnect.coreapi.childmgmt.internal.service.ChildImportService;
+import com.careconnect.coreapi.childmgmt.internal.service.ChildRowReader;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * {@code POST /api/children:bulk} imports children from an NDJSON or CSV upload.
+ *
+ * Neither the upload nor the response is buffered whole: rows are read as they arrive and
+ * the response is NDJSON with one {@code ChildImportResult} per row, written as each batch
+ * commits, followed by a {@link ChildImportSummary} line. The status is always 200 once
+ * streaming starts; check each row's status.
+ *
+ * Kept out of {@link ChildController} because a method mapping under {@code /api/children}
+ * would become {@code /api/children/:bulk}.
+ */
+@Slf4j
+@RestController
+@RequiredArgsConstructor
+public class ChildImportController {
+
+    static final String NDJSON = "application/x-ndjson";
+    static final String CSV = "text/csv";
+
+    private final ChildImportService childImportService;
+    private final ObjectMapper objectMapper;
+
+    @PostMapping(value = "/api/children:bulk", consumes = NDJSON, produces = NDJSON)
+    public void importNdjson(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        log.info("POST /api/children:bulk - Importing children from NDJSON");
+        stream(ChildRowReader.ndjson(reader(request), objectMapper), response);
+    }
+
+    @PostMapping(value = "/api/children:bulk", consumes = CSV, produces = NDJSON)
+    public void importCsv(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        log.info("POST /api/children:bulk - Importing children from CSV");
+        stream(ChildRowReader.csv(reader(request)), response);
+    }
+
+    private void stream(ChildRowReader rows, HttpServletResponse response) throws IOException {
+        response.setStatus(HttpStatus.OK.value());
+        response.setContentType(NDJSON);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        OutputStream out = response.getOutputStream();
+
+        try (rows) {
+            ChildImportSummary summary = childImportService.importChildren(rows, result -> writeLine(out, result));
+            writeLine(out, summary);
+            log.info("POST /api/children:bulk - {} rows, {} created, {} rejected",
+                    summary.rows(), summary.created(), summary.rejected());
+        } catch (UncheckedIOException e) {
+            // Client went away mid-stream
+            throw e.getCause();
+        }
+        out.flush();
+    }
+
+    private void writeLine(OutputStream out, Object value) {
+        try {
+            out.write(objectMapper.writeValueAsBytes(value));
+            out.write('\n');
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static Reader reader(HttpServletRequest request) throws IOException {
+        Charset charset = request.getCharacterEncoding() != null
+                ? Charset.forName(request.getCharacterEncoding())
+                : StandardCharsets.UTF_8;
+        return new InputStreamReader(request.getInputStream(), charset);
+    }
+}
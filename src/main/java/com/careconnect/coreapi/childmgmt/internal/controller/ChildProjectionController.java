@@ -0,0 +1,32 @@
+package com.careconnect.coreapi.childmgmt.internal.controller;
+
+import com.careconnect.coreapi.childmgmt.dto.ChildProjectionRebuildResult;
+import com.careconnect.coreapi.childmgmt.internal.projection.ChildProjectionWriter;
+import com.careconnect.coreapi.common.response.ApiResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * {@code POST /api/children/projections/rebuild} recreates the child read tables from
+ * {@code children} and {@code child_guardians}. Use it after a restore or after changing what the
+ * tables hold.
+ * Returns once the tables are complete.
+ */
+@Slf4j
+@RestController
+@RequiredArgsConstructor
+public class ChildProjectionController {
+
+    private final ChildProjectionWriter childProjectionWriter;
+
+    @PostMapping("/api/children/projections/rebuild")
+    public ResponseEntity<ApiResponse<ChildProjectionRebuildResult>> rebuild() {
+        log.info("POST /api/children/projections/rebuild - Rebuilding child read tables");
+
+        ChildProjectionRebuildResult result = childProjectionWriter.rebuild();
+        return ResponseEntity.ok(ApiResponse.success(result, "Child read tables rebuilt successfully"));
+    }
+}
@@ -1,8 +1,12 @@
 package com.careconnect.coreapi.childmgmt.internal.controller;
 
 import com.careconnect.coreapi.childmgmt.domain.Guardian;
+import com.careconnect.coreapi.childmgmt.dto.GuardianChild;
+import com.careconnect.coreapi.childmgmt.internal.service.ChildService;
 import com.careconnect.coreapi.childmgmt.internal.service.GuardianService;
 import com.careconnect.coreapi.common.response.ApiResponse;
+import com.careconnect.coreapi.common.response.PageCursor;
+import com.careconnect.coreapi.common.response.PageResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -20,6 +24,7 @@ import java.util.UUID;
 public class GuardianController {
 
     private final GuardianService guardianService;
+    private final ChildService childService;
 
     @GetMapping
     public ResponseEntity<ApiResponse<List<Guardian>>> getAllGuardians() {
@@ -29,6 +34,16 @@ public class GuardianController {
         return ResponseEntity.ok(ApiResponse.success(guardians, "Guardians retrieved successfully"));
     }
 
+    @GetMapping(params = "cursor")
+    public PageResponse<Guardian> getGuardiansByCursor(
+            @RequestParam String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "false") boolean count) {
+        log.info("GET /api/guardians - Fetching guardians by cursor: size={}", size);
+
+        return guardianService.getGuardiansAfter(PageCursor.decode(cursor), PageCursor.clampSize(size), count);
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<ApiResponse<Guardian>> getGuardianById(@PathVariable UUID id) {
         log.info("GET /api/guardians/{} - Fetching guardian by ID", id);
@@ -37,6 +52,20 @@ public class GuardianController {
         return ResponseEntity.ok(ApiResponse.success(guardian, "Guardian retrieved successfully"));
     }
 
+    /**
+     * The guardian's children ordered by last name, served from the {@code guardian_children}
+     * read table, which trails writes by the projection lag.
+     */
+    @GetMapping("/{id}/children")
+    public ResponseEntity<ApiResponse<List<GuardianChild>>> getGuardianChildren(@PathVariable UUID id) {
+        log.info("GET /api/guardians/{}/children - Fetching children of guardian", id);
+
+        List<GuardianChild> children = childService.getGuardianChildren(id).stream()
+                .map(GuardianChild::sanitized)
+                .toList();
+        return ResponseEntity.ok(ApiResponse.success(children, "Children retrieved successfully"));
+    }
+
     @PostMapping
     public ResponseEntity<ApiResponse<Guardian>> createGuardian(@Valid @RequestBody Guardian guardian) {
         log.info("POST /api/guardians - Creating new guardian for user ID: {}", guardian.getUserId());
@@ -0,0 +1,77 @@
+package com.careconnect.coreapi.childmgmt.internal.projection;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Publishes how far the child read tables trail the events that feed them:
+ * {@code childmgmt.projection.lag} is the age of the oldest event publication addressed to a
+ * projection listener that has not completed, 0 when they are caught up, and
+ * {@code childmgmt.projection.pending} the number of such publications.
+ * {@code childmgmt.projection.refreshes{projection=...}} counts refreshes per table.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChildProjectionMetrics implements MeterBinder {
+
+    // Listener IDs are the listener method's qualified name
+    private static final String LISTENERS = ChildProjectionMetrics.class.getPackageName() + ".%";
+    private static final String PENDING_SQL = "SELECT COUNT(*) FROM event_publication " +
+            "WHERE completion_date IS NULL AND listener_id LIKE ?";
+    private static final String OLDEST_PENDING_SQL = "SELECT MIN(publication_date) FROM event_publication " +
+            "WHERE completion_date IS NULL AND listener_id LIKE ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ChildProjectionWriter writer;
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("childmgmt.projection.lag", this, ChildProjectionMetrics::lagSeconds)
+                .baseUnit("seconds")
+                .description("Age of the oldest child management event not yet applied to the read tables")
+                .register(registry);
+        Gauge.builder("childmgmt.projection.pending", this, ChildProjectionMetrics::pending)
+                .description("Child management event publications not yet applied to the read tables")
+                .register(registry);
+        FunctionCounter.builder("childmgmt.projection.refreshes", writer, ChildProjectionWriter::summaryRefreshCount)
+                .tag("projection", "child_summaries")
+                .description("Rows refreshed in a child read table")
+                .register(registry);
+        FunctionCounter.builder("childmgmt.projection.refreshes", writer, ChildProjectionWriter::guardianChildrenRefreshCount)
+                .tag("projection", "guardian_children")
+                .description("Rows refreshed in a child read table")
+                .register(registry);
+    }
+
+    double lagSeconds() {
+        try {
+            Timestamp oldest = jdbcTemplate.queryForObject(OLDEST_PENDING_SQL, Timestamp.class, LISTENERS);
+            return oldest == null ? 0 : Duration.between(oldest.toInstant(), Instant.now()).toMillis() / 1000.0;
+        } catch (DataAccessException e) {
+            log.debug("Could not read child projection lag: {}", e.getMessage());
+            return Double.NaN;
+        }
+    }
+
+    double pending() {
+        try {
+            Long count = jdbcTemplate.queryForObject(PENDING_SQL, Long.class, LISTENERS);
+            return count != null ? count : 0;
+        } catch (DataAccessException e) {
+            log.debug("Could not count pending child projection events: {}", e.getMessage());
+            return Double.NaN;
+        }
+    }
+}
@@ -0,0 +1,242 @@
+package com.careconnect.coreapi.childmgmt.internal.projection;
+
+import com.careconnect.coreapi.childmgmt.domain.Child;
+import com.careconnect.coreapi.childmgmt.dto.ChildGuardianLink;
+import com.careconnect.coreapi.childmgmt.dto.ChildProjectionRebuildResult;
+import com.careconnect.coreapi.childmgmt.dto.ChildSummary;
+import com.careconnect.coreapi.childmgmt.internal.repository.ChildRepository;
+import com.careconnect.coreapi.childmgmt.internal.repository.ChildSummaryEntryRepository;
+import com.careconnect.coreapi.childmgmt.internal.repository.GuardianChildEntryRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Writes the child read tables, {@code child_summaries} and {@code guardian_children}.
+ *
+ * A refresh does not apply the event that triggered it; it reads the child and its guardian
+ * links as they are now and replaces the child's rows. Refreshes are therefore idempotent and
+ * order-independent, so a redelivered or late event leaves the tables correct, and a deleted
+ * child simply has its rows removed.
+ *
+ * Refreshes of the same child are serialized by a striped lock held until their transaction
+ * commits, and all refreshes wait while {@link #rebuild()} recreates the tables. Both locks are
+ * in-process, like the attendance roster: run one instance, or rebuild after scaling out.
+ */
+@Slf4j
+@Component
+public class ChildProjectionWriter {
+
+    private static final int STRIPES = 64;
+
+    private final ChildRepository childRepository;
+    private final ChildSummaryEntryRepository childSummaryEntryRepository;
+    private final GuardianChildEntryRepository guardianChildEntryRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final ReentrantReadWriteLock rebuildLock = new ReentrantReadWriteLock();
+    private final Lock[] stripes = new Lock[STRIPES];
+    private final LongAdder summaryRefreshes = new LongAdder();
+    private final LongAdder guardianChildrenRefreshes = new LongAdder();
+
+    @Value("${app.children.projections.rebuild-page-size:500}")
+    private int rebuildPageSize;
+
+    public ChildProjectionWriter(ChildRepository childRepository,
+                                 ChildSummaryEntryRepository childSummaryEntryRepository,
+                                 GuardianChildEntryRepository guardianChildEntryRepository,
+                                 PlatformTransactionManager transactionManager) {
+        this.childRepository = childRepository;
+        this.childSummaryEntryRepository = childSummaryEntryRepository;
+        this.guardianChildEntryRepository = guardianChildEntryRepository;
+        // Commits before the locks are released, whatever transaction the listener runs in
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        for (int i = 0; i < STRIPES; i++) {
+            stripes[i] = new ReentrantLock();
+        }
+    }
+
+    /**
+     * Replaces the child's {@code child_summaries} row, or removes it if the child is gone.
+     */
+    public void refreshSummary(UUID childId) {
+        locked(childId, () -> {
+            Optional<Child> child = childRepository.findById(childId);
+            if (child.isEmpty()) {
+                childSummaryEntryRepository.deleteById(childId);
+                return;
+            }
+            ChildSummaryEntry entry = childSummaryEntryRepository.findById(childId).orElseGet(ChildSummaryEntry::new);
+            fill(entry, summary(child.get()), childRepository.findGuardianLinks(List.of(childId)), Instant.now());
+            childSummaryEntryRepository.save(entry);
+        });
+        summaryRefreshes.increment();
+    }
+
+    /**
+     * Replaces the child's {@code guardian_children} rows, one per guardian it has now.
+     */
+    public void refreshGuardianChildren(UUID childId) {
+        locked(childId, () -> {
+            guardianChildEntryRepository.deleteByChildId(childId);
+            childRepository.findById(childId).ifPresent(child -> {
+                Instant now = Instant.now();
+                for (ChildGuardianLink link : perGuardian(childRepository.findGuardianLinks(List.of(childId)))) {
+                    entityManager.persist(guardianChild(summary(child), link, now));
+                }
+            });
+        });
+        guardianChildrenRefreshes.increment();
+    }
+
+    /**
+     * Empties both read tables and fills them again from {@code children} and
+     * {@code child_guardians}, {@code app.children.projections.rebuild-page-size} children per
+     * transaction. Refreshes triggered meanwhile wait and run afterwards; the list endpoints see
+     * partly filled tables until it returns.
+     */
+    public ChildProjectionRebuildResult rebuild() {
+        long start = System.nanoTime();
+        rebuildLock.writeLock().lock();
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                guardianChildEntryRepository.deleteAllInBatch();
+                childSummaryEntryRepository.deleteAllInBatch();
+            });
+            long children = 0;
+            long guardianChildren = 0;
+            List<ChildSummary> page = childRepository.findSummariesByKeyset(Limit.of(rebuildPageSize));
+            while (!page.isEmpty()) {
+                List<ChildSummary> rows = page;
+                Integer written = transactionTemplate.execute(status -> writePage(rows, Instant.now()));
+                children += rows.size();
+                guardianChildren += written == null ? 0 : written;
+                if (rows.size() < rebuildPageSize) {
+                    break;
+                }
+                ChildSummary last = rows.get(rows.size() - 1);
+                page = childRepository.findSummariesByKeysetAfter(last.lastName(), last.id(), Limit.of(rebuildPageSize));
+            }
+            long durationMillis = (System.nanoTime() - start) / 1_000_000;
+            log.info("Rebuilt child read tables: {} children, {} guardian entries in {} ms",
+                    children, guardianChildren, durationMillis);
+            return new ChildProjectionRebuildResult(children, guardianChildren, durationMillis);
+        } finally {
+            rebuildLock.writeLock().unlock();
+        }
+    }
+
+    public long summaryRefreshCount() {
+        return summaryRefreshes.sum();
+    }
+
+    public long guardianChildrenRefreshCount() {
+        return guardianChildrenRefreshes.sum();
+    }
+
+    // Inserts the page's rows into both tables; returns the number of guardian_children rows
+    private int writePage(List<ChildSummary> summaries, Instant now) {
+        Map<UUID, List<ChildGuardianLink>> links = new HashMap<>();
+        for (ChildGuardianLink link : childRepository.findGuardianLinks(summaries.stream().map(ChildSummary::id).toList())) {
+            links.computeIfAbsent(link.childId(), id -> new ArrayList<>()).add(link);
+        }
+        int guardianChildren = 0;
+        for (ChildSummary summary : summaries) {
+            List<ChildGuardianLink> childLinks = links.getOrDefault(summary.id(), List.of());
+            ChildSummaryEntry entry = new ChildSummaryEntry();
+            fill(entry, summary, childLinks, now);
+            entityManager.persist(entry);
+            for (ChildGuardianLink link : perGuardian(childLinks)) {
+                entityManager.persist(guardianChild(summary, link, now));
+                guardianChildren++;
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+        return guardianChildren;
+    }
+
+    private void locked(UUID childId, Runnable refresh) {
+        Lock stripe = stripes[Math.floorMod(childId.hashCode(), STRIPES)];
+        rebuildLock.readLock().lock();
+        stripe.lock();
+        try {
+            transactionTemplate.executeWithoutResult(status -> refresh.run());
+        } finally {
+            stripe.unlock();
+            rebuildLock.readLock().unlock();
+        }
+    }
+
+    // One link per guardian, the primary one if a guardian is linked twice
+    private static Collection<ChildGuardianLink> perGuardian(List<ChildGuardianLink> links) {
+        Map<UUID, ChildGuardianLink> byGuardian = new LinkedHashMap<>();
+        for (ChildGuardianLink link : links) {
+            byGuardian.merge(link.guardianId(), link,
+                    (first, second) -> Boolean.TRUE.equals(second.primaryGuardian()) ? second : first);
+        }
+        return byGuardian.values();
+    }
+
+    private static ChildSummary summary(Child child) {
+        return new ChildSummary(child.getId(), child.getFirstName(), child.getLastName(), child.getDob(),
+                child.getGender(), child.getSpecialNeeds(), child.getEmergencyContact(),
+                child.getCreatedAt(), child.getUpdatedAt());
+    }
+
+    private static void fill(ChildSummaryEntry entry, ChildSummary summary, List<ChildGuardianLink> links, Instant now) {
+        entry.setId(summary.id());
+        entry.setFirstName(summary.firstName());
+        entry.setLastName(summary.lastName());
+        entry.setDob(summary.dob());
+        entry.setGender(summary.gender());
+        entry.setSpecialNeeds(summary.specialNeeds());
+        entry.setEmergencyContact(summary.emergencyContact());
+        entry.setCreatedAt(summary.createdAt());
+        entry.setUpdatedAt(summary.updatedAt());
+        entry.setPrimaryGuardianId(links.stream()
+                .filter(link -> Boolean.TRUE.equals(link.primaryGuardian()))
+                .map(ChildGuardianLink::guardianId)
+                .findFirst()
+                .orElse(null));
+        entry.setGuardianIds(links.stream().map(ChildGuardianLink::guardianId).distinct().toArray(UUID[]::new));
+        entry.setProjectedAt(now);
+    }
+
+    private static GuardianChildEntry guardianChild(ChildSummary summary, ChildGuardianLink link, Instant now) {
+        GuardianChildEntry entry = new GuardianChildEntry();
+        entry.setGuardianId(link.guardianId());
+        entry.setChildId(summary.id());
+        entry.setFirstName(summary.firstName());
+        entry.setLastName(summary.lastName());
+        entry.setDob(summary.dob());
+        entry.setGender(summary.gender());
+        entry.setPrimaryGuardian(Boolean.TRUE.equals(link.primaryGuardian()));
+        entry.setProjectedAt(now);
+        return entry;
+    }
+}
@@ -0,0 +1,70 @@
+package com.careconnect.coreapi.childmgmt.internal.projection;
+
+import com.careconnect.coreapi.childmgmt.dto.ChildSummary;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * A row of the {@code child_summaries} read table: a child with its guardian IDs, as returned
+ * by the child list endpoints. Written only by {@link ChildProjectionWriter}.
+ */
+@Getter
+@Setter
+@Entity
+@Table(name = "child_summaries", indexes = {
+        @Index(name = "idx_child_summaries_last_name_id", columnList = "last_name, child_id")
+})
+public class ChildSummaryEntry {
+
+    // Named like Child.id so the same sort parameters work on both
+    @Id
+    @Column(name = "child_id", nullable = false, updatable = false)
+    private UUID id;
+
+    @Column(name = "first_name", nullable = false, length = 100)
+    private String firstName;
+
+    @Column(name = "last_name", nullable = false, length = 100)
+    private String lastName;
+
+    @Column(name = "dob")
+    private Instant dob;
+
+    @Column(name = "gender", length = 10)
+    private String gender;
+
+    @Column(name = "special_needs", length = 1000)
+    private String specialNeeds;
+
+    @Column(name = "emergency_contact", length = 500)
+    private String emergencyContact;
+
+    @Column(name = "created_at", nullable = false)
+    private Instant createdAt;
+
+    @Column(name = "updated_at", nullable = false)
+    private Instant updatedAt;
+
+    @Column(name = "primary_guardian_id")
+    private UUID primaryGuardianId;
+
+    @Column(name = "guardian_ids", nullable = false)
+    private UUID[] guardianIds = new UUID[0];
+
+    @Column(name = "projected_at", nullable = false)
+    private Instant projectedAt;
+
+    public ChildSummary toSummary() {
+        return new ChildSummary(id, firstName, lastName, dob, gender, specialNeeds, emergencyContact,
+                createdAt, updatedAt, primaryGuardianId, List.of(guardianIds));
+    }
+}
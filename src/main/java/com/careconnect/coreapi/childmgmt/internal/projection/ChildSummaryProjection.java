@@ -0,0 +1,23 @@
+package com.careconnect.coreapi.childmgmt.internal.projection;
+
+import com.careconnect.coreapi.childmgmt.events.ChildEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.modulith.events.ApplicationModuleListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Keeps {@code child_summaries} up to date: every child management event refreshes the row of
+ * the child it concerns. Runs after the publishing transaction commits, from the event
+ * publication registry, so an event is not lost if the refresh fails or the process stops first.
+ */
+@Component
+@RequiredArgsConstructor
+public class ChildSummaryProjection {
+
+    private final ChildProjectionWriter writer;
+
+    @ApplicationModuleListener
+    public void on(ChildEvent event) {
+        writer.refreshSummary(event.getChildId());
+    }
+}
@@ -0,0 +1,72 @@
+package com.careconnect.coreapi.childmgmt.internal.projection;
+
+import com.careconnect.coreapi.childmgmt.dto.GuardianChild;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.io.Serializable;
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * A row of the {@code guardian_children} read table: one of a guardian's children, as returned
+ * by {@code GET /api/guardians/{id}/children}. Written only by {@link ChildProjectionWriter}.
+ */
+@Getter
+@Setter
+@Entity
+@IdClass(GuardianChildEntry.Key.class)
+@Table(name = "guardian_children", indexes = {
+        @Index(name = "idx_guardian_children_guardian_last_name", columnList = "guardian_id, last_name, child_id"),
+        @Index(name = "idx_guardian_children_child_id", columnList = "child_id")
+})
+public class GuardianChildEntry {
+
+    @Id
+    @Column(name = "guardian_id", nullable = false, updatable = false)
+    private UUID guardianId;
+
+    @Id
+    @Column(name = "child_id", nullable = false, updatable = false)
+    private UUID childId;
+
+    @Column(name = "first_name", nullable = false, length = 100)
+    private String firstName;
+
+    @Column(name = "last_name", nullable = false, length = 100)
+    private String lastName;
+
+    @Column(name = "dob")
+    private Instant dob;
+
+    @Column(name = "gender", length = 10)
+    private String gender;
+
+    @Column(name = "primary_guardian", nullable = false)
+    private boolean primaryGuardian;
+
+    @Column(name = "projected_at", nullable = false)
+    private Instant projectedAt;
+
+    public GuardianChild toGuardianChild() {
+        return new GuardianChild(childId, firstName, lastName, dob, gender, primaryGuardian);
+    }
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    public static class Key implements Serializable {
+        private UUID guardianId;
+        private UUID childId;
+    }
+}
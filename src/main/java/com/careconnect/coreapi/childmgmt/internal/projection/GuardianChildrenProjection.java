@@ -0,0 +1,23 @@
+package com.careconnect.coreapi.childmgmt.internal.projection;
+
+import com.careconnect.coreapi.childmgmt.events.ChildEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.modulith.events.ApplicationModuleListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Keeps {@code guardian_children} up to date: every child management event replaces the rows
+ * of the child it concerns, one per guardian. A listener of its own, so either table can fall
+ * behind and be caught up on resubmission without touching the other.
+ */
+@Component
+@RequiredArgsConstructor
+public class GuardianChildrenProjection {
+
+    private final ChildProjectionWriter writer;
+
+    @ApplicationModuleListener
+    public void on(ChildEvent event) {
+        writer.refreshGuardianChildren(event.getChildId());
+    }
+}
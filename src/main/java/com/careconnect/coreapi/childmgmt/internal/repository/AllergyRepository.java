@@ -1,19 +1,47 @@
 package com.careconnect.coreapi.childmgmt.internal.repository;
 
 import com.careconnect.coreapi.childmgmt.domain.Allergy;
+import com.careconnect.coreapi.common.persistence.ReferenceDataCache;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
+/**
+ * The allergy catalogue. The finders are answered from the query cache until an allergy is
+ * written, which invalidates every cached allergy query; the allergies themselves come from
+ * the entity cache.
+ */
 @Repository
 public interface AllergyRepository extends JpaRepository<Allergy, UUID> {
 
+    @Override
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = ReferenceDataCache.ALLERGY_QUERIES)
+    })
+    List<Allergy> findAll();
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = ReferenceDataCache.ALLERGY_QUERIES)
+    })
     List<Allergy> findByNameContainingIgnoreCase(String name);
 
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = ReferenceDataCache.ALLERGY_QUERIES)
+    })
     Optional<Allergy> findByNameIgnoreCase(String name);
 
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = ReferenceDataCache.ALLERGY_QUERIES)
+    })
     List<Allergy> findBySeverity(String severity);
 }
@@ -1,13 +1,21 @@
 package com.careconnect.coreapi.childmgmt.internal.repository;
 
 import com.careconnect.coreapi.childmgmt.domain.Child;
+import com.careconnect.coreapi.childmgmt.dto.ChildGuardianLink;
+import com.careconnect.coreapi.childmgmt.dto.ChildSummary;
+import com.careconnect.coreapi.childmgmt.dto.GuardianChild;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
@@ -28,4 +36,62 @@ public interface ChildRepository extends JpaRepository<Child, UUID> {
 
     @Query("SELECT c FROM Child c JOIN ChildGuardian cg ON c.id = cg.child.id WHERE cg.guardian.id = :guardianId")
     List<Child> findByAssociatedGuardianId(@Param("guardianId") UUID guardianId);
+
+    /**
+     * Loads the guardian links, and the guardians they point to, for children that are
+     * already in the persistence context. Run after a paged query so a page of children costs
+     * the page query, its count query and this one, instead of one query per child.
+     */
+    @Query("SELECT DISTINCT c FROM Child c LEFT JOIN FETCH c.childGuardians cg LEFT JOIN FETCH cg.guardian " +
+           "WHERE c.id IN :ids")
+    List<Child> fetchGuardianLinks(@Param("ids") Collection<UUID> ids);
+
+    /**
+     * Pages children straight into read-only {@link ChildSummary} records, without guardian IDs.
+     */
+    @Query(value = "SELECT new com.careconnect.coreapi.childmgmt.dto.ChildSummary(" +
+                   "c.id, c.firstName, c.lastName, c.dob, c.gender, c.specialNeeds, c.emergencyContact, c.createdAt, c.updatedAt) " +
+                   "FROM Child c",
+           countQuery = "SELECT COUNT(c) FROM Child c")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    Page<ChildSummary> findAllSummaries(Pageable pageable);
+
+    /**
+     * Selects the guardian links of the given children as projections, oldest link first.
+     */
+    @Query("SELECT new com.careconnect.coreapi.childmgmt.dto.ChildGuardianLink(cg.child.id, cg.guardian.id, cg.primaryGuardian) " +
+           "FROM ChildGuardian cg WHERE cg.child.id IN :childIds ORDER BY cg.createdAt")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    List<ChildGuardianLink> findGuardianLinks(@Param("childIds") Collection<UUID> childIds);
+
+    /**
+     * First page of the keyset listing ordered by {@code (lastName, id)}.
+     */
+    @Query("SELECT new com.careconnect.coreapi.childmgmt.dto.ChildSummary(" +
+           "c.id, c.firstName, c.lastName, c.dob, c.gender, c.specialNeeds, c.emergencyContact, c.createdAt, c.updatedAt) " +
+           "FROM Child c ORDER BY c.lastName, c.id")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    List<ChildSummary> findSummariesByKeyset(Limit limit);
+
+    /**
+     * Next page of the keyset listing: rows ordered after {@code (lastName, id)}, read through
+     * the {@code (last_name, id)} index instead of skipping OFFSET rows.
+     */
+    @Query("SELECT new com.careconnect.coreapi.childmgmt.dto.ChildSummary(" +
+           "c.id, c.firstName, c.lastName, c.dob, c.gender, c.specialNeeds, c.emergencyContact, c.createdAt, c.updatedAt) " +
+           "FROM Child c WHERE (c.lastName, c.id) > (:lastName, :id) ORDER BY c.lastName, c.id")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    List<ChildSummary> findSummariesByKeysetAfter(@Param("lastName") String lastName,
+                                                  @Param("id") UUID id,
+                                                  Limit limit);
+
+    /**
+     * A guardian's children in {@code (lastName, id)} order, joined at query time; the
+     * {@code guardian_children} read table holds the same rows precomputed.
+     */
+    @Query("SELECT new com.careconnect.coreapi.childmgmt.dto.GuardianChild(" +
+           "c.id, c.firstName, c.lastName, c.dob, c.gender, cg.primaryGuardian) " +
+           "FROM ChildGuardian cg JOIN cg.child c WHERE cg.guardian.id = :guardianId ORDER BY c.lastName, c.id")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    List<GuardianChild> findGuardianChildren(@Param("guardianId") UUID guardianId);
 }
@@ -0,0 +1,43 @@
+package com.careconnect.coreapi.childmgmt.internal.repository;
+
+import com.careconnect.coreapi.childmgmt.internal.projection.ChildSummaryEntry;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Reads the {@code child_summaries} read table. Rows carry their guardian IDs, so a page is one query.
+ */
+@Repository
+public interface ChildSummaryEntryRepository extends JpaRepository<ChildSummaryEntry, UUID> {
+
+    @Override
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    Page<ChildSummaryEntry> findAll(Pageable pageable);
+
+    /**
+     * First page of the keyset listing ordered by {@code (lastName, id)}.
+     */
+    @Query("SELECT e FROM ChildSummaryEntry e ORDER BY e.lastName, e.id")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    List<ChildSummaryEntry> findByKeyset(Limit limit);
+
+    /**
+     * Next page of the keyset listing: rows ordered after {@code (lastName, id)}.
+     */
+    @Query("SELECT e FROM ChildSummaryEntry e WHERE (e.lastName, e.id) > (:lastName, :id) ORDER BY e.lastName, e.id")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    List<ChildSummaryEntry> findByKeysetAfter(@Param("lastName") String lastName,
+                                              @Param("id") UUID id,
+                                              Limit limit);
+}
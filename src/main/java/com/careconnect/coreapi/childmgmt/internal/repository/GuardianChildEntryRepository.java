@@ -0,0 +1,28 @@
+package com.careconnect.coreapi.childmgmt.internal.repository;
+
+import com.careconnect.coreapi.childmgmt.internal.projection.GuardianChildEntry;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Reads and replaces rows of the {@code guardian_children} read table.
+ */
+@Repository
+public interface GuardianChildEntryRepository extends JpaRepository<GuardianChildEntry, GuardianChildEntry.Key> {
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    List<GuardianChildEntry> findByGuardianIdOrderByLastNameAscChildIdAsc(UUID guardianId);
+
+    @Modifying
+    @Query("DELETE FROM GuardianChildEntry e WHERE e.childId = :childId")
+    int deleteByChildId(@Param("childId") UUID childId);
+}
@@ -1,11 +1,13 @@
 package com.careconnect.coreapi.childmgmt.internal.repository;
 
 import com.careconnect.coreapi.childmgmt.domain.Guardian;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -21,4 +23,17 @@ public interface GuardianRepository extends JpaRepository<Guardian, UUID> {
     List<Guardian> findByRelationship(String relationship);
 
     List<Guardian> findByPickupAuthorized(Boolean pickupAuthorized);
+
+    /**
+     * First page of the keyset listing ordered by {@code (createdAt, id)}.
+     */
+    List<Guardian> findAllByOrderByCreatedAtAscIdAsc(Limit limit);
+
+    /**
+     * Next page of the keyset listing: guardians ordered after {@code (createdAt, id)}.
+     */
+    @Query("SELECT g FROM Guardian g WHERE (g.createdAt, g.id) > (:createdAt, :id) ORDER BY g.createdAt, g.id")
+    List<Guardian> findByKeysetAfter(@Param("createdAt") Instant createdAt,
+                                     @Param("id") UUID id,
+                                     Limit limit);
 }
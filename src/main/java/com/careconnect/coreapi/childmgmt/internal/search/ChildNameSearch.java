@@ -0,0 +1,47 @@
+package com.careconnect.coreapi.childmgmt.internal.search;
+
+import com.careconnect.coreapi.childmgmt.domain.Child;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import java.util.UUID;
+
+/**
+ * Ranked name search over children, used by {@code ChildService.searchChildren}.
+ *
+ * A child matches when the query is a case-insensitive substring of its first or last name,
+ * or when either name is trigram-similar to the query (typo tolerance). Results are ranked:
+ * names starting with the query first, then by trigram similarity, then by last name and ID.
+ *
+ * Selected with {@code app.search.engine}: {@code postgres} (default) uses {@code pg_trgm}
+ * GIN indexes, {@code memory} keeps an in-process n-gram index for H2 and offline tests.
+ */
+public interface ChildNameSearch {
+
+    /**
+     * Minimum trigram similarity for a fuzzy match, the {@code pg_trgm} default.
+     */
+    double SIMILARITY_THRESHOLD = 0.3;
+
+    /**
+     * Finds matching child IDs, best match first. The pageable's sort is ignored.
+     *
+     * @param query the name fragment, not blank
+     * @param gender optional exact gender filter
+     * @param pageable page number and size
+     * @return a page of child IDs in rank order, with the total number of matches
+     */
+    Page<UUID> search(String query, String gender, Pageable pageable);
+
+    /**
+     * Called after a child is created or updated, for engines that maintain their own index.
+     */
+    default void indexChild(Child child) {
+    }
+
+    /**
+     * Called after a child is deleted, for engines that maintain their own index.
+     */
+    default void removeChild(UUID childId) {
+    }
+}
@@ -0,0 +1,290 @@
+package com.careconnect.coreapi.childmgmt.internal.search;
+
+import com.careconnect.coreapi.childmgmt.domain.Child;
+import com.careconnect.coreapi.childmgmt.internal.repository.ChildRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-process {@link ChildNameSearch} for H2 and offline tests, with the same matching and
+ * ranking rules as the {@code pg_trgm} engine.
+ *
+ * Two inverted indexes are kept per name:
+ * <ul>
+ *   <li>raw character 3-grams, whose intersection pre-filters substring matches,</li>
+ *   <li>{@code pg_trgm}-style padded word trigrams, whose union pre-filters fuzzy matches.</li>
+ * </ul>
+ * The index is built from the database on first use and then kept current by
+ * {@link #indexChild}/{@link #removeChild} once the writing transaction commits; rows
+ * written around {@code ChildService} are picked up only after a restart.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "app.search.engine", havingValue = "memory")
+public class InMemoryChildNameSearch implements ChildNameSearch {
+
+    private static final int GRAM = 3;
+
+    private final ChildRepository childRepository;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<UUID, Entry> entries = new HashMap<>();
+    private final Map<String, Set<UUID>> substringPostings = new HashMap<>();
+    private final Map<String, Set<UUID>> trigramPostings = new HashMap<>();
+    private volatile boolean loaded;
+
+    public InMemoryChildNameSearch(ChildRepository childRepository) {
+        this.childRepository = childRepository;
+    }
+
+    @Override
+    public Page<UUID> search(String query, String gender, Pageable pageable) {
+        ensureLoaded();
+        String normalized = query.trim().toLowerCase(Locale.ROOT);
+        Set<String> queryTrigrams = trigrams(normalized);
+
+        List<Hit> hits = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            for (UUID id : candidates(normalized, queryTrigrams)) {
+                Entry entry = entries.get(id);
+                if (entry == null || (gender != null && !gender.equals(entry.gender()))) {
+                    continue;
+                }
+                boolean substring = entry.firstName().contains(normalized) || entry.lastName().contains(normalized);
+                double score = Math.max(
+                        similarity(entry.firstNameTrigrams(), queryTrigrams),
+                        similarity(entry.lastNameTrigrams(), queryTrigrams));
+                if (substring || score >= SIMILARITY_THRESHOLD) {
+                    boolean prefix = entry.firstName().startsWith(normalized) || entry.lastName().startsWith(normalized);
+                    hits.add(new Hit(id, prefix, score, entry.lastNameOriginal()));
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        hits.sort(Comparator.comparing(Hit::prefix).reversed()
+                .thenComparing(Comparator.comparingDouble(Hit::score).reversed())
+                .thenComparing(Hit::lastName, Comparator.nullsLast(Comparator.naturalOrder()))
+                .thenComparing(Hit::id));
+
+        int from = (int) Math.min(pageable.getOffset(), hits.size());
+        int to = Math.min(from + pageable.getPageSize(), hits.size());
+        List<UUID> page = hits.subList(from, to).stream().map(Hit::id).toList();
+        return new PageImpl<>(page, pageable, hits.size());
+    }
+
+    @Override
+    public void indexChild(Child child) {
+        if (!loaded || child.getId() == null) {
+            return;
+        }
+        UUID id = child.getId();
+        String firstName = child.getFirstName();
+        String lastName = child.getLastName();
+        String gender = child.getGender();
+        afterCommit(() -> {
+            lock.writeLock().lock();
+            try {
+                removeLocked(id);
+                addLocked(id, firstName, lastName, gender);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        });
+    }
+
+    @Override
+    public void removeChild(UUID childId) {
+        if (!loaded) {
+            return;
+        }
+        afterCommit(() -> {
+            lock.writeLock().lock();
+            try {
+                removeLocked(childId);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        });
+    }
+
+    // Rolled back writes must not reach the index
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    private void ensureLoaded() {
+        if (loaded) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            if (!loaded) {
+                List<Child> children = childRepository.findAll();
+                for (Child child : children) {
+                    addLocked(child.getId(), child.getFirstName(), child.getLastName(), child.getGender());
+                }
+                loaded = true;
+                log.info("Built in-memory child name index with {} entries", children.size());
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // Caller holds the read lock
+    private Set<UUID> candidates(String query, Set<String> queryTrigrams) {
+        Set<UUID> candidates;
+        if (query.length() < GRAM) {
+            // Too short for a gram filter; every entry is a substring candidate
+            candidates = new HashSet<>(entries.keySet());
+        } else {
+            candidates = null;
+            for (String gram : grams(query)) {
+                Set<UUID> posting = substringPostings.getOrDefault(gram, Set.of());
+                if (candidates == null) {
+                    candidates = new HashSet<>(posting);
+                } else {
+                    candidates.retainAll(posting);
+                }
+                if (candidates.isEmpty()) {
+                    break;
+                }
+            }
+        }
+        // A fuzzy match needs at least one shared trigram
+        for (String trigram : queryTrigrams) {
+            candidates.addAll(trigramPostings.getOrDefault(trigram, Set.of()));
+        }
+        return candidates;
+    }
+
+    // Caller holds the write lock
+    private void addLocked(UUID id, String firstName, String lastName, String gender) {
+        String first = firstName == null ? "" : firstName.toLowerCase(Locale.ROOT);
+        String last = lastName == null ? "" : lastName.toLowerCase(Locale.ROOT);
+        Entry entry = new Entry(first, last, lastName, gender, trigrams(first), trigrams(last));
+        entries.put(id, entry);
+        for (String gram : grams(first)) {
+            substringPostings.computeIfAbsent(gram, key -> new HashSet<>()).add(id);
+        }
+        for (String gram : grams(last)) {
+            substringPostings.computeIfAbsent(gram, key -> new HashSet<>()).add(id);
+        }
+        for (String trigram : entry.firstNameTrigrams()) {
+            trigramPostings.computeIfAbsent(trigram, key -> new HashSet<>()).add(id);
+        }
+        for (String trigram : entry.lastNameTrigrams()) {
+            trigramPostings.computeIfAbsent(trigram, key -> new HashSet<>()).add(id);
+        }
+    }
+
+    // Caller holds the write lock
+    private void removeLocked(UUID id) {
+        Entry entry = entries.remove(id);
+        if (entry == null) {
+            return;
+        }
+        Set<String> substringGrams = new HashSet<>(grams(entry.firstName()));
+        substringGrams.addAll(grams(entry.lastName()));
+        substringGrams.forEach(gram -> removePosting(substringPostings, gram, id));
+        entry.firstNameTrigrams().forEach(trigram -> removePosting(trigramPostings, trigram, id));
+        entry.lastNameTrigrams().forEach(trigram -> removePosting(trigramPostings, trigram, id));
+    }
+
+    private static void removePosting(Map<String, Set<UUID>> postings, String key, UUID id) {
+        Set<UUID> posting = postings.get(key);
+        if (posting != null && posting.remove(id) && posting.isEmpty()) {
+            postings.remove(key);
+        }
+    }
+
+    /**
+     * Raw overlapping character 3-grams, used for the substring pre-filter.
+     */
+    static Set<String> grams(String value) {
+        Set<String> grams = new HashSet<>();
+        for (int i = 0; i + GRAM <= value.length(); i++) {
+            grams.add(value.substring(i, i + GRAM));
+        }
+        return grams;
+    }
+
+    /**
+     * Trigrams as {@code pg_trgm} extracts them: each alphanumeric word is padded with two
+     * leading spaces and one trailing space before splitting.
+     */
+    static Set<String> trigrams(String value) {
+        Set<String> trigrams = new HashSet<>();
+        int length = value.length();
+        int start = 0;
+        while (start < length) {
+            while (start < length && !Character.isLetterOrDigit(value.charAt(start))) {
+                start++;
+            }
+            int end = start;
+            while (end < length && Character.isLetterOrDigit(value.charAt(end))) {
+                end++;
+            }
+            if (end > start) {
+                String padded = "  " + value.substring(start, end) + " ";
+                for (int i = 0; i + GRAM <= padded.length(); i++) {
+                    trigrams.add(padded.substring(i, i + GRAM));
+                }
+            }
+            start = end;
+        }
+        return trigrams;
+    }
+
+    /**
+     * {@code pg_trgm} similarity: shared trigrams over the union of both trigram sets.
+     */
+    static double similarity(Set<String> left, Set<String> right) {
+        if (left.isEmpty() || right.isEmpty()) {
+            return 0.0;
+        }
+        int shared = 0;
+        for (String trigram : right) {
+            if (left.contains(trigram)) {
+                shared++;
+            }
+        }
+        return (double) shared / (left.size() + right.size() - shared);
+    }
+
+    private record Entry(String firstName, String lastName, String lastNameOriginal, String gender,
+                         Set<String> firstNameTrigrams, Set<String> lastNameTrigrams) {
+    }
+
+    private record Hit(UUID id, boolean prefix, double score, String lastName) {
+    }
+}
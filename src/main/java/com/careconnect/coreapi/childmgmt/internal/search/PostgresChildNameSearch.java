@@ -0,0 +1,65 @@
+package com.careconnect.coreapi.childmgmt.internal.search;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+
+/**
+ * {@link ChildNameSearch} on PostgreSQL's {@code pg_trgm}. Both the {@code LIKE '%q%'} substring
+ * match and the {@code %} similarity operator are served by the GIN trigram indexes on
+ * {@code lower(first_name)} and {@code lower(last_name)} (V6 migration).
+ */
+@Component
+@ConditionalOnProperty(name = "app.search.engine", havingValue = "postgres", matchIfMissing = true)
+@RequiredArgsConstructor
+public class PostgresChildNameSearch implements ChildNameSearch {
+
+    private static final String MATCH =
+            " FROM children c" +
+            " WHERE (lower(c.first_name) LIKE :pattern ESCAPE '\\' OR lower(c.last_name) LIKE :pattern ESCAPE '\\'" +
+            "     OR lower(c.first_name) % :query OR lower(c.last_name) % :query)";
+
+    private static final String GENDER_FILTER = " AND c.gender = :gender";
+
+    private static final String ORDER =
+            " ORDER BY (lower(c.first_name) LIKE :prefix ESCAPE '\\' OR lower(c.last_name) LIKE :prefix ESCAPE '\\') DESC," +
+            " GREATEST(similarity(lower(c.first_name), :query), similarity(lower(c.last_name), :query)) DESC," +
+            " c.last_name, c.id" +
+            " LIMIT :limit OFFSET :offset";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    @Override
+    public Page<UUID> search(String query, String gender, Pageable pageable) {
+        String normalized = query.trim().toLowerCase(Locale.ROOT);
+        String escaped = escapeLike(normalized);
+        String where = MATCH + (gender != null ? GENDER_FILTER : "");
+
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("query", normalized)
+                .addValue("pattern", "%" + escaped + "%")
+                .addValue("prefix", escaped + "%")
+                .addValue("gender", gender)
+                .addValue("limit", pageable.getPageSize())
+                .addValue("offset", pageable.getOffset());
+
+        List<UUID> ids = jdbcTemplate.queryForList("SELECT c.id" + where + ORDER, params, UUID.class);
+        return PageableExecutionUtils.getPage(ids, pageable, () -> {
+            Long total = jdbcTemplate.queryForObject("SELECT COUNT(*)" + where, params, Long.class);
+            return total != null ? total : 0;
+        });
+    }
+
+    static String escapeLike(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+}
@@ -3,6 +3,9 @@ package com.careconnect.coreapi.childmgmt.internal.service;
 import com.careconnect.coreapi.childmgmt.domain.Child;
 import com.careconnect.coreapi.childmgmt.domain.ChildGuardian;
 import com.careconnect.coreapi.childmgmt.domain.Guardian;
+import com.careconnect.coreapi.childmgmt.events.ChildUpdatedEvent;
+import com.careconnect.coreapi.childmgmt.events.GuardianAssignedEvent;
+import com.careconnect.coreapi.childmgmt.events.GuardianRemovedEvent;
 import com.careconnect.coreapi.childmgmt.internal.repository.ChildGuardianRepository;
 import com.careconnect.coreapi.childmgmt.internal.repository.ChildRepository;
 import com.careconnect.coreapi.childmgmt.internal.repository.GuardianRepository;
@@ -11,6 +14,7 @@ import com.careconnect.coreapi.common.exceptions.ResourceNotFoundException;
 import com.careconnect.coreapi.common.exceptions.ValidationException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -27,6 +31,7 @@ public class ChildGuardianService {
     private final ChildGuardianRepository childGuardianRepository;
     private final ChildRepository childRepository;
     private final GuardianRepository guardianRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     public ChildGuardian addGuardianToChild(UUID childId, UUID guardianId, Boolean isPrimary) {
         log.debug("Adding guardian {} to child {}, primary: {}", guardianId, childId, isPrimary);
@@ -60,6 +65,7 @@ public class ChildGuardianService {
         childGuardian.setUpdatedAt(Instant.now());
 
         ChildGuardian saved = childGuardianRepository.save(childGuardian);
+        eventPublisher.publishEvent(GuardianAssignedEvent.now(childId, guardianId, guardian.getUserId()));
         log.info("Added guardian {} to child {}", guardianId, childId);
 
         return saved;
@@ -101,6 +107,7 @@ public class ChildGuardianService {
         }
 
         childGuardianRepository.delete(relationship);
+        eventPublisher.publishEvent(GuardianRemovedEvent.now(childId, guardianId));
         log.info("Removed guardian {} from child {}", guardianId, childId);
     }
 
@@ -124,6 +131,7 @@ public class ChildGuardianService {
         relationship.setUpdatedAt(Instant.now());
 
         ChildGuardian updated = childGuardianRepository.save(relationship);
+        eventPublisher.publishEvent(ChildUpdatedEvent.now(childId));
         log.info("Set guardian {} as primary for child {}", guardianId, childId);
 
         return updated;
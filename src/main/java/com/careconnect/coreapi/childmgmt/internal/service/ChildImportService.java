@@ -0,0 +1,194 @@
+package com.careconnect.coreapi.childmgmt.internal.service;
+
+import com.careconnect.coreapi.childmgmt.domain.Child;
+import com.careconnect.coreapi.childmgmt.dto.ChildBulkRequestDto;
+import com.careconnect.coreapi.childmgmt.dto.ChildImportResult;
+import com.careconnect.coreapi.childmgmt.dto.ChildImportSummary;
+import com.careconnect.coreapi.childmgmt.events.ChildRegisteredEvent;
+import com.careconnect.coreapi.childmgmt.internal.search.ChildNameSearch;
+import com.careconnect.coreapi.common.exceptions.ValidationException;
+import com.careconnect.coreapi.common.utils.UuidV7;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * Imports children in bulk from a {@link ChildRowReader}.
+ *
+ * Rows are validated with the same rules as {@link ChildService#createChild}, sanitized like
+ * {@code ChildRequestDto.toEntity()}, given their ID in memory and inserted with JDBC batches
+ * of {@code app.children.import.batch-size} rows, each batch in its own transaction. A batch the
+ * database rejects is retried row by row so only the offending rows fail. Results are handed to
+ * the caller batch by batch, in row order, while the rest of the upload is still being read.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ChildImportService {
+
+    private static final String INSERT_SQL = "INSERT INTO children (id, first_name, last_name, dob, gender, " +
+            "special_needs, emergency_contact, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final ChildNameSearch childNameSearch;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final Validator validator;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${app.children.import.batch-size:500}")
+    private int batchSize;
+
+    /**
+     * Reads every row, inserting valid ones.
+     *
+     * @param reader the upload
+     * @param results receives one result per row
+     * @return counts for the whole import
+     */
+    public ChildImportSummary importChildren(ChildRowReader reader, Consumer<ChildImportResult> results) throws IOException {
+        Batch batch = new Batch();
+        long rows = 0;
+        long created = 0;
+
+        ChildRowReader.Row row;
+        while ((row = reader.next()) != null) {
+            rows++;
+            if (row.error() != null) {
+                batch.results.add(ChildImportResult.invalid(row.number(), row.error()));
+            } else {
+                Child child = toEntity(row.child());
+                String error = validate(row.child(), child);
+                if (error != null) {
+                    batch.results.add(ChildImportResult.invalid(row.number(), error));
+                } else {
+                    batch.add(row.number(), child);
+                }
+            }
+            if (batch.size() >= batchSize) {
+                created += flush(batch, results);
+                batch = new Batch();
+            }
+        }
+        created += flush(batch, results);
+
+        log.info("Imported {} of {} children", created, rows);
+        return new ChildImportSummary(rows, created, rows - created);
+    }
+
+    // Inserts the batch and emits its results; returns the number of rows inserted
+    private long flush(Batch batch, Consumer<ChildImportResult> results) {
+        if (!batch.children.isEmpty()) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> insert(batch.children));
+                for (int i = 0; i < batch.children.size(); i++) {
+                    batch.results.add(ChildImportResult.created(batch.rowNumbers.get(i), batch.children.get(i).getId()));
+                }
+            } catch (DataAccessException e) {
+                log.warn("Child import batch of {} rows failed, retrying row by row: {}",
+                        batch.children.size(), e.getMostSpecificCause().getMessage());
+                for (int i = 0; i < batch.children.size(); i++) {
+                    batch.results.add(insertOne(batch.rowNumbers.get(i), batch.children.get(i)));
+                }
+            }
+        }
+
+        batch.results.sort(Comparator.comparingLong(ChildImportResult::row));
+        Set<UUID> createdIds = new HashSet<>();
+        for (ChildImportResult result : batch.results) {
+            if (result.status() == ChildImportResult.Status.CREATED) {
+                createdIds.add(result.id());
+            }
+            results.accept(result);
+        }
+        for (Child child : batch.children) {
+            if (createdIds.contains(child.getId())) {
+                childNameSearch.indexChild(child);
+            }
+        }
+        return createdIds.size();
+    }
+
+    private ChildImportResult insertOne(long rowNumber, Child child) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> insert(List.of(child)));
+            return ChildImportResult.created(rowNumber, child.getId());
+        } catch (DuplicateKeyException e) {
+            return ChildImportResult.failed(rowNumber, child.getId(), "Child already exists with ID: " + child.getId());
+        } catch (DataAccessException e) {
+            return ChildImportResult.failed(rowNumber, child.getId(), "Child could not be saved");
+        }
+    }
+
+    private void insert(List<Child> children) {
+        List<Object[]> rows = new ArrayList<>(children.size());
+        for (Child child : children) {
+            rows.add(new Object[]{child.getId(), child.getFirstName(), child.getLastName(),
+                    Timestamp.from(child.getDob()), child.getGender(), child.getSpecialNeeds(),
+                    child.getEmergencyContact(), Timestamp.from(child.getCreatedAt()),
+                    Timestamp.from(child.getUpdatedAt())});
+        }
+        jdbcTemplate.batchUpdate(INSERT_SQL, rows);
+        // Registered with the batch's transaction, so a rolled back batch publishes nothing
+        for (Child child : children) {
+            eventPublisher.publishEvent(ChildRegisteredEvent.now(child.getId(), child.getFirstName(), child.getLastName()));
+        }
+    }
+
+    // Bean Validation constraints of the request DTO first, then the ChildService rules
+    private String validate(ChildBulkRequestDto request, Child child) {
+        Set<ConstraintViolation<ChildBulkRequestDto>> violations = validator.validate(request);
+        if (!violations.isEmpty()) {
+            return violations.stream()
+                    .map(ConstraintViolation::getMessage)
+                    .sorted()
+                    .findFirst()
+                    .orElseThrow();
+        }
+        try {
+            ChildService.validateChildData(child);
+            return null;
+        } catch (ValidationException e) {
+            return e.getMessage();
+        }
+    }
+
+    private static Child toEntity(ChildBulkRequestDto request) {
+        Child child = request.toEntity();
+        child.setId(request.getId() != null ? request.getId() : UuidV7.generate());
+        return child;
+    }
+
+    private static final class Batch {
+        private final List<Long> rowNumbers = new ArrayList<>();
+        private final List<Child> children = new ArrayList<>();
+        private final List<ChildImportResult> results = new ArrayList<>();
+
+        // Rows read since the last flush, valid or not
+        int size() {
+            return children.size() + results.size();
+        }
+
+        void add(long rowNumber, Child child) {
+            rowNumbers.add(rowNumber);
+            children.add(child);
+        }
+    }
+}
@@ -0,0 +1,147 @@
+package com.careconnect.coreapi.childmgmt.internal.service;
+
+import com.careconnect.coreapi.childmgmt.domain.Child;
+import com.careconnect.coreapi.childmgmt.dto.ChildResponseDto;
+import com.careconnect.coreapi.childmgmt.dto.ChildSummary;
+import com.careconnect.coreapi.common.utils.WeightedLruCache;
+import com.careconnect.coreapi.common.utils.XSSProtectionUtil;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+/**
+ * Builds sanitized {@link ChildResponseDto}s, keeping the sanitized text fields of each child so
+ * that reads of an unchanged child do not run the sanitizer again.
+ *
+ * Entries are keyed by child ID and hold one version, the child's {@code updatedAt}; an entry
+ * for another version is replaced and counted as a miss. {@link ChildService} fills the entry
+ * when a child is written and drops it when the child is deleted.
+ */
+@Component
+public class ChildResponseSanitizer {
+
+    private final WeightedLruCache<UUID, SanitizedFields> sanitizedFields =
+            new WeightedLruCache<>(50_000, (id, fields) -> 1);
+
+    public ChildResponseDto fromEntity(Child child) {
+        if (child == null) {
+            return null;
+        }
+
+        SanitizedFields fields = sanitizedFields(child.getId(), child.getUpdatedAt(), () -> SanitizedFields.of(child));
+        return ChildResponseDto.builder()
+                .id(child.getId())
+                .firstName(fields.firstName())
+                .lastName(fields.lastName())
+                .dob(child.getDob())
+                .gender(fields.gender())
+                .specialNeeds(fields.specialNeeds())
+                .emergencyContact(fields.emergencyContact())
+                .createdAt(child.getCreatedAt())
+                .updatedAt(child.getUpdatedAt())
+                .primaryGuardianId(child.getPrimaryGuardianId())
+                .allGuardianIds(child.getAllGuardianIds())
+                .build();
+    }
+
+    public ChildResponseDto fromSummary(ChildSummary summary) {
+        if (summary == null) {
+            return null;
+        }
+
+        SanitizedFields fields = sanitizedFields(summary.id(), summary.updatedAt(), () -> SanitizedFields.of(summary));
+        return ChildResponseDto.builder()
+                .id(summary.id())
+                .firstName(fields.firstName())
+                .lastName(fields.lastName())
+                .dob(summary.dob())
+                .gender(fields.gender())
+                .specialNeeds(fields.specialNeeds())
+                .emergencyContact(fields.emergencyContact())
+                .createdAt(summary.createdAt())
+                .updatedAt(summary.updatedAt())
+                .primaryGuardianId(summary.primaryGuardianId())
+                .allGuardianIds(summary.guardianIds())
+                .build();
+    }
+
+    /**
+     * Sanitizes a child's text fields when it is written so later reads of the same
+     * version are served without running the sanitizer again.
+     *
+     * @param child the saved Child entity
+     */
+    public void sanitizeOnWrite(Child child) {
+        if (child == null || child.getId() == null || child.getUpdatedAt() == null) {
+            return;
+        }
+        sanitizedFields.put(child.getId(), SanitizedFields.of(child));
+    }
+
+    /**
+     * Drops the cached sanitized fields of a deleted child.
+     *
+     * @param childId the deleted child's ID
+     */
+    public void evict(UUID childId) {
+        if (childId != null) {
+            sanitizedFields.invalidate(childId);
+        }
+    }
+
+    WeightedLruCache<UUID, ?> cache() {
+        return sanitizedFields;
+    }
+
+    private SanitizedFields sanitizedFields(UUID id, Instant updatedAt, Supplier<SanitizedFields> sanitizer) {
+        if (id == null || updatedAt == null) {
+            return sanitizer.get();
+        }
+        Instant version = versionOf(updatedAt);
+        SanitizedFields cached = sanitizedFields.getIfPresent(id, fields -> version.equals(fields.version()));
+        if (cached != null) {
+            return cached;
+        }
+        SanitizedFields fields = sanitizer.get();
+        sanitizedFields.put(id, fields);
+        return fields;
+    }
+
+    // Databases keep microseconds, so compare at that precision to match the reloaded entity
+    private static Instant versionOf(Instant updatedAt) {
+        return updatedAt.truncatedTo(ChronoUnit.MICROS);
+    }
+
+    private record SanitizedFields(
+            Instant version,
+            String firstName,
+            String lastName,
+            String gender,
+            String specialNeeds,
+            String emergencyContact) {
+
+        static SanitizedFields of(Child child) {
+            return of(child.getUpdatedAt(), child.getFirstName(), child.getLastName(), child.getGender(),
+                    child.getSpecialNeeds(), child.getEmergencyContact());
+        }
+
+        static SanitizedFields of(ChildSummary summary) {
+            return of(summary.updatedAt(), summary.firstName(), summary.lastName(), summary.gender(),
+                    summary.specialNeeds(), summary.emergencyContact());
+        }
+
+        private static SanitizedFields of(Instant updatedAt, String firstName, String lastName, String gender,
+                                          String specialNeeds, String emergencyContact) {
+            return new SanitizedFields(
+                    updatedAt == null ? null : versionOf(updatedAt),
+                    XSSProtectionUtil.sanitizeText(firstName),
+                    XSSProtectionUtil.sanitizeText(lastName),
+                    XSSProtectionUtil.sanitizeText(gender),
+                    XSSProtectionUtil.sanitizeFormattedText(specialNeeds),
+                    XSSProtectionUtil.sanitizeText(emergencyContact));
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.careconnect.coreapi.childmgmt.internal.service;
+
+import com.careconnect.coreapi.childmgmt.dto.ChildBulkRequestDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+
+/**
+ * Reads a bulk child upload one row at a time, so the body is never held in memory.
+ * A row that cannot be parsed is returned with an error instead of ending the import.
+ */
+public interface ChildRowReader extends Closeable {
+
+    /**
+     * @return the next row, or null at the end of the input
+     */
+    Row next() throws IOException;
+
+    /**
+     * A parsed row, or the reason it could not be parsed.
+     *
+     * @param number 1-based row number, not counting a CSV header
+     * @param child the parsed request, null when {@code error} is set
+     * @param error parse error
+     */
+    record Row(long number, ChildBulkRequestDto child, String error) {
+    }
+
+    /**
+     * Newline-delimited JSON, one {@link ChildBulkRequestDto} object per line. Blank lines are skipped.
+     */
+    static ChildRowReader ndjson(Reader reader, ObjectMapper objectMapper) {
+        return new NdjsonChildRowReader(new BufferedReader(reader), objectMapper.readerFor(ChildBulkRequestDto.class));
+    }
+
+    /**
+     * RFC 4180 CSV with a header row naming the {@link ChildBulkRequestDto} fields, in camelCase or snake_case.
+     */
+    static ChildRowReader csv(Reader reader) {
+        return new CsvChildRowReader(new BufferedReader(reader));
+    }
+}
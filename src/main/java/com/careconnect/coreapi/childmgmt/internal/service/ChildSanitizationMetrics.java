@@ -0,0 +1,23 @@
+package com.careconnect.coreapi.childmgmt.internal.service;
+
+import com.careconnect.coreapi.common.utils.SanitizationCacheMetrics;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Publishes the sanitize-on-write cache of {@link ChildResponseSanitizer}
+ * as {@code xss.sanitize.cache.*{cache=child}}.
+ */
+@Component
+@RequiredArgsConstructor
+public class ChildSanitizationMetrics implements MeterBinder {
+
+    private final ChildResponseSanitizer childResponseSanitizer;
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        SanitizationCacheMetrics.bind(registry, "child", childResponseSanitizer.cache());
+    }
+}
@@ -1,20 +1,40 @@
 package com.careconnect.coreapi.childmgmt.internal.service;
 
 import com.careconnect.coreapi.childmgmt.domain.Child;
+import com.careconnect.coreapi.childmgmt.dto.ChildGuardianLink;
+import com.careconnect.coreapi.childmgmt.dto.ChildSummary;
+import com.careconnect.coreapi.childmgmt.dto.GuardianChild;
+import com.careconnect.coreapi.childmgmt.events.ChildDeletedEvent;
+import com.careconnect.coreapi.childmgmt.events.ChildRegisteredEvent;
+import com.careconnect.coreapi.childmgmt.events.ChildUpdatedEvent;
+import com.careconnect.coreapi.childmgmt.internal.projection.ChildSummaryEntry;
+import com.careconnect.coreapi.childmgmt.internal.projection.GuardianChildEntry;
 import com.careconnect.coreapi.childmgmt.internal.repository.ChildRepository;
+import com.careconnect.coreapi.childmgmt.internal.repository.ChildSummaryEntryRepository;
+import com.careconnect.coreapi.childmgmt.internal.repository.GuardianChildEntryRepository;
 import com.careconnect.coreapi.childmgmt.internal.repository.GuardianRepository;
+import com.careconnect.coreapi.childmgmt.internal.search.ChildNameSearch;
 import com.careconnect.coreapi.common.exceptions.ResourceNotFoundException;
 import com.careconnect.coreapi.common.exceptions.ValidationException;
+import com.careconnect.coreapi.common.response.PageCursor;
 import com.careconnect.coreapi.common.response.PageResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.UUID;
 
 @Slf4j
@@ -25,15 +45,82 @@ public class ChildService {
 
     private final ChildRepository childRepository;
     private final GuardianRepository guardianRepository;
+    private final ChildNameSearch childNameSearch;
+    private final ChildResponseSanitizer childResponseSanitizer;
+    private final ChildSummaryEntryRepository childSummaryEntryRepository;
+    private final GuardianChildEntryRepository guardianChildEntryRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private static final String KEYSET_SORT = "lastName,asc;id,asc";
+
+    // "projection" reads the list endpoints from the child read tables, "tables" joins the source tables
+    @Value("${app.children.read-model:projection}")
+    private String readModel;
 
     public PageResponse<Child> getAllChildren(Pageable pageable) {
         log.debug("Fetching all children with pagination: page={}, size={}, sort={}", 
                 pageable.getPageNumber(), pageable.getPageSize(), pageable.getSort());
         
         Page<Child> childrenPage = childRepository.findAll(pageable);
+        fetchGuardianLinks(childrenPage.getContent());
         return PageResponse.of(childrenPage);
     }
 
+    /**
+     * Pages children as read-only {@link ChildSummary} projections for list endpoints.
+     * From the {@code child_summaries} read table one query (plus the count) returns them with
+     * their guardian IDs; from the source tables it takes two and never hydrates managed entities.
+     */
+    @Transactional(readOnly = true)
+    public PageResponse<ChildSummary> getChildSummaries(Pageable pageable) {
+        log.debug("Fetching child summaries with pagination: page={}, size={}, sort={}",
+                pageable.getPageNumber(), pageable.getPageSize(), pageable.getSort());
+
+        if (readsProjections()) {
+            return PageResponse.of(childSummaryEntryRepository.findAll(pageable).map(ChildSummaryEntry::toSummary));
+        }
+        Page<ChildSummary> summaries = childRepository.findAllSummaries(pageable);
+        return PageResponse.of(new PageImpl<>(
+                withGuardianIds(summaries.getContent()), summaries.getPageable(), summaries.getTotalElements()));
+    }
+
+    /**
+     * Keyset paginated variant of {@link #getChildSummaries}, ordered by {@code (lastName, id)}.
+     * Cost is independent of how deep the client has paged.
+     *
+     * @param cursor position after which to continue, or null for the first page
+     * @param size page size
+     * @param includeTotal whether to run a {@code COUNT(*)} for the total
+     */
+    @Transactional(readOnly = true)
+    public PageResponse<ChildSummary> getChildSummariesAfter(PageCursor cursor, int size, boolean includeTotal) {
+        log.debug("Fetching child summaries by keyset: cursor={}, size={}", cursor, size);
+
+        // One extra row tells whether there is a next page without counting
+        Limit limit = Limit.of(size + 1);
+        if (readsProjections()) {
+            List<ChildSummary> rows = (cursor == null
+                    ? childSummaryEntryRepository.findByKeyset(limit)
+                    : childSummaryEntryRepository.findByKeysetAfter(cursor.key(), cursor.id(), limit))
+                    .stream().map(ChildSummaryEntry::toSummary).toList();
+            return cursorPage(rows, size, cursor, includeTotal ? childSummaryEntryRepository.count() : null);
+        }
+        List<ChildSummary> rows = cursor == null
+                ? childRepository.findSummariesByKeyset(limit)
+                : childRepository.findSummariesByKeysetAfter(cursor.key(), cursor.id(), limit);
+        return cursorPage(withGuardianIds(rows), size, cursor, includeTotal ? childRepository.count() : null);
+    }
+
+    private static PageResponse<ChildSummary> cursorPage(List<ChildSummary> rows, int size, PageCursor cursor, Long total) {
+        PageCursor nextCursor = null;
+        if (rows.size() > size) {
+            rows = rows.subList(0, size);
+            ChildSummary last = rows.get(size - 1);
+            nextCursor = new PageCursor(last.lastName(), last.id());
+        }
+        return PageResponse.ofCursor(rows, size, KEYSET_SORT, cursor, nextCursor, total);
+    }
+
     public Child getChildById(UUID id) {
         log.debug("Fetching child by ID: {}", id);
         return childRepository.findById(id)
@@ -50,6 +137,10 @@ public class ChildService {
         child.setUpdatedAt(Instant.now());
 
         Child savedChild = childRepository.save(child);
+        childResponseSanitizer.sanitizeOnWrite(savedChild);
+        childNameSearch.indexChild(savedChild);
+        eventPublisher.publishEvent(ChildRegisteredEvent.now(
+                savedChild.getId(), savedChild.getFirstName(), savedChild.getLastName()));
         log.info("Created child with ID: {}", savedChild.getId());
 
         return savedChild;
@@ -77,6 +168,9 @@ public class ChildService {
         }
 
         Child updatedChild = childRepository.save(existingChild);
+        childResponseSanitizer.sanitizeOnWrite(updatedChild);
+        childNameSearch.indexChild(updatedChild);
+        eventPublisher.publishEvent(ChildUpdatedEvent.now(updatedChild.getId()));
         log.info("Updated child with ID: {}", updatedChild.getId());
 
         return updatedChild;
@@ -90,12 +184,35 @@ public class ChildService {
         }
 
         childRepository.deleteById(id);
+        childResponseSanitizer.evict(id);
+        childNameSearch.removeChild(id);
+        eventPublisher.publishEvent(ChildDeletedEvent.now(id));
         log.info("Deleted child with ID: {}", id);
     }
 
+    /**
+     * Searches children by name and/or gender. Name searches go through {@link ChildNameSearch}
+     * and are ranked by match quality, so the pageable's sort only applies to gender-only filters.
+     */
     public Page<Child> searchChildren(String name, String gender, Pageable pageable) {
         log.debug("Searching children with name: {}, gender: {}", name, gender);
-        return childRepository.findByFilters(name, gender, pageable);
+
+        if (name == null || name.isBlank()) {
+            Page<Child> children = childRepository.findByFilters(null, gender, pageable);
+            fetchGuardianLinks(children.getContent());
+            return children;
+        }
+
+        Page<UUID> ranked = childNameSearch.search(name, gender, pageable);
+        Map<UUID, Child> byId = new HashMap<>();
+        childRepository.findAllById(ranked.getContent()).forEach(child -> byId.put(child.getId(), child));
+        // Keep rank order; IDs deleted since the search are dropped
+        List<Child> children = ranked.getContent().stream()
+                .map(byId::get)
+                .filter(Objects::nonNull)
+                .toList();
+        fetchGuardianLinks(children);
+        return new PageImpl<>(children, pageable, ranked.getTotalElements());
     }
 
     public List<Child> getChildrenByGuardian(UUID guardianId) {
@@ -105,10 +222,65 @@ public class ChildService {
             throw new ResourceNotFoundException("Guardian not found with ID: " + guardianId);
         }
 
-        return childRepository.findByAssociatedGuardianId(guardianId);
+        List<Child> children = childRepository.findByAssociatedGuardianId(guardianId);
+        fetchGuardianLinks(children);
+        return children;
+    }
+
+    /**
+     * The guardian's children in name order, from the {@code guardian_children} read table or,
+     * with {@code app.children.read-model=tables}, joined from {@code child_guardians}.
+     */
+    @Transactional(readOnly = true)
+    public List<GuardianChild> getGuardianChildren(UUID guardianId) {
+        log.debug("Fetching child list for guardian ID: {}", guardianId);
+
+        if (!guardianRepository.existsById(guardianId)) {
+            throw new ResourceNotFoundException("Guardian not found with ID: " + guardianId);
+        }
+        if (readsProjections()) {
+            return guardianChildEntryRepository.findByGuardianIdOrderByLastNameAscChildIdAsc(guardianId).stream()
+                    .map(GuardianChildEntry::toGuardianChild)
+                    .toList();
+        }
+        return childRepository.findGuardianChildren(guardianId);
+    }
+
+    private boolean readsProjections() {
+        return "projection".equalsIgnoreCase(readModel);
+    }
+
+    // Attaches guardian IDs to projected children with a single link query
+    private List<ChildSummary> withGuardianIds(List<ChildSummary> summaries) {
+        if (summaries.isEmpty()) {
+            return summaries;
+        }
+
+        Map<UUID, List<UUID>> guardianIds = new HashMap<>();
+        Map<UUID, UUID> primaryGuardianIds = new HashMap<>();
+        List<UUID> childIds = summaries.stream().map(ChildSummary::id).toList();
+        for (ChildGuardianLink link : childRepository.findGuardianLinks(childIds)) {
+            guardianIds.computeIfAbsent(link.childId(), id -> new ArrayList<>()).add(link.guardianId());
+            if (Boolean.TRUE.equals(link.primaryGuardian())) {
+                primaryGuardianIds.putIfAbsent(link.childId(), link.guardianId());
+            }
+        }
+        return summaries.stream()
+                .map(summary -> summary.withGuardians(
+                        primaryGuardianIds.get(summary.id()),
+                        guardianIds.getOrDefault(summary.id(), List.of())))
+                .toList();
+    }
+
+    // Initializes childGuardians for the loaded children in one query, since every
+    // response includes their guardian IDs
+    private void fetchGuardianLinks(List<Child> children) {
+        if (!children.isEmpty()) {
+            childRepository.fetchGuardianLinks(children.stream().map(Child::getId).toList());
+        }
     }
 
-    private void validateChildData(Child child) {
+    static void validateChildData(Child child) {
         if (child.getFirstName() == null || child.getFirstName().trim().isEmpty()) {
             throw new ValidationException("First name is required");
         }
@@ -0,0 +1,146 @@
+package com.careconnect.coreapi.childmgmt.internal.service;
+
+import com.careconnect.coreapi.childmgmt.dto.ChildBulkRequestDto;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+
+// Minimal RFC 4180 reader: quoted fields may contain commas, doubled quotes and line breaks
+class CsvChildRowReader implements ChildRowReader {
+
+    private final BufferedReader reader;
+    private final StringBuilder field = new StringBuilder();
+    private List<String> header;
+    private long rowNumber;
+
+    CsvChildRowReader(BufferedReader reader) {
+        this.reader = reader;
+    }
+
+    @Override
+    public Row next() throws IOException {
+        if (header == null) {
+            header = readRecord();
+            if (header == null) {
+                return null;
+            }
+            header.replaceAll(CsvChildRowReader::normalizeColumn);
+        }
+
+        List<String> record;
+        do {
+            record = readRecord();
+            if (record == null) {
+                return null;
+            }
+        } while (record.size() == 1 && record.get(0).isBlank());
+        rowNumber++;
+
+        if (record.size() > header.size()) {
+            return new Row(rowNumber, null, "Row has " + record.size() + " columns, header has " + header.size());
+        }
+        ChildBulkRequestDto child = new ChildBulkRequestDto();
+        for (int i = 0; i < record.size(); i++) {
+            String value = record.get(i).isEmpty() ? null : record.get(i);
+            String error = apply(child, header.get(i), value);
+            if (error != null) {
+                return new Row(rowNumber, null, error);
+            }
+        }
+        return new Row(rowNumber, child, null);
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    // Returns an error message for an unparseable value; unknown columns are ignored
+    private static String apply(ChildBulkRequestDto child, String column, String value) {
+        switch (column) {
+            case "id" -> {
+                try {
+                    child.setId(value == null ? null : UUID.fromString(value));
+                } catch (IllegalArgumentException e) {
+                    return "Invalid id: " + value;
+                }
+            }
+            case "firstname" -> child.setFirstName(value);
+            case "lastname" -> child.setLastName(value);
+            case "dob" -> {
+                try {
+                    child.setDob(value == null ? null : parseDate(value));
+                } catch (DateTimeParseException e) {
+                    return "Invalid date of birth: " + value;
+                }
+            }
+            case "gender" -> child.setGender(value);
+            case "specialneeds" -> child.setSpecialNeeds(value);
+            case "emergencycontact" -> child.setEmergencyContact(value);
+            default -> {
+            }
+        }
+        return null;
+    }
+
+    // Accepts a plain date (midnight UTC) or an ISO-8601 instant
+    private static Instant parseDate(String value) {
+        if (value.length() == 10) {
+            return LocalDate.parse(value).atStartOfDay(ZoneOffset.UTC).toInstant();
+        }
+        return Instant.parse(value);
+    }
+
+    private static String normalizeColumn(String column) {
+        return column.strip().replace("_", "").toLowerCase(Locale.ROOT);
+    }
+
+    // Reads one record, which may span several lines; null at end of input
+    private List<String> readRecord() throws IOException {
+        int c = reader.read();
+        if (c == -1) {
+            return null;
+        }
+        List<String> record = new ArrayList<>();
+        boolean quoted = false;
+        field.setLength(0);
+        while (c != -1) {
+            if (quoted) {
+                if (c == '"') {
+                    reader.mark(1);
+                    int following = reader.read();
+                    if (following == '"') {
+                        field.append('"');
+                    } else {
+                        quoted = false;
+                        if (following != -1) {
+                            reader.reset();
+                        }
+                    }
+                } else {
+                    field.append((char) c);
+                }
+            } else if (c == '"' && field.isEmpty()) {
+                quoted = true;
+            } else if (c == ',') {
+                record.add(field.toString());
+                field.setLength(0);
+            } else if (c == '\n') {
+                break;
+            } else if (c != '\r') {
+                field.append((char) c);
+            }
+            c = reader.read();
+        }
+        record.add(field.toString());
+        return record;
+    }
+}
@@ -1,16 +1,24 @@
 package com.careconnect.coreapi.childmgmt.internal.service;
 
 import com.careconnect.coreapi.childmgmt.domain.Guardian;
+import com.careconnect.coreapi.childmgmt.events.GuardianRemovedEvent;
+import com.careconnect.coreapi.childmgmt.internal.repository.ChildGuardianRepository;
 import com.careconnect.coreapi.childmgmt.internal.repository.GuardianRepository;
+import com.careconnect.coreapi.common.exceptions.BadRequestException;
 import com.careconnect.coreapi.common.exceptions.ResourceNotFoundException;
 import com.careconnect.coreapi.common.exceptions.ValidationException;
+import com.careconnect.coreapi.common.response.PageCursor;
+import com.careconnect.coreapi.common.response.PageResponse;
 import com.careconnect.coreapi.user.UserService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Instant;
+import java.time.format.DateTimeParseException;
 import java.util.List;
 import java.util.UUID;
 
@@ -22,12 +30,40 @@ public class GuardianService {
 
     private final GuardianRepository guardianRepository;
     private final UserService userService; // Use service interface instead of repository
+    private final ChildGuardianRepository childGuardianRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     public List<Guardian> getAllGuardians() {
         log.debug("Fetching all guardians");
         return guardianRepository.findAll();
     }
 
+    /**
+     * Keyset paginated guardian listing ordered by {@code (createdAt, id)}.
+     *
+     * @param cursor position after which to continue, or null for the first page
+     * @param size page size
+     * @param includeTotal whether to run a {@code COUNT(*)} for the total
+     */
+    @Transactional(readOnly = true)
+    public PageResponse<Guardian> getGuardiansAfter(PageCursor cursor, int size, boolean includeTotal) {
+        log.debug("Fetching guardians by keyset: cursor={}, size={}", cursor, size);
+
+        Limit limit = Limit.of(size + 1);
+        List<Guardian> rows = cursor == null
+                ? guardianRepository.findAllByOrderByCreatedAtAscIdAsc(limit)
+                : guardianRepository.findByKeysetAfter(parseCreatedAt(cursor), cursor.id(), limit);
+
+        PageCursor nextCursor = null;
+        if (rows.size() > size) {
+            rows = rows.subList(0, size);
+            Guardian last = rows.get(size - 1);
+            nextCursor = new PageCursor(last.getCreatedAt().toString(), last.getId());
+        }
+        Long total = includeTotal ? guardianRepository.count() : null;
+        return PageResponse.ofCursor(rows, size, "createdAt,asc;id,asc", cursor, nextCursor, total);
+    }
+
     public Guardian getGuardianById(UUID id) {
         log.debug("Fetching guardian by ID: {}", id);
         return guardianRepository.findById(id)
@@ -93,6 +129,9 @@ public class GuardianService {
             throw new ResourceNotFoundException("Guardian not found with ID: " + id);
         }
 
+        // The links go with the guardian (ON DELETE CASCADE); each linked child's read rows follow
+        childGuardianRepository.findByGuardianId(id).forEach(link ->
+                eventPublisher.publishEvent(GuardianRemovedEvent.now(link.getChild().getId(), id)));
         guardianRepository.deleteById(id);
         log.info("Deleted guardian with ID: {}", id);
     }
@@ -112,4 +151,12 @@ public class GuardianService {
             throw new ValidationException("Relationship is required");
         }
     }
+
+    private Instant parseCreatedAt(PageCursor cursor) {
+        try {
+            return Instant.parse(cursor.key());
+        } catch (DateTimeParseException e) {
+            throw new BadRequestException("Invalid pagination cursor");
+        }
+    }
 }
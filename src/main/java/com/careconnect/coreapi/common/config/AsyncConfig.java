@@ -0,0 +1,29 @@
+package com.careconnect.coreapi.common.config;
+
+import com.careconnect.coreapi.common.events.EventListenerExecutor;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.AsyncConfigurer;
+import org.springframework.scheduling.annotation.EnableAsync;
+
+import java.util.concurrent.Executor;
+
+/**
+ * Enables {@code @Async} methods and asynchronous event listeners.
+ *
+ * They run on the {@link EventListenerExecutor}, one virtual thread per invocation with at most
+ * {@code app.events.listener.concurrency} at once, so that background work cannot take every
+ * database connection. Spring Boot's {@code applicationTaskExecutor} is left to Spring MVC.
+ */
+@Configuration
+@EnableAsync
+@RequiredArgsConstructor
+public class AsyncConfig implements AsyncConfigurer {
+
+    private final EventListenerExecutor eventListenerExecutor;
+
+    @Override
+    public Executor getAsyncExecutor() {
+        return eventListenerExecutor;
+    }
+}
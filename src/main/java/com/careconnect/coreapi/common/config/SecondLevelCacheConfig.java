@@ -0,0 +1,81 @@
+package com.careconnect.coreapi.common.config;
+
+import com.careconnect.coreapi.common.persistence.ReferenceDataCache;
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import javax.cache.spi.CachingProvider;
+import java.net.URI;
+import java.time.Duration;
+import java.util.OptionalLong;
+import java.util.UUID;
+
+/**
+ * Hibernate second-level cache for reference data, held in Caffeine caches through JCache.
+ *
+ * The regions in {@link ReferenceDataCache#REGIONS} are created here rather than by Hibernate so
+ * that each is bounded to {@code app.cache.reference.max-size} entries, expires
+ * {@code app.cache.reference.ttl} after it was written, and records the statistics exported by
+ * {@code ReferenceDataCacheMetrics}. Writes through Hibernate update or invalidate the cached
+ * entities and the query results of the tables they touch; the expiry bounds how long a write
+ * made elsewhere (SQL, another instance) goes unseen.
+ *
+ * Enabled here rather than in {@code spring.jpa.properties}, so that JPA test slices, which do not
+ * load this configuration, run without it. Every application context gets its own
+ * {@link CacheManager}, since Hibernate closes it when the session factory is closed.
+ * {@code app.cache.reference.enabled=false} turns the cache off.
+ */
+@Configuration
+public class SecondLevelCacheConfig {
+
+    @Value("${app.cache.reference.enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.cache.reference.max-size:10000}")
+    private long maxSize;
+
+    @Value("${app.cache.reference.ttl:PT1H}")
+    private Duration ttl;
+
+    @Bean
+    public CacheManager referenceDataCacheManager() {
+        CachingProvider provider = Caching.getCachingProvider(CaffeineCachingProvider.class.getName());
+        CacheManager cacheManager = provider.getCacheManager(
+                URI.create("careconnect-reference-data-" + UUID.randomUUID()), provider.getDefaultClassLoader());
+        for (String region : ReferenceDataCache.REGIONS) {
+            CaffeineConfiguration<Object, Object> configuration = configuration();
+            configuration.setMaximumSize(OptionalLong.of(maxSize));
+            configuration.setExpireAfterWrite(OptionalLong.of(ttl.toNanos()));
+            cacheManager.createCache(region, configuration);
+        }
+        // Never evicted: losing a table's last write time could serve a stale query result
+        cacheManager.createCache(ReferenceDataCache.UPDATE_TIMESTAMPS, configuration());
+        return cacheManager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheCustomizer(CacheManager referenceDataCacheManager) {
+        return properties -> {
+            properties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, enabled);
+            properties.put(AvailableSettings.USE_QUERY_CACHE, enabled);
+            if (enabled) {
+                properties.put(AvailableSettings.CACHE_REGION_FACTORY, "jcache");
+                properties.put(ConfigSettings.CACHE_MANAGER, referenceDataCacheManager);
+            }
+        };
+    }
+
+    private static CaffeineConfiguration<Object, Object> configuration() {
+        CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+        configuration.setStatisticsEnabled(true);
+        return configuration;
+    }
+}
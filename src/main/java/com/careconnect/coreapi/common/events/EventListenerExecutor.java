@@ -0,0 +1,68 @@
+package com.careconnect.coreapi.common.events;
+
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs asynchronous event listeners, e.g. {@code @ApplicationModuleListener} methods, after the
+ * publishing transaction commits.
+ *
+ * Every listener invocation gets its own virtual thread, whatever {@code spring.threads.virtual.enabled}
+ * says, and at most {@code app.events.listener.concurrency} run at once. The limit is taken on the
+ * listener's own thread, so the thread that committed never waits for a slot; invocations beyond
+ * the limit wait parked and show up as {@link #queued()}.
+ */
+@Component
+public class EventListenerExecutor implements TaskExecutor {
+
+    @Value("${app.events.listener.concurrency:8}")
+    private int concurrency;
+
+    private final ExecutorService threads = Executors.newThreadPerTaskExecutor(
+            Thread.ofVirtual().name("event-listener-", 0).factory());
+    private final AtomicInteger queued = new AtomicInteger();
+    private final AtomicInteger active = new AtomicInteger();
+    private Semaphore permits;
+
+    @PostConstruct
+    void start() {
+        permits = new Semaphore(concurrency);
+    }
+
+    @Override
+    public void execute(Runnable task) {
+        queued.incrementAndGet();
+        threads.execute(() -> {
+            permits.acquireUninterruptibly();
+            queued.decrementAndGet();
+            active.incrementAndGet();
+            try {
+                task.run();
+            } finally {
+                active.decrementAndGet();
+                permits.release();
+            }
+        });
+    }
+
+    /**
+     * Listener invocations waiting for a slot.
+     */
+    public int queued() {
+        return queued.get();
+    }
+
+    /**
+     * Listener invocations running.
+     */
+    public int active() {
+        return active.get();
+    }
+}
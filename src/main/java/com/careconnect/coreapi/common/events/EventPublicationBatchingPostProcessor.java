@@ -0,0 +1,86 @@
+package com.careconnect.coreapi.common.events;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.core.env.Environment;
+import org.springframework.modulith.events.EventPublication;
+import org.springframework.modulith.events.core.EventPublicationRepository;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Routes Spring Modulith's per-publication completion updates through
+ * {@link EventPublicationCompletions}, which writes them in bulk.
+ *
+ * The {@link EventPublicationRepository} is wrapped so that marking a publication completed by
+ * its ID only queues the completion. Queued completions are written before any other repository
+ * call, so lookups of incomplete or completed publications, and deletions, see every completion
+ * that has been reported. Publications are still created in the publishing transaction.
+ *
+ * Only applies with the default {@code spring.modulith.events.completion-mode=update}; in the
+ * other modes a completion deletes or moves the row and is left to Modulith. Set
+ * {@code app.events.completion.batching=false} to turn it off.
+ */
+@Component
+public class EventPublicationBatchingPostProcessor implements BeanPostProcessor {
+
+    private final ObjectProvider<EventPublicationCompletions> completions;
+    private final boolean enabled;
+
+    public EventPublicationBatchingPostProcessor(ObjectProvider<EventPublicationCompletions> completions,
+                                                 Environment environment) {
+        this.completions = completions;
+        this.enabled = environment.getProperty("app.events.completion.batching", Boolean.class, true)
+                && "update".equalsIgnoreCase(environment.getProperty("spring.modulith.events.completion-mode", "update"));
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (!enabled || !(bean instanceof EventPublicationRepository repository)) {
+            return bean;
+        }
+        return Proxy.newProxyInstance(EventPublicationRepository.class.getClassLoader(),
+                new Class<?>[]{EventPublicationRepository.class}, new BatchingHandler(repository, completions));
+    }
+
+    private record BatchingHandler(EventPublicationRepository delegate,
+                                   ObjectProvider<EventPublicationCompletions> completions) implements InvocationHandler {
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            if (method.getDeclaringClass() != Object.class) {
+                if ("markCompleted".equals(method.getName())) {
+                    UUID publicationId = publicationId(args);
+                    if (publicationId != null) {
+                        completions.getObject().add(publicationId, (Instant) args[1]);
+                        return null;
+                    }
+                } else if (!"create".equals(method.getName())) {
+                    completions.getObject().flush();
+                }
+            }
+            try {
+                return method.invoke(delegate, args);
+            } catch (InvocationTargetException e) {
+                throw e.getTargetException();
+            }
+        }
+
+        // markCompleted(publication, date) and markCompleted(id, date); the by-event variant is passed on
+        private static UUID publicationId(Object[] args) {
+            if (args == null || args.length != 2 || !(args[1] instanceof Instant)) {
+                return null;
+            }
+            if (args[0] instanceof UUID id) {
+                return id;
+            }
+            return args[0] instanceof EventPublication publication ? publication.getIdentifier() : null;
+        }
+    }
+}
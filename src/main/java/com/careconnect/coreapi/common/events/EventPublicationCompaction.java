@@ -0,0 +1,181 @@
+package com.careconnect.coreapi.common.events;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Keeps {@code event_publication} down to the publications still in flight.
+ *
+ * Every {@code app.events.compaction.interval}, publications completed more than
+ * {@code app.events.compaction.retention} ago are moved to {@code event_publication_archive}
+ * (or deleted, with {@code app.events.compaction.mode=delete}) in batches of
+ * {@code app.events.compaction.batch-size}, one transaction per batch, so the job never holds
+ * more than one batch of rows locked.
+ *
+ * On PostgreSQL the archive is partitioned by month of completion: each run first creates the
+ * partitions from the month of the retention cutoff to the next month, and drops whole
+ * partitions older than {@code app.events.archive.retention}.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class EventPublicationCompaction {
+
+    private static final String SELECT_COMPLETED_SQL =
+            "SELECT id FROM event_publication WHERE completion_date < ? ORDER BY completion_date LIMIT ?";
+    private static final String ARCHIVE_SQL =
+            "INSERT INTO event_publication_archive " +
+            "(id, listener_id, event_type, serialized_event, publication_date, completion_date) " +
+            "SELECT id, listener_id, event_type, serialized_event, publication_date, completion_date " +
+            "FROM event_publication WHERE id IN (:ids)";
+    private static final String DELETE_SQL = "DELETE FROM event_publication WHERE id IN (:ids)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final LongAdder compacted = new LongAdder();
+    private ScheduledExecutorService scheduler;
+    private boolean partitioned;
+
+    @Value("${app.events.compaction.enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.events.compaction.interval:PT1H}")
+    private Duration interval;
+
+    @Value("${app.events.compaction.retention:P7D}")
+    private Duration retention;
+
+    @Value("${app.events.compaction.batch-size:1000}")
+    private int batchSize;
+
+    @Value("${app.events.compaction.mode:archive}")
+    private String mode;
+
+    @Value("${app.events.archive.retention:P180D}")
+    private Duration archiveRetention;
+
+    @PostConstruct
+    void start() {
+        partitioned = "PostgreSQL".equals(jdbcTemplate.execute(
+                (ConnectionCallback<String>) connection -> connection.getMetaData().getDatabaseProductName()));
+        if (!enabled) {
+            return;
+        }
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "event-publication-compaction");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long periodMillis = interval.toMillis();
+        scheduler.scheduleWithFixedDelay(this::compactQuietly, periodMillis, periodMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void stop() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+    }
+
+    /**
+     * Maintains the archive partitions, then archives or deletes every publication completed
+     * before {@code now - retention}.
+     *
+     * @return the number of publications removed from {@code event_publication}
+     */
+    public int compact(Instant now) {
+        lock.lock();
+        try {
+            Instant cutoff = now.minus(retention);
+            // Before archiving, so that no archived row lands in the default partition: PostgreSQL
+            // refuses to create a partition for a range the default partition already has rows in
+            if (partitioned) {
+                maintainPartitions(now, cutoff);
+            }
+            int total = 0;
+            int removed;
+            do {
+                removed = compactBatch(Timestamp.from(cutoff));
+                total += removed;
+            } while (removed == batchSize);
+            compacted.add(total);
+            return total;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Publications removed from {@code event_publication} since startup.
+     */
+    public long compactedCount() {
+        return compacted.sum();
+    }
+
+    private int compactBatch(Timestamp cutoff) {
+        Integer removed = transactionTemplate.execute(status -> {
+            List<UUID> ids = jdbcTemplate.queryForList(SELECT_COMPLETED_SQL, UUID.class, cutoff, batchSize);
+            if (ids.isEmpty()) {
+                return 0;
+            }
+            MapSqlParameterSource parameters = new MapSqlParameterSource("ids", ids);
+            if (!"delete".equalsIgnoreCase(mode)) {
+                namedParameterJdbcTemplate.update(ARCHIVE_SQL, parameters);
+            }
+            namedParameterJdbcTemplate.update(DELETE_SQL, parameters);
+            return ids.size();
+        });
+        return removed == null ? 0 : removed;
+    }
+
+    private void maintainPartitions(Instant now, Instant cutoff) {
+        LocalDate last = LocalDate.ofInstant(now, ZoneOffset.UTC).withDayOfMonth(1).plusMonths(1);
+        for (LocalDate month = LocalDate.ofInstant(cutoff, ZoneOffset.UTC).withDayOfMonth(1);
+             !month.isAfter(last); month = month.plusMonths(1)) {
+            jdbcTemplate.queryForObject("SELECT create_event_publication_archive_partition(?)", Object.class,
+                    Date.valueOf(month));
+        }
+        Integer dropped = jdbcTemplate.queryForObject("SELECT drop_event_publication_archive_partitions(?)",
+                Integer.class, Date.valueOf(LocalDate.ofInstant(now.minus(archiveRetention), ZoneOffset.UTC)));
+        if (dropped != null && dropped > 0) {
+            log.info("Dropped {} event publication archive partition(s) older than {}", dropped, archiveRetention);
+        }
+    }
+
+    private void compactQuietly() {
+        try {
+            int removed = compact(Instant.now());
+            if (removed > 0) {
+                log.info("Compacted {} completed event publication(s)", removed);
+            }
+        } catch (RuntimeException e) {
+            log.warn("Event publication compaction failed, will retry: {}", e.getMessage());
+        }
+    }
+}
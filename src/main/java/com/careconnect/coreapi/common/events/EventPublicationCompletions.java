@@ -0,0 +1,184 @@
+package com.careconnect.coreapi.common.events;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Marks event publications completed in bulk.
+ *
+ * Spring Modulith marks a publication completed as soon as its listener returns, one
+ * {@code UPDATE} per listener invocation. Here the completions are collected instead and written
+ * every {@code app.events.completion.flush-interval}, or as soon as
+ * {@code app.events.completion.batch-size} are waiting, as one JDBC batch in one transaction.
+ *
+ * A completion still waiting when the process dies is lost and its publication is delivered
+ * again on the next resubmission, which listeners of an at-least-once registry handle anyway.
+ * A failed write keeps the completions for the next attempt.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class EventPublicationCompletions {
+
+    private static final String COMPLETE_SQL =
+            "UPDATE event_publication SET completion_date = ? WHERE id = ? AND completion_date IS NULL";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final ReentrantLock writeLock = new ReentrantLock();
+    private final AtomicBoolean flushScheduled = new AtomicBoolean();
+    private final LongAdder completed = new LongAdder();
+    private final LongAdder batches = new LongAdder();
+    private List<Completion> pending = new ArrayList<>();
+    private ScheduledExecutorService scheduler;
+
+    @Value("${app.events.completion.batch-size:500}")
+    private int batchSize;
+
+    @Value("${app.events.completion.flush-interval:PT0.2S}")
+    private Duration flushInterval;
+
+    @PostConstruct
+    void start() {
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "event-completion-flush");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long periodMillis = flushInterval.toMillis();
+        scheduler.scheduleWithFixedDelay(this::flushQuietly, periodMillis, periodMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void stop() {
+        scheduler.shutdown();
+        try {
+            scheduler.awaitTermination(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        flushQuietly();
+    }
+
+    /**
+     * Queues the completion of a publication.
+     */
+    public void add(UUID publicationId, Instant completionDate) {
+        int size;
+        lock.lock();
+        try {
+            pending.add(new Completion(publicationId, completionDate));
+            size = pending.size();
+        } finally {
+            lock.unlock();
+        }
+        if (size >= batchSize && flushScheduled.compareAndSet(false, true)) {
+            scheduler.execute(() -> {
+                flushScheduled.set(false);
+                flushQuietly();
+            });
+        }
+    }
+
+    /**
+     * Writes every queued completion.
+     *
+     * @return the number of completions written
+     */
+    public int flush() {
+        writeLock.lock();
+        try {
+            List<Completion> batch;
+            lock.lock();
+            try {
+                if (pending.isEmpty()) {
+                    return 0;
+                }
+                batch = pending;
+                pending = new ArrayList<>();
+            } finally {
+                lock.unlock();
+            }
+            try {
+                transactionTemplate.executeWithoutResult(status -> {
+                    for (int from = 0; from < batch.size(); from += batchSize) {
+                        List<Object[]> rows = batch.subList(from, Math.min(from + batchSize, batch.size())).stream()
+                                .map(completion -> new Object[]{Timestamp.from(completion.completionDate()), completion.publicationId()})
+                                .toList();
+                        jdbcTemplate.batchUpdate(COMPLETE_SQL, rows);
+                        batches.increment();
+                    }
+                });
+            } catch (RuntimeException e) {
+                requeue(batch);
+                throw e;
+            }
+            completed.add(batch.size());
+            return batch.size();
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Completions queued and not yet written.
+     */
+    public int pending() {
+        lock.lock();
+        try {
+            return pending.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public long completedCount() {
+        return completed.sum();
+    }
+
+    public long batchCount() {
+        return batches.sum();
+    }
+
+    private void requeue(List<Completion> batch) {
+        lock.lock();
+        try {
+            batch.addAll(pending);
+            pending = batch;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void flushQuietly() {
+        try {
+            flush();
+        } catch (RuntimeException e) {
+            log.warn("Writing event publication completions failed, will retry: {}", e.getMessage());
+        }
+    }
+
+    private record Completion(UUID publicationId, Instant completionDate) {
+    }
+}
@@ -0,0 +1,87 @@
+package com.careconnect.coreapi.common.events;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Publishes the state of the event publication pipeline through Micrometer
+ * (visible under {@code /actuator/metrics/events.*}).
+ *
+ * The incomplete count and lag are read from {@code event_publication} on every scrape, using
+ * the partial index on incomplete publications; they are NaN while the database is unreachable.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class EventPublicationMetrics implements MeterBinder {
+
+    private static final String INCOMPLETE_SQL =
+            "SELECT COUNT(*) FROM event_publication WHERE completion_date IS NULL";
+    private static final String OLDEST_INCOMPLETE_SQL =
+            "SELECT MIN(publication_date) FROM event_publication WHERE completion_date IS NULL";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final EventListenerExecutor listenerExecutor;
+    private final EventPublicationCompletions completions;
+    private final EventPublicationCompaction compaction;
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("events.publication.incomplete", this, EventPublicationMetrics::incomplete)
+                .description("Event publications whose listener has not completed")
+                .register(registry);
+        Gauge.builder("events.publication.lag", this, EventPublicationMetrics::lagSeconds)
+                .baseUnit("seconds")
+                .description("Age of the oldest incomplete event publication")
+                .register(registry);
+        Gauge.builder("events.listener.queued", listenerExecutor, EventListenerExecutor::queued)
+                .description("Listener invocations waiting for a slot on the listener executor")
+                .register(registry);
+        Gauge.builder("events.listener.active", listenerExecutor, EventListenerExecutor::active)
+                .description("Listener invocations running")
+                .register(registry);
+        Gauge.builder("events.publication.completion.pending", completions, EventPublicationCompletions::pending)
+                .description("Completed publications not yet marked in the database")
+                .register(registry);
+        FunctionCounter.builder("events.publication.completed", completions, EventPublicationCompletions::completedCount)
+                .description("Publications marked completed in bulk")
+                .register(registry);
+        FunctionCounter.builder("events.publication.completion.batches", completions, EventPublicationCompletions::batchCount)
+                .description("JDBC batches written to mark publications completed")
+                .register(registry);
+        FunctionCounter.builder("events.publication.compacted", compaction, EventPublicationCompaction::compactedCount)
+                .description("Completed publications archived or deleted from event_publication")
+                .register(registry);
+    }
+
+    double incomplete() {
+        try {
+            Long count = jdbcTemplate.queryForObject(INCOMPLETE_SQL, Long.class);
+            return count != null ? count : 0;
+        } catch (DataAccessException e) {
+            log.debug("Could not count incomplete event publications: {}", e.getMessage());
+            return Double.NaN;
+        }
+    }
+
+    double lagSeconds() {
+        try {
+            Timestamp oldest = jdbcTemplate.queryForObject(OLDEST_INCOMPLETE_SQL, Timestamp.class);
+            return oldest == null ? 0 : Duration.between(oldest.toInstant(), Instant.now()).toMillis() / 1000.0;
+        } catch (DataAccessException e) {
+            log.debug("Could not read event publication lag: {}", e.getMessage());
+            return Double.NaN;
+        }
+    }
+}
@@ -0,0 +1,161 @@
+package com.careconnect.coreapi.common.events;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEvent;
+import org.springframework.context.PayloadApplicationEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.context.support.AbstractApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.modulith.events.core.EventSerializer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalApplicationListener;
+import org.springframework.util.ClassUtils;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Delivers the publications left incomplete by the previous run again, a page at a time.
+ *
+ * Spring Modulith's own resubmission ({@code spring.modulith.events.republish-outstanding-events-on-restart})
+ * loads every incomplete publication into memory at once; after an outage with a large backlog
+ * that is the slowest query the application runs and the biggest allocation it makes. Instead,
+ * once the application is ready, publications made before startup are read in pages of
+ * {@code app.events.resubmission.page-size} ordered by {@code (publication_date, id)}, each
+ * handed to its listener, and the next page is only read once the listener executor has caught
+ * up, so memory stays bounded by the page size whatever the backlog.
+ *
+ * Listeners mark their publications completed as they normally would. A publication whose
+ * listener or event class no longer exists is logged and skipped, and stays incomplete.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class IncompleteEventResubmission {
+
+    private static final String FIRST_PAGE_SQL =
+            "SELECT id, listener_id, event_type, serialized_event, publication_date FROM event_publication " +
+            "WHERE completion_date IS NULL AND publication_date < ? " +
+            "ORDER BY publication_date, id LIMIT ?";
+    private static final String NEXT_PAGE_SQL =
+            "SELECT id, listener_id, event_type, serialized_event, publication_date FROM event_publication " +
+            "WHERE completion_date IS NULL AND publication_date < ? AND (publication_date, id) > (?, ?) " +
+            "ORDER BY publication_date, id LIMIT ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final EventSerializer eventSerializer;
+    private final EventListenerExecutor listenerExecutor;
+    private final AbstractApplicationContext applicationContext;
+
+    @Value("${app.events.resubmission.enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.events.resubmission.page-size:500}")
+    private int pageSize;
+
+    @EventListener(ApplicationReadyEvent.class)
+    void resubmitOnStartup() {
+        if (!enabled) {
+            return;
+        }
+        Instant startedAt = Instant.now();
+        Thread.ofVirtual().name("event-resubmission").start(() -> {
+            try {
+                resubmit(startedAt);
+            } catch (RuntimeException e) {
+                log.warn("Resubmitting incomplete event publications failed: {}", e.getMessage());
+            }
+        });
+    }
+
+    /**
+     * Hands every incomplete publication made before the given instant to its listener again.
+     *
+     * @return the number of publications resubmitted
+     */
+    public int resubmit(Instant publishedBefore) {
+        Map<String, TransactionalApplicationListener<ApplicationEvent>> listeners = applicationContext
+                .getApplicationListeners().stream()
+                .filter(TransactionalApplicationListener.class::isInstance)
+                .map(IncompleteEventResubmission::transactional)
+                .collect(Collectors.toMap(TransactionalApplicationListener::getListenerId, Function.identity(),
+                        (first, second) -> first));
+        Timestamp before = Timestamp.from(publishedBefore);
+        int resubmitted = 0;
+        int skipped = 0;
+        List<Publication> page = jdbcTemplate.query(FIRST_PAGE_SQL, Publication.MAPPER, before, pageSize);
+        while (!page.isEmpty()) {
+            for (Publication publication : page) {
+                if (resubmit(publication, listeners.get(publication.listenerId()))) {
+                    resubmitted++;
+                } else {
+                    skipped++;
+                }
+            }
+            if (page.size() < pageSize) {
+                break;
+            }
+            awaitListeners();
+            Publication last = page.get(page.size() - 1);
+            page = jdbcTemplate.query(NEXT_PAGE_SQL, Publication.MAPPER, before,
+                    Timestamp.from(last.publicationDate()), last.id(), pageSize);
+        }
+        if (resubmitted + skipped > 0) {
+            log.info("Resubmitted {} incomplete event publication(s), skipped {}", resubmitted, skipped);
+        }
+        return resubmitted;
+    }
+
+    private boolean resubmit(Publication publication, TransactionalApplicationListener<ApplicationEvent> listener) {
+        if (listener == null) {
+            log.warn("No listener {} for incomplete event publication {}", publication.listenerId(), publication.id());
+            return false;
+        }
+        try {
+            Class<?> eventType = ClassUtils.forName(publication.eventType(), applicationContext.getClassLoader());
+            Object event = eventSerializer.deserialize(publication.serializedEvent(), eventType);
+            listener.processEvent(new PayloadApplicationEvent<>(this, event));
+            return true;
+        } catch (ClassNotFoundException | RuntimeException e) {
+            log.warn("Could not resubmit event publication {}: {}", publication.id(), e.getMessage());
+            return false;
+        }
+    }
+
+    // Lets the listeners started for the last page run before reading the next one
+    private void awaitListeners() {
+        while (listenerExecutor.queued() > pageSize) {
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static TransactionalApplicationListener<ApplicationEvent> transactional(Object listener) {
+        return (TransactionalApplicationListener<ApplicationEvent>) listener;
+    }
+
+    private record Publication(UUID id, String listenerId, String eventType, String serializedEvent,
+                               Instant publicationDate) {
+
+        static final RowMapper<Publication> MAPPER = (rs, rowNum) -> new Publication(
+                rs.getObject("id", UUID.class),
+                rs.getString("listener_id"),
+                rs.getString("event_type"),
+                rs.getString("serialized_event"),
+                rs.getTimestamp("publication_date").toInstant());
+    }
+}
@@ -0,0 +1,16 @@
+package com.careconnect.coreapi.common.exceptions;
+
+/**
+ * Exception thrown when a request is valid but conflicts with the current state of a resource,
+ * e.g. a check-in at a facility that is already full.
+ */
+public class ConflictException extends CareConnectException {
+
+    public ConflictException(String message) {
+        super(message);
+    }
+
+    public ConflictException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
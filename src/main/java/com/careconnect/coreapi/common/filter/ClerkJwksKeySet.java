@@ -0,0 +1,194 @@
+package com.careconnect.coreapi.common.filter;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.PublicKey;
+import java.security.spec.RSAPublicKeySpec;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Locally held copy of the Clerk instance's JSON Web Key Set.
+ *
+ * The key set is fetched once at startup and then refreshed on a background thread, so
+ * request threads only ever read an immutable snapshot and never wait on the Clerk API
+ * for a signing key. Keys are exposed as PEM strings, the format Clerk's networkless
+ * ({@code jwtKey}) verification expects.
+ */
+public class ClerkJwksKeySet implements AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(ClerkJwksKeySet.class);
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private final URI jwksUri;
+    private final String secretKey;
+    private final Duration refreshInterval;
+    private final HttpClient httpClient;
+    private final AtomicBoolean refreshing = new AtomicBoolean(false);
+    private final ReentrantLock lifecycleLock = new ReentrantLock();
+
+    private volatile Map<String, String> pemByKid = Map.of();
+    private volatile ScheduledExecutorService scheduler;
+
+    public ClerkJwksKeySet(URI jwksUri, String secretKey, Duration refreshInterval) {
+        this.jwksUri = jwksUri;
+        this.secretKey = secretKey;
+        this.refreshInterval = refreshInterval;
+        this.httpClient = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+    }
+
+    /**
+     * Performs the initial fetch and schedules periodic refreshes.
+     * A failed initial fetch is logged; verification falls back to the Clerk API until a refresh succeeds.
+     *
+     * @param housekeeping optional task run on the same schedule, e.g. purging expired cache entries
+     */
+    public void start(Runnable housekeeping) {
+        lifecycleLock.lock();
+        try {
+            if (scheduler != null) {
+                return;
+            }
+            scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "clerk-jwks-refresh");
+                thread.setDaemon(true);
+                return thread;
+            });
+            scheduler.execute(this::refreshQuietly);
+            long periodMillis = refreshInterval.toMillis();
+            scheduler.scheduleWithFixedDelay(() -> {
+                refreshQuietly();
+                if (housekeeping != null) {
+                    housekeeping.run();
+                }
+            }, periodMillis, periodMillis, TimeUnit.MILLISECONDS);
+        } finally {
+            lifecycleLock.unlock();
+        }
+    }
+
+    /**
+     * Returns the PEM encoded public key for the given key ID, or null if it is not in the current snapshot.
+     */
+    public String findPem(String kid) {
+        if (kid == null) {
+            return null;
+        }
+        return pemByKid.get(kid);
+    }
+
+    /**
+     * Schedules an out-of-band refresh, e.g. after a token signed with an unknown key ID was seen.
+     * Concurrent requests collapse into a single fetch.
+     */
+    public void refreshAsync() {
+        ScheduledExecutorService current = scheduler;
+        if (current != null && !current.isShutdown() && !refreshing.get()) {
+            current.execute(this::refreshQuietly);
+        }
+    }
+
+    /**
+     * Fetches the key set and atomically replaces the current snapshot.
+     *
+     * @throws IOException if the key set cannot be fetched or parsed
+     */
+    public void refresh() throws IOException {
+        if (!refreshing.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            HttpRequest request = HttpRequest.newBuilder(jwksUri)
+                    .timeout(Duration.ofSeconds(10))
+                    .header("Authorization", "Bearer " + secretKey)
+                    .header("Accept", "application/json")
+                    .GET()
+                    .build();
+            HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+            if (response.statusCode() != 200) {
+                throw new IOException("JWKS endpoint returned HTTP " + response.statusCode());
+            }
+            Map<String, String> keys = parse(response.body());
+            pemByKid = keys;
+            logger.debug("Loaded {} signing keys from {}", keys.size(), jwksUri);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while fetching JWKS", e);
+        } finally {
+            refreshing.set(false);
+        }
+    }
+
+    int size() {
+        return pemByKid.size();
+    }
+
+    @Override
+    public void close() {
+        lifecycleLock.lock();
+        try {
+            if (scheduler != null) {
+                scheduler.shutdownNow();
+                scheduler = null;
+            }
+        } finally {
+            lifecycleLock.unlock();
+        }
+    }
+
+    private void refreshQuietly() {
+        try {
+            refresh();
+        } catch (Exception e) {
+            logger.warn("Unable to refresh Clerk JWKS from {}: {}", jwksUri, e.getMessage());
+        }
+    }
+
+    static Map<String, String> parse(String body) throws IOException {
+        JsonNode keys = MAPPER.readTree(body).path("keys");
+        Map<String, String> result = new HashMap<>();
+        for (JsonNode key : keys) {
+            if (!"RSA".equals(key.path("kty").asText()) || !key.hasNonNull("kid")) {
+                continue;
+            }
+            try {
+                result.put(key.get("kid").asText(), toPem(key.path("n").asText(), key.path("e").asText()));
+            } catch (GeneralSecurityException | IllegalArgumentException e) {
+                logger.warn("Skipping unusable JWK {}: {}", key.get("kid").asText(), e.getMessage());
+            }
+        }
+        return Map.copyOf(result);
+    }
+
+    static String toPem(String modulus, String exponent) throws GeneralSecurityException {
+        Base64.Decoder decoder = Base64.getUrlDecoder();
+        RSAPublicKeySpec spec = new RSAPublicKeySpec(
+                new BigInteger(1, decoder.decode(modulus)),
+                new BigInteger(1, decoder.decode(exponent)));
+        PublicKey publicKey = KeyFactory.getInstance("RSA").generatePublic(spec);
+        String body = Base64.getMimeEncoder(64, "\n".getBytes(StandardCharsets.US_ASCII))
+                .encodeToString(publicKey.getEncoded());
+        return "-----BEGIN PUBLIC KEY-----\n" + body + "\n-----END PUBLIC KEY-----";
+    }
+}
@@ -0,0 +1,167 @@
+package com.careconnect.coreapi.common.filter;
+
+import org.springframework.util.AntPathMatcher;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+
+/**
+ * Matches request paths against the configured public endpoint patterns.
+ *
+ * Patterns are compiled once into three tiers, checked cheapest first:
+ * <ul>
+ *   <li>literal paths ({@code /health}) go into a hash set for an exact lookup,</li>
+ *   <li>literal prefixes ending in {@code /**} ({@code /api/public/**}) go into a segment trie,</li>
+ *   <li>anything else ({@code /api/children/*}) is matched with {@link AntPathMatcher}.</li>
+ * </ul>
+ * Results are identical to running {@link AntPathMatcher#match} over every pattern.
+ *
+ * The compiled form is keyed on the identity of the pattern list, so when configuration is
+ * rebound with a new list the matcher recompiles on the next request.
+ */
+public class PublicEndpointMatcher {
+
+    private static final String SEPARATOR = "/";
+
+    private final Supplier<List<String>> patternSource;
+    private final AntPathMatcher antPathMatcher = new AntPathMatcher();
+    private volatile Compiled compiled;
+
+    public PublicEndpointMatcher(Supplier<List<String>> patternSource) {
+        this.patternSource = patternSource;
+    }
+
+    /**
+     * Checks whether the given path matches any public endpoint pattern.
+     *
+     * @param path the request path
+     * @return true if the path is public
+     */
+    public boolean matches(String path) {
+        if (path == null) {
+            return false;
+        }
+        Compiled current = compiled();
+        if (path.contains("//")) {
+            // AntPathMatcher collapses empty segments; rare enough to take the slow path
+            return matchesAny(current.source, path);
+        }
+        if (current.exactPaths.contains(path)) {
+            return true;
+        }
+        if (current.prefixRoot.hasChildrenOrMatchesAll() && path.startsWith(SEPARATOR) && current.prefixRoot.matchesPrefixOf(path)) {
+            return true;
+        }
+        return matchesAny(current.fallbackPatterns, path);
+    }
+
+    private boolean matchesAny(List<String> patterns, String path) {
+        if (patterns == null) {
+            return false;
+        }
+        for (String pattern : patterns) {
+            if (pattern != null && antPathMatcher.match(pattern, path)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private Compiled compiled() {
+        List<String> patterns = patternSource.get();
+        Compiled current = compiled;
+        if (current == null || current.source != patterns) {
+            current = compile(patterns);
+            compiled = current;
+        }
+        return current;
+    }
+
+    static Compiled compile(List<String> patterns) {
+        Set<String> exactPaths = new HashSet<>();
+        PrefixNode prefixRoot = new PrefixNode();
+        List<String> fallbackPatterns = new ArrayList<>();
+        if (patterns != null) {
+            for (String pattern : patterns) {
+                if (pattern == null || pattern.isEmpty()) {
+                    continue;
+                }
+                if (!isLiteral(pattern)) {
+                    String prefix = pattern.endsWith("/**") ? pattern.substring(0, pattern.length() - 3) : null;
+                    if (prefix != null && pattern.startsWith(SEPARATOR) && isLiteral(prefix)) {
+                        prefixRoot.insert(prefix);
+                    } else {
+                        fallbackPatterns.add(pattern);
+                    }
+                } else if (pattern.contains("//")) {
+                    // AntPathMatcher ignores empty segments; leave such patterns to it
+                    fallbackPatterns.add(pattern);
+                } else {
+                    exactPaths.add(pattern);
+                }
+            }
+        }
+        return new Compiled(patterns, Set.copyOf(exactPaths), prefixRoot, List.copyOf(fallbackPatterns));
+    }
+
+    private static boolean isLiteral(String pattern) {
+        return pattern.indexOf('*') < 0 && pattern.indexOf('?') < 0 && pattern.indexOf('{') < 0;
+    }
+
+    record Compiled(List<String> source, Set<String> exactPaths, PrefixNode prefixRoot, List<String> fallbackPatterns) {
+    }
+
+    /**
+     * Segment trie of {@code /**} prefixes. A node flagged {@code matchesAll} accepts the
+     * path segment sequence leading to it and anything below it.
+     */
+    static final class PrefixNode {
+        private final Map<String, PrefixNode> children = new HashMap<>();
+        private boolean matchesAll;
+
+        void insert(String prefix) {
+            PrefixNode node = this;
+            for (String segment : prefix.split(SEPARATOR)) {
+                if (!segment.isEmpty()) {
+                    node = node.children.computeIfAbsent(segment, key -> new PrefixNode());
+                }
+            }
+            node.matchesAll = true;
+        }
+
+        boolean hasChildrenOrMatchesAll() {
+            return matchesAll || !children.isEmpty();
+        }
+
+        boolean matchesPrefixOf(String path) {
+            PrefixNode node = this;
+            int start = 0;
+            int length = path.length();
+            while (true) {
+                if (node.matchesAll) {
+                    return true;
+                }
+                while (start < length && path.charAt(start) == '/') {
+                    start++;
+                }
+                if (start >= length) {
+                    return false;
+                }
+                int end = path.indexOf('/', start);
+                if (end < 0) {
+                    end = length;
+                }
+                node = node.children.get(path.substring(start, end));
+                if (node == null) {
+                    return false;
+                }
+                start = end;
+            }
+        }
+    }
+}
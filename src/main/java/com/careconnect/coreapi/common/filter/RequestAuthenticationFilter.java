@@ -6,14 +6,23 @@ import com.clerk.backend_api.helpers.security.models.MachineAuthVerificationData
 import com.clerk.backend_api.helpers.security.models.RequestState;
 import com.careconnect.coreapi.common.config.SecurityProperties;
 import com.careconnect.coreapi.common.exceptions.AuthenticationException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.servlet.FilterChain;
+import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import java.io.IOException;
+import java.net.URI;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Base64;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
@@ -21,7 +30,6 @@ import org.springframework.security.authentication.UsernamePasswordAuthenticatio
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
-import org.springframework.util.AntPathMatcher;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 @Component
@@ -29,7 +37,10 @@ public class RequestAuthenticationFilter extends OncePerRequestFilter {
 
     private final Logger logger = LoggerFactory.getLogger(RequestAuthenticationFilter.class);
     private final SecurityProperties securityProperties;
-    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+    private final PublicEndpointMatcher publicEndpointMatcher;
+
+    private static final String SESSION_COOKIE = "__session";
+    private static final ObjectMapper JWT_MAPPER = new ObjectMapper();
 
     @Value("${clerk.api.secret-key}")
     private String clerkApiSecretKey;
@@ -37,8 +48,57 @@ public class RequestAuthenticationFilter extends OncePerRequestFilter {
     @Value("${clerk.api.authorized-parties}")
     private List<String> clerkApiAuthorizedParties;
 
+    @Value("${clerk.api.jwks-url:https://api.clerk.com/v1/jwks}")
+    private String clerkJwksUrl;
+
+    @Value("${clerk.api.jwks-refresh-interval:PT10M}")
+    private Duration clerkJwksRefreshInterval;
+
+    @Value("${clerk.api.token-cache.max-size:10000}")
+    private int tokenCacheMaxSize;
+
+    @Value("${clerk.api.remote-verification.max-concurrent:32}")
+    private int remoteVerificationMaxConcurrent;
+
+    @Value("${clerk.api.remote-verification.wait:PT5S}")
+    private Duration remoteVerificationWait;
+
+    private VerifiedTokenCache tokenCache;
+    private ClerkJwksKeySet jwksKeySet;
+    // Bounds the verifications that call the Clerk API, which Tomcat's thread pool no longer does on virtual threads
+    private Semaphore remoteVerifications;
+
     public RequestAuthenticationFilter(SecurityProperties securityProperties) {
         this.securityProperties = securityProperties;
+        this.publicEndpointMatcher = new PublicEndpointMatcher(securityProperties::getPublicEndpoints);
+    }
+
+    // Called once by Spring and again by the servlet container when it registers this filter
+    @Override
+    protected void initFilterBean() {
+        if (tokenCache != null) {
+            return;
+        }
+        tokenCache = new VerifiedTokenCache(tokenCacheMaxSize);
+        remoteVerifications = new Semaphore(remoteVerificationMaxConcurrent);
+        if (securityProperties.isEnabled()) {
+            jwksKeySet = new ClerkJwksKeySet(URI.create(clerkJwksUrl), clerkApiSecretKey, clerkJwksRefreshInterval);
+            jwksKeySet.start(tokenCache::purgeExpired);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        if (jwksKeySet != null) {
+            jwksKeySet.close();
+        }
+    }
+
+    /**
+     * Exposes the verified-token cache so its hit/miss/eviction counters can be published as metrics.
+     */
+    public VerifiedTokenCache getTokenCache() {
+        return tokenCache;
     }
 
     @Override
@@ -57,17 +117,31 @@ public class RequestAuthenticationFilter extends OncePerRequestFilter {
         }
         
         try {
-            Map<String, List<String>> headers = new HashMap<>();
-            request.getHeaderNames().asIterator().forEachRemaining(headerName -> {
-                List<String> headerValues = new ArrayList<>();
-                request.getHeaders(headerName).asIterator().forEachRemaining(headerValues::add);
-                headers.put(headerName, headerValues);
-            });
+            // Repeat tokens that already passed verification skip the Clerk round-trip entirely
+            String token = extractSessionToken(request);
+            String cachedUserId = token != null ? tokenCache.get(token) : null;
+            if (cachedUserId != null) {
+                authenticate(cachedUserId);
+                filterChain.doFilter(request, response);
+                return;
+            }
 
             // authenticate with clerk API
-            RequestState state = AuthenticateRequest.authenticateRequest(headers,
-                    AuthenticateRequestOptions.Builder.withSecretKey(clerkApiSecretKey).authorizedParties(clerkApiAuthorizedParties).build()
-            );
+            String signingKey = findSigningKey(token);
+            RequestState state;
+            if (signingKey != null) {
+                state = AuthenticateRequest.authenticateRequest(copyHeaders(request), jwtKeyOptions(signingKey));
+            } else if (remoteVerifications.tryAcquire(remoteVerificationWait.toMillis(), TimeUnit.MILLISECONDS)) {
+                try {
+                    state = AuthenticateRequest.authenticateRequest(copyHeaders(request), secretKeyOptions());
+                } finally {
+                    remoteVerifications.release();
+                }
+            } else {
+                logger.warn("Too many concurrent Clerk API verifications, rejecting request");
+                sendErrorResponse(response, HttpServletResponse.SC_SERVICE_UNAVAILABLE, "Authentication service busy, retry later");
+                return;
+            }
 
             if (!state.isSignedIn()){
                 String reason = state.reason().map(r -> r.message()).orElse("Unknown authentication error");
@@ -90,18 +164,126 @@ public class RequestAuthenticationFilter extends OncePerRequestFilter {
             if (logger.isDebugEnabled()) {
                 logger.debug("Authenticated user ID: {}", userId);
             }
-            Authentication authentication = new UsernamePasswordAuthenticationToken(userId, null, new ArrayList<>());
-            SecurityContextHolder.getContext().setAuthentication(authentication);
+            tokenCache.put(token, userId, extractExpiry(token));
+            authenticate(userId);
             filterChain.doFilter(request, response);
         } catch (AuthenticationException e) {
             logger.error("Authentication error: {}", e.getMessage());
             sendErrorResponse(response, HttpServletResponse.SC_UNAUTHORIZED, e.getMessage());
+        } catch (InterruptedException e) {
+            // Interrupted while waiting for a verification slot: the token was never checked
+            Thread.currentThread().interrupt();
+            logger.warn("Interrupted while waiting for a Clerk API verification, rejecting request");
+            sendErrorResponse(response, HttpServletResponse.SC_SERVICE_UNAVAILABLE, "Authentication service busy, retry later");
         } catch (Exception e) {
             logger.error("Authentication error", e);
             sendErrorResponse(response, HttpServletResponse.SC_UNAUTHORIZED, "Unable to authenticate request: " + e.getMessage());
         }
     }
 
+    /**
+     * Copies the request headers into the multi-valued map Clerk's request authentication expects.
+     *
+     * @param request The HTTP request
+     * @return A mutable map of header name to all of its values
+     */
+    static Map<String, List<String>> copyHeaders(HttpServletRequest request) {
+        Map<String, List<String>> headers = new HashMap<>();
+        request.getHeaderNames().asIterator().forEachRemaining(headerName -> {
+            List<String> headerValues = new ArrayList<>();
+            request.getHeaders(headerName).asIterator().forEachRemaining(headerValues::add);
+            headers.put(headerName, headerValues);
+        });
+        return headers;
+    }
+
+    private void authenticate(String userId) {
+        Authentication authentication = new UsernamePasswordAuthenticationToken(userId, null, new ArrayList<>());
+        SecurityContextHolder.getContext().setAuthentication(authentication);
+    }
+
+    /**
+     * Looks up the signing key of a token in the prefetched JWKS snapshot, with which
+     * verification is networkless. When the key is unknown a key set refresh is scheduled and
+     * the caller falls back to the secret key, which makes Clerk fetch the keys itself.
+     *
+     * @param token The session token, or null if none was found on the request
+     * @return The PEM encoded key, or null if verification has to go through the Clerk API
+     */
+    private String findSigningKey(String token) {
+        if (jwksKeySet == null || token == null) {
+            return null;
+        }
+        JsonNode header = decodeJwtSegment(token, 0);
+        String kid = header != null ? header.path("kid").asText(null) : null;
+        String pem = jwksKeySet.findPem(kid);
+        if (pem == null) {
+            jwksKeySet.refreshAsync();
+        }
+        return pem;
+    }
+
+    private AuthenticateRequestOptions jwtKeyOptions(String pem) {
+        return AuthenticateRequestOptions.Builder.withJwtKey(pem).authorizedParties(clerkApiAuthorizedParties).build();
+    }
+
+    private AuthenticateRequestOptions secretKeyOptions() {
+        return AuthenticateRequestOptions.Builder.withSecretKey(clerkApiSecretKey).authorizedParties(clerkApiAuthorizedParties).build();
+    }
+
+    /**
+     * Extracts the Clerk session token from the Authorization header or the {@code __session} cookie,
+     * the same places Clerk's request authentication looks.
+     *
+     * @param request The HTTP request
+     * @return The raw token, or null if the request carries none
+     */
+    static String extractSessionToken(HttpServletRequest request) {
+        String authorization = request.getHeader("Authorization");
+        if (authorization != null && authorization.regionMatches(true, 0, "Bearer ", 0, 7)) {
+            String token = authorization.substring(7).trim();
+            return token.isEmpty() ? null : token;
+        }
+        Cookie[] cookies = request.getCookies();
+        if (cookies != null) {
+            for (Cookie cookie : cookies) {
+                if (SESSION_COOKIE.equals(cookie.getName()) && cookie.getValue() != null && !cookie.getValue().isEmpty()) {
+                    return cookie.getValue();
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Reads the {@code exp} claim of a token that has already been verified.
+     *
+     * @param token The verified token
+     * @return The expiry instant, or null if the token has no usable {@code exp} claim
+     */
+    static Instant extractExpiry(String token) {
+        if (token == null) {
+            return null;
+        }
+        JsonNode payload = decodeJwtSegment(token, 1);
+        if (payload == null || !payload.path("exp").canConvertToLong()) {
+            return null;
+        }
+        return Instant.ofEpochSecond(payload.get("exp").asLong());
+    }
+
+    private static JsonNode decodeJwtSegment(String token, int index) {
+        String[] segments = token.split("\\.");
+        if (segments.length != 3) {
+            return null;
+        }
+        try {
+            return JWT_MAPPER.readTree(Base64.getUrlDecoder().decode(segments[index]));
+        } catch (IOException | IllegalArgumentException e) {
+            return null;
+        }
+    }
+
     /**
      * Checks if the request path matches any of the configured public endpoints.
      *
@@ -109,9 +291,7 @@ public class RequestAuthenticationFilter extends OncePerRequestFilter {
      * @return true if the endpoint is public, false otherwise
      */
     private boolean isPublicEndpoint(HttpServletRequest request) {
-        String requestPath = request.getRequestURI();
-        return securityProperties.getPublicEndpoints().stream()
-                .anyMatch(pattern -> pathMatcher.match(pattern, requestPath));
+        return publicEndpointMatcher.matches(request.getRequestURI());
     }
 
     /**
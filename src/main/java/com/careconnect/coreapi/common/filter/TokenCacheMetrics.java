@@ -0,0 +1,43 @@
+package com.careconnect.coreapi.common.filter;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.stereotype.Component;
+
+/**
+ * Publishes the verified-token cache counters through Micrometer
+ * (visible under {@code /actuator/metrics/auth.token.cache.*}).
+ */
+@Component
+public class TokenCacheMetrics implements MeterBinder {
+
+    private final RequestAuthenticationFilter requestAuthenticationFilter;
+
+    public TokenCacheMetrics(RequestAuthenticationFilter requestAuthenticationFilter) {
+        this.requestAuthenticationFilter = requestAuthenticationFilter;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        VerifiedTokenCache cache = requestAuthenticationFilter.getTokenCache();
+        if (cache == null) {
+            return;
+        }
+        FunctionCounter.builder("auth.token.cache.requests", cache, VerifiedTokenCache::hitCount)
+                .tag("result", "hit")
+                .description("Authenticated requests served from the verified-token cache")
+                .register(registry);
+        FunctionCounter.builder("auth.token.cache.requests", cache, VerifiedTokenCache::missCount)
+                .tag("result", "miss")
+                .description("Authenticated requests that required full token verification")
+                .register(registry);
+        FunctionCounter.builder("auth.token.cache.evictions", cache, VerifiedTokenCache::evictionCount)
+                .description("Entries removed because they expired or the cache was full")
+                .register(registry);
+        Gauge.builder("auth.token.cache.size", cache, VerifiedTokenCache::size)
+                .description("Verified tokens currently cached")
+                .register(registry);
+    }
+}
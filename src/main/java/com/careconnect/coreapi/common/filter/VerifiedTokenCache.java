@@ -0,0 +1,128 @@
+package com.careconnect.coreapi.common.filter;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Bounded cache of session tokens that have already passed full Clerk verification.
+ *
+ * Entries map a raw token to the authenticated user ID and the token's {@code exp} claim.
+ * An entry is only served while the token is still valid; expired entries are evicted
+ * on lookup and by {@link #purgeExpired()}. When the cache is full the oldest inserted
+ * entry is evicted first, which for short-lived session tokens is also the one closest
+ * to expiry.
+ */
+public class VerifiedTokenCache {
+
+    private final Map<String, VerifiedToken> entries = new ConcurrentHashMap<>();
+    private final Queue<String> insertionOrder = new ConcurrentLinkedQueue<>();
+    private final int maxSize;
+    private final Clock clock;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    public VerifiedTokenCache(int maxSize) {
+        this(maxSize, Clock.systemUTC());
+    }
+
+    VerifiedTokenCache(int maxSize, Clock clock) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("maxSize must be positive");
+        }
+        this.maxSize = maxSize;
+        this.clock = clock;
+    }
+
+    /**
+     * Returns the user ID for a previously verified token that has not yet expired.
+     *
+     * @param token the raw session token
+     * @return the cached user ID, or null on a miss
+     */
+    public String get(String token) {
+        VerifiedToken entry = entries.get(token);
+        if (entry == null) {
+            misses.increment();
+            return null;
+        }
+        if (!entry.expiresAt().isAfter(clock.instant())) {
+            if (entries.remove(token, entry)) {
+                evictions.increment();
+            }
+            misses.increment();
+            return null;
+        }
+        hits.increment();
+        return entry.userId();
+    }
+
+    /**
+     * Records a token that has just been verified. Tokens that are already expired are ignored.
+     *
+     * @param token the raw session token
+     * @param userId the user ID extracted from the verified claims
+     * @param expiresAt the token's expiry ({@code exp} claim)
+     */
+    public void put(String token, String userId, Instant expiresAt) {
+        if (token == null || userId == null || expiresAt == null || !expiresAt.isAfter(clock.instant())) {
+            return;
+        }
+        if (entries.put(token, new VerifiedToken(userId, expiresAt)) == null) {
+            insertionOrder.add(token);
+        }
+        while (entries.size() > maxSize) {
+            String eldest = insertionOrder.poll();
+            if (eldest == null) {
+                break;
+            }
+            if (entries.remove(eldest) != null) {
+                evictions.increment();
+            }
+        }
+    }
+
+    /**
+     * Removes every expired entry. Called periodically so tokens that are never presented
+     * again do not sit in memory until capacity pressure pushes them out.
+     */
+    public void purgeExpired() {
+        Instant now = clock.instant();
+        insertionOrder.removeIf(token -> {
+            VerifiedToken entry = entries.get(token);
+            if (entry == null) {
+                return true;
+            }
+            if (!entry.expiresAt().isAfter(now) && entries.remove(token, entry)) {
+                evictions.increment();
+                return true;
+            }
+            return false;
+        });
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    public long hitCount() {
+        return hits.sum();
+    }
+
+    public long missCount() {
+        return misses.sum();
+    }
+
+    public long evictionCount() {
+        return evictions.sum();
+    }
+
+    private record VerifiedToken(String userId, Instant expiresAt) {
+    }
+}
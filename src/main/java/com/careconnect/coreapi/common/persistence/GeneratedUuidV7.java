@@ -0,0 +1,19 @@
+package com.careconnect.coreapi.common.persistence;
+
+import org.hibernate.annotations.IdGeneratorType;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Generates an entity ID with {@link com.careconnect.coreapi.common.utils.UuidV7} when it is
+ * persisted. Use in place of {@code @GeneratedValue(strategy = GenerationType.UUID)}, which
+ * produces random version 4 IDs.
+ */
+@IdGeneratorType(UuidV7Generator.class)
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.FIELD, ElementType.METHOD})
+public @interface GeneratedUuidV7 {
+}
@@ -0,0 +1,28 @@
+package com.careconnect.coreapi.common.persistence;
+
+import java.util.List;
+
+/**
+ * Hibernate second-level cache regions for reference data: rows that change a few times a year
+ * but are read on most requests. Entities name their region in {@code @Cache(region = ...)} and
+ * cached repository queries in the {@code org.hibernate.cacheRegion} hint.
+ */
+public final class ReferenceDataCache {
+
+    public static final String ALLERGIES = "reference.allergies";
+    public static final String ALLERGY_QUERIES = "reference.allergy-queries";
+    public static final String FACILITIES = "reference.facilities";
+    public static final String ADDRESSES = "reference.addresses";
+
+    /**
+     * Hibernate's region recording when each table was last written; a cached query result older
+     * than the last write to one of its tables is discarded.
+     */
+    public static final String UPDATE_TIMESTAMPS = "default-update-timestamps-region";
+
+    /** The regions holding entities and query results, all bounded and expiring alike. */
+    public static final List<String> REGIONS = List.of(ALLERGIES, ALLERGY_QUERIES, FACILITIES, ADDRESSES);
+
+    private ReferenceDataCache() {
+    }
+}
@@ -0,0 +1,33 @@
+package com.careconnect.coreapi.common.persistence;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.JCacheMetrics;
+import org.springframework.stereotype.Component;
+
+import javax.cache.Cache;
+import javax.cache.CacheManager;
+
+/**
+ * Publishes the second-level cache statistics through Micrometer, one set of meters per region
+ * tagged {@code cache=<region>}: {@code cache.gets} ({@code result=hit|miss}), {@code cache.puts},
+ * {@code cache.removals} and {@code cache.evictions}, under {@code /actuator/metrics}.
+ */
+@Component
+public class ReferenceDataCacheMetrics implements MeterBinder {
+
+    private final CacheManager referenceDataCacheManager;
+
+    public ReferenceDataCacheMetrics(CacheManager referenceDataCacheManager) {
+        this.referenceDataCacheManager = referenceDataCacheManager;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        for (String region : referenceDataCacheManager.getCacheNames()) {
+            Cache<Object, Object> cache = referenceDataCacheManager.getCache(region);
+            new JCacheMetrics<>(cache, Tags.of("cache.manager", "hibernate")).bindTo(registry);
+        }
+    }
+}
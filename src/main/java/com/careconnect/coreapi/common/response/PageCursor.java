@@ -0,0 +1,69 @@
+package com.careconnect.coreapi.common.response;
+
+import com.careconnect.coreapi.common.exceptions.BadRequestException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Position in a keyset (seek) paginated listing: the sort key and ID of the last row of the
+ * previous page. The next page is everything ordered after {@code (key, id)}, so the database
+ * seeks through an index instead of skipping OFFSET rows.
+ *
+ * Clients only ever see the encoded form, an opaque URL-safe token.
+ *
+ * @param key the sort key of the last row, in its string form
+ * @param id the ID of the last row, breaking ties between equal sort keys
+ */
+public record PageCursor(String key, UUID id) {
+
+    private static final char SEPARATOR = '\n';
+
+    // Same ceiling Spring Data applies to offset page sizes
+    private static final int MAX_PAGE_SIZE = 2000;
+
+    public PageCursor {
+        if (key == null || id == null) {
+            throw new IllegalArgumentException("Cursor key and id are required");
+        }
+    }
+
+    /**
+     * Encodes the cursor as an opaque URL-safe token.
+     */
+    public String encode() {
+        byte[] bytes = (key + SEPARATOR + id).getBytes(StandardCharsets.UTF_8);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+
+    /**
+     * Decodes a token produced by {@link #encode()}.
+     *
+     * @param token the cursor token; null or blank means the first page
+     * @return the decoded cursor, or null for the first page
+     * @throws BadRequestException if the token is malformed
+     */
+    public static PageCursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+        try {
+            String value = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = value.lastIndexOf(SEPARATOR);
+            if (separator < 0) {
+                throw new BadRequestException("Invalid pagination cursor");
+            }
+            return new PageCursor(value.substring(0, separator), UUID.fromString(value.substring(separator + 1)));
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException("Invalid pagination cursor");
+        }
+    }
+
+    /**
+     * Bounds a client supplied page size to {@code 1..2000}.
+     */
+    public static int clampSize(int size) {
+        return Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+    }
+}
@@ -1,5 +1,6 @@
 package com.careconnect.coreapi.common.response;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -36,6 +37,10 @@ import java.util.stream.Collectors;
  *     "previous": "..."
  *   }
  * }
+ *
+ * Listings can also be keyset (cursor) paginated, see {@link #ofCursor}. In that mode
+ * {@code meta.next_cursor} and {@code links.next} carry an opaque {@link PageCursor},
+ * there is no {@code last} or {@code previous} link, and the total is only counted on request.
  */
 @Data
 @NoArgsConstructor
@@ -93,6 +98,46 @@ public class PageResponse<T> {
         return new PageResponse<>(page, baseUrl);
     }
 
+    /**
+     * Create a keyset (cursor) paginated PageResponse.
+     *
+     * @param data the rows of this page
+     * @param pageSize the requested page size
+     * @param sort the fixed keyset order, e.g. {@code "lastName,asc;id,asc"}
+     * @param cursor the cursor this page was requested with, or null for the first page
+     * @param nextCursor the cursor after the last row, or null if this is the last page
+     * @param totalElements the exact total if it was counted, otherwise null ({@code -1} in the response)
+     */
+    public static <T> PageResponse<T> ofCursor(List<T> data, int pageSize, String sort,
+                                               PageCursor cursor, PageCursor nextCursor, Long totalElements) {
+        PageResponse<T> response = new PageResponse<>();
+        response.data = data;
+        response.meta = PageMetadata.builder()
+                .pageNumber(0)
+                .pageSize(pageSize)
+                .totalPages(totalElements == null ? -1 : (int) Math.ceil((double) totalElements / pageSize))
+                .totalElements(totalElements == null ? -1 : totalElements)
+                .numberOfElements(data.size())
+                .hasNext(nextCursor != null)
+                .hasPrevious(cursor != null)
+                .isFirst(cursor == null)
+                .isLast(nextCursor == null)
+                .isEmpty(data.isEmpty())
+                .sort(sort)
+                .cursor(cursor != null ? cursor.encode() : null)
+                .nextCursor(nextCursor != null ? nextCursor.encode() : null)
+                .build();
+
+        String baseUrl = response.getCurrentRequestUri();
+        Map<String, String[]> requestParams = response.getCurrentRequestParameters();
+        response.links = PageLinks.builder()
+                .self(buildCursorLink(baseUrl, cursor, pageSize, requestParams))
+                .first(buildCursorLink(baseUrl, null, pageSize, requestParams))
+                .next(nextCursor != null ? buildCursorLink(baseUrl, nextCursor, pageSize, requestParams) : null)
+                .build();
+        return response;
+    }
+
     private PageMetadata buildMetadata(Page<T> page) {
         return PageMetadata.builder()
                 .pageNumber(page.getNumber())
@@ -182,6 +227,26 @@ public class PageResponse<T> {
         return linkBuilder.toString();
     }
 
+    private static String buildCursorLink(String baseUrl, PageCursor cursor, int pageSize,
+                                          Map<String, String[]> requestParams) {
+        StringBuilder linkBuilder = new StringBuilder(baseUrl != null ? baseUrl : "");
+        linkBuilder.append("?cursor=").append(cursor != null ? cursor.encode() : "").append("&size=").append(pageSize);
+
+        if (requestParams != null) {
+            requestParams.entrySet().stream()
+                    .filter(entry -> !entry.getKey().equals("page") && !entry.getKey().equals("size")
+                            && !entry.getKey().equals("cursor"))
+                    .forEach(entry -> {
+                        String[] values = entry.getValue();
+                        if (values != null && values.length > 0 && values[0] != null && !values[0].trim().isEmpty()) {
+                            linkBuilder.append("&").append(entry.getKey()).append("=").append(values[0]);
+                        }
+                    });
+        }
+
+        return linkBuilder.toString();
+    }
+
     @Data
     @NoArgsConstructor
     @AllArgsConstructor
@@ -219,6 +284,15 @@ public class PageResponse<T> {
         
         @JsonProperty("sort")
         private String sort;
+
+        // Keyset pagination only
+        @JsonProperty("cursor")
+        @JsonInclude(JsonInclude.Include.NON_NULL)
+        private String cursor;
+
+        @JsonProperty("next_cursor")
+        @JsonInclude(JsonInclude.Include.NON_NULL)
+        private String nextCursor;
     }
 
     @Data
@@ -0,0 +1,57 @@
+package com.careconnect.coreapi.common.utils;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.stereotype.Component;
+
+/**
+ * Publishes the sanitization cache counters through Micrometer
+ * (visible under {@code /actuator/metrics/xss.sanitize.cache.*}).
+ *
+ * The policy-level cache in {@link XSSProtectionUtil} is tagged {@code cache=policy};
+ * modules with their own sanitized-record caches register them through {@link #bind}.
+ */
+@Component
+public class SanitizationCacheMetrics implements MeterBinder {
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        bind(registry, "policy", XSSProtectionUtil.cache());
+    }
+
+    /**
+     * Registers hit, miss, eviction and size meters for a sanitization cache.
+     *
+     * @param registry the meter registry
+     * @param cacheName value of the {@code cache} tag
+     * @param cache the cache to observe
+     */
+    public static void bind(MeterRegistry registry, String cacheName, WeightedLruCache<?, ?> cache) {
+        FunctionCounter.builder("xss.sanitize.cache.requests", cache, WeightedLruCache::hitCount)
+                .tags("cache", cacheName, "result", "hit")
+                .description("Sanitization lookups served from the cache")
+                .register(registry);
+        FunctionCounter.builder("xss.sanitize.cache.requests", cache, WeightedLruCache::missCount)
+                .tags("cache", cacheName, "result", "miss")
+                .description("Sanitization lookups that ran the OWASP policy")
+                .register(registry);
+        FunctionCounter.builder("xss.sanitize.cache.evictions", cache, WeightedLruCache::evictionCount)
+                .tag("cache", cacheName)
+                .description("Entries evicted to stay within the cache weight budget")
+                .register(registry);
+        Gauge.builder("xss.sanitize.cache.hit.ratio", cache, WeightedLruCache::hitRate)
+                .tag("cache", cacheName)
+                .description("Fraction of sanitization lookups served from the cache")
+                .register(registry);
+        Gauge.builder("xss.sanitize.cache.size", cache, WeightedLruCache::size)
+                .tag("cache", cacheName)
+                .description("Entries currently cached")
+                .register(registry);
+        Gauge.builder("xss.sanitize.cache.weight", cache, WeightedLruCache::weightedSize)
+                .tag("cache", cacheName)
+                .description("Total weight of cached entries")
+                .register(registry);
+    }
+}
@@ -0,0 +1,185 @@
+package com.careconnect.coreapi.common.utils;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.ToIntBiFunction;
+
+/**
+ * Small least-recently-used cache bounded by total entry weight rather than entry count.
+ *
+ * Used to memoize pure functions such as HTML sanitization, where a cached value can always
+ * be recomputed, so the loader runs outside the lock and two threads missing on the same key
+ * simply both compute it. Entries heavier than the whole budget are returned but not stored.
+ *
+ * @param <K> key type
+ * @param <V> value type
+ */
+public class WeightedLruCache<K, V> {
+
+    private final LinkedHashMap<K, Entry<V>> entries = new LinkedHashMap<>(256, 0.75f, true);
+    private final ReentrantLock lock = new ReentrantLock();
+    private final long maxWeight;
+    private final ToIntBiFunction<K, V> weigher;
+    private long totalWeight;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    /**
+     * @param maxWeight the total weight the cache may hold
+     * @param weigher computes the weight of an entry; must be non-negative and stable for the entry's lifetime
+     */
+    public WeightedLruCache(long maxWeight, ToIntBiFunction<K, V> weigher) {
+        if (maxWeight <= 0) {
+            throw new IllegalArgumentException("maxWeight must be positive");
+        }
+        this.maxWeight = maxWeight;
+        this.weigher = weigher;
+    }
+
+    /**
+     * Returns the cached value for the key, computing and caching it on a miss.
+     *
+     * @param key the cache key
+     * @param loader computes the value on a miss; a null result is returned but not cached
+     * @return the cached or computed value
+     */
+    public V get(K key, Function<? super K, ? extends V> loader) {
+        V cached = getIfPresent(key);
+        if (cached != null) {
+            return cached;
+        }
+        V value = loader.apply(key);
+        put(key, value);
+        return value;
+    }
+
+    /**
+     * Returns the cached value for the key, or null on a miss.
+     */
+    public V getIfPresent(K key) {
+        return getIfPresent(key, value -> true);
+    }
+
+    /**
+     * Returns the cached value for the key if it passes {@code current}, or null otherwise. A value
+     * that fails the check, such as an outdated version, counts as a miss.
+     */
+    public V getIfPresent(K key, Predicate<? super V> current) {
+        Entry<V> entry;
+        lock.lock();
+        try {
+            entry = entries.get(key);
+        } finally {
+            lock.unlock();
+        }
+        if (entry == null || !current.test(entry.value())) {
+            misses.increment();
+            return null;
+        }
+        hits.increment();
+        return entry.value();
+    }
+
+    /**
+     * Stores a value, evicting least recently used entries until the cache is within its weight budget.
+     */
+    public void put(K key, V value) {
+        if (key == null || value == null) {
+            return;
+        }
+        int weight = weigher.applyAsInt(key, value);
+        if (weight > maxWeight) {
+            return;
+        }
+        lock.lock();
+        try {
+            Entry<V> previous = entries.put(key, new Entry<>(value, weight));
+            if (previous != null) {
+                totalWeight -= previous.weight();
+            }
+            totalWeight += weight;
+            Iterator<Entry<V>> eldest = entries.values().iterator();
+            while (totalWeight > maxWeight && eldest.hasNext()) {
+                totalWeight -= eldest.next().weight();
+                eldest.remove();
+                evictions.increment();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void invalidate(K key) {
+        lock.lock();
+        try {
+            Entry<V> removed = entries.remove(key);
+            if (removed != null) {
+                totalWeight -= removed.weight();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void clear() {
+        lock.lock();
+        try {
+            entries.clear();
+            totalWeight = 0;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int size() {
+        lock.lock();
+        try {
+            return entries.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public long weightedSize() {
+        lock.lock();
+        try {
+            return totalWeight;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public long maxWeight() {
+        return maxWeight;
+    }
+
+    public long hitCount() {
+        return hits.sum();
+    }
+
+    public long missCount() {
+        return misses.sum();
+    }
+
+    public long evictionCount() {
+        return evictions.sum();
+    }
+
+    /**
+     * Fraction of lookups served from the cache, or 0 before the first lookup.
+     */
+    public double hitRate() {
+        long hitCount = hits.sum();
+        long total = hitCount + misses.sum();
+        return total == 0 ? 0.0 : (double) hitCount / total;
+    }
+
+    private record Entry<V>(V value, int weight) {
+    }
+}
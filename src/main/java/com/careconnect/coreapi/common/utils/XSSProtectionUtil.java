@@ -8,6 +8,14 @@ import org.springframework.stereotype.Component;
 /**
  * Utility class for sanitizing user input to prevent XSS attacks.
  * Uses OWASP Java HTML Sanitizer for safe HTML content processing.
+ *
+ * Sanitization is a pure function of the policy and the input, and the same names and
+ * contact details are sanitized on every read, so results are memoized in a shared LRU
+ * bounded by the number of characters it holds.
+ *
+ * Most input (names, gender codes, phone numbers) contains nothing the sanitizer would
+ * rewrite. Such input is detected with a single pass over its characters and returned
+ * trimmed, without running a policy or touching the cache.
  */
 public class XSSProtectionUtil {
     
@@ -24,6 +32,35 @@ public class XSSProtectionUtil {
     
     // No HTML policy - strips everything
     private static final PolicyFactory NO_HTML_POLICY = new HtmlPolicyBuilder().toFactory();
+
+    // Roughly 2M characters (~4 MB) of cached inputs and outputs
+    private static final long CACHE_MAX_CHARS = 2_000_000;
+
+    // Longer inputs (free-form notes) are rarely repeated and would crowd out short values
+    private static final int CACHE_MAX_INPUT_LENGTH = 2_048;
+
+    // Approximate per-entry overhead in chars, so many tiny entries cannot exceed the memory budget
+    private static final int CACHE_ENTRY_OVERHEAD = 48;
+
+    // ASCII characters every policy emits unchanged; the rest are encoded or stripped.
+    // '{' is excluded because "{{" and a trailing '{' are broken up to defuse template injection.
+    private static final boolean[] PLAIN_ASCII = new boolean[128];
+
+    static {
+        for (char c = 0x20; c < 0x80; c++) {
+            PLAIN_ASCII[c] = true;
+        }
+        for (char c : "\"&'+<=>@`{".toCharArray()) {
+            PLAIN_ASCII[c] = false;
+        }
+        PLAIN_ASCII['\t'] = true;
+        PLAIN_ASCII['\n'] = true;
+        PLAIN_ASCII['\r'] = true;
+    }
+
+    private static final WeightedLruCache<CacheKey, String> CACHE = new WeightedLruCache<>(
+            CACHE_MAX_CHARS,
+            (key, value) -> key.input().length() + value.length() + CACHE_ENTRY_OVERHEAD);
     
     /**
      * Sanitizes text input by removing all HTML tags.
@@ -38,7 +75,7 @@ public class XSSProtectionUtil {
         }
         
         // Use empty policy to strip all HTML content completely
-        return NO_HTML_POLICY.sanitize(input).trim();
+        return sanitize(Policy.TEXT, input);
     }
     
     /**
@@ -52,7 +89,7 @@ public class XSSProtectionUtil {
         if (input == null || input.trim().isEmpty()) {
             return input;
         }
-        return BASIC_FORMATTING_SANITIZER.sanitize(input).trim();
+        return sanitize(Policy.FORMATTED, input);
     }
     
     /**
@@ -66,6 +103,70 @@ public class XSSProtectionUtil {
         if (input == null || input.trim().isEmpty()) {
             return input;
         }
-        return TEXT_SANITIZER.sanitize(input).trim();
+        return sanitize(Policy.RICH, input);
+    }
+
+    /**
+     * Returns the shared sanitization cache, for metrics.
+     *
+     * @return the memoization cache in front of the OWASP policies
+     */
+    public static WeightedLruCache<?, String> cache() {
+        return CACHE;
+    }
+
+    /**
+     * Checks whether every policy would return the input unchanged, i.e. it has no markup,
+     * entity, control or otherwise encoded characters.
+     *
+     * @param input the input string, not null
+     * @return true if the input can be returned as-is (after trimming)
+     */
+    static boolean isPlainText(String input) {
+        for (int i = 0, length = input.length(); i < length; i++) {
+            char c = input.charAt(i);
+            if (c < 0x80) {
+                if (!PLAIN_ASCII[c]) {
+                    return false;
+                }
+            } else if (!isPlainNonAscii(c)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // The OWASP encoder numerically escapes U+1FEF, surrogates (so all supplementary
+    // characters, e.g. emoji) and U+FE60 and above; everything else outside ASCII passes.
+    private static boolean isPlainNonAscii(char c) {
+        if (c < Character.MIN_SURROGATE) {
+            return c != '\u1FEF';
+        }
+        return c > Character.MAX_SURROGATE && c < '\uFE60';
+    }
+
+    private static String sanitize(Policy policy, String input) {
+        if (isPlainText(input)) {
+            return input.trim();
+        }
+        if (input.length() > CACHE_MAX_INPUT_LENGTH) {
+            return policy.factory.sanitize(input).trim();
+        }
+        return CACHE.get(new CacheKey(policy, input), key -> key.policy().factory.sanitize(key.input()).trim());
+    }
+
+    private enum Policy {
+        TEXT(NO_HTML_POLICY),
+        FORMATTED(BASIC_FORMATTING_SANITIZER),
+        RICH(TEXT_SANITIZER);
+
+        private final PolicyFactory factory;
+
+        Policy(PolicyFactory factory) {
+            this.factory = factory;
+        }
+    }
+
+    private record CacheKey(Policy policy, String input) {
     }
 }
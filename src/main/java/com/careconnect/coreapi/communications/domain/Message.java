@@ -1,5 +1,6 @@
 package com.careconnect.coreapi.communications.domain;
 
+import com.careconnect.coreapi.common.persistence.GeneratedUuidV7;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.Setter;
@@ -11,10 +12,13 @@ import java.util.UUID;
 @Getter
 @Setter
 @Entity
-@Table(name = "messages")
+@Table(name = "messages", indexes = {
+        @Index(name = "idx_messages_recipient_created_at", columnList = "recipient_id, created_at"),
+        @Index(name = "idx_messages_sender_created_at", columnList = "sender_id, created_at")
+})
 public class Message {
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @GeneratedUuidV7
     @Column(name = "id", nullable = false, updatable = false)
     private UUID id;
 
@@ -0,0 +1,36 @@
+package com.careconnect.coreapi.communications.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * A row of {@code message_unread_counts}: how many of a user's received messages are unread, as
+ * of the last flush. Written only by {@code UnreadCounters}, with SQL that adds to the count in
+ * place, and read back by it by {@code updatedAt}.
+ */
+@Getter
+@Setter
+@Entity
+@Table(name = "message_unread_counts", indexes = {
+        @Index(name = "idx_message_unread_counts_updated_at", columnList = "updated_at")
+})
+public class MessageUnreadCount {
+
+    @Id
+    @Column(name = "user_id", nullable = false, updatable = false)
+    private UUID userId;
+
+    @Column(name = "unread", nullable = false)
+    private int unread;
+
+    @Column(name = "updated_at", nullable = false)
+    private Instant updatedAt;
+}
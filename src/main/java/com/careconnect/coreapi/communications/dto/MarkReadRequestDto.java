@@ -0,0 +1,23 @@
+package com.careconnect.coreapi.communications.dto;
+
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Messages of the recipient's inbox to mark as read; all of them when no IDs are given.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class MarkReadRequestDto {
+
+    @Size(max = 1000, message = "At most 1000 messages can be marked at once")
+    private List<UUID> messageIds;
+}
@@ -0,0 +1,12 @@
+package com.careconnect.coreapi.communications.dto;
+
+import java.util.UUID;
+
+/**
+ * Outcome of marking messages as read.
+ *
+ * @param marked messages that were unread and now are read; already read or unknown IDs are not counted
+ * @param unread the recipient's unread count afterwards
+ */
+public record MarkReadResult(UUID userId, int marked, int unread) {
+}
@@ -0,0 +1,25 @@
+package com.careconnect.coreapi.communications.dto;
+
+import com.careconnect.coreapi.communications.domain.Message;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * A message as listed in an inbox or sent folder.
+ */
+public record MessageResponseDto(
+        UUID id,
+        UUID senderId,
+        UUID recipientId,
+        String subject,
+        String content,
+        boolean read,
+        Instant createdAt) {
+
+    public static MessageResponseDto from(Message message) {
+        return new MessageResponseDto(message.getId(), message.getSenderId(), message.getRecipientId(),
+                message.getSubject(), message.getContent(), Boolean.TRUE.equals(message.getReadStatus()),
+                message.getCreatedAt());
+    }
+}
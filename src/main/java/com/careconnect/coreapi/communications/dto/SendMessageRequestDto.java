@@ -0,0 +1,34 @@
+package com.careconnect.coreapi.communications.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+/**
+ * Body of a request to send a message from one user to another.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SendMessageRequestDto {
+
+    @NotNull(message = "Sender ID is required")
+    private UUID senderId;
+
+    @NotNull(message = "Recipient ID is required")
+    private UUID recipientId;
+
+    @Size(max = 200, message = "Subject must not exceed 200 characters")
+    private String subject;
+
+    @NotBlank(message = "Content is required")
+    @Size(max = 10000, message = "Content must not exceed 10000 characters")
+    private String content;
+}
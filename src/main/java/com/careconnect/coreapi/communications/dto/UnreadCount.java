@@ -0,0 +1,9 @@
+package com.careconnect.coreapi.communications.dto;
+
+import java.util.UUID;
+
+/**
+ * How many of a user's received messages are unread.
+ */
+public record UnreadCount(UUID userId, int unread) {
+}
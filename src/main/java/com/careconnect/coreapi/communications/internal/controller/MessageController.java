@@ -0,0 +1,83 @@
+package com.careconnect.coreapi.communications.internal.controller;
+
+import com.careconnect.coreapi.common.response.ApiResponse;
+import com.careconnect.coreapi.common.response.PageCursor;
+import com.careconnect.coreapi.common.response.PageResponse;
+import com.careconnect.coreapi.communications.dto.MarkReadRequestDto;
+import com.careconnect.coreapi.communications.dto.MarkReadResult;
+import com.careconnect.coreapi.communications.dto.MessageResponseDto;
+import com.careconnect.coreapi.communications.dto.SendMessageRequestDto;
+import com.careconnect.coreapi.communications.dto.UnreadCount;
+import com.careconnect.coreapi.communications.internal.service.MessageService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.UUID;
+
+/**
+ * Messages between users. Inbox and sent folders are cursor paginated newest first: follow
+ * {@code links.next} until it is absent. The unread count is served from memory and is meant
+ * to be polled.
+ */
+@Slf4j
+@RestController
+@RequiredArgsConstructor
+public class MessageController {
+
+    private final MessageService messageService;
+
+    @PostMapping("/api/messages")
+    public ResponseEntity<ApiResponse<MessageResponseDto>> sendMessage(@Valid @RequestBody SendMessageRequestDto request) {
+        log.debug("POST /api/messages - From {} to {}", request.getSenderId(), request.getRecipientId());
+
+        MessageResponseDto message = messageService.send(request);
+        return ResponseEntity.status(HttpStatus.CREATED).body(ApiResponse.success(message, "Message sent"));
+    }
+
+    @GetMapping("/api/users/{userId}/messages/inbox")
+    public PageResponse<MessageResponseDto> getInbox(
+            @PathVariable UUID userId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        log.debug("GET /api/users/{}/messages/inbox - size={}", userId, size);
+
+        return messageService.getInbox(userId, PageCursor.decode(cursor), PageCursor.clampSize(size));
+    }
+
+    @GetMapping("/api/users/{userId}/messages/sent")
+    public PageResponse<MessageResponseDto> getSent(
+            @PathVariable UUID userId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        log.debug("GET /api/users/{}/messages/sent - size={}", userId, size);
+
+        return messageService.getSent(userId, PageCursor.decode(cursor), PageCursor.clampSize(size));
+    }
+
+    @GetMapping("/api/users/{userId}/messages/unread-count")
+    public ResponseEntity<ApiResponse<UnreadCount>> getUnreadCount(@PathVariable UUID userId) {
+        log.debug("GET /api/users/{}/messages/unread-count", userId);
+
+        UnreadCount count = messageService.getUnreadCount(userId);
+        return ResponseEntity.ok(ApiResponse.success(count, "Unread count retrieved successfully"));
+    }
+
+    @PostMapping("/api/users/{userId}/messages/read")
+    public ResponseEntity<ApiResponse<MarkReadResult>> markRead(
+            @PathVariable UUID userId,
+            @Valid @RequestBody(required = false) MarkReadRequestDto request) {
+        log.debug("POST /api/users/{}/messages/read - Marking messages as read", userId);
+
+        MarkReadResult result = messageService.markRead(userId, request == null ? null : request.getMessageIds());
+        return ResponseEntity.ok(ApiResponse.success(result, "Messages marked as read"));
+    }
+}
@@ -0,0 +1,7 @@
+/**
+ * Internal implementation for the communications module.
+ *
+ * This package contains the messaging service, its in-memory unread counters and controller.
+ * These should not be accessed directly by other modules.
+ */
+package com.careconnect.coreapi.communications.internal;
@@ -0,0 +1,74 @@
+package com.careconnect.coreapi.communications.internal.repository;
+
+import com.careconnect.coreapi.communications.domain.Message;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Inbox and sent folder pages, newest first, read through
+ * {@code idx_messages_recipient_created_at} and {@code idx_messages_sender_created_at}.
+ */
+@Repository
+public interface MessageRepository extends JpaRepository<Message, UUID> {
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    List<Message> findByRecipientIdOrderByCreatedAtDescIdDesc(UUID recipientId, Limit limit);
+
+    /**
+     * Next inbox page: the recipient's messages ordered before {@code (createdAt, id)}.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    @Query("SELECT m FROM Message m WHERE m.recipientId = :recipientId AND (m.createdAt, m.id) < (:createdAt, :id) " +
+            "ORDER BY m.createdAt DESC, m.id DESC")
+    List<Message> findInboxBefore(@Param("recipientId") UUID recipientId,
+                                  @Param("createdAt") Instant createdAt,
+                                  @Param("id") UUID id,
+                                  Limit limit);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    List<Message> findBySenderIdOrderByCreatedAtDescIdDesc(UUID senderId, Limit limit);
+
+    /**
+     * Next sent folder page: the sender's messages ordered before {@code (createdAt, id)}.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    @Query("SELECT m FROM Message m WHERE m.senderId = :senderId AND (m.createdAt, m.id) < (:createdAt, :id) " +
+            "ORDER BY m.createdAt DESC, m.id DESC")
+    List<Message> findSentBefore(@Param("senderId") UUID senderId,
+                                 @Param("createdAt") Instant createdAt,
+                                 @Param("id") UUID id,
+                                 Limit limit);
+
+    /**
+     * Marks the given unread messages of the recipient as read.
+     *
+     * @return the number of messages that were unread
+     */
+    @Modifying
+    @Query("UPDATE Message m SET m.readStatus = true, m.updatedAt = :now " +
+            "WHERE m.recipientId = :recipientId AND m.readStatus = false AND m.id IN :ids")
+    int markRead(@Param("recipientId") UUID recipientId, @Param("ids") Collection<UUID> ids,
+                 @Param("now") Instant now);
+
+    /**
+     * Marks every unread message of the recipient as read.
+     *
+     * @return the number of messages that were unread
+     */
+    @Modifying
+    @Query("UPDATE Message m SET m.readStatus = true, m.updatedAt = :now " +
+            "WHERE m.recipientId = :recipientId AND m.readStatus = false")
+    int markAllRead(@Param("recipientId") UUID recipientId, @Param("now") Instant now);
+}
@@ -0,0 +1,153 @@
+package com.careconnect.coreapi.communications.internal.service;
+
+import com.careconnect.coreapi.common.exceptions.BadRequestException;
+import com.careconnect.coreapi.common.exceptions.ResourceNotFoundException;
+import com.careconnect.coreapi.common.exceptions.ValidationException;
+import com.careconnect.coreapi.common.response.PageCursor;
+import com.careconnect.coreapi.common.response.PageResponse;
+import com.careconnect.coreapi.common.utils.XSSProtectionUtil;
+import com.careconnect.coreapi.communications.domain.Message;
+import com.careconnect.coreapi.communications.dto.MarkReadResult;
+import com.careconnect.coreapi.communications.dto.MessageResponseDto;
+import com.careconnect.coreapi.communications.dto.SendMessageRequestDto;
+import com.careconnect.coreapi.communications.dto.UnreadCount;
+import com.careconnect.coreapi.communications.internal.repository.MessageRepository;
+import com.careconnect.coreapi.user.UserService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Messages between users: sending, inbox and sent folder pages, unread counts and marking read.
+ *
+ * Folders are keyset paginated newest first by {@code (createdAt, id)}, each page a seek into
+ * the recipient's or sender's index. Unread counts come from {@link UnreadCounters}, which every
+ * send and mark-read updates once its transaction has committed; marking read is one UPDATE,
+ * whatever the number of messages.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class MessageService {
+
+    private static final String SORT = "createdAt,desc;id,desc";
+
+    private final MessageRepository messageRepository;
+    private final UnreadCounters unreadCounters;
+    private final UserService userService;
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * Sends a message and adds it to the recipient's unread count.
+     *
+     * @throws ResourceNotFoundException if the sender or recipient does not exist
+     * @throws ValidationException if they are the same user
+     */
+    public MessageResponseDto send(SendMessageRequestDto request) {
+        if (request.getSenderId().equals(request.getRecipientId())) {
+            throw new ValidationException("Sender and recipient must be different users");
+        }
+        requireUser(request.getSenderId());
+        requireUser(request.getRecipientId());
+
+        Instant now = Instant.now();
+        Message message = new Message();
+        message.setSenderId(request.getSenderId());
+        message.setRecipientId(request.getRecipientId());
+        message.setSubject(XSSProtectionUtil.sanitizeText(request.getSubject()));
+        message.setContent(XSSProtectionUtil.sanitizeFormattedText(request.getContent()));
+        message.setReadStatus(false);
+        message.setCreatedAt(now);
+        message.setUpdatedAt(now);
+        Message saved = messageRepository.save(message);
+        unreadCounters.add(saved.getRecipientId(), 1);
+        log.debug("Sent message {} from {} to {}", saved.getId(), saved.getSenderId(), saved.getRecipientId());
+        return MessageResponseDto.from(saved);
+    }
+
+    /**
+     * Messages received by the user, newest first.
+     *
+     * @param cursor position after which to continue, or null for the first page
+     */
+    public PageResponse<MessageResponseDto> getInbox(UUID userId, PageCursor cursor, int size) {
+        log.debug("Fetching inbox of {}: cursor={}, size={}", userId, cursor, size);
+
+        Limit limit = Limit.of(size + 1);
+        List<Message> rows = cursor == null
+                ? messageRepository.findByRecipientIdOrderByCreatedAtDescIdDesc(userId, limit)
+                : messageRepository.findInboxBefore(userId, parseCreatedAt(cursor), cursor.id(), limit);
+        return page(rows, size, cursor);
+    }
+
+    /**
+     * Messages sent by the user, newest first.
+     *
+     * @param cursor position after which to continue, or null for the first page
+     */
+    public PageResponse<MessageResponseDto> getSent(UUID userId, PageCursor cursor, int size) {
+        log.debug("Fetching sent messages of {}: cursor={}, size={}", userId, cursor, size);
+
+        Limit limit = Limit.of(size + 1);
+        List<Message> rows = cursor == null
+                ? messageRepository.findBySenderIdOrderByCreatedAtDescIdDesc(userId, limit)
+                : messageRepository.findSentBefore(userId, parseCreatedAt(cursor), cursor.id(), limit);
+        return page(rows, size, cursor);
+    }
+
+    /**
+     * The user's unread count, served from memory.
+     */
+    public UnreadCount getUnreadCount(UUID userId) {
+        return new UnreadCount(userId, unreadCounters.get(userId));
+    }
+
+    /**
+     * Marks messages of the user's inbox as read with a single UPDATE and takes them off the
+     * unread count. IDs of messages already read or received by someone else are ignored.
+     *
+     * @param messageIds the messages to mark, or null or empty for the whole inbox
+     */
+    public MarkReadResult markRead(UUID userId, List<UUID> messageIds) {
+        Instant now = Instant.now();
+        boolean all = messageIds == null || messageIds.isEmpty();
+        Integer marked = transactionTemplate.execute(status -> all
+                ? messageRepository.markAllRead(userId, now)
+                : messageRepository.markRead(userId, messageIds, now));
+        int unread = marked == null || marked == 0 ? unreadCounters.get(userId) : unreadCounters.add(userId, -marked);
+        log.debug("Marked {} message(s) of {} as read", marked, userId);
+        return new MarkReadResult(userId, marked == null ? 0 : marked, unread);
+    }
+
+    private PageResponse<MessageResponseDto> page(List<Message> rows, int size, PageCursor cursor) {
+        PageCursor nextCursor = null;
+        if (rows.size() > size) {
+            rows = rows.subList(0, size);
+            Message last = rows.get(size - 1);
+            nextCursor = new PageCursor(last.getCreatedAt().toString(), last.getId());
+        }
+        List<MessageResponseDto> messages = rows.stream().map(MessageResponseDto::from).toList();
+        return PageResponse.ofCursor(messages, size, SORT, cursor, nextCursor, null);
+    }
+
+    private void requireUser(UUID userId) {
+        if (userService.findUserById(userId).isEmpty()) {
+            throw new ResourceNotFoundException("User", "id", userId);
+        }
+    }
+
+    private Instant parseCreatedAt(PageCursor cursor) {
+        try {
+            return Instant.parse(cursor.key());
+        } catch (DateTimeParseException e) {
+            throw new BadRequestException("Invalid pagination cursor");
+        }
+    }
+}
@@ -0,0 +1,326 @@
+package com.careconnect.coreapi.communications.internal.service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Unread message count of every recipient, kept in memory and persisted incrementally.
+ *
+ * Sending a message adds one to its recipient's count and marking messages read subtracts them,
+ * both without touching the database: each count is the stored count plus the changes made here
+ * since. Every {@code app.messages.unread.flush-interval} a background thread adds the pending
+ * changes to {@code message_unread_counts} in one JDBC batch, with an upsert that increments the
+ * stored count in place. Reading a count is a map lookup.
+ *
+ * The counts are loaded from the table before the first change. Since several instances add to
+ * the same rows, every {@code app.messages.unread.refresh-interval} the rows updated since the
+ * last refresh are read back as the new stored counts, so changes made through other instances
+ * show up within a flush and a refresh interval. Flushes and refreshes never overlap, so a
+ * refresh always sees every change this instance has flushed.
+ *
+ * Deltas not yet flushed are lost if the process dies; {@code app.messages.unread.recount-on-startup=true}
+ * rebuilds the table from {@code messages} at the next start.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UnreadCounters {
+
+    private static final String LOAD_SQL = "SELECT user_id, unread FROM message_unread_counts WHERE unread <> 0";
+    private static final String REFRESH_SQL = "SELECT user_id, unread FROM message_unread_counts WHERE updated_at >= ?";
+    private static final String CLEAR_SQL = "DELETE FROM message_unread_counts";
+    private static final String RECOUNT_SQL = "INSERT INTO message_unread_counts (user_id, unread, updated_at) " +
+            "SELECT recipient_id, COUNT(*), ? FROM messages WHERE read_status = FALSE GROUP BY recipient_id";
+    private static final String POSTGRES_UPSERT_SQL =
+            "INSERT INTO message_unread_counts (user_id, unread, updated_at) VALUES (?, ?, ?) " +
+            "ON CONFLICT (user_id) DO UPDATE SET unread = message_unread_counts.unread + EXCLUDED.unread, " +
+            "updated_at = EXCLUDED.updated_at";
+    private static final String MERGE_SQL =
+            "MERGE INTO message_unread_counts c USING (VALUES (CAST(? AS UUID), CAST(? AS INTEGER), " +
+            "CAST(? AS TIMESTAMP))) AS d (user_id, unread, updated_at) ON c.user_id = d.user_id " +
+            "WHEN MATCHED THEN UPDATE SET unread = c.unread + d.unread, updated_at = d.updated_at " +
+            "WHEN NOT MATCHED THEN INSERT (user_id, unread, updated_at) VALUES (d.user_id, d.unread, d.updated_at)";
+    // Rows are stamped with the writing instance's clock before its transaction commits, so each
+    // refresh reads back this far before the previous one started
+    private static final Duration REFRESH_OVERLAP = Duration.ofMinutes(1);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    private final Map<UUID, Count> counts = new ConcurrentHashMap<>();
+    // Users with changes not yet added to message_unread_counts
+    private final Set<UUID> dirty = ConcurrentHashMap.newKeySet();
+
+    private final ReentrantLock loadLock = new ReentrantLock();
+    private final ReentrantLock syncLock = new ReentrantLock();
+    private volatile boolean loaded;
+    // Guarded by syncLock
+    private Instant refreshFrom;
+    private String upsertSql;
+    private ScheduledExecutorService scheduler;
+
+    @Value("${app.messages.unread.flush-interval:PT1S}")
+    private Duration flushInterval;
+
+    @Value("${app.messages.unread.refresh-interval:PT5S}")
+    private Duration refreshInterval;
+
+    @Value("${app.messages.unread.fetch-size:1000}")
+    private int fetchSize;
+
+    @Value("${app.messages.unread.recount-on-startup:false}")
+    private boolean recountOnStartup;
+
+    @PostConstruct
+    void start() {
+        boolean postgres = "PostgreSQL".equals(jdbcTemplate.execute(
+                (ConnectionCallback<String>) connection -> connection.getMetaData().getDatabaseProductName()));
+        upsertSql = postgres ? POSTGRES_UPSERT_SQL : MERGE_SQL;
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "unread-count-flush");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long periodMillis = flushInterval.toMillis();
+        scheduler.scheduleWithFixedDelay(this::flushQuietly, periodMillis, periodMillis, TimeUnit.MILLISECONDS);
+        long refreshMillis = refreshInterval.toMillis();
+        scheduler.scheduleWithFixedDelay(this::refreshQuietly, refreshMillis, refreshMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void stop() {
+        scheduler.shutdown();
+        try {
+            scheduler.awaitTermination(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        flushQuietly();
+    }
+
+    /**
+     * Loads the counts now rather than on the first request.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    void warmUp() {
+        ensureLoaded();
+    }
+
+    /**
+     * The user's unread count; zero for a user who has never received a message.
+     */
+    public int get(UUID userId) {
+        ensureLoaded();
+        Count count = counts.get(userId);
+        return count == null ? 0 : Math.max(0, count.get());
+    }
+
+    /**
+     * Changes the user's unread count by {@code delta}, which may be negative.
+     *
+     * @return the count afterwards
+     */
+    public int add(UUID userId, int delta) {
+        ensureLoaded();
+        int count = count(userId).add(delta);
+        // Marked after the change, so a flush that misses the change leaves the user dirty
+        dirty.add(userId);
+        return Math.max(0, count);
+    }
+
+    /**
+     * Adds the pending changes to {@code message_unread_counts}.
+     *
+     * @return the number of users whose stored count changed
+     */
+    public int flush() {
+        if (dirty.isEmpty()) {
+            return 0;
+        }
+        syncLock.lock();
+        try {
+            return flushPending();
+        } finally {
+            syncLock.unlock();
+        }
+    }
+
+    /**
+     * Reads back the stored counts updated since the last refresh, which include the changes
+     * made through other instances.
+     *
+     * @return the number of stored counts read
+     */
+    public int refresh() {
+        ensureLoaded();
+        syncLock.lock();
+        try {
+            Instant started = Instant.now();
+            int[] read = {0};
+            jdbcTemplate.query(REFRESH_SQL, (RowCallbackHandler) resultSet -> {
+                count(resultSet.getObject(1, UUID.class)).refreshed(resultSet.getInt(2));
+                read[0]++;
+            }, Timestamp.from(refreshFrom));
+            refreshFrom = started.minus(REFRESH_OVERLAP);
+            return read[0];
+        } finally {
+            syncLock.unlock();
+        }
+    }
+
+    private int flushPending() {
+        Timestamp now = Timestamp.from(Instant.now());
+        List<Count> flushed = new ArrayList<>(dirty.size());
+        List<Object[]> rows = new ArrayList<>(dirty.size());
+        for (UUID userId : dirty) {
+            // Cleared before the delta is read; a change made meanwhile marks the user again
+            dirty.remove(userId);
+            Count count = counts.get(userId);
+            int delta = count.pending();
+            if (delta != 0) {
+                flushed.add(count);
+                rows.add(new Object[]{userId, delta, now});
+            }
+        }
+        if (rows.isEmpty()) {
+            return 0;
+        }
+        try {
+            transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(upsertSql, rows));
+            for (int i = 0; i < rows.size(); i++) {
+                flushed.get(i).flushed((Integer) rows.get(i)[1]);
+            }
+        } catch (DataIntegrityViolationException e) {
+            // A user deleted since their count changed; write the others one by one
+            log.warn("Unread count batch of {} failed, retrying row by row: {}", rows.size(),
+                    e.getMostSpecificCause().getMessage());
+            for (int i = 0; i < rows.size(); i++) {
+                Object[] row = rows.get(i);
+                try {
+                    jdbcTemplate.update(upsertSql, row);
+                    flushed.get(i).flushed((Integer) row[1]);
+                } catch (DataIntegrityViolationException rowFailure) {
+                    log.debug("Dropping unread count change for user {}", row[0]);
+                    flushed.get(i).dropped((Integer) row[1]);
+                }
+            }
+        } catch (RuntimeException e) {
+            // Nothing was written: the changes are still pending
+            for (Object[] row : rows) {
+                dirty.add((UUID) row[0]);
+            }
+            throw e;
+        }
+        return rows.size();
+    }
+
+    private void flushQuietly() {
+        try {
+            flush();
+        } catch (RuntimeException e) {
+            log.warn("Could not persist unread counts, retrying on the next pass: {}", e.getMessage());
+        }
+    }
+
+    private void refreshQuietly() {
+        try {
+            refresh();
+        } catch (RuntimeException e) {
+            log.warn("Could not refresh unread counts, retrying on the next pass: {}", e.getMessage());
+        }
+    }
+
+    private Count count(UUID userId) {
+        return counts.computeIfAbsent(userId, id -> new Count());
+    }
+
+    private void ensureLoaded() {
+        if (loaded) {
+            return;
+        }
+        loadLock.lock();
+        try {
+            if (loaded) {
+                return;
+            }
+            if (recountOnStartup) {
+                transactionTemplate.executeWithoutResult(status -> {
+                    jdbcTemplate.update(CLEAR_SQL);
+                    jdbcTemplate.update(RECOUNT_SQL, Timestamp.from(Instant.now()));
+                });
+                log.info("Recounted unread messages from the messages table");
+            }
+            Instant started = Instant.now();
+            JdbcTemplate streamingJdbcTemplate = new JdbcTemplate(jdbcTemplate.getDataSource());
+            streamingJdbcTemplate.setFetchSize(fetchSize);
+            transactionTemplate.executeWithoutResult(status -> streamingJdbcTemplate.query(LOAD_SQL,
+                    (RowCallbackHandler) resultSet -> count(resultSet.getObject(1, UUID.class)).refreshed(resultSet.getInt(2))));
+            refreshFrom = started.minus(REFRESH_OVERLAP);
+            loaded = true;
+            log.info("Loaded unread counts for {} user(s)", counts.size());
+        } finally {
+            loadLock.unlock();
+        }
+    }
+
+    /**
+     * A user's stored count and the changes made here that are not yet part of it.
+     */
+    private static final class Count {
+        private int stored;
+        private int pending;
+
+        synchronized int get() {
+            return stored + pending;
+        }
+
+        synchronized int add(int delta) {
+            pending += delta;
+            return stored + pending;
+        }
+
+        synchronized int pending() {
+            return pending;
+        }
+
+        // The delta was added to the stored count
+        synchronized void flushed(int delta) {
+            stored += delta;
+            pending -= delta;
+        }
+
+        // The delta could not be stored and is given up
+        synchronized void dropped(int delta) {
+            pending -= delta;
+        }
+
+        synchronized void refreshed(int storedCount) {
+            stored = storedCount;
+        }
+    }
+}
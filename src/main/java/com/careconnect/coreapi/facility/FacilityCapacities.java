@@ -0,0 +1,21 @@
+package com.careconnect.coreapi.facility;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Public API for the licensed capacity of facilities, used by other modules to enforce it.
+ */
+public interface FacilityCapacities {
+
+    /**
+     * The facility's capacity, or empty if the facility does not exist.
+     */
+    Optional<FacilityCapacity> findCapacity(UUID facilityId);
+
+    /**
+     * The capacity of every facility, read from the database rather than the entity cache.
+     */
+    List<FacilityCapacity> findAllCapacities();
+}
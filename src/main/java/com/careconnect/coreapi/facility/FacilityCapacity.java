@@ -0,0 +1,11 @@
+package com.careconnect.coreapi.facility;
+
+import java.util.UUID;
+
+/**
+ * A facility's licensed capacity.
+ *
+ * @param maxCapacity the most children on site at once, or null if no limit is set
+ */
+public record FacilityCapacity(UUID facilityId, Integer maxCapacity) {
+}
@@ -10,6 +10,8 @@ import org.springframework.modulith.ApplicationModule;
  * - Facility.java (entity)
  * - Address.java (entity)
  * - FacilityService.java (interface)
+ * - FacilityCapacities.java (interface)
+ * - FacilityCapacity.java (record)
  * - FacilityInfo.java (DTO)
  * 
  * HIDDEN BY DEFAULT:
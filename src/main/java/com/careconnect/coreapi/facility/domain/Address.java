@@ -1,8 +1,12 @@
 package com.careconnect.coreapi.facility.domain;
 
+import com.careconnect.coreapi.common.persistence.GeneratedUuidV7;
+import com.careconnect.coreapi.common.persistence.ReferenceDataCache;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.DialectOverride;
 
@@ -13,9 +17,11 @@ import java.util.UUID;
 @Setter
 @Entity
 @Table(name = "addresses")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = ReferenceDataCache.ADDRESSES)
 public class Address {
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @GeneratedUuidV7
     // @ColumnDefault("gen_random_uuid()") // Commented out for H2 test compatibility
     @Column(name = "id", nullable = false, updatable = false)
     private UUID id;
@@ -1,8 +1,12 @@
 package com.careconnect.coreapi.facility.domain;
 
+import com.careconnect.coreapi.common.persistence.GeneratedUuidV7;
+import com.careconnect.coreapi.common.persistence.ReferenceDataCache;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.ColumnDefault;
 
 import java.time.Instant;
@@ -12,9 +16,11 @@ import java.util.UUID;
 @Setter
 @Entity
 @Table(name = "facilities")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = ReferenceDataCache.FACILITIES)
 public class Facility {
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @GeneratedUuidV7
     @Column(name = "id", nullable = false, updatable = false)
     private UUID id;
 
@@ -0,0 +1,31 @@
+package com.careconnect.coreapi.facility.internal;
+
+import com.careconnect.coreapi.facility.FacilityCapacities;
+import com.careconnect.coreapi.facility.FacilityCapacity;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class FacilityCapacityService implements FacilityCapacities {
+
+    private final FacilityRepository facilityRepository;
+
+    @Override
+    public Optional<FacilityCapacity> findCapacity(UUID facilityId) {
+        // By ID rather than a projection query, so it is answered from the second-level cache
+        return facilityRepository.findById(facilityId)
+                .map(facility -> new FacilityCapacity(facility.getId(), facility.getMaxCapacity()));
+    }
+
+    @Override
+    public List<FacilityCapacity> findAllCapacities() {
+        return facilityRepository.findAllCapacities();
+    }
+}
@@ -0,0 +1,17 @@
+package com.careconnect.coreapi.facility.internal;
+
+import com.careconnect.coreapi.facility.FacilityCapacity;
+import com.careconnect.coreapi.facility.domain.Facility;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface FacilityRepository extends JpaRepository<Facility, UUID> {
+
+    @Query("SELECT new com.careconnect.coreapi.facility.FacilityCapacity(f.id, f.maxCapacity) FROM Facility f")
+    List<FacilityCapacity> findAllCapacities();
+}
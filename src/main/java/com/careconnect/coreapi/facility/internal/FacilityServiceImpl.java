@@ -0,0 +1,27 @@
+package com.careconnect.coreapi.facility.internal;
+
+import com.careconnect.coreapi.facility.api.FacilityInfo;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Facility lookups for other modules, answered from the second-level cache after the first.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class FacilityServiceImpl implements FacilityService {
+
+    private final FacilityRepository facilityRepository;
+
+    @Override
+    public Optional<FacilityInfo> findFacilityById(UUID facilityId) {
+        return facilityRepository.findById(facilityId)
+                .map(facility -> new FacilityInfo(facility.getId(), facility.getName(), facility.getPhone(),
+                        facility.getLicenseNumber(), facility.getMaxCapacity()));
+    }
+}
@@ -0,0 +1,72 @@
+-- Completed publications are moved out of event_publication by EventPublicationCompaction
+CREATE INDEX IF NOT EXISTS idx_event_publication_completed ON event_publication (completion_date)
+    WHERE completion_date IS NOT NULL;
+
+-- event_publication_archive becomes a table partitioned by month of completion, so that old
+-- archived publications are dropped a partition at a time instead of deleted row by row.
+-- The partition key has to be part of the primary key.
+ALTER TABLE event_publication_archive RENAME TO event_publication_archive_unpartitioned;
+ALTER TABLE event_publication_archive_unpartitioned
+    RENAME CONSTRAINT pk_event_publication_archive TO pk_event_publication_archive_unpartitioned;
+
+CREATE TABLE event_publication_archive
+(
+    id               UUID                        NOT NULL,
+    listener_id      TEXT                        NOT NULL,
+    event_type       TEXT                        NOT NULL,
+    serialized_event TEXT                        NOT NULL,
+    publication_date TIMESTAMP WITHOUT TIME ZONE NOT NULL,
+    completion_date  TIMESTAMP WITHOUT TIME ZONE NOT NULL,
+    CONSTRAINT pk_event_publication_archive PRIMARY KEY (id, completion_date)
+) PARTITION BY RANGE (completion_date);
+
+-- Rows outside every monthly partition
+CREATE TABLE event_publication_archive_default PARTITION OF event_publication_archive DEFAULT;
+
+-- Creates the partition for the month containing the given date, named event_publication_archive_yYYYYmMM
+CREATE OR REPLACE FUNCTION create_event_publication_archive_partition(month_of DATE) RETURNS VOID AS
+$$
+DECLARE
+    from_date DATE := date_trunc('month', month_of)::DATE;
+    partition_name TEXT := format('event_publication_archive_y%sm%s', to_char(from_date, 'YYYY'), to_char(from_date, 'MM'));
+BEGIN
+    EXECUTE format('CREATE TABLE IF NOT EXISTS %I PARTITION OF event_publication_archive FOR VALUES FROM (%L) TO (%L)',
+                   partition_name, from_date, (from_date + INTERVAL '1 month')::DATE);
+END;
+$$ LANGUAGE plpgsql;
+
+-- Drops the monthly partitions that end on or before the given date; returns how many were dropped
+CREATE OR REPLACE FUNCTION drop_event_publication_archive_partitions(cutoff DATE) RETURNS INTEGER AS
+$$
+DECLARE
+    child   RECORD;
+    dropped INTEGER := 0;
+BEGIN
+    FOR child IN
+        SELECT c.relname
+        FROM pg_inherits i
+                 JOIN pg_class c ON c.oid = i.inhrelid
+        WHERE i.inhparent = 'event_publication_archive'::regclass
+          AND c.relname ~ '^event_publication_archive_y[0-9]{4}m[0-9]{2}$'
+          AND (to_date(right(c.relname, 7), 'YYYY"m"MM') + INTERVAL '1 month')::DATE <= cutoff
+    LOOP
+        EXECUTE format('DROP TABLE %I', child.relname);
+        dropped := dropped + 1;
+    END LOOP;
+    RETURN dropped;
+END;
+$$ LANGUAGE plpgsql;
+
+-- A partition for every month already archived, plus this one and the next
+SELECT create_event_publication_archive_partition(month_of::DATE)
+FROM generate_series(
+             date_trunc('month', LEAST(NOW(), COALESCE((SELECT MIN(completion_date) FROM event_publication_archive_unpartitioned), NOW()))),
+             date_trunc('month', NOW()) + INTERVAL '1 month',
+             INTERVAL '1 month') AS month_of;
+
+INSERT INTO event_publication_archive (id, listener_id, event_type, serialized_event, publication_date, completion_date)
+SELECT id, listener_id, event_type, serialized_event, publication_date, completion_date
+FROM event_publication_archive_unpartitioned
+WHERE completion_date IS NOT NULL;
+
+DROP TABLE event_publication_archive_unpartitioned;
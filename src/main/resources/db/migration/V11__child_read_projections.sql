@@ -0,0 +1,60 @@
+-- Read tables kept up to date from child management events (see childmgmt.internal.projection).
+-- Both are derived data: POST /api/children/projections/rebuild recreates them from children
+-- and child_guardians.
+
+-- One row per child, with its guardian IDs, for GET /api/children
+CREATE TABLE child_summaries
+(
+    child_id            UUID                        NOT NULL,
+    first_name          VARCHAR(100)                NOT NULL,
+    last_name           VARCHAR(100)                NOT NULL,
+    dob                 TIMESTAMP WITHOUT TIME ZONE,
+    gender              VARCHAR(10),
+    special_needs       VARCHAR(1000),
+    emergency_contact   VARCHAR(500),
+    created_at          TIMESTAMP WITHOUT TIME ZONE NOT NULL,
+    updated_at          TIMESTAMP WITHOUT TIME ZONE NOT NULL,
+    primary_guardian_id UUID,
+    guardian_ids        UUID[]                      NOT NULL,
+    projected_at        TIMESTAMP WITHOUT TIME ZONE NOT NULL,
+    CONSTRAINT pk_child_summaries PRIMARY KEY (child_id)
+);
+
+-- Keyset listing by (last_name, child_id)
+CREATE INDEX idx_child_summaries_last_name_id ON child_summaries (last_name, child_id);
+
+-- One row per guardian and child, for GET /api/guardians/{id}/children
+CREATE TABLE guardian_children
+(
+    guardian_id      UUID                        NOT NULL,
+    child_id         UUID                        NOT NULL,
+    first_name       VARCHAR(100)                NOT NULL,
+    last_name        VARCHAR(100)                NOT NULL,
+    dob              TIMESTAMP WITHOUT TIME ZONE,
+    gender           VARCHAR(10),
+    primary_guardian BOOLEAN                     NOT NULL,
+    projected_at     TIMESTAMP WITHOUT TIME ZONE NOT NULL,
+    CONSTRAINT pk_guardian_children PRIMARY KEY (guardian_id, child_id)
+);
+
+-- A guardian's children in name order; refreshing a child replaces its rows by child_id
+CREATE INDEX idx_guardian_children_guardian_last_name ON guardian_children (guardian_id, last_name, child_id);
+CREATE INDEX idx_guardian_children_child_id ON guardian_children (child_id);
+
+-- Fill both from the current data, so the read model is complete before the first event
+INSERT INTO child_summaries (child_id, first_name, last_name, dob, gender, special_needs, emergency_contact,
+                             created_at, updated_at, primary_guardian_id, guardian_ids, projected_at)
+SELECT c.id, c.first_name, c.last_name, c.dob, c.gender, c.special_needs, c.emergency_contact,
+       c.created_at, c.updated_at,
+       (SELECT cg.guardian_id FROM child_guardians cg
+        WHERE cg.child_id = c.id AND cg.primary_guardian ORDER BY cg.created_at LIMIT 1),
+       COALESCE((SELECT array_agg(cg.guardian_id ORDER BY cg.created_at) FROM child_guardians cg
+                 WHERE cg.child_id = c.id), '{}'),
+       NOW()
+FROM children c;
+
+INSERT INTO guardian_children (guardian_id, child_id, first_name, last_name, dob, gender, primary_guardian, projected_at)
+SELECT cg.guardian_id, cg.child_id, c.first_name, c.last_name, c.dob, c.gender, cg.primary_guardian, NOW()
+FROM child_guardians cg
+         JOIN children c ON c.id = cg.child_id
+ON CONFLICT (guardian_id, child_id) DO NOTHING;
@@ -0,0 +1,27 @@
+-- Per-guardian billing ledger (see billing.internal.service.BillingLedger): what each guardian
+-- has been invoiced and has paid, updated in the same transaction as every invoice and payment,
+-- so GET /api/guardians/{id}/balance is a primary key lookup. A nightly job reconciles it
+-- against billing and payments.
+CREATE TABLE guardian_balances
+(
+    guardian_id UUID                        NOT NULL,
+    invoiced    DECIMAL(65, 30) DEFAULT 0   NOT NULL,
+    paid        DECIMAL(65, 30) DEFAULT 0   NOT NULL,
+    updated_at  TIMESTAMP WITHOUT TIME ZONE NOT NULL,
+    CONSTRAINT pk_guardian_balances PRIMARY KEY (guardian_id)
+);
+
+ALTER TABLE guardian_balances
+    ADD CONSTRAINT FK_GUARDIAN_BALANCES_ON_GUARDIAN FOREIGN KEY (guardian_id) REFERENCES guardians (id) ON DELETE CASCADE;
+
+-- Payments of an invoice, for recording a payment and recomputing a guardian's total
+CREATE INDEX IF NOT EXISTS idx_payments_billing_id ON payments (billing_id);
+
+-- Fill from the current data, so every guardian with an invoice has a balance before the first write
+INSERT INTO guardian_balances (guardian_id, invoiced, paid, updated_at)
+SELECT b.guardian_id,
+       COALESCE(SUM(b.amount), 0),
+       COALESCE(SUM((SELECT SUM(p.amount) FROM payments p WHERE p.billing_id = b.id)), 0),
+       NOW()
+FROM billing b
+GROUP BY b.guardian_id;
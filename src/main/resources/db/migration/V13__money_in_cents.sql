@@ -0,0 +1,35 @@
+-- Money is stored as a whole number of cents (see billing.Money) instead of DECIMAL(65, 30):
+-- 8 bytes per amount, and sums that PostgreSQL adds as integers. The columns are renamed so
+-- that nothing still reading "amount" as a decimal silently gets a value 100 times too large.
+-- Amounts with fractions of a cent are rounded half away from zero.
+ALTER TABLE billing
+    ALTER COLUMN amount TYPE BIGINT USING ROUND(amount * 100);
+ALTER TABLE billing
+    RENAME COLUMN amount TO amount_cents;
+
+ALTER TABLE payments
+    ALTER COLUMN amount TYPE BIGINT USING ROUND(amount * 100);
+ALTER TABLE payments
+    RENAME COLUMN amount TO amount_cents;
+
+ALTER TABLE guardian_balances
+    ALTER COLUMN invoiced DROP DEFAULT,
+    ALTER COLUMN paid DROP DEFAULT;
+ALTER TABLE guardian_balances
+    ALTER COLUMN invoiced TYPE BIGINT USING ROUND(invoiced * 100),
+    ALTER COLUMN paid TYPE BIGINT USING ROUND(paid * 100);
+ALTER TABLE guardian_balances
+    ALTER COLUMN invoiced SET DEFAULT 0,
+    ALTER COLUMN paid SET DEFAULT 0;
+ALTER TABLE guardian_balances
+    RENAME COLUMN invoiced TO invoiced_cents;
+ALTER TABLE guardian_balances
+    RENAME COLUMN paid TO paid_cents;
+
+-- Recompute from the rounded invoices and payments, so the ledger matches them to the cent
+UPDATE guardian_balances gb
+SET invoiced_cents = COALESCE((SELECT SUM(b.amount_cents) FROM billing b WHERE b.guardian_id = gb.guardian_id), 0),
+    paid_cents     = COALESCE((SELECT SUM(p.amount_cents)
+                               FROM payments p
+                                        JOIN billing b ON b.id = p.billing_id
+                               WHERE b.guardian_id = gb.guardian_id), 0);
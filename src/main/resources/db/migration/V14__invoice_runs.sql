@@ -0,0 +1,48 @@
+-- Monthly invoice runs (see billing.internal.service.InvoiceRunner). A run splits the guardians
+-- into shards by ID range; each shard records the next guardian to bill, committed with every
+-- chunk of invoices, so a run interrupted by a crash resumes where each shard stopped.
+
+-- The month an invoice bills, set by invoice runs; one invoice per guardian and month
+ALTER TABLE billing ADD COLUMN IF NOT EXISTS billing_period DATE;
+CREATE UNIQUE INDEX IF NOT EXISTS uk_billing_guardian_period ON billing (guardian_id, billing_period);
+
+CREATE TABLE invoice_runs
+(
+    id             UUID                        NOT NULL,
+    billing_period DATE                        NOT NULL,
+    status         VARCHAR(20)                 NOT NULL,
+    shard_count    INTEGER                     NOT NULL,
+    last_error     TEXT,
+    started_at     TIMESTAMP WITHOUT TIME ZONE NOT NULL,
+    completed_at   TIMESTAMP WITHOUT TIME ZONE,
+    updated_at     TIMESTAMP WITHOUT TIME ZONE NOT NULL,
+    CONSTRAINT pk_invoice_runs PRIMARY KEY (id),
+    CONSTRAINT uk_invoice_runs_billing_period UNIQUE (billing_period)
+);
+
+CREATE TABLE invoice_run_shards
+(
+    id                  UUID                        NOT NULL,
+    run_id              UUID                        NOT NULL,
+    shard               INTEGER                     NOT NULL,
+    first_guardian_id   UUID                        NOT NULL,
+    last_guardian_id    UUID                        NOT NULL,
+    -- Checkpoint: the shard resumes from here; NULL once it is done
+    next_guardian_id    UUID,
+    guardians_processed INTEGER DEFAULT 0           NOT NULL,
+    invoices_created    INTEGER DEFAULT 0           NOT NULL,
+    amount_cents        BIGINT  DEFAULT 0           NOT NULL,
+    completed_at        TIMESTAMP WITHOUT TIME ZONE,
+    updated_at          TIMESTAMP WITHOUT TIME ZONE NOT NULL,
+    CONSTRAINT pk_invoice_run_shards PRIMARY KEY (id),
+    CONSTRAINT uk_invoice_run_shards_run_shard UNIQUE (run_id, shard)
+);
+
+ALTER TABLE invoice_run_shards
+    ADD CONSTRAINT FK_INVOICE_RUN_SHARDS_ON_RUN FOREIGN KEY (run_id) REFERENCES invoice_runs (id) ON DELETE CASCADE;
+
+-- Primary guardians in ID order, walked a chunk at a time by each shard
+CREATE INDEX IF NOT EXISTS idx_child_guardians_primary_guardian ON child_guardians (guardian_id, child_id) WHERE primary_guardian;
+
+-- A child's enrollments, joined for every billed child
+CREATE INDEX IF NOT EXISTS idx_enrollments_child_id ON enrollments (child_id);
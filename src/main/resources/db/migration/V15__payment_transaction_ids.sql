@@ -0,0 +1,15 @@
+-- Payment processors retry webhooks, so POST /api/payments identifies a payment by its
+-- processor transaction ID (see billing.internal.service.PaymentIngestion) and the index below
+-- keeps a transaction from being recorded twice.
+
+-- Transactions recorded more than once before the index existed: the first payment keeps the ID,
+-- the others get their own payment ID appended so they can be reviewed rather than dropped
+UPDATE payments p
+SET transaction_id = p.transaction_id || ':' || p.id
+WHERE p.transaction_id IS NOT NULL
+  AND EXISTS (SELECT 1
+              FROM payments o
+              WHERE o.transaction_id = p.transaction_id
+                AND (o.created_at < p.created_at OR (o.created_at = p.created_at AND o.id < p.id)));
+
+CREATE UNIQUE INDEX IF NOT EXISTS uk_payments_transaction_id ON payments (transaction_id);
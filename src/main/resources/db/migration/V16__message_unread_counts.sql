@@ -0,0 +1,27 @@
+-- Per-recipient unread message counts (see communications.internal.service.UnreadCounters). The
+-- counts are kept in memory and the changes since the last flush are added to this table every
+-- second, so the unread badge never counts messages.
+CREATE TABLE message_unread_counts
+(
+    user_id    UUID                        NOT NULL,
+    unread     INTEGER DEFAULT 0           NOT NULL,
+    updated_at TIMESTAMP WITHOUT TIME ZONE NOT NULL,
+    CONSTRAINT pk_message_unread_counts PRIMARY KEY (user_id)
+);
+
+ALTER TABLE message_unread_counts
+    ADD CONSTRAINT FK_MESSAGE_UNREAD_COUNTS_ON_USER FOREIGN KEY (user_id) REFERENCES users (id) ON DELETE CASCADE;
+
+-- Fill from the current messages, through idx_messages_recipient_unread
+INSERT INTO message_unread_counts (user_id, unread, updated_at)
+SELECT recipient_id, COUNT(*), NOW()
+FROM messages
+WHERE NOT read_status
+GROUP BY recipient_id;
+
+-- A sender's sent messages, newest first; the inbox uses idx_messages_recipient_created_at (V7)
+CREATE INDEX IF NOT EXISTS idx_messages_sender_created_at ON messages (sender_id, created_at);
+
+-- UnreadCounters.refresh reads back the counts updated since its last pass, which other
+-- instances may have changed, every few seconds
+CREATE INDEX IF NOT EXISTS idx_message_unread_counts_updated_at ON message_unread_counts (updated_at);
@@ -0,0 +1,4 @@
+-- Keyset (cursor) pagination seeks on these column pairs instead of scanning OFFSET rows
+CREATE INDEX IF NOT EXISTS idx_children_last_name_id ON children (last_name, id);
+
+CREATE INDEX IF NOT EXISTS idx_guardians_created_at_id ON guardians (created_at, id);
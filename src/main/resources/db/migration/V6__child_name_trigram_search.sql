@@ -0,0 +1,7 @@
+-- Child name search matches substrings and near-misses; trigram GIN indexes serve both
+-- LIKE '%q%' and the similarity operator (%) without scanning every child
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+CREATE INDEX IF NOT EXISTS idx_children_first_name_trgm ON children USING gin (lower(first_name) gin_trgm_ops);
+
+CREATE INDEX IF NOT EXISTS idx_children_last_name_trgm ON children USING gin (lower(last_name) gin_trgm_ops);
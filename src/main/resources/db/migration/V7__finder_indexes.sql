@@ -0,0 +1,64 @@
+-- V1 only created primary keys. One index per repository finder access path; the entities
+-- declare the same indexes (except partial and expression ones) so the H2 test schema matches.
+
+-- ChildGuardianRepository.findByChildId / findByChildIdAndGuardianId / existsByChildIdAndGuardianId
+-- / countByChildId, ChildRepository.findGuardianLinks and fetchGuardianLinks
+CREATE INDEX IF NOT EXISTS idx_child_guardians_child_guardian ON child_guardians (child_id, guardian_id);
+
+-- ChildGuardianRepository.findByGuardianId, ChildRepository.findByAssociatedGuardianId
+CREATE INDEX IF NOT EXISTS idx_child_guardians_guardian_id ON child_guardians (guardian_id);
+
+-- ChildGuardianRepository.findPrimaryGuardianByChildId: at most one row per child
+CREATE INDEX IF NOT EXISTS idx_child_guardians_primary ON child_guardians (child_id) WHERE primary_guardian;
+
+-- ChildAllergyRepository.findByChildId / findByChildIdAndSeverity / existsByChildIdAndAllergyId
+-- / deleteByChildIdAndAllergyId
+CREATE INDEX IF NOT EXISTS idx_child_allergies_child_allergy ON child_allergies (child_id, allergy_id);
+
+-- ChildAllergyRepository.findByAllergyId
+CREATE INDEX IF NOT EXISTS idx_child_allergies_allergy_id ON child_allergies (allergy_id);
+
+-- ChildRepository.findByGuardianId: the legacy direct guardian, unset for most children
+CREATE INDEX IF NOT EXISTS idx_children_guardian_id ON children (guardian_id) WHERE guardian_id IS NOT NULL;
+
+-- AllergyRepository.findByNameIgnoreCase compares upper(name)
+CREATE INDEX IF NOT EXISTS idx_allergies_name_upper ON allergies (upper(name));
+
+-- GuardianRepository.findByUserId / findByUserClerkUserId
+CREATE INDEX IF NOT EXISTS idx_guardians_user_id ON guardians (user_id);
+
+-- Users auto-created twice for one Clerk user before the index below existed: the first row is kept,
+-- the rows referencing the others are moved to it and the others are deleted
+CREATE TEMPORARY TABLE user_duplicates AS
+SELECT d.id AS duplicate_id,
+       (SELECT k.id
+        FROM users k
+        WHERE k.clerk_user_id = d.clerk_user_id
+        ORDER BY k.created_at, k.id
+        LIMIT 1) AS kept_id
+FROM users d
+WHERE EXISTS (SELECT 1
+              FROM users o
+              WHERE o.clerk_user_id = d.clerk_user_id
+                AND (o.created_at < d.created_at OR (o.created_at = d.created_at AND o.id < d.id)));
+
+UPDATE guardians g SET user_id = m.kept_id FROM user_duplicates m WHERE g.user_id = m.duplicate_id;
+UPDATE messages s SET sender_id = m.kept_id FROM user_duplicates m WHERE s.sender_id = m.duplicate_id;
+UPDATE messages r SET recipient_id = m.kept_id FROM user_duplicates m WHERE r.recipient_id = m.duplicate_id;
+UPDATE enrollments e SET admin_sign_off_id = m.kept_id FROM user_duplicates m WHERE e.admin_sign_off_id = m.duplicate_id;
+DELETE FROM users WHERE id IN (SELECT duplicate_id FROM user_duplicates);
+DROP TABLE user_duplicates;
+
+-- UserRepository.findByClerkUserId, on every authenticated request; a Clerk user maps to one row
+CREATE UNIQUE INDEX IF NOT EXISTS uk_users_clerk_user_id ON users (clerk_user_id);
+
+-- A child's attendance history in check-in order
+CREATE INDEX IF NOT EXISTS idx_attendance_child_check_in ON attendance (child_id, check_in);
+
+-- A guardian's bills by due date
+CREATE INDEX IF NOT EXISTS idx_billing_guardian_due_date ON billing (guardian_id, due_date);
+
+-- A recipient's inbox, newest first, and their unread count
+CREATE INDEX IF NOT EXISTS idx_messages_recipient_created_at ON messages (recipient_id, created_at);
+
+CREATE INDEX IF NOT EXISTS idx_messages_recipient_unread ON messages (recipient_id) WHERE NOT read_status;
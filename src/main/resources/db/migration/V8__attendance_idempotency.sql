@@ -0,0 +1,9 @@
+-- Attendance events are written in batches by AttendanceService. Every check-in carries the
+-- client's idempotency key, so a replayed batch (or a retried request after a restart) cannot
+-- create a second visit.
+ALTER TABLE attendance ADD COLUMN IF NOT EXISTS idempotency_key VARCHAR(100);
+
+CREATE UNIQUE INDEX IF NOT EXISTS uk_attendance_idempotency_key ON attendance (idempotency_key);
+
+-- Open visits, read to rebuild the on-site roster at startup and matched by check-out updates
+CREATE INDEX IF NOT EXISTS idx_attendance_open_visits ON attendance (facility_id, check_in) WHERE check_out IS NULL;
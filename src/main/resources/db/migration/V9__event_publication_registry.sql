@@ -0,0 +1,25 @@
+-- Columns Spring Modulith's JPA registry writes. alter_events_table.sql adds them but is not a
+-- versioned migration, so Flyway never runs it; databases where it was applied by hand are left as they are.
+ALTER TABLE event_publication ADD COLUMN IF NOT EXISTS listener_id TEXT NOT NULL DEFAULT 'unknown';
+ALTER TABLE event_publication ADD COLUMN IF NOT EXISTS event_type TEXT NOT NULL DEFAULT 'unknown';
+ALTER TABLE event_publication ADD COLUMN IF NOT EXISTS serialized_event TEXT NOT NULL DEFAULT '{}';
+ALTER TABLE event_publication ADD COLUMN IF NOT EXISTS publication_date TIMESTAMP WITHOUT TIME ZONE NOT NULL DEFAULT NOW();
+ALTER TABLE event_publication
+    ALTER COLUMN listener_id DROP DEFAULT,
+    ALTER COLUMN event_type DROP DEFAULT,
+    ALTER COLUMN serialized_event DROP DEFAULT,
+    ALTER COLUMN publication_date DROP DEFAULT;
+
+ALTER TABLE event_publication_archive ADD COLUMN IF NOT EXISTS listener_id TEXT NOT NULL DEFAULT 'unknown';
+ALTER TABLE event_publication_archive ADD COLUMN IF NOT EXISTS event_type TEXT NOT NULL DEFAULT 'unknown';
+ALTER TABLE event_publication_archive ADD COLUMN IF NOT EXISTS serialized_event TEXT NOT NULL DEFAULT '{}';
+ALTER TABLE event_publication_archive ADD COLUMN IF NOT EXISTS publication_date TIMESTAMP WITHOUT TIME ZONE NOT NULL DEFAULT NOW();
+ALTER TABLE event_publication_archive
+    ALTER COLUMN listener_id DROP DEFAULT,
+    ALTER COLUMN event_type DROP DEFAULT,
+    ALTER COLUMN serialized_event DROP DEFAULT,
+    ALTER COLUMN publication_date DROP DEFAULT;
+
+-- Incomplete publications, read by the resubmission at startup and by the events.publication.* metrics
+CREATE INDEX IF NOT EXISTS idx_event_publication_incomplete ON event_publication (publication_date)
+    WHERE completion_date IS NULL;
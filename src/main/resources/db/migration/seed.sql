@@ -153,10 +153,10 @@ FROM children c
 WHERE c.first_name = 'Liam' AND cg.primary_guardian = TRUE;
 
 -- Seed billing records
-INSERT INTO billing (guardian_id, amount, due_date, status, description, updated_at)
+INSERT INTO billing (guardian_id, amount_cents, due_date, status, description, updated_at)
 SELECT
     id,
-    500.00,
+    50000,
     NOW() + INTERVAL '15 days',
     'Pending',
     'Monthly childcare fee - January',
@@ -164,10 +164,10 @@ SELECT
 FROM guardians
 LIMIT 1;
 
-INSERT INTO billing (guardian_id, amount, due_date, status, description, updated_at)
+INSERT INTO billing (guardian_id, amount_cents, due_date, status, description, updated_at)
 SELECT
     id,
-    450.00,
+    45000,
     NOW() + INTERVAL '15 days',
     'Pending',
     'Monthly childcare fee - January',
@@ -177,10 +177,10 @@ ORDER BY id
 LIMIT 1 OFFSET 1;
 
 -- Seed payments
-INSERT INTO payments (billing_id, amount, payment_date, payment_method, transaction_id, updated_at)
+INSERT INTO payments (billing_id, amount_cents, payment_date, payment_method, transaction_id, updated_at)
 SELECT
     id,
-    250.00,
+    25000,
     NOW() - INTERVAL '5 days',
     'Credit Card',
     'TXN-123456',
@@ -188,6 +188,15 @@ SELECT
 FROM billing
 LIMIT 1;
 
+-- Guardian balances for the billing and payments above
+INSERT INTO guardian_balances (guardian_id, invoiced_cents, paid_cents, updated_at)
+SELECT b.guardian_id,
+       SUM(b.amount_cents),
+       COALESCE(SUM((SELECT SUM(p.amount_cents) FROM payments p WHERE p.billing_id = b.id)), 0),
+       NOW()
+FROM billing b
+GROUP BY b.guardian_id;
+
 -- Seed messages
 INSERT INTO messages (sender_id, recipient_id, subject, content, read_status, updated_at)
 SELECT
@@ -0,0 +1,57 @@
+package com.careconnect.coreapi.attendance.internal.service;
+
+import com.careconnect.coreapi.attendance.dto.AttendanceEventResult;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AttendanceEventBufferTest {
+
+    private final AttendanceEventBuffer buffer = new AttendanceEventBuffer(3);
+
+    @Test
+    void offer_RejectsWhenFull() {
+        assertThat(buffer.offer(event("a"))).isTrue();
+        assertThat(buffer.offer(event("b"))).isTrue();
+        assertThat(buffer.offer(event("c"))).isTrue();
+
+        assertThat(buffer.isFull()).isTrue();
+        assertThat(buffer.offer(event("d"))).isFalse();
+        assertThat(buffer.size()).isEqualTo(3);
+    }
+
+    @Test
+    void drainTo_KeepsOrderAcrossWrapAround() {
+        buffer.offer(event("a"));
+        buffer.offer(event("b"));
+        buffer.drainTo(new ArrayList<>());
+        buffer.offer(event("c"));
+        buffer.offer(event("d"));
+        buffer.offer(event("e"));
+
+        List<AttendanceEvent> drained = new ArrayList<>();
+        int count = buffer.drainTo(drained);
+
+        assertThat(count).isEqualTo(3);
+        assertThat(drained).extracting(AttendanceEvent::idempotencyKey).containsExactly("c", "d", "e");
+        assertThat(buffer.size()).isZero();
+        assertThat(buffer.offer(event("f"))).isTrue();
+    }
+
+    @Test
+    void constructor_RejectsNonPositiveCapacity() {
+        assertThatThrownBy(() -> new AttendanceEventBuffer(0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static AttendanceEvent event(String key) {
+        return new AttendanceEvent(AttendanceEventResult.Type.CHECK_IN, UUID.randomUUID(), UUID.randomUUID(),
+                Instant.now(), key, null);
+    }
+}
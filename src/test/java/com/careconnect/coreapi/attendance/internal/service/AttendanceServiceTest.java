@@ -0,0 +1,347 @@
+package com.careconnect.coreapi.attendance.internal.service;
+
+import com.careconnect.coreapi.attendance.dto.AttendanceEventRequestDto;
+import com.careconnect.coreapi.attendance.dto.AttendanceEventResult;
+import com.careconnect.coreapi.attendance.dto.FacilityOccupancy;
+import com.careconnect.coreapi.attendance.dto.RosterEntry;
+import com.careconnect.coreapi.common.exceptions.ConflictException;
+import com.careconnect.coreapi.common.exceptions.DuplicateResourceException;
+import com.careconnect.coreapi.common.exceptions.ResourceNotFoundException;
+import com.careconnect.coreapi.common.exceptions.ValidationException;
+import com.careconnect.coreapi.facility.FacilityCapacities;
+import com.careconnect.coreapi.facility.internal.FacilityCapacityService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.autoconfigure.jdbc.JdbcTemplateAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Runs against H2 outside a test transaction, since every flush commits on its own. The flush
+ * interval is an hour, so events reach the table only when a test flushes or a buffer fills.
+ */
+@DataJpaTest(properties = {"app.attendance.flush-interval=PT1H", "app.attendance.buffer-capacity=4"})
+@ActiveProfiles("test")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({AttendanceService.class, AttendanceWriter.class, OccupancyTracker.class, FacilityCapacityService.class,
+        RosterStreamBus.class})
+@ImportAutoConfiguration({JdbcTemplateAutoConfiguration.class, JacksonAutoConfiguration.class})
+class AttendanceServiceTest {
+
+    private static final Instant NINE = Instant.parse("2024-09-02T09:00:00Z");
+
+    @Autowired
+    private AttendanceService attendanceService;
+
+    @Autowired
+    private AttendanceWriter attendanceWriter;
+
+    @Autowired
+    private FacilityCapacities facilityCapacities;
+
+    @Autowired
+    private OccupancyTracker occupancyTracker;
+
+    @Autowired
+    private RosterStreamBus rosterStreamBus;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final UUID facilityId = UUID.randomUUID();
+    private final List<UUID> children = new CopyOnWriteArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        insertFacility(facilityId, null);
+    }
+
+    @AfterEach
+    void tearDown() {
+        attendanceService.flush();
+        jdbcTemplate.update("DELETE FROM attendance");
+        jdbcTemplate.update("DELETE FROM facilities");
+        children.forEach(childId -> jdbcTemplate.update("DELETE FROM children WHERE id = ?", childId));
+    }
+
+    @Test
+    void checkIn_IsOnRosterBeforeItIsWritten() {
+        UUID childId = insertChild();
+
+        AttendanceEventResult result = attendanceService.checkIn(request(childId, NINE), "key-1");
+
+        assertThat(result.status()).isEqualTo(AttendanceEventResult.Status.ACCEPTED);
+        assertThat(attendanceService.getRoster(facilityId)).containsExactly(new RosterEntry(childId, NINE));
+        assertThat(rows()).isEmpty();
+
+        assertThat(attendanceService.flush()).isEqualTo(1);
+        assertThat(rows()).singleElement().satisfies(row -> {
+            assertThat(row.get("child_id")).isEqualTo(childId);
+            assertThat(row.get("status")).isEqualTo(AttendanceWriter.CHECKED_IN);
+            assertThat(row.get("idempotency_key")).isEqualTo("key-1");
+        });
+    }
+
+    @Test
+    void checkIn_ReplayedKeyIsDuplicateAndWrittenOnce() {
+        UUID childId = insertChild();
+        attendanceService.checkIn(request(childId, NINE), "key-1");
+
+        AttendanceEventResult replay = attendanceService.checkIn(request(childId, NINE), "key-1");
+        attendanceService.flush();
+
+        assertThat(replay.status()).isEqualTo(AttendanceEventResult.Status.DUPLICATE);
+        assertThat(rows()).hasSize(1);
+    }
+
+    @Test
+    void checkIn_RejectsChildAlreadyOnSite() {
+        UUID childId = insertChild();
+        attendanceService.checkIn(request(childId, NINE), "key-1");
+
+        assertThatThrownBy(() -> attendanceService.checkIn(request(childId, NINE), "key-2"))
+                .isInstanceOf(DuplicateResourceException.class);
+        AttendanceEventRequestDto elsewhere = request(childId, NINE);
+        elsewhere.setFacilityId(UUID.randomUUID());
+        insertFacility(elsewhere.getFacilityId(), null);
+        assertThatThrownBy(() -> attendanceService.checkIn(elsewhere, "key-3"))
+                .isInstanceOf(DuplicateResourceException.class)
+                .hasMessageStartingWith("Child is checked in at another facility");
+    }
+
+    @Test
+    void checkOut_InSameBatchIsCoalescedIntoOneRow() {
+        UUID childId = insertChild();
+        attendanceService.checkIn(request(childId, NINE), "in");
+        attendanceService.checkOut(request(childId, NINE.plus(Duration.ofHours(8))), "out");
+
+        attendanceService.flush();
+
+        assertThat(attendanceService.getRoster(facilityId)).isEmpty();
+        assertThat(rows()).singleElement().satisfies(row -> {
+            assertThat(row.get("status")).isEqualTo(AttendanceWriter.CHECKED_OUT);
+            assertThat(row.get("check_out")).isNotNull();
+        });
+    }
+
+    @Test
+    void checkOut_ClosesVisitWrittenEarlierButNotTheNextOne() {
+        UUID childId = insertChild();
+        attendanceService.checkIn(request(childId, NINE), "in-1");
+        attendanceService.flush();
+
+        attendanceService.checkOut(request(childId, NINE.plus(Duration.ofHours(3))), "out-1");
+        attendanceService.checkIn(request(childId, NINE.plus(Duration.ofHours(4))), "in-2");
+        attendanceService.flush();
+
+        assertThat(jdbcTemplate.queryForList(
+                "SELECT idempotency_key FROM attendance WHERE check_out IS NULL", String.class))
+                .containsExactly("in-2");
+        assertThat(attendanceService.getRoster(facilityId))
+                .containsExactly(new RosterEntry(childId, NINE.plus(Duration.ofHours(4))));
+    }
+
+    @Test
+    void checkOut_RejectsChildNotOnSiteAndTimeBeforeCheckIn() {
+        UUID childId = insertChild();
+
+        assertThatThrownBy(() -> attendanceService.checkOut(request(childId, NINE), "out"))
+                .isInstanceOf(ValidationException.class);
+
+        attendanceService.checkIn(request(childId, NINE), "in");
+        assertThatThrownBy(() -> attendanceService.checkOut(request(childId, NINE.minusSeconds(60)), "out"))
+                .isInstanceOf(ValidationException.class)
+                .hasMessage("Check-out cannot be before check-in");
+    }
+
+    @Test
+    void submit_WritesFullBufferBeforeQueuingMore() {
+        for (int i = 0; i < 5; i++) {
+            attendanceService.checkIn(request(insertChild(), NINE), "key-" + i);
+        }
+
+        // Capacity 4: the fifth check-in flushed the first four
+        assertThat(rows()).hasSize(4);
+        assertThat(attendanceService.getRoster(facilityId)).hasSize(5);
+    }
+
+    @Test
+    void roster_IsRebuiltFromOpenVisitsAfterRestart() {
+        UUID childId = insertChild();
+        Instant checkIn = Instant.now().minus(Duration.ofHours(1)).truncatedTo(ChronoUnit.SECONDS);
+        attendanceService.checkIn(request(childId, checkIn), "in");
+        attendanceService.flush();
+
+        AttendanceService restarted = new AttendanceService(attendanceWriter,
+                new OccupancyTracker(facilityCapacities), rosterStreamBus, jdbcTemplate);
+        ReflectionTestUtils.setField(restarted, "bufferCapacity", 4);
+        ReflectionTestUtils.setField(restarted, "idempotencyWindow", 100);
+        ReflectionTestUtils.setField(restarted, "rosterWindow", Duration.ofHours(24));
+
+        assertThat(restarted.getRoster(facilityId)).containsExactly(new RosterEntry(childId, checkIn));
+        assertThat(restarted.getOccupancy(facilityId).occupied()).isEqualTo(1);
+        assertThat(restarted.checkIn(request(childId, checkIn), "in").status())
+                .isEqualTo(AttendanceEventResult.Status.DUPLICATE);
+    }
+
+    @Test
+    void subscribeRoster_StartsFromSnapshotThenStreamsDeltas() throws Exception {
+        UUID present = insertChild();
+        UUID arriving = insertChild();
+        attendanceService.checkIn(request(present, Instant.now()), "present");
+
+        RosterSubscription subscription = attendanceService.subscribeRoster(facilityId, null);
+        attendanceService.checkIn(request(arriving, Instant.now()), "arriving");
+        attendanceService.checkOut(request(present, Instant.now()), "present-out");
+
+        RosterStreamEvent snapshot = subscription.poll(Duration.ofSeconds(1));
+        assertThat(snapshot.name()).isEqualTo("snapshot");
+        assertThat(snapshot.data()).contains(present.toString()).doesNotContain(arriving.toString());
+        RosterStreamEvent checkIn = subscription.poll(Duration.ofSeconds(1));
+        assertThat(checkIn.name()).isEqualTo("delta");
+        assertThat(checkIn.data()).contains("CHECK_IN", arriving.toString());
+        assertThat(subscription.poll(Duration.ofSeconds(1)).data()).contains("CHECK_OUT", present.toString());
+        subscription.close();
+    }
+
+    @Test
+    void checkIn_ConcurrentCheckInsNeverExceedCapacity() throws Exception {
+        setCapacity(10);
+        int threads = 32;
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger accepted = new AtomicInteger();
+        AtomicInteger refused = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                String key = "race-" + i;
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    try {
+                        attendanceService.checkIn(request(insertChild(), NINE), key);
+                        accepted.incrementAndGet();
+                    } catch (ConflictException e) {
+                        refused.incrementAndGet();
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        assertThat(accepted).hasValue(10);
+        assertThat(refused).hasValue(threads - 10);
+        assertThat(attendanceService.getOccupancy(facilityId))
+                .isEqualTo(new FacilityOccupancy(facilityId, 10, 10, 0));
+        assertThat(attendanceService.getRoster(facilityId)).hasSize(10);
+    }
+
+    @Test
+    void checkOut_FreesPlaceForNextCheckIn() {
+        setCapacity(1);
+        UUID first = insertChild();
+        attendanceService.checkIn(request(first, NINE), "first-in");
+
+        assertThatThrownBy(() -> attendanceService.checkIn(request(insertChild(), NINE), "second-in"))
+                .isInstanceOf(ConflictException.class)
+                .hasMessageStartingWith("Facility is at capacity");
+
+        attendanceService.checkOut(request(first, NINE.plus(Duration.ofHours(1))), "first-out");
+        attendanceService.checkIn(request(insertChild(), NINE.plus(Duration.ofHours(1))), "second-in");
+        assertThat(attendanceService.getOccupancy(facilityId).occupied()).isEqualTo(1);
+    }
+
+    @Test
+    void checkIn_UnknownChildIsRejectedBeforeTouchingRoster() {
+        UUID unknown = UUID.randomUUID();
+
+        assertThatThrownBy(() -> attendanceService.checkIn(request(unknown, NINE), "unknown"))
+                .isInstanceOf(ResourceNotFoundException.class);
+        assertThat(attendanceService.getRoster(facilityId)).isEmpty();
+        assertThat(attendanceService.getOccupancy(facilityId).occupied()).isZero();
+    }
+
+    @Test
+    void checkIn_UnknownFacilityIsRejected() {
+        AttendanceEventRequestDto request = request(insertChild(), NINE);
+        request.setFacilityId(UUID.randomUUID());
+
+        assertThatThrownBy(() -> attendanceService.checkIn(request, "unknown"))
+                .isInstanceOf(ResourceNotFoundException.class);
+        assertThatThrownBy(() -> attendanceService.checkOut(request, "unknown-out"))
+                .isInstanceOf(ResourceNotFoundException.class);
+        assertThatThrownBy(() -> attendanceService.getRoster(request.getFacilityId()))
+                .isInstanceOf(ResourceNotFoundException.class);
+        assertThatThrownBy(() -> attendanceService.getOccupancy(request.getFacilityId()))
+                .isInstanceOf(ResourceNotFoundException.class);
+        assertThatThrownBy(() -> attendanceService.subscribeRoster(request.getFacilityId(), null))
+                .isInstanceOf(ResourceNotFoundException.class);
+    }
+
+    // Capacities are reloaded in bulk, as the scheduled refresh would
+    private void setCapacity(int maxCapacity) {
+        jdbcTemplate.update("UPDATE facilities SET max_capacity = ? WHERE id = ?", maxCapacity, facilityId);
+        occupancyTracker.refresh();
+    }
+
+    private UUID insertChild() {
+        UUID id = UUID.randomUUID();
+        Timestamp now = Timestamp.from(Instant.now());
+        jdbcTemplate.update("INSERT INTO children (id, first_name, last_name, created_at, updated_at) " +
+                "VALUES (?, ?, ?, ?, ?)", id, "Child", "Attendance", now, now);
+        children.add(id);
+        return id;
+    }
+
+    private void insertFacility(UUID id, Integer maxCapacity) {
+        Timestamp now = Timestamp.from(Instant.now());
+        jdbcTemplate.update("INSERT INTO facilities (id, name, max_capacity, created_at, updated_at) " +
+                "VALUES (?, ?, ?, ?, ?)", id, "Facility " + id, maxCapacity, now, now);
+    }
+
+    private AttendanceEventRequestDto request(UUID childId, Instant occurredAt) {
+        return AttendanceEventRequestDto.builder()
+                .childId(childId)
+                .facilityId(facilityId)
+                .occurredAt(occurredAt)
+                .build();
+    }
+
+    private List<Map<String, Object>> rows() {
+        return jdbcTemplate.queryForList("SELECT child_id, check_out, status, idempotency_key FROM attendance " +
+                "WHERE facility_id = ?", facilityId);
+    }
+}
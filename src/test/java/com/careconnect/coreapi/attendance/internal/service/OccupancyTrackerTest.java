@@ -0,0 +1,172 @@
+package com.careconnect.coreapi.attendance.internal.service;
+
+import com.careconnect.coreapi.attendance.dto.FacilityOccupancy;
+import com.careconnect.coreapi.facility.FacilityCapacities;
+import com.careconnect.coreapi.facility.FacilityCapacity;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class OccupancyTrackerTest {
+
+    private static final UUID LIMITED = UUID.randomUUID();
+    private static final UUID UNLIMITED = UUID.randomUUID();
+
+    private final Map<UUID, FacilityCapacity> capacities = new ConcurrentHashMap<>();
+    private final OccupancyTracker tracker = new OccupancyTracker(new FacilityCapacities() {
+        @Override
+        public Optional<FacilityCapacity> findCapacity(UUID facilityId) {
+            return Optional.ofNullable(capacities.get(facilityId));
+        }
+
+        @Override
+        public List<FacilityCapacity> findAllCapacities() {
+            return List.copyOf(capacities.values());
+        }
+    });
+
+    @BeforeEach
+    void setUp() {
+        capacities.put(LIMITED, new FacilityCapacity(LIMITED, 100));
+        capacities.put(UNLIMITED, new FacilityCapacity(UNLIMITED, null));
+        tracker.refresh();
+    }
+
+    @Test
+    void tryEnter_ConcurrentEntriesStopExactlyAtCapacity() throws Exception {
+        int threads = 64;
+        AtomicInteger entered = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < 10; i++) {
+                        if (tracker.tryEnter(LIMITED)) {
+                            entered.incrementAndGet();
+                        }
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        assertThat(entered).hasValue(100);
+        assertThat(tracker.getOccupancy(LIMITED)).contains(new FacilityOccupancy(LIMITED, 100, 100, 0));
+    }
+
+    @Test
+    void tryEnter_ConcurrentEntriesAndLeavesBalance() throws Exception {
+        int threads = 16;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < 10_000; i++) {
+                        if (tracker.tryEnter(LIMITED)) {
+                            tracker.leave(LIMITED);
+                        }
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        assertThat(tracker.getOccupancy(LIMITED).orElseThrow().occupied()).isZero();
+    }
+
+    @Test
+    void leave_NeverGoesBelowZero() {
+        tracker.leave(LIMITED);
+
+        assertThat(tracker.getOccupancy(LIMITED).orElseThrow().occupied()).isZero();
+        assertThat(tracker.tryEnter(LIMITED)).isTrue();
+        assertThat(tracker.getOccupancy(LIMITED).orElseThrow().occupied()).isEqualTo(1);
+    }
+
+    @Test
+    void rebuild_AboveCapacityRefusesUntilBelow() {
+        tracker.rebuild(LIMITED, 101);
+
+        assertThat(tracker.tryEnter(LIMITED)).isFalse();
+        tracker.leave(LIMITED);
+        tracker.leave(LIMITED);
+        assertThat(tracker.tryEnter(LIMITED)).isTrue();
+        assertThat(tracker.getOccupancy(LIMITED).orElseThrow().available()).isZero();
+    }
+
+    @Test
+    void getOccupancy_WithoutCapacityHasNoLimit() {
+        tracker.tryEnter(UNLIMITED);
+
+        assertThat(tracker.getOccupancy(UNLIMITED)).contains(new FacilityOccupancy(UNLIMITED, 1, null, null));
+    }
+
+    @Test
+    void tryEnter_UnknownFacilityIsRefusedAndNotTracked() {
+        UUID unknown = UUID.randomUUID();
+
+        assertThat(tracker.tryEnter(unknown)).isFalse();
+        assertThat(tracker.exists(unknown)).isFalse();
+        assertThat(tracker.getOccupancy(unknown)).isEmpty();
+    }
+
+    @Test
+    void exists_LooksUpFacilityCreatedSinceRefresh() {
+        UUID created = UUID.randomUUID();
+        capacities.put(created, new FacilityCapacity(created, 1));
+
+        assertThat(tracker.exists(created)).isTrue();
+        assertThat(tracker.tryEnter(created)).isTrue();
+        assertThat(tracker.tryEnter(created)).isFalse();
+    }
+
+    @Test
+    void refresh_AppliesChangedCapacityAndKeepsHeadcount() {
+        tracker.tryEnter(LIMITED);
+        tracker.tryEnter(LIMITED);
+
+        capacities.put(LIMITED, new FacilityCapacity(LIMITED, 2));
+        tracker.refresh();
+
+        assertThat(tracker.tryEnter(LIMITED)).isFalse();
+        assertThat(tracker.getOccupancy(LIMITED)).contains(new FacilityOccupancy(LIMITED, 2, 2, 0));
+    }
+
+    @Test
+    void refresh_DeletedFacilityStopsTakingCheckIns() {
+        tracker.tryEnter(LIMITED);
+
+        capacities.remove(LIMITED);
+        tracker.refresh();
+
+        assertThat(tracker.tryEnter(LIMITED)).isFalse();
+        assertThat(tracker.getOccupancy(LIMITED)).isEmpty();
+    }
+}
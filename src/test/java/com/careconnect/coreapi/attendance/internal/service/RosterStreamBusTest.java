@@ -0,0 +1,147 @@
+package com.careconnect.coreapi.attendance.internal.service;
+
+import com.careconnect.coreapi.attendance.dto.AttendanceEventResult;
+import com.careconnect.coreapi.attendance.dto.RosterEntry;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RosterStreamBusTest {
+
+    private static final UUID FACILITY = UUID.randomUUID();
+    private static final Instant NINE = Instant.parse("2024-09-02T09:00:00Z");
+
+    private RosterStreamBus bus;
+    private int snapshotsTaken;
+
+    @BeforeEach
+    void setUp() {
+        bus = new RosterStreamBus(new ObjectMapper().findAndRegisterModules());
+        ReflectionTestUtils.setField(bus, "historySize", 8);
+        ReflectionTestUtils.setField(bus, "subscriberBuffer", 4);
+    }
+
+    @Test
+    void subscribe_NewClientGetsSnapshotThenDeltas() throws Exception {
+        UUID present = UUID.randomUUID();
+        publish(1);
+
+        RosterSubscription subscription = bus.subscribe(FACILITY, null, roster(present));
+        UUID arriving = publish(1).get(0);
+
+        RosterStreamEvent snapshot = next(subscription);
+        assertThat(snapshot.name()).isEqualTo(RosterStreamBus.SNAPSHOT);
+        assertThat(snapshot.id()).endsWith(":1");
+        assertThat(snapshot.data()).contains("\"sequence\":1", present.toString());
+        RosterStreamEvent delta = next(subscription);
+        assertThat(delta.name()).isEqualTo(RosterStreamBus.DELTA);
+        assertThat(delta.id()).endsWith(":2");
+        assertThat(delta.data()).contains("\"sequence\":2", "CHECK_IN", arriving.toString());
+    }
+
+    @Test
+    void subscribe_ReconnectingClientResumesAfterLastEventId() throws Exception {
+        RosterSubscription first = bus.subscribe(FACILITY, null, roster());
+        publish(2);
+        next(first);
+        next(first);
+        String lastEventId = next(first).id();
+        first.close();
+        List<UUID> missed = publish(3);
+
+        RosterSubscription resumed = bus.subscribe(FACILITY, lastEventId, roster());
+
+        for (UUID childId : missed) {
+            RosterStreamEvent event = next(resumed);
+            assertThat(event.name()).isEqualTo(RosterStreamBus.DELTA);
+            assertThat(event.data()).contains(childId.toString());
+        }
+        assertThat(resumed.poll(Duration.ZERO)).isNull();
+        assertThat(snapshotsTaken).isEqualTo(1);
+    }
+
+    @Test
+    void subscribe_FallsBackToSnapshotWhenResumeIsNotPossible() throws Exception {
+        publish(12);
+
+        // Beyond the history, beyond the subscriber buffer, from an earlier run, and malformed
+        assertThat(next(bus.subscribe(FACILITY, eventId(2), roster())).name()).isEqualTo(RosterStreamBus.SNAPSHOT);
+        assertThat(next(bus.subscribe(FACILITY, eventId(6), roster())).name()).isEqualTo(RosterStreamBus.SNAPSHOT);
+        assertThat(next(bus.subscribe(FACILITY, "0:11", roster())).name()).isEqualTo(RosterStreamBus.SNAPSHOT);
+        assertThat(next(bus.subscribe(FACILITY, "garbage", roster())).name()).isEqualTo(RosterStreamBus.SNAPSHOT);
+        assertThat(next(bus.subscribe(FACILITY, eventId(10), roster())).name()).isEqualTo(RosterStreamBus.DELTA);
+    }
+
+    @Test
+    void publish_DropsSlowSubscriberWithoutAffectingOthers() throws Exception {
+        RosterSubscription slow = bus.subscribe(FACILITY, null, roster());
+        RosterSubscription fast = bus.subscribe(FACILITY, null, roster());
+        next(fast);
+
+        List<UUID> published = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            published.addAll(publish(1));
+            next(fast);
+        }
+
+        assertThat(slow.isDropped()).isTrue();
+        assertThat(fast.isDropped()).isFalse();
+        assertThat(bus.subscriberCount()).isEqualTo(1);
+        // What was queued before the drop is still delivered, then nothing
+        List<RosterStreamEvent> drained = new ArrayList<>();
+        for (RosterStreamEvent event; (event = slow.poll(Duration.ofSeconds(1))) != null; ) {
+            drained.add(event);
+        }
+        assertThat(drained).hasSize(4);
+        assertThat(drained.get(3).data()).contains(published.get(2).toString());
+    }
+
+    @Test
+    void close_Unsubscribes() {
+        RosterSubscription subscription = bus.subscribe(FACILITY, null, roster());
+
+        subscription.close();
+        subscription.close();
+
+        assertThat(bus.subscriberCount()).isZero();
+    }
+
+    private List<UUID> publish(int count) {
+        List<UUID> childIds = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            UUID childId = UUID.randomUUID();
+            bus.publish(FACILITY, AttendanceEventResult.Type.CHECK_IN, childId, NINE);
+            childIds.add(childId);
+        }
+        return childIds;
+    }
+
+    private String eventId(long sequence) {
+        String epoch = (String) ReflectionTestUtils.getField(bus, "epoch");
+        return epoch + ":" + sequence;
+    }
+
+    private Supplier<List<RosterEntry>> roster(UUID... childIds) {
+        return () -> {
+            snapshotsTaken++;
+            return Arrays.stream(childIds).map(id -> new RosterEntry(id, NINE)).toList();
+        };
+    }
+
+    private static RosterStreamEvent next(RosterSubscription subscription) throws InterruptedException {
+        RosterStreamEvent event = subscription.poll(Duration.ofSeconds(1));
+        assertThat(event).isNotNull();
+        return event;
+    }
+}
@@ -0,0 +1,51 @@
+package com.careconnect.coreapi.billing;
+
+import com.careconnect.coreapi.common.exceptions.ValidationException;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MoneyTest {
+
+    @Test
+    void of_DecimalAmount_ConvertsToCents() {
+        assertThat(Money.of(new BigDecimal("12.5")).cents()).isEqualTo(1_250);
+        assertThat(Money.of(new BigDecimal("12.500000000000000000000000000000")).cents()).isEqualTo(1_250);
+        assertThat(Money.of(new BigDecimal("-0.01")).cents()).isEqualTo(-1);
+    }
+
+    @Test
+    void of_FractionOfCent_ThrowsValidation() {
+        assertThatThrownBy(() -> Money.of(new BigDecimal("1.005")))
+                .isInstanceOf(ValidationException.class);
+    }
+
+    @Test
+    void toBigDecimal_HasTwoDecimals() {
+        assertThat(Money.ofCents(1_250).toBigDecimal()).isEqualTo(new BigDecimal("12.50"));
+        assertThat(Money.ofCents(-5)).hasToString("-0.05");
+    }
+
+    @Test
+    void sum_AddsAmounts() {
+        // Given
+        List<Money> amounts = List.of(Money.ofCents(1_000), Money.ofCents(250), Money.ofCents(-50));
+
+        // When
+        Money total = Money.sum(amounts);
+
+        // Then
+        assertThat(total).isEqualTo(Money.ofCents(1_200));
+        assertThat(total.minus(Money.ofCents(1_200))).isSameAs(Money.ZERO);
+    }
+
+    @Test
+    void plus_Overflow_ThrowsArithmeticException() {
+        assertThatThrownBy(() -> Money.ofCents(Long.MAX_VALUE).plus(Money.ofCents(1)))
+                .isInstanceOf(ArithmeticException.class);
+    }
+}
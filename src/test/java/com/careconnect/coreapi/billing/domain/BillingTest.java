@@ -1,9 +1,9 @@
 package com.careconnect.coreapi.billing.domain;
 
+import com.careconnect.coreapi.billing.Money;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
-import java.math.BigDecimal;
 import java.time.Instant;
 import java.util.UUID;
 
@@ -45,7 +45,7 @@ class BillingTest {
     @Test
     void setAndGetAmount_ShouldWorkCorrectly() {
         // Given
-        BigDecimal amount = new BigDecimal("100.50");
+        Money amount = Money.ofCents(10_050);
 
         // When
         billing.setAmount(amount);
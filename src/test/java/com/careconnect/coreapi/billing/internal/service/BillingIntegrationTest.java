@@ -0,0 +1,54 @@
+package com.careconnect.coreapi.billing.internal.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Base of the billing tests on H2. The scheduled reconciliation is off so it cannot change
+ * balances under a test; subclasses add their own properties with {@code @TestPropertySource}.
+ *
+ * Guardians are inserted with plain SQL, as billing only knows their IDs. After each test the
+ * payments, invoices and balances are deleted, then the guardians inserted here; a subclass's
+ * own {@code @AfterEach} runs first and removes whatever else references them.
+ */
+@SpringBootTest(properties = "app.billing.reconcile.enabled=false")
+@ActiveProfiles("test")
+abstract class BillingIntegrationTest {
+
+    @Autowired
+    protected JdbcTemplate jdbcTemplate;
+
+    private final List<UUID> guardians = new CopyOnWriteArrayList<>();
+
+    @AfterEach
+    void deleteLedgerAndGuardians() {
+        jdbcTemplate.update("DELETE FROM payments");
+        jdbcTemplate.update("DELETE FROM billing");
+        jdbcTemplate.update("DELETE FROM guardian_balances");
+        for (UUID guardianId : guardians) {
+            jdbcTemplate.update("DELETE FROM guardians WHERE id = ?", guardianId);
+        }
+        guardians.clear();
+    }
+
+    protected UUID insertGuardian() {
+        return insertGuardian(UUID.randomUUID());
+    }
+
+    protected UUID insertGuardian(UUID guardianId) {
+        Timestamp now = Timestamp.from(Instant.now());
+        jdbcTemplate.update("INSERT INTO guardians (id, user_id, relationship, pickup_authorized, created_at, " +
+                "updated_at) VALUES (?, ?, 'Mother', TRUE, ?, ?)", guardianId, UUID.randomUUID(), now, now);
+        guardians.add(guardianId);
+        return guardianId;
+    }
+}
@@ -0,0 +1,104 @@
+package com.careconnect.coreapi.billing.internal.service;
+
+import com.careconnect.coreapi.billing.Money;
+import com.careconnect.coreapi.billing.domain.Billing;
+import com.careconnect.coreapi.billing.dto.GuardianBalanceSummary;
+import com.careconnect.coreapi.common.exceptions.ResourceNotFoundException;
+import com.careconnect.coreapi.common.exceptions.ValidationException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * The guardian balance ledger on H2: invoices and payments move the stored totals, and the
+ * reconciliation repairs totals that no longer match the invoices and payments.
+ */
+class BillingLedgerTest extends BillingIntegrationTest {
+
+    @Autowired
+    private BillingLedger billingLedger;
+
+    @Autowired
+    private BalanceReconciliation balanceReconciliation;
+
+    private UUID guardianId;
+
+    @BeforeEach
+    void setUp() {
+        guardianId = insertGuardian();
+    }
+
+    @Test
+    void recordInvoiceAndPayment_UpdateBalance() {
+        // Given
+        Billing september = billingLedger.recordInvoice(guardianId, Money.ofCents(85_000), Instant.now(), "September");
+        billingLedger.recordInvoice(guardianId, Money.ofCents(85_000), Instant.now(), "October");
+
+        // When
+        billingLedger.recordPayment(september.getId(), Money.ofCents(60_050), "CARD", "txn-1", null);
+
+        // Then
+        GuardianBalanceSummary balance = billingLedger.getBalance(guardianId);
+        assertThat(balance.invoiced()).isEqualByComparingTo("1700.00");
+        assertThat(balance.paid()).isEqualByComparingTo("600.50");
+        assertThat(balance.balance()).isEqualTo(new BigDecimal("1099.50"));
+        assertThat(balance.updatedAt()).isNotNull();
+    }
+
+    @Test
+    void getBalance_GuardianNeverInvoiced_IsZero() {
+        GuardianBalanceSummary balance = billingLedger.getBalance(guardianId);
+
+        assertThat(balance.balance()).isEqualByComparingTo(BigDecimal.ZERO);
+        assertThat(balance.updatedAt()).isNull();
+    }
+
+    @Test
+    void getBalance_UnknownGuardian_ThrowsResourceNotFound() {
+        assertThatThrownBy(() -> billingLedger.getBalance(UUID.randomUUID()))
+                .isInstanceOf(ResourceNotFoundException.class);
+    }
+
+    @Test
+    void recordInvoice_NonPositiveAmount_ThrowsValidation() {
+        assertThatThrownBy(() -> billingLedger.recordInvoice(guardianId, Money.ZERO, Instant.now(), "Nothing"))
+                .isInstanceOf(ValidationException.class);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM billing", Integer.class)).isZero();
+    }
+
+    @Test
+    void recordPayment_UnknownInvoice_ThrowsResourceNotFound() {
+        assertThatThrownBy(() -> billingLedger.recordPayment(UUID.randomUUID(), Money.ofCents(1_000), "CARD", "txn-1", null))
+                .isInstanceOf(ResourceNotFoundException.class);
+    }
+
+    @Test
+    void reconcile_CorrectsBalancesThatDrifted() {
+        // Given
+        Billing invoice = billingLedger.recordInvoice(guardianId, Money.ofCents(10_000), Instant.now(), "Fees");
+        billingLedger.recordPayment(invoice.getId(), Money.ofCents(4_000), "CARD", "txn-1", null);
+        Timestamp now = Timestamp.from(Instant.now());
+        jdbcTemplate.update("INSERT INTO billing (id, guardian_id, amount_cents, status, created_at, updated_at) " +
+                "VALUES (?, ?, ?, 'PENDING', ?, ?)", UUID.randomUUID(), guardianId, 2_500L, now, now);
+        UUID unlisted = insertGuardian();
+        jdbcTemplate.update("INSERT INTO billing (id, guardian_id, amount_cents, status, created_at, updated_at) " +
+                "VALUES (?, ?, ?, 'PENDING', ?, ?)", UUID.randomUUID(), unlisted, 1_000L, now, now);
+
+        // When
+        int corrected = balanceReconciliation.reconcile();
+
+        // Then
+        assertThat(corrected).isEqualTo(2);
+        assertThat(billingLedger.getBalance(guardianId).balance()).isEqualTo(new BigDecimal("85.00"));
+        assertThat(billingLedger.getBalance(unlisted).balance()).isEqualTo(new BigDecimal("10.00"));
+        assertThat(balanceReconciliation.reconcile()).isZero();
+    }
+}
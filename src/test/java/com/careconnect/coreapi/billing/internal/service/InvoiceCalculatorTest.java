@@ -0,0 +1,66 @@
+package com.careconnect.coreapi.billing.internal.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.time.YearMonth;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InvoiceCalculatorTest {
+
+    private static final int ALL_OF_OCTOBER = (1 << 31) - 1;
+
+    private final InvoiceCalculator calculator =
+            new InvoiceCalculator(YearMonth.of(2024, 10), ZoneOffset.UTC, 85_000, 6_500);
+
+    @Test
+    void enrolledDays_OpenEnrollment_CoversWholeMonth() {
+        int enrolled = calculator.enrolledDays(Instant.parse("2024-04-01T00:00:00Z"), null);
+
+        assertThat(enrolled).isEqualTo(ALL_OF_OCTOBER);
+        assertThat(calculator.charge(enrolled, 0)).isEqualTo(85_000);
+    }
+
+    @Test
+    void enrolledDays_EndAtMidnight_ExcludesThatDay() {
+        assertThat(Integer.bitCount(calculator.enrolledDays(null, Instant.parse("2024-10-11T00:00:00Z"))))
+                .isEqualTo(10);
+        assertThat(Integer.bitCount(calculator.enrolledDays(null, Instant.parse("2024-10-11T09:00:00Z"))))
+                .isEqualTo(11);
+        assertThat(calculator.enrolledDays(null, Instant.parse("2024-10-01T00:00:00Z"))).isZero();
+    }
+
+    @Test
+    void charge_PartialMonth_ProratesTuitionAndChargesUncoveredDays() {
+        // Given: enrolled from the 16th, attended on the 3rd and the 20th
+        int enrolled = calculator.enrolledDays(Instant.parse("2024-10-16T00:00:00Z"), null);
+        int attended = calculator.attendedDay(Instant.parse("2024-10-03T08:00:00Z"))
+                | calculator.attendedDay(Instant.parse("2024-10-20T08:00:00Z"));
+
+        // When
+        long charge = calculator.charge(enrolled, attended);
+
+        // Then: 16/31 of the tuition (43870.97 rounded half up) and one drop-in day
+        assertThat(charge).isEqualTo(43_871 + 6_500);
+    }
+
+    @Test
+    void attendedDay_OutsideMonth_IsNoDay() {
+        assertThat(calculator.attendedDay(Instant.parse("2024-09-30T23:59:00Z"))).isZero();
+        assertThat(calculator.attendedDay(Instant.parse("2024-11-01T08:00:00Z"))).isZero();
+        assertThat(calculator.charge(0, 0)).isZero();
+    }
+
+    @Test
+    void attendedDay_TakesDayInBillingZone() {
+        InvoiceCalculator berlin = new InvoiceCalculator(YearMonth.of(2024, 10), ZoneId.of("Europe/Berlin"),
+                85_000, 6_500);
+
+        assertThat(berlin.attendedDay(Instant.parse("2024-09-30T23:30:00Z"))).isEqualTo(1);
+        assertThat(berlin.start()).isEqualTo(Instant.parse("2024-09-30T22:00:00Z"));
+        assertThat(berlin.end()).isEqualTo(Instant.parse("2024-10-31T23:00:00Z"));
+    }
+}
@@ -0,0 +1,178 @@
+package com.careconnect.coreapi.billing.internal.service;
+
+import com.careconnect.coreapi.billing.dto.InvoiceRunSummary;
+import com.careconnect.coreapi.common.exceptions.ConflictException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.YearMonth;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Invoice runs on H2, one guardian per chunk so that every shard commits several checkpoints.
+ */
+@TestPropertySource(properties = {
+        "app.billing.invoice-run.shards=2",
+        "app.billing.invoice-run.chunk-size=1"
+})
+class InvoiceRunnerTest extends BillingIntegrationTest {
+
+    private static final YearMonth PERIOD = YearMonth.of(2024, 10);
+
+    // IDs in ascending order, so the checkpoint test knows which guardian comes first
+    private static final UUID FULL_MONTH_GUARDIAN = new UUID(0x1000L, 1L);
+    private static final UUID PART_MONTH_GUARDIAN = new UUID(0x2000L, 1L);
+    private static final UUID IDLE_GUARDIAN = new UUID(0x3000L, 1L);
+    private static final UUID SECOND_GUARDIAN = new UUID(0x4000L, 1L);
+
+    @Autowired
+    private InvoiceRunner invoiceRunner;
+
+    @BeforeEach
+    void setUp() {
+        for (UUID guardianId : List.of(FULL_MONTH_GUARDIAN, PART_MONTH_GUARDIAN, IDLE_GUARDIAN, SECOND_GUARDIAN)) {
+            insertGuardian(guardianId);
+        }
+        UUID fullMonthChild = insertChild(FULL_MONTH_GUARDIAN);
+        link(SECOND_GUARDIAN, fullMonthChild, false);
+        enroll(fullMonthChild, "2024-04-01T00:00:00Z");
+
+        UUID partMonthChild = insertChild(PART_MONTH_GUARDIAN);
+        enroll(partMonthChild, "2024-10-16T00:00:00Z");
+        attend(partMonthChild, "2024-10-03T08:00:00Z");
+        attend(partMonthChild, "2024-10-20T08:00:00Z");
+
+        insertChild(IDLE_GUARDIAN);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM invoice_run_shards");
+        jdbcTemplate.update("DELETE FROM invoice_runs");
+        jdbcTemplate.update("DELETE FROM attendance");
+        jdbcTemplate.update("DELETE FROM enrollments");
+        jdbcTemplate.update("DELETE FROM child_guardians");
+        jdbcTemplate.update("DELETE FROM children");
+    }
+
+    @Test
+    void run_InvoicesPrimaryGuardiansWithCharges() {
+        // When
+        InvoiceRunSummary summary = invoiceRunner.run(PERIOD).join();
+
+        // Then
+        assertThat(invoicedCents(FULL_MONTH_GUARDIAN)).containsExactly(85_000L);
+        assertThat(invoicedCents(PART_MONTH_GUARDIAN)).containsExactly(43_871L + 6_500L);
+        assertThat(invoicedCents(IDLE_GUARDIAN)).isEmpty();
+        assertThat(invoicedCents(SECOND_GUARDIAN)).isEmpty();
+        assertThat(ledgerCents(PART_MONTH_GUARDIAN)).isEqualTo(50_371L);
+
+        assertThat(summary.status()).isEqualTo(InvoiceRunner.COMPLETED);
+        assertThat(summary.shards()).isEqualTo(2);
+        assertThat(summary.shardsCompleted()).isEqualTo(2);
+        assertThat(summary.guardiansProcessed()).isEqualTo(3);
+        assertThat(summary.invoicesCreated()).isEqualTo(2);
+        assertThat(summary.amount()).isEqualByComparingTo("1353.71");
+        assertThat(invoiceRunner.getRun(PERIOD)).contains(summary);
+    }
+
+    @Test
+    void run_MonthAlreadyBilled_ThrowsConflict() {
+        invoiceRunner.run(PERIOD).join();
+
+        assertThatThrownBy(() -> invoiceRunner.run(PERIOD)).isInstanceOf(ConflictException.class);
+        assertThat(invoicedCents(FULL_MONTH_GUARDIAN)).hasSize(1);
+    }
+
+    @Test
+    void run_InterruptedRun_ResumesFromCheckpoint() {
+        // Given: a run that stopped after billing the first guardian
+        UUID runId = UUID.randomUUID();
+        Timestamp now = Timestamp.from(Instant.now());
+        jdbcTemplate.update("INSERT INTO invoice_runs (id, billing_period, status, shard_count, started_at, " +
+                "updated_at) VALUES (?, ?, 'RUNNING', 1, ?, ?)", runId, Date.valueOf(PERIOD.atDay(1)), now, now);
+        jdbcTemplate.update("INSERT INTO invoice_run_shards (id, run_id, shard, first_guardian_id, last_guardian_id, " +
+                "next_guardian_id, guardians_processed, invoices_created, amount_cents, updated_at) " +
+                "VALUES (?, ?, 0, ?, ?, ?, 1, 1, 85000, ?)", UUID.randomUUID(), runId, new UUID(0L, 0L),
+                new UUID(-1L, -1L), InvoiceRunner.successor(FULL_MONTH_GUARDIAN), now);
+        jdbcTemplate.update("INSERT INTO billing (id, guardian_id, amount_cents, status, billing_period, created_at, " +
+                "updated_at) VALUES (?, ?, 85000, 'PENDING', ?, ?, ?)", UUID.randomUUID(), FULL_MONTH_GUARDIAN,
+                Date.valueOf(PERIOD.atDay(1)), now, now);
+        assertThat(invoiceRunner.interruptedRuns()).containsExactly(PERIOD);
+
+        // When
+        InvoiceRunSummary summary = invoiceRunner.run(PERIOD).join();
+
+        // Then
+        assertThat(invoicedCents(FULL_MONTH_GUARDIAN)).hasSize(1);
+        assertThat(invoicedCents(PART_MONTH_GUARDIAN)).containsExactly(50_371L);
+        assertThat(summary.id()).isEqualTo(runId);
+        assertThat(summary.status()).isEqualTo(InvoiceRunner.COMPLETED);
+        assertThat(summary.invoicesCreated()).isEqualTo(2);
+        assertThat(invoiceRunner.interruptedRuns()).isEmpty();
+    }
+
+    @Test
+    void successorAndPredecessor_CarryAcrossHalves() {
+        UUID lowEnd = new UUID(5L, -1L);
+
+        assertThat(InvoiceRunner.successor(lowEnd)).isEqualTo(new UUID(6L, 0L));
+        assertThat(InvoiceRunner.predecessor(new UUID(6L, 0L))).isEqualTo(lowEnd);
+        assertThat(InvoiceRunner.successor(new UUID(-1L, -1L))).isNull();
+    }
+
+    private List<Long> invoicedCents(UUID guardianId) {
+        return jdbcTemplate.queryForList("SELECT amount_cents FROM billing WHERE guardian_id = ? AND billing_period = ?",
+                Long.class, guardianId, Date.valueOf(PERIOD.atDay(1)));
+    }
+
+    private long ledgerCents(UUID guardianId) {
+        return jdbcTemplate.queryForObject("SELECT invoiced_cents FROM guardian_balances WHERE guardian_id = ?",
+                Long.class, guardianId);
+    }
+
+    private UUID insertChild(UUID primaryGuardianId) {
+        UUID childId = UUID.randomUUID();
+        insert("INSERT INTO children (id, first_name, last_name, created_at, updated_at) VALUES (?, 'Test', 'Child', ?, ?)",
+                childId);
+        link(primaryGuardianId, childId, true);
+        return childId;
+    }
+
+    private void link(UUID guardianId, UUID childId, boolean primary) {
+        insert("INSERT INTO child_guardians (id, guardian_id, child_id, primary_guardian, created_at, updated_at) " +
+                "VALUES (?, ?, ?, ?, ?, ?)", UUID.randomUUID(), guardianId, childId, primary);
+    }
+
+    private void enroll(UUID childId, String startDate) {
+        insert("INSERT INTO enrollments (id, child_id, start_date, status, created_at, updated_at) " +
+                "VALUES (?, ?, ?, 'Active', ?, ?)", UUID.randomUUID(), childId, Timestamp.from(Instant.parse(startDate)));
+    }
+
+    private void attend(UUID childId, String checkIn) {
+        Instant in = Instant.parse(checkIn);
+        insert("INSERT INTO attendance (id, child_id, check_in, check_out, status, created_at, updated_at) " +
+                "VALUES (?, ?, ?, ?, 'CHECKED_OUT', ?, ?)", UUID.randomUUID(), childId, Timestamp.from(in),
+                Timestamp.from(in.plusSeconds(8 * 3600)));
+    }
+
+    /** Runs an insert with created_at and updated_at appended as its last two parameters. */
+    private void insert(String sql, Object... args) {
+        Timestamp now = Timestamp.from(Instant.now());
+        Object[] withTimestamps = Arrays.copyOf(args, args.length + 2);
+        withTimestamps[args.length] = now;
+        withTimestamps[args.length + 1] = now;
+        jdbcTemplate.update(sql, withTimestamps);
+    }
+}
@@ -0,0 +1,162 @@
+package com.careconnect.coreapi.billing.internal.service;
+
+import com.careconnect.coreapi.billing.Money;
+import com.careconnect.coreapi.billing.dto.PaymentRequestDto;
+import com.careconnect.coreapi.billing.dto.PaymentResult;
+import com.careconnect.coreapi.common.exceptions.ConflictException;
+import com.careconnect.coreapi.common.exceptions.ResourceNotFoundException;
+import com.careconnect.coreapi.common.exceptions.ValidationException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Payment ingestion on H2: each transaction is recorded once however often it is delivered, and
+ * invoices follow their payments after a flush.
+ */
+class PaymentIngestionTest extends BillingIntegrationTest {
+
+    @Autowired
+    private PaymentIngestion paymentIngestion;
+
+    @Autowired
+    private BillingLedger billingLedger;
+
+    private UUID guardianId;
+    private UUID invoiceId;
+
+    @BeforeEach
+    void setUp() {
+        guardianId = insertGuardian();
+        invoiceId = billingLedger.recordInvoice(guardianId, Money.ofCents(10_000), Instant.now(), "Fees").getId();
+    }
+
+    @Test
+    void ingest_NewTransaction_RecordsPaymentAndBalance() {
+        // When
+        PaymentResult result = paymentIngestion.ingest(payment("txn-new", "40.00"));
+
+        // Then
+        assertThat(result.status()).isEqualTo(PaymentResult.Status.ACCEPTED);
+        assertThat(result.amount()).isEqualTo(new BigDecimal("40.00"));
+        assertThat(paymentCount("txn-new")).isEqualTo(1);
+        assertThat(billingLedger.getBalance(guardianId).balance()).isEqualTo(new BigDecimal("60.00"));
+    }
+
+    @Test
+    void ingest_Redelivery_ReturnsRecordedPaymentWithoutWriting() {
+        // Given
+        PaymentResult first = paymentIngestion.ingest(payment("txn-retry", "40.00"));
+
+        // When
+        PaymentResult replay = paymentIngestion.ingest(payment("txn-retry", "40.00"));
+
+        // Then
+        assertThat(replay.status()).isEqualTo(PaymentResult.Status.DUPLICATE);
+        assertThat(replay.paymentId()).isEqualTo(first.paymentId());
+        assertThat(paymentCount("txn-retry")).isEqualTo(1);
+        assertThat(billingLedger.getBalance(guardianId).paid()).isEqualByComparingTo("40.00");
+    }
+
+    @Test
+    void ingest_ConcurrentDeliveries_RecordOnePayment() throws Exception {
+        // Given
+        List<Callable<PaymentResult>> deliveries = IntStream.range(0, 8)
+                .<Callable<PaymentResult>>mapToObj(i -> () -> paymentIngestion.ingest(payment("txn-race", "25.00")))
+                .toList();
+
+        // When
+        List<PaymentResult> results;
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            results = executor.invokeAll(deliveries).stream().map(PaymentIngestionTest::join).toList();
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // Then
+        assertThat(results).filteredOn(result -> result.status() == PaymentResult.Status.ACCEPTED).hasSize(1);
+        assertThat(results).extracting(PaymentResult::paymentId).containsOnly(results.get(0).paymentId());
+        assertThat(paymentCount("txn-race")).isEqualTo(1);
+        assertThat(billingLedger.getBalance(guardianId).paid()).isEqualByComparingTo("25.00");
+    }
+
+    @Test
+    void ingest_SameTransactionOtherAmount_ThrowsConflict() {
+        paymentIngestion.ingest(payment("txn-changed", "40.00"));
+
+        assertThatThrownBy(() -> paymentIngestion.ingest(payment("txn-changed", "45.00")))
+                .isInstanceOf(ConflictException.class);
+        assertThat(paymentCount("txn-changed")).isEqualTo(1);
+    }
+
+    @Test
+    void ingest_UnknownInvoice_ThrowsResourceNotFound() {
+        PaymentRequestDto request = payment("txn-orphan", "10.00");
+        request.setBillingId(UUID.randomUUID());
+
+        assertThatThrownBy(() -> paymentIngestion.ingest(request)).isInstanceOf(ResourceNotFoundException.class);
+        assertThat(paymentCount("txn-orphan")).isZero();
+    }
+
+    @Test
+    void ingest_FractionOfCent_ThrowsValidation() {
+        assertThatThrownBy(() -> paymentIngestion.ingest(payment("txn-fraction", "10.005")))
+                .isInstanceOf(ValidationException.class);
+    }
+
+    @Test
+    void flush_MovesInvoiceToPartiallyPaidThenPaid() {
+        // Given
+        paymentIngestion.ingest(payment("txn-part-1", "40.00"));
+
+        // When
+        paymentIngestion.flush();
+
+        // Then
+        assertThat(invoiceStatus()).isEqualTo(PaymentIngestion.PARTIALLY_PAID);
+
+        paymentIngestion.ingest(payment("txn-part-2", "60.00"));
+        paymentIngestion.flush();
+        assertThat(invoiceStatus()).isEqualTo(PaymentIngestion.PAID);
+    }
+
+    private PaymentRequestDto payment(String transactionId, String amount) {
+        return PaymentRequestDto.builder()
+                .billingId(invoiceId)
+                .amount(new BigDecimal(amount))
+                .transactionId(transactionId)
+                .paymentMethod("CARD")
+                .build();
+    }
+
+    private int paymentCount(String transactionId) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM payments WHERE transaction_id = ?", Integer.class,
+                transactionId);
+    }
+
+    private String invoiceStatus() {
+        return jdbcTemplate.queryForObject("SELECT status FROM billing WHERE id = ?", String.class, invoiceId);
+    }
+
+    private static PaymentResult join(Future<PaymentResult> future) {
+        try {
+            return future.get();
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.careconnect.coreapi.childmgmt.dto;
+
+import com.careconnect.coreapi.childmgmt.domain.Child;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ChildResponseDtoTest {
+
+    @Test
+    void fromEntity_ShouldSanitizeFields() {
+        Child child = child("<b>Jane</b>", Instant.parse("2024-01-01T10:00:00Z"));
+        child.setSpecialNeeds("<script>x()</script><i>Peanuts</i>");
+
+        ChildResponseDto dto = ChildResponseDto.fromEntity(child);
+
+        assertThat(dto.getFirstName()).isEqualTo("Jane");
+        assertThat(dto.getSpecialNeeds()).isEqualTo("<i>Peanuts</i>");
+    }
+
+    private Child child(String firstName, Instant updatedAt) {
+        Child child = new Child();
+        child.setId(UUID.randomUUID());
+        child.setFirstName(firstName);
+        child.setLastName("Doe");
+        child.setGender("F");
+        child.setDob(Instant.parse("2020-01-01T00:00:00Z"));
+        child.setCreatedAt(updatedAt);
+        child.setUpdatedAt(updatedAt);
+        return child;
+    }
+}
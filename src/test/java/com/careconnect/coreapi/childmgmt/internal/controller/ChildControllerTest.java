@@ -2,6 +2,7 @@ package com.careconnect.coreapi.childmgmt.internal.controller;
 
 import com.careconnect.coreapi.childmgmt.domain.Child;
 import com.careconnect.coreapi.childmgmt.dto.ChildRequestDto;
+import com.careconnect.coreapi.childmgmt.dto.ChildSummary;
 import com.careconnect.coreapi.childmgmt.internal.service.ChildGuardianService;
 import com.careconnect.coreapi.childmgmt.internal.service.ChildService;
 import com.careconnect.coreapi.common.response.PageResponse;
@@ -78,9 +79,12 @@ class ChildControllerTest {
     @Test
     void getAllChildren_ShouldReturnPageOfChildren() throws Exception {
         // Given
-        List<Child> children = Collections.singletonList(testChild);
-        PageResponse<Child> pageResponse = PageResponse.of(new PageImpl<>(children, PageRequest.of(0, 20), 1));
-        when(childService.getAllChildren(any(Pageable.class))).thenReturn(pageResponse);
+        UUID guardianId = UUID.randomUUID();
+        ChildSummary summary = new ChildSummary(childId, "John", "Doe", testChild.getDob(), "Male", null, null,
+                testChild.getCreatedAt(), testChild.getUpdatedAt(), guardianId, List.of(guardianId));
+        PageResponse<ChildSummary> pageResponse = PageResponse.of(
+                new PageImpl<>(Collections.singletonList(summary), PageRequest.of(0, 20), 1));
+        when(childService.getChildSummaries(any(Pageable.class))).thenReturn(pageResponse);
 
         // When & Then
         mockMvc.perform(get("/api/children")
@@ -89,9 +93,11 @@ class ChildControllerTest {
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.data").isArray())
                 .andExpect(jsonPath("$.data[0].firstName").value("John"))
-                .andExpect(jsonPath("$.data[0].lastName").value("Doe"));
+                .andExpect(jsonPath("$.data[0].lastName").value("Doe"))
+                .andExpect(jsonPath("$.data[0].primaryGuardianId").value(guardianId.toString()))
+                .andExpect(jsonPath("$.data[0].allGuardianIds[0]").value(guardianId.toString()));
 
-        verify(childService).getAllChildren(any(Pageable.class));
+        verify(childService).getChildSummaries(any(Pageable.class));
     }
 
     @Test
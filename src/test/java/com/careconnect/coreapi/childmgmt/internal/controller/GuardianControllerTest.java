@@ -1,6 +1,8 @@
 package com.careconnect.coreapi.childmgmt.internal.controller;
 
 import com.careconnect.coreapi.childmgmt.domain.Guardian;
+import com.careconnect.coreapi.childmgmt.dto.GuardianChild;
+import com.careconnect.coreapi.childmgmt.internal.service.ChildService;
 import com.careconnect.coreapi.childmgmt.internal.service.GuardianService;
 import com.careconnect.coreapi.common.config.SecurityProperties;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -35,6 +37,9 @@ class GuardianControllerTest {
     @MockitoBean
     private GuardianService guardianService;
 
+    @MockitoBean
+    private ChildService childService;
+
     @MockitoBean
     private SecurityProperties securityProperties;
 
@@ -139,4 +144,23 @@ class GuardianControllerTest {
 
         verify(guardianService).deleteGuardian(guardianId);
     }
+
+    @Test
+    void getGuardianChildren_ShouldReturnSanitizedChildren() throws Exception {
+        // Given
+        UUID childId = UUID.randomUUID();
+        GuardianChild child = new GuardianChild(childId, "<b>Ada</b>", "Lovelace",
+                Instant.parse("2020-01-01T00:00:00Z"), "F", true);
+        when(childService.getGuardianChildren(guardianId)).thenReturn(List.of(child));
+
+        // When & Then
+        mockMvc.perform(get("/api/guardians/{id}/children", guardianId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.success").value(true))
+                .andExpect(jsonPath("$.data[0].childId").value(childId.toString()))
+                .andExpect(jsonPath("$.data[0].firstName").value("Ada"))
+                .andExpect(jsonPath("$.data[0].primaryGuardian").value(true));
+
+        verify(childService).getGuardianChildren(guardianId);
+    }
 }
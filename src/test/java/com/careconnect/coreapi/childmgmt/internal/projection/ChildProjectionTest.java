@@ -0,0 +1,121 @@
+package com.careconnect.coreapi.childmgmt.internal.projection;
+
+import com.careconnect.coreapi.childmgmt.domain.Child;
+import com.careconnect.coreapi.childmgmt.domain.Guardian;
+import com.careconnect.coreapi.childmgmt.dto.ChildProjectionRebuildResult;
+import com.careconnect.coreapi.childmgmt.dto.ChildSummary;
+import com.careconnect.coreapi.childmgmt.dto.GuardianChild;
+import com.careconnect.coreapi.childmgmt.internal.repository.ChildSummaryEntryRepository;
+import com.careconnect.coreapi.childmgmt.internal.repository.GuardianChildEntryRepository;
+import com.careconnect.coreapi.childmgmt.internal.repository.GuardianRepository;
+import com.careconnect.coreapi.childmgmt.internal.service.ChildGuardianService;
+import com.careconnect.coreapi.childmgmt.internal.service.ChildService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.Instant;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * The child read tables on H2: changes made through the services reach {@code child_summaries}
+ * and {@code guardian_children} once the projection listeners have run after commit, and a
+ * rebuild recreates both from the source tables.
+ */
+@SpringBootTest(properties = "app.children.read-model=projection")
+@ActiveProfiles("test")
+class ChildProjectionTest {
+
+    @Autowired
+    private ChildService childService;
+
+    @Autowired
+    private GuardianRepository guardianRepository;
+
+    @Autowired
+    private ChildGuardianService childGuardianService;
+
+    @Autowired
+    private ChildProjectionWriter writer;
+
+    @Autowired
+    private ChildSummaryEntryRepository childSummaryEntryRepository;
+
+    @Autowired
+    private GuardianChildEntryRepository guardianChildEntryRepository;
+
+    @Test
+    void childAndGuardianChanges_AreProjectedIntoReadTables() throws Exception {
+        Guardian guardian = guardianRepository.save(guardian());
+        Child child = childService.createChild(child("Projected"));
+        childGuardianService.addGuardianToChild(child.getId(), guardian.getId(), true);
+
+        await(() -> childService.getGuardianChildren(guardian.getId()).size() == 1);
+        GuardianChild guardianChild = childService.getGuardianChildren(guardian.getId()).get(0);
+        assertThat(guardianChild.childId()).isEqualTo(child.getId());
+        assertThat(guardianChild.primaryGuardian()).isTrue();
+        await(() -> summary(child.getId()) != null && summary(child.getId()).guardianIds().contains(guardian.getId()));
+
+        Child renamed = child("Renamed");
+        childService.updateChild(child.getId(), renamed);
+        await(() -> "Renamed".equals(childService.getGuardianChildren(guardian.getId()).get(0).lastName()));
+
+        childService.deleteChild(child.getId());
+        await(() -> childService.getGuardianChildren(guardian.getId()).isEmpty());
+        await(() -> summary(child.getId()) == null);
+    }
+
+    @Test
+    void rebuild_RecreatesReadTablesFromSourceTables() throws Exception {
+        Guardian guardian = guardianRepository.save(guardian());
+        Child child = childService.createChild(child("Rebuilt"));
+        childGuardianService.addGuardianToChild(child.getId(), guardian.getId(), false);
+        await(() -> childService.getGuardianChildren(guardian.getId()).size() == 1);
+        guardianChildEntryRepository.deleteAll();
+        childSummaryEntryRepository.deleteAll();
+
+        ChildProjectionRebuildResult result = writer.rebuild();
+
+        assertThat(result.children()).isEqualTo(childSummaryEntryRepository.count()).isPositive();
+        assertThat(result.guardianChildren()).isEqualTo(guardianChildEntryRepository.count()).isPositive();
+        assertThat(childService.getGuardianChildren(guardian.getId()))
+                .extracting(GuardianChild::childId)
+                .containsExactly(child.getId());
+        assertThat(summary(child.getId()).guardianIds()).containsExactly(guardian.getId());
+    }
+
+    private ChildSummary summary(UUID childId) {
+        return childSummaryEntryRepository.findById(childId).map(ChildSummaryEntry::toSummary).orElse(null);
+    }
+
+    private static void await(Supplier<Boolean> condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.get() && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(condition.get()).isTrue();
+    }
+
+    private static Guardian guardian() {
+        Guardian guardian = new Guardian();
+        guardian.setUserId(UUID.randomUUID());
+        guardian.setRelationship("Parent");
+        guardian.setCreatedAt(Instant.now());
+        guardian.setUpdatedAt(Instant.now());
+        return guardian;
+    }
+
+    private static Child child(String lastName) {
+        Child child = new Child();
+        child.setFirstName("Ada");
+        child.setLastName(lastName);
+        child.setDob(Instant.parse("2020-01-01T00:00:00Z"));
+        child.setGender("F");
+        return child;
+    }
+}
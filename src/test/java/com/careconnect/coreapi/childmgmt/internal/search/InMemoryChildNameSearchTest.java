@@ -0,0 +1,123 @@
+package com.careconnect.coreapi.childmgmt.internal.search;
+
+import com.careconnect.coreapi.childmgmt.domain.Child;
+import com.careconnect.coreapi.childmgmt.internal.repository.ChildRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class InMemoryChildNameSearchTest {
+
+    @Mock
+    private ChildRepository childRepository;
+
+    private InMemoryChildNameSearch search;
+
+    private Child anna;
+    private Child leo;
+    private Child mia;
+    private Child noah;
+
+    @BeforeEach
+    void setUp() {
+        anna = child("Anna", "Tremblay", "Female");
+        leo = child("Leo", "Montremble", "Male");
+        mia = child("Mia", "Kowalski", "Female");
+        noah = child("Noah", "Smith", "Male");
+        lenient().when(childRepository.findAll()).thenReturn(List.of(anna, leo, mia, noah));
+        search = new InMemoryChildNameSearch(childRepository);
+    }
+
+    @Test
+    void search_MatchesSubstringOfEitherName() {
+        assertThat(ids("embl", null)).containsExactlyInAnyOrder(anna.getId(), leo.getId());
+        assertThat(ids("NOA", null)).containsExactly(noah.getId());
+    }
+
+    @Test
+    void search_ToleratesTypos() {
+        assertThat(ids("Tremblya", null)).containsExactly(anna.getId());
+        assertThat(ids("kowalsky", null)).containsExactly(mia.getId());
+    }
+
+    @Test
+    void search_RanksPrefixMatchesFirst() {
+        assertThat(ids("trem", null)).containsExactly(anna.getId(), leo.getId());
+    }
+
+    @Test
+    void search_AppliesGenderFilter() {
+        assertThat(ids("embl", "Male")).containsExactly(leo.getId());
+    }
+
+    @Test
+    void search_ShortQueryScansAllNames() {
+        assertThat(ids("ia", null)).containsExactly(mia.getId());
+        assertThat(ids("o", null)).containsExactlyInAnyOrder(leo.getId(), mia.getId(), noah.getId());
+    }
+
+    @Test
+    void search_PagesRankedResults() {
+        Page<UUID> first = search.search("trem", null, PageRequest.of(0, 1));
+        Page<UUID> second = search.search("trem", null, PageRequest.of(1, 1));
+
+        assertThat(first.getContent()).containsExactly(anna.getId());
+        assertThat(second.getContent()).containsExactly(leo.getId());
+        assertThat(first.getTotalElements()).isEqualTo(2);
+    }
+
+    @Test
+    void indexChild_AndRemoveChild_KeepIndexCurrent() {
+        ids("smith", null);
+
+        noah.setLastName("Singh");
+        search.indexChild(noah);
+        assertThat(ids("smith", null)).isEmpty();
+        assertThat(ids("singh", null)).containsExactly(noah.getId());
+
+        search.removeChild(noah.getId());
+        assertThat(ids("singh", null)).isEmpty();
+
+        // Built once, then maintained incrementally
+        verify(childRepository, times(1)).findAll();
+    }
+
+    @Test
+    void similarity_MatchesPgTrgm() {
+        // SELECT similarity('tremblay', 'tremblai') = 0.6363636
+        assertThat(InMemoryChildNameSearch.similarity(
+                InMemoryChildNameSearch.trigrams("tremblay"), InMemoryChildNameSearch.trigrams("tremblai")))
+                .isCloseTo(7.0 / 11, within(1e-9));
+        assertThat(InMemoryChildNameSearch.trigrams("jean-luc"))
+                .contains("  j", "an ", "  l", "uc ")
+                .doesNotContain("n-l");
+    }
+
+    private List<UUID> ids(String query, String gender) {
+        return search.search(query, gender, PageRequest.of(0, 20)).getContent();
+    }
+
+    private static Child child(String firstName, String lastName, String gender) {
+        Child child = new Child();
+        child.setId(UUID.randomUUID());
+        child.setFirstName(firstName);
+        child.setLastName(lastName);
+        child.setGender(gender);
+        return child;
+    }
+}
@@ -0,0 +1,92 @@
+package com.careconnect.coreapi.childmgmt.internal.service;
+
+import com.careconnect.coreapi.childmgmt.dto.ChildImportResult;
+import com.careconnect.coreapi.childmgmt.dto.ChildImportSummary;
+import com.careconnect.coreapi.childmgmt.internal.search.InMemoryChildNameSearch;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jdbc.JdbcTemplateAutoConfiguration;
+import org.springframework.boot.autoconfigure.validation.ValidationAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs imports against H2 outside a test transaction, since every batch commits on its own.
+ */
+@DataJpaTest(properties = "app.children.import.batch-size=3")
+@ActiveProfiles("test")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({ChildImportService.class, InMemoryChildNameSearch.class})
+@ImportAutoConfiguration({ValidationAutoConfiguration.class, JdbcTemplateAutoConfiguration.class})
+class ChildImportServiceTest {
+
+    private static final String HEADER = "id,firstName,lastName,dob,gender\n";
+
+    @Autowired
+    private ChildImportService childImportService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM children");
+    }
+
+    @Test
+    void importChildren_InsertsValidRowsAcrossBatchesAndReportsInvalidOnes() throws IOException {
+        String csv = HEADER +
+                ",Emma,Roy,2020-01-01,Female\n" +
+                ",,Chen,2020-01-01,Male\n" +
+                ",Liam,Chen,2020-01-01,Male\n" +
+                ",Mia,Lee,2999-01-01,Female\n" +
+                ",Noah,Smith,2021-06-30,Male\n" +
+                ",Kai,Patel,2019-03-15,Male\n" +
+                ",Nora,Singh,2020-11-11,Female\n";
+        List<ChildImportResult> results = new ArrayList<>();
+
+        ChildImportSummary summary = childImportService.importChildren(
+                ChildRowReader.csv(new StringReader(csv)), results::add);
+
+        assertThat(summary).isEqualTo(new ChildImportSummary(7, 5, 2));
+        assertThat(results).extracting(ChildImportResult::row).containsExactly(1L, 2L, 3L, 4L, 5L, 6L, 7L);
+        assertThat(results.get(1).status()).isEqualTo(ChildImportResult.Status.INVALID);
+        assertThat(results.get(1).error()).isEqualTo("First name is required");
+        assertThat(results.get(3).error()).isEqualTo("Date of birth cannot be in the future");
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM children", Long.class)).isEqualTo(5);
+    }
+
+    @Test
+    void importChildren_KeepsClientIdsAndFailsOnlyDuplicates() throws IOException {
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+        String csv = HEADER +
+                first + ",Emma,Roy,2020-01-01,Female\n" +
+                second + ",Liam,Chen,2020-01-01,Male\n" +
+                first + ",Emma,Roy,2020-01-01,Female\n";
+        List<ChildImportResult> results = new ArrayList<>();
+
+        childImportService.importChildren(ChildRowReader.csv(new StringReader(csv)), results::add);
+
+        assertThat(results).extracting(ChildImportResult::status).containsExactly(
+                ChildImportResult.Status.CREATED, ChildImportResult.Status.CREATED, ChildImportResult.Status.FAILED);
+        assertThat(results).extracting(ChildImportResult::id).containsExactly(first, second, first);
+        assertThat(results.get(2).error()).isEqualTo("Child already exists with ID: " + first);
+        assertThat(jdbcTemplate.queryForList("SELECT id FROM children", UUID.class))
+                .containsExactlyInAnyOrder(first, second);
+    }
+}
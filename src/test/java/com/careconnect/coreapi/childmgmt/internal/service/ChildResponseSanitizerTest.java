@@ -0,0 +1,70 @@
+package com.careconnect.coreapi.childmgmt.internal.service;
+
+import com.careconnect.coreapi.childmgmt.domain.Child;
+import com.careconnect.coreapi.childmgmt.dto.ChildResponseDto;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ChildResponseSanitizerTest {
+
+    private final ChildResponseSanitizer sanitizer = new ChildResponseSanitizer();
+
+    @Test
+    void fromEntity_ShouldReuseSanitizedFieldsForSameVersion() {
+        Instant updatedAt = Instant.parse("2024-01-01T10:00:00.123456789Z");
+        Child written = child("Jane", updatedAt);
+        sanitizer.sanitizeOnWrite(written);
+
+        // Reloaded from the database with microsecond precision
+        Child reloaded = child("Jane", Instant.parse("2024-01-01T10:00:00.123456Z"));
+        reloaded.setId(written.getId());
+        ChildResponseDto dto = sanitizer.fromEntity(reloaded);
+
+        assertThat(dto.getFirstName()).isEqualTo("Jane");
+        assertThat(sanitizer.cache().hitCount()).isEqualTo(1);
+        assertThat(sanitizer.cache().missCount()).isZero();
+    }
+
+    @Test
+    void fromEntity_ShouldResanitizeWhenUpdatedAtChanges() {
+        Child child = child("Jane", Instant.parse("2024-01-01T10:00:00Z"));
+        sanitizer.fromEntity(child);
+
+        child.setFirstName("<b>Janet</b>");
+        child.setUpdatedAt(Instant.parse("2024-01-02T10:00:00Z"));
+
+        assertThat(sanitizer.fromEntity(child).getFirstName()).isEqualTo("Janet");
+        // The outdated entry is a miss, not a hit
+        assertThat(sanitizer.cache().hitCount()).isZero();
+        assertThat(sanitizer.cache().missCount()).isEqualTo(2);
+        assertThat(sanitizer.fromEntity(child).getFirstName()).isEqualTo("Janet");
+        assertThat(sanitizer.cache().hitCount()).isEqualTo(1);
+    }
+
+    @Test
+    void evict_ShouldDropCachedFields() {
+        Child child = child("Jane", Instant.parse("2024-01-01T10:00:00Z"));
+        sanitizer.sanitizeOnWrite(child);
+
+        sanitizer.evict(child.getId());
+        sanitizer.fromEntity(child);
+
+        assertThat(sanitizer.cache().missCount()).isEqualTo(1);
+    }
+
+    private Child child(String firstName, Instant updatedAt) {
+        Child child = new Child();
+        child.setId(UUID.randomUUID());
+        child.setFirstName(firstName);
+        child.setLastName("Doe");
+        child.setGender("F");
+        child.setDob(Instant.parse("2020-01-01T00:00:00Z"));
+        child.setCreatedAt(updatedAt);
+        child.setUpdatedAt(updatedAt);
+        return child;
+    }
+}
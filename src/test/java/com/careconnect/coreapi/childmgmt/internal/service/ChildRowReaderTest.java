@@ -0,0 +1,115 @@
+package com.careconnect.coreapi.childmgmt.internal.service;
+
+import com.careconnect.coreapi.childmgmt.dto.ChildBulkRequestDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ChildRowReaderTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+
+    @Test
+    void ndjson_ReadsOneChildPerLineAndSkipsBlankLines() throws IOException {
+        UUID id = UUID.randomUUID();
+        String body = """
+                {"id":"%s","firstName":"Emma","lastName":"Roy","dob":"2020-05-01T00:00:00.000Z"}
+
+                {"firstName":"Liam","lastName":"Chen","dob":"2021-02-03T00:00:00.000Z","gender":"Male"}
+                """.formatted(id);
+
+        List<ChildRowReader.Row> rows = readAll(ChildRowReader.ndjson(new StringReader(body), objectMapper));
+
+        assertThat(rows).hasSize(2);
+        assertThat(rows.get(0).number()).isEqualTo(1);
+        assertThat(rows.get(0).child().getId()).isEqualTo(id);
+        assertThat(rows.get(0).child().getDob()).isEqualTo(Instant.parse("2020-05-01T00:00:00Z"));
+        assertThat(rows.get(1).number()).isEqualTo(3);
+        assertThat(rows.get(1).child().getGender()).isEqualTo("Male");
+    }
+
+    @Test
+    void ndjson_MalformedLineIsReportedAndReadingContinues() throws IOException {
+        String body = "{\"firstName\":\"Emma\"\n{\"firstName\":\"Liam\",\"lastName\":\"Chen\"}\n";
+
+        List<ChildRowReader.Row> rows = readAll(ChildRowReader.ndjson(new StringReader(body), objectMapper));
+
+        assertThat(rows).hasSize(2);
+        assertThat(rows.get(0).child()).isNull();
+        assertThat(rows.get(0).error()).startsWith("Malformed JSON");
+        assertThat(rows.get(1).child().getFirstName()).isEqualTo("Liam");
+    }
+
+    @Test
+    void ndjson_NullLineIsReportedAndReadingContinues() throws IOException {
+        String body = "null\n{\"firstName\":\"Liam\",\"lastName\":\"Chen\"}\n";
+
+        List<ChildRowReader.Row> rows = readAll(ChildRowReader.ndjson(new StringReader(body), objectMapper));
+
+        assertThat(rows).hasSize(2);
+        assertThat(rows.get(0).child()).isNull();
+        assertThat(rows.get(0).error()).isEqualTo("Expected a JSON object");
+        assertThat(rows.get(1).child().getFirstName()).isEqualTo("Liam");
+    }
+
+    @Test
+    void csv_MapsHeaderColumnsInEitherCase() throws IOException {
+        String body = "first_name,lastName,DOB,special_needs,unknown\r\n" +
+                "Emma,Roy,2020-05-01,,x\r\n" +
+                "Chloé,Côté,2021-02-03T10:15:30Z,Needs nap,y\r\n";
+
+        List<ChildRowReader.Row> rows = readAll(ChildRowReader.csv(new StringReader(body)));
+
+        assertThat(rows).extracting(ChildRowReader.Row::number).containsExactly(1L, 2L);
+        ChildBulkRequestDto first = rows.get(0).child();
+        assertThat(first.getFirstName()).isEqualTo("Emma");
+        assertThat(first.getDob()).isEqualTo(Instant.parse("2020-05-01T00:00:00Z"));
+        assertThat(first.getSpecialNeeds()).isNull();
+        assertThat(rows.get(1).child().getLastName()).isEqualTo("Côté");
+        assertThat(rows.get(1).child().getDob()).isEqualTo(Instant.parse("2021-02-03T10:15:30Z"));
+    }
+
+    @Test
+    void csv_HandlesQuotedCommasQuotesAndLineBreaks() throws IOException {
+        String body = "firstName,lastName,dob,specialNeeds\n" +
+                "\"Jean-Luc\",\"O'Brien, Jr.\",2020-01-01,\"Says \"\"hi\"\"\nand waves\"\n";
+
+        List<ChildRowReader.Row> rows = readAll(ChildRowReader.csv(new StringReader(body)));
+
+        assertThat(rows).hasSize(1);
+        assertThat(rows.get(0).child().getLastName()).isEqualTo("O'Brien, Jr.");
+        assertThat(rows.get(0).child().getSpecialNeeds()).isEqualTo("Says \"hi\"\nand waves");
+    }
+
+    @Test
+    void csv_ReportsUnparseableValues() throws IOException {
+        String body = "id,firstName,lastName,dob\nnot-a-uuid,Emma,Roy,2020-01-01\n,Liam,Chen,01/02/2020\n,Mia,Lee,2020-01-01,extra\n";
+
+        List<ChildRowReader.Row> rows = readAll(ChildRowReader.csv(new StringReader(body)));
+
+        assertThat(rows).extracting(ChildRowReader.Row::error).containsExactly(
+                "Invalid id: not-a-uuid",
+                "Invalid date of birth: 01/02/2020",
+                "Row has 5 columns, header has 4");
+    }
+
+    private static List<ChildRowReader.Row> readAll(ChildRowReader reader) throws IOException {
+        List<ChildRowReader.Row> rows = new ArrayList<>();
+        try (reader) {
+            ChildRowReader.Row row;
+            while ((row = reader.next()) != null) {
+                rows.add(row);
+            }
+        }
+        return rows;
+    }
+}
@@ -3,6 +3,7 @@ package com.careconnect.coreapi.childmgmt.internal.service;
 import com.careconnect.coreapi.childmgmt.domain.Child;
 import com.careconnect.coreapi.childmgmt.internal.repository.ChildRepository;
 import com.careconnect.coreapi.childmgmt.internal.repository.GuardianRepository;
+import com.careconnect.coreapi.childmgmt.internal.search.ChildNameSearch;
 import com.careconnect.coreapi.common.exceptions.ResourceNotFoundException;
 import com.careconnect.coreapi.common.response.PageResponse;
 import org.junit.jupiter.api.BeforeEach;
@@ -11,6 +12,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
@@ -36,6 +38,15 @@ class ChildServiceTest {
     @Mock
     private GuardianRepository guardianRepository;
 
+    @Mock
+    private ChildNameSearch childNameSearch;
+
+    @Mock
+    private ChildResponseSanitizer childResponseSanitizer;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private ChildService childService;
 
@@ -193,9 +204,9 @@ class ChildServiceTest {
         String name = "John";
         String gender = "Male";
         Pageable pageable = PageRequest.of(0, 10);
-        Page<Child> childrenPage = new PageImpl<>(Arrays.asList(testChild), pageable, 1);
         
-        when(childRepository.findByFilters(name, gender, pageable)).thenReturn(childrenPage);
+        when(childNameSearch.search(name, gender, pageable)).thenReturn(new PageImpl<>(List.of(childId), pageable, 1));
+        when(childRepository.findAllById(List.of(childId))).thenReturn(Arrays.asList(testChild));
 
         // When
         Page<Child> result = childService.searchChildren(name, gender, pageable);
@@ -204,7 +215,7 @@ class ChildServiceTest {
         assertThat(result).isNotNull();
         assertThat(result.getContent()).hasSize(1);
         assertThat(result.getContent().get(0).getFirstName()).isEqualTo("John");
-        verify(childRepository).findByFilters(name, gender, pageable);
+        verify(childNameSearch).search(name, gender, pageable);
     }
 
     @Test
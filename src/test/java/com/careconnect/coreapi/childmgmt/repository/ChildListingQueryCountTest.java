@@ -0,0 +1,190 @@
+package com.careconnect.coreapi.childmgmt.repository;
+
+import com.careconnect.coreapi.childmgmt.domain.Child;
+import com.careconnect.coreapi.childmgmt.domain.ChildGuardian;
+import com.careconnect.coreapi.childmgmt.domain.Guardian;
+import com.careconnect.coreapi.childmgmt.dto.ChildResponseDto;
+import com.careconnect.coreapi.childmgmt.dto.ChildSummary;
+import com.careconnect.coreapi.childmgmt.internal.search.InMemoryChildNameSearch;
+import com.careconnect.coreapi.childmgmt.internal.service.ChildService;
+import com.careconnect.coreapi.common.response.PageCursor;
+import com.careconnect.coreapi.common.response.PageResponse;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Guards against N+1 queries when listing children: the number of statements needed to
+ * build the response DTOs must not grow with the page size.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+@Import({ChildService.class, InMemoryChildNameSearch.class})
+class ChildListingQueryCountTest {
+
+    private static final int CHILD_COUNT = 30;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private ChildService childService;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        Instant now = Instant.now();
+        for (int i = 0; i < CHILD_COUNT; i++) {
+            Child child = new Child();
+            child.setFirstName("Child" + i);
+            child.setLastName("Family" + i);
+            child.setDob(Instant.parse("2020-01-01T00:00:00Z"));
+            child.setGender(i % 2 == 0 ? "F" : "M");
+            child.setCreatedAt(now);
+            child.setUpdatedAt(now);
+            entityManager.persist(child);
+
+            link(child, guardian("Mother", now), true, now);
+            link(child, guardian("Father", now), false, now);
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManager.getEntityManager().getEntityManagerFactory()
+                .unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    void getAllChildren_QueryCountIndependentOfPageSize() {
+        long smallPage = statementsToList(5);
+        long largePage = statementsToList(CHILD_COUNT);
+
+        // page query + count query + guardian link query
+        assertThat(smallPage).isLessThanOrEqualTo(3);
+        assertThat(largePage).isEqualTo(smallPage);
+    }
+
+    @Test
+    void getAllChildren_ReturnsGuardianIds() {
+        PageResponse<Child> page = childService.getAllChildren(PageRequest.of(0, 10, Sort.by("lastName")));
+        List<ChildResponseDto> dtos = ChildResponseDto.fromEntityList(page.getData());
+
+        assertThat(dtos).hasSize(10).allSatisfy(dto -> {
+            assertThat(dto.getAllGuardianIds()).hasSize(2);
+            assertThat(dto.getPrimaryGuardianId()).isNotNull();
+        });
+    }
+
+    @Test
+    void getChildSummaries_LoadsNoEntitiesAndKeepsQueryCountConstant() {
+        long smallPage = statementsToListSummaries(5);
+        long largePage = statementsToListSummaries(CHILD_COUNT);
+
+        // summary query + count query + guardian link query, and no managed entities
+        assertThat(smallPage).isLessThanOrEqualTo(3);
+        assertThat(largePage).isEqualTo(smallPage);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+
+    @Test
+    void getChildSummaries_MatchesEntityListing() {
+        PageRequest pageable = PageRequest.of(0, 10, Sort.by("lastName"));
+        List<ChildResponseDto> fromEntities = ChildResponseDto.fromEntityList(childService.getAllChildren(pageable).getData());
+        entityManager.clear();
+
+        List<ChildResponseDto> fromSummaries = childService.getChildSummaries(pageable).getData().stream()
+                .map(ChildResponseDto::fromSummary)
+                .toList();
+
+        assertThat(fromSummaries).usingRecursiveFieldByFieldElementComparatorIgnoringFields("allGuardianIds")
+                .containsExactlyElementsOf(fromEntities);
+        for (int i = 0; i < fromEntities.size(); i++) {
+            assertThat(fromSummaries.get(i).getAllGuardianIds())
+                    .containsExactlyInAnyOrderElementsOf(fromEntities.get(i).getAllGuardianIds());
+        }
+    }
+
+    @Test
+    void getChildSummariesAfter_WalksEveryChildOnceInKeysetOrder() {
+        List<ChildSummary> walked = new ArrayList<>();
+        PageCursor cursor = null;
+        int pages = 0;
+        do {
+            PageResponse<ChildSummary> page = childService.getChildSummariesAfter(cursor, 7, false);
+            walked.addAll(page.getData());
+            cursor = PageCursor.decode(page.getMeta().getNextCursor());
+            pages++;
+        } while (cursor != null);
+
+        List<ChildSummary> offsetOrder = childService.getChildSummaries(
+                PageRequest.of(0, CHILD_COUNT, Sort.by("lastName", "id"))).getData();
+        assertThat(pages).isEqualTo(5);
+        assertThat(walked).extracting(ChildSummary::id)
+                .containsExactlyElementsOf(offsetOrder.stream().map(ChildSummary::id).toList());
+        assertThat(walked).allSatisfy(summary -> assertThat(summary.guardianIds()).hasSize(2));
+    }
+
+    @Test
+    void getChildSummariesAfter_CountsOnlyWhenRequested() {
+        assertThat(childService.getChildSummariesAfter(null, 10, false).getMeta().getTotalElements()).isEqualTo(-1);
+        assertThat(childService.getChildSummariesAfter(null, 10, true).getMeta().getTotalElements()).isEqualTo(CHILD_COUNT);
+    }
+
+    private long statementsToListSummaries(int pageSize) {
+        entityManager.clear();
+        statistics.clear();
+
+        PageResponse<ChildSummary> page = childService.getChildSummaries(PageRequest.of(0, pageSize, Sort.by("lastName")));
+
+        assertThat(page.getData()).hasSize(pageSize)
+                .allSatisfy(summary -> assertThat(summary.guardianIds()).hasSize(2));
+        return statistics.getPrepareStatementCount();
+    }
+
+    private long statementsToList(int pageSize) {
+        entityManager.clear();
+        statistics.clear();
+
+        PageResponse<Child> page = childService.getAllChildren(PageRequest.of(0, pageSize, Sort.by("lastName")));
+        List<ChildResponseDto> dtos = ChildResponseDto.fromEntityList(page.getData());
+
+        assertThat(dtos).hasSize(pageSize);
+        return statistics.getPrepareStatementCount();
+    }
+
+    private Guardian guardian(String relationship, Instant now) {
+        Guardian guardian = new Guardian();
+        guardian.setUserId(UUID.randomUUID());
+        guardian.setRelationship(relationship);
+        guardian.setCreatedAt(now);
+        guardian.setUpdatedAt(now);
+        entityManager.persist(guardian);
+        return guardian;
+    }
+
+    private void link(Child child, Guardian guardian, boolean primary, Instant now) {
+        ChildGuardian link = new ChildGuardian();
+        link.setChild(child);
+        link.setGuardian(guardian);
+        link.setPrimaryGuardian(primary);
+        link.setCreatedAt(now);
+        link.setUpdatedAt(now);
+        entityManager.persist(link);
+    }
+}
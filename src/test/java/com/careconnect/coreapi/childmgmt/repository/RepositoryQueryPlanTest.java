@@ -0,0 +1,211 @@
+package com.careconnect.coreapi.childmgmt.repository;
+
+import com.careconnect.coreapi.childmgmt.domain.Allergy;
+import com.careconnect.coreapi.childmgmt.domain.Child;
+import com.careconnect.coreapi.childmgmt.domain.ChildAllergy;
+import com.careconnect.coreapi.childmgmt.domain.ChildGuardian;
+import com.careconnect.coreapi.childmgmt.domain.Guardian;
+import com.careconnect.coreapi.childmgmt.internal.repository.ChildAllergyRepository;
+import com.careconnect.coreapi.childmgmt.internal.repository.ChildGuardianRepository;
+import com.careconnect.coreapi.childmgmt.internal.repository.ChildRepository;
+import com.careconnect.coreapi.childmgmt.internal.repository.GuardianRepository;
+import com.careconnect.coreapi.user.domain.User;
+import com.careconnect.coreapi.user.internal.UserRepository;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import javax.sql.DataSource;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs {@code EXPLAIN} on the SQL that each repository finder issues and fails when H2 plans a
+ * table scan, so a new finder without a matching index (or a dropped index) is caught in the build.
+ *
+ * Not covered: {@code findByFilters}, the {@code Containing} finders and {@code findBySeverity},
+ * {@code findByRelationship} and {@code findByPickupAuthorized} (substring or low-cardinality
+ * filters that scan by design), and {@code findByNameIgnoreCase}, whose {@code upper(name)}
+ * index is PostgreSQL only. The partial indexes in V7 are PostgreSQL only too; H2 uses the full
+ * indexes declared on the entities.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector=" +
+        "com.careconnect.coreapi.childmgmt.repository.RepositoryQueryPlanTest$SqlRecorder")
+@ActiveProfiles("test")
+class RepositoryQueryPlanTest {
+
+    private static final int CHILD_COUNT = 50;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private ChildRepository childRepository;
+
+    @Autowired
+    private ChildGuardianRepository childGuardianRepository;
+
+    @Autowired
+    private ChildAllergyRepository childAllergyRepository;
+
+    @Autowired
+    private GuardianRepository guardianRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private JdbcTemplate jdbcTemplate;
+    private UUID childId;
+    private UUID guardianId;
+    private UUID userId;
+    private UUID allergyId;
+    private String clerkUserId;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        Instant now = Instant.now();
+        List<Allergy> allergies = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            Allergy allergy = new Allergy();
+            allergy.setName("Allergy" + i);
+            allergy.setSeverity(i % 2 == 0 ? "HIGH" : "LOW");
+            allergy.setCreatedAt(now);
+            allergy.setUpdatedAt(now);
+            allergies.add(entityManager.persist(allergy));
+        }
+
+        for (int i = 0; i < CHILD_COUNT; i++) {
+            User user = entityManager.persist(User.createNewUser("user_" + i));
+
+            Guardian guardian = new Guardian();
+            guardian.setUserId(user.getId());
+            guardian.setRelationship("Parent");
+            guardian.setCreatedAt(now);
+            guardian.setUpdatedAt(now);
+            entityManager.persist(guardian);
+
+            Child child = new Child();
+            child.setFirstName("Child" + i);
+            child.setLastName("Family" + i);
+            child.setDob(Instant.parse("2020-01-01T00:00:00Z"));
+            child.setGender(i % 2 == 0 ? "F" : "M");
+            child.setGuardian(i % 5 == 0 ? guardian : null);
+            child.setCreatedAt(now);
+            child.setUpdatedAt(now);
+            entityManager.persist(child);
+
+            ChildGuardian link = new ChildGuardian();
+            link.setChild(child);
+            link.setGuardian(guardian);
+            link.setPrimaryGuardian(true);
+            link.setCreatedAt(now);
+            link.setUpdatedAt(now);
+            entityManager.persist(link);
+
+            ChildAllergy childAllergy = new ChildAllergy();
+            childAllergy.setChild(child);
+            childAllergy.setAllergy(allergies.get(i % allergies.size()));
+            childAllergy.setCreatedAt(now);
+            childAllergy.setUpdatedAt(now);
+            entityManager.persist(childAllergy);
+
+            childId = child.getId();
+            guardianId = guardian.getId();
+            userId = user.getId();
+            allergyId = childAllergy.getAllergy().getId();
+            clerkUserId = user.getClerkUserId();
+        }
+        entityManager.flush();
+        entityManager.clear();
+        jdbcTemplate.execute("ANALYZE");
+    }
+
+    @Test
+    void childRepository_FindersUseIndexes() {
+        assertIndexed(() -> childRepository.findByGuardianId(guardianId));
+        assertIndexed(() -> childRepository.findByAssociatedGuardianId(guardianId));
+        assertIndexed(() -> childRepository.fetchGuardianLinks(List.of(childId)));
+        assertIndexed(() -> childRepository.findGuardianLinks(List.of(childId)));
+    }
+
+    @Test
+    void childGuardianRepository_FindersUseIndexes() {
+        assertIndexed(() -> childGuardianRepository.findByChildId(childId));
+        assertIndexed(() -> childGuardianRepository.findByGuardianId(guardianId));
+        assertIndexed(() -> childGuardianRepository.findByChildIdAndGuardianId(childId, guardianId));
+        assertIndexed(() -> childGuardianRepository.findPrimaryGuardianByChildId(childId));
+        assertIndexed(() -> childGuardianRepository.countByChildId(childId));
+        assertIndexed(() -> childGuardianRepository.existsByChildIdAndGuardianId(childId, guardianId));
+    }
+
+    @Test
+    void childAllergyRepository_FindersUseIndexes() {
+        assertIndexed(() -> childAllergyRepository.findByChildId(childId));
+        assertIndexed(() -> childAllergyRepository.findByAllergyId(allergyId));
+        assertIndexed(() -> childAllergyRepository.findByChildIdAndSeverity(childId, "HIGH"));
+        assertIndexed(() -> childAllergyRepository.existsByChildIdAndAllergyId(childId, allergyId));
+        assertIndexed(() -> childAllergyRepository.deleteByChildIdAndAllergyId(childId, allergyId));
+    }
+
+    @Test
+    void guardianAndUserRepositories_FindersUseIndexes() {
+        assertIndexed(() -> guardianRepository.findByUserId(userId));
+        assertIndexed(() -> guardianRepository.findByUserClerkUserId(clerkUserId));
+        assertIndexed(() -> userRepository.findByClerkUserId(clerkUserId));
+    }
+
+    @Test
+    void tablesWithoutRepositories_LookupsUseIndexes() {
+        // attendance, billing and messages have no repositories yet; their indexes cover these lookups
+        assertPlanIndexed("SELECT * FROM attendance WHERE child_id = ? ORDER BY check_in");
+        assertPlanIndexed("SELECT * FROM billing WHERE guardian_id = ? ORDER BY due_date");
+        assertPlanIndexed("SELECT * FROM messages WHERE recipient_id = ? ORDER BY created_at DESC");
+    }
+
+    private void assertIndexed(Runnable finder) {
+        SqlRecorder.STATEMENTS.clear();
+        finder.run();
+        entityManager.flush();
+        List<String> selects = SqlRecorder.STATEMENTS.stream()
+                .filter(sql -> sql.stripLeading().toLowerCase().startsWith("select"))
+                .toList();
+        entityManager.clear();
+
+        assertThat(selects).as("statements issued by the finder").isNotEmpty();
+        selects.forEach(this::assertPlanIndexed);
+    }
+
+    // H2 plans without bound parameters; a scan shows up as /* PUBLIC.TABLE.tableScan */
+    private void assertPlanIndexed(String sql) {
+        String plan = jdbcTemplate.queryForObject("EXPLAIN " + sql, String.class);
+        assertThat(plan).as("plan of %s", sql).doesNotContainIgnoringCase("tableScan");
+    }
+
+    /**
+     * Records the SQL Hibernate sends, so the test can explain exactly what a finder runs.
+     */
+    public static class SqlRecorder implements StatementInspector {
+
+        static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            STATEMENTS.add(sql);
+            return sql;
+        }
+    }
+}
@@ -2,9 +2,13 @@ package com.careconnect.coreapi.childmgmt.service;
 
 import com.careconnect.coreapi.childmgmt.domain.Child;
 import com.careconnect.coreapi.childmgmt.domain.Guardian;
+import com.careconnect.coreapi.childmgmt.events.ChildDeletedEvent;
+import com.careconnect.coreapi.childmgmt.events.ChildRegisteredEvent;
 import com.careconnect.coreapi.childmgmt.internal.repository.ChildRepository;
+import com.careconnect.coreapi.childmgmt.internal.service.ChildResponseSanitizer;
 import com.careconnect.coreapi.childmgmt.internal.service.ChildService;
 import com.careconnect.coreapi.childmgmt.internal.repository.GuardianRepository;
+import com.careconnect.coreapi.childmgmt.internal.search.ChildNameSearch;
 import com.careconnect.coreapi.common.exceptions.ResourceNotFoundException;
 import com.careconnect.coreapi.common.exceptions.ValidationException;
 import com.careconnect.coreapi.common.response.PageResponse;
@@ -15,6 +19,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
@@ -38,6 +43,15 @@ class ChildServiceTest {
     @Mock
     private GuardianRepository guardianRepository;
 
+    @Mock
+    private ChildNameSearch childNameSearch;
+
+    @Mock
+    private ChildResponseSanitizer childResponseSanitizer;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private ChildService childService;
 
@@ -120,6 +134,7 @@ class ChildServiceTest {
         assertThat(result).isNotNull();
         assertThat(result.getFirstName()).isEqualTo("John");
         verify(childRepository).save(any(Child.class));
+        verify(eventPublisher).publishEvent(any(ChildRegisteredEvent.class));
     }
 
     @Test
@@ -167,6 +182,7 @@ class ChildServiceTest {
         // Then
         verify(childRepository).existsById(childId);
         verify(childRepository).deleteById(childId);
+        verify(eventPublisher).publishEvent(any(ChildDeletedEvent.class));
     }
 
     @Test
@@ -182,14 +198,27 @@ class ChildServiceTest {
         verify(childRepository, never()).deleteById(any());
     }
 
+    @Test
+    void getGuardianChildren_WhenGuardianDoesNotExist_ShouldThrowResourceNotFoundException() {
+        // Given
+        when(guardianRepository.existsById(guardianId)).thenReturn(false);
+
+        // When & Then
+        assertThatThrownBy(() -> childService.getGuardianChildren(guardianId))
+                .isInstanceOf(ResourceNotFoundException.class)
+                .hasMessage("Guardian not found with ID: " + guardianId);
+        verifyNoInteractions(childRepository);
+    }
+
     @Test
     void searchChildren_ShouldReturnFilteredResults() {
         // Given
         Pageable pageable = PageRequest.of(0, 10);
-        Page<Child> childrenPage = new PageImpl<>(List.of(testChild));
 
-        when(childRepository.findByFilters("John", "Male", pageable))
-                .thenReturn(childrenPage);
+        when(childNameSearch.search("John", "Male", pageable))
+                .thenReturn(new PageImpl<>(List.of(childId), pageable, 1));
+        when(childRepository.findAllById(List.of(childId)))
+                .thenReturn(List.of(testChild));
 
         // When
         Page<Child> result = childService.searchChildren("John", "Male", pageable);
@@ -197,7 +226,44 @@ class ChildServiceTest {
         // Then
         assertThat(result).isNotNull();
         assertThat(result.getContent()).hasSize(1);
-        verify(childRepository).findByFilters("John", "Male", pageable);
+        verify(childNameSearch).search("John", "Male", pageable);
+        verify(childRepository, never()).findByFilters(any(), any(), any());
+    }
+
+    @Test
+    void searchChildren_ShouldKeepRankOrder() {
+        // Given
+        Pageable pageable = PageRequest.of(0, 10);
+        Child other = new Child();
+        other.setId(UUID.randomUUID());
+        other.setFirstName("Johanna");
+
+        when(childNameSearch.search("Joh", null, pageable))
+                .thenReturn(new PageImpl<>(List.of(other.getId(), childId), pageable, 2));
+        when(childRepository.findAllById(List.of(other.getId(), childId)))
+                .thenReturn(List.of(testChild, other));
+
+        // When
+        Page<Child> result = childService.searchChildren("Joh", null, pageable);
+
+        // Then
+        assertThat(result.getContent()).containsExactly(other, testChild);
+        assertThat(result.getTotalElements()).isEqualTo(2);
+    }
+
+    @Test
+    void searchChildren_WithGenderOnly_ShouldUseRepositoryFilter() {
+        // Given
+        Pageable pageable = PageRequest.of(0, 10);
+        when(childRepository.findByFilters(null, "Male", pageable))
+                .thenReturn(new PageImpl<>(List.of(testChild)));
+
+        // When
+        Page<Child> result = childService.searchChildren(" ", "Male", pageable);
+
+        // Then
+        assertThat(result.getContent()).hasSize(1);
+        verifyNoInteractions(childNameSearch);
     }
 
     @Test
@@ -0,0 +1,65 @@
+package com.careconnect.coreapi.common.config;
+
+import com.careconnect.coreapi.common.events.EventListenerExecutor;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.scheduling.annotation.Async;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AsyncConfigTest {
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withUserConfiguration(AsyncConfig.class, EventListenerExecutor.class, ThreadReporter.class)
+            .withPropertyValues("app.events.listener.concurrency=2");
+
+    @Test
+    void async_RunsOnVirtualListenerThreadsInEitherThreadMode() {
+        for (String virtualThreads : new String[]{"false", "true"}) {
+            contextRunner.withPropertyValues("spring.threads.virtual.enabled=" + virtualThreads).run(context -> {
+                Thread thread = context.getBean(ThreadReporter.class).currentThread().get();
+
+                assertThat(thread.isVirtual()).isTrue();
+                assertThat(thread.getName()).startsWith("event-listener-");
+            });
+        }
+    }
+
+    @Test
+    void async_RunsAtMostTheConfiguredNumberOfListenersAtOnce() {
+        contextRunner.run(context -> {
+            EventListenerExecutor executor = context.getBean(EventListenerExecutor.class);
+            ThreadReporter reporter = context.getBean(ThreadReporter.class);
+            CountDownLatch release = new CountDownLatch(1);
+
+            for (int i = 0; i < 5; i++) {
+                reporter.await(release);
+            }
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while ((executor.active() < 2 || executor.queued() < 3) && System.nanoTime() < deadline) {
+                Thread.sleep(10);
+            }
+
+            assertThat(executor.active()).isEqualTo(2);
+            assertThat(executor.queued()).isEqualTo(3);
+            release.countDown();
+        });
+    }
+
+    static class ThreadReporter {
+
+        @Async
+        public CompletableFuture<Thread> currentThread() {
+            return CompletableFuture.completedFuture(Thread.currentThread());
+        }
+
+        @Async
+        public void await(CountDownLatch latch) throws InterruptedException {
+            latch.await();
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package com.careconnect.coreapi.common.config;
+
+import com.careconnect.coreapi.childmgmt.domain.Allergy;
+import com.careconnect.coreapi.childmgmt.internal.service.AllergyService;
+import com.careconnect.coreapi.common.persistence.ReferenceDataCache;
+import com.careconnect.coreapi.facility.FacilityCapacities;
+import com.careconnect.coreapi.facility.FacilityCapacity;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * The second-level cache on H2: repeated allergy and facility lookups are answered from the
+ * cache, writes through Hibernate invalidate cached allergy queries, and the regions are
+ * exported as Micrometer meters.
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+class SecondLevelCacheConfigTest {
+
+    @Autowired
+    private AllergyService allergyService;
+
+    @Autowired
+    private FacilityCapacities facilityCapacities;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void clearCaches() {
+        SessionFactory sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+        sessionFactory.getCache().evictAllRegions();
+        statistics = sessionFactory.getStatistics();
+        statistics.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM allergies");
+        jdbcTemplate.update("DELETE FROM facilities");
+        entityManagerFactory.unwrap(SessionFactory.class).getCache().evictAllRegions();
+    }
+
+    @Test
+    void getAllAllergies_SecondCallIsServedFromQueryCache() {
+        allergyService.createAllergy(allergy("Peanuts"));
+        statistics.clear();
+
+        List<Allergy> first = allergyService.getAllAllergies();
+        List<Allergy> second = allergyService.getAllAllergies();
+
+        assertThat(second).extracting(Allergy::getName).isEqualTo(first.stream().map(Allergy::getName).toList());
+        assertThat(statistics.getQueryCacheMissCount()).isEqualTo(1);
+        assertThat(statistics.getQueryCacheHitCount()).isEqualTo(1);
+    }
+
+    @Test
+    void createAllergy_InvalidatesCachedAllergyQueries() {
+        allergyService.createAllergy(allergy("Peanuts"));
+        assertThat(allergyService.searchAllergiesByName("nut")).extracting(Allergy::getName).containsExactly("Peanuts");
+
+        allergyService.createAllergy(allergy("Walnuts"));
+
+        assertThat(allergyService.searchAllergiesByName("nut")).extracting(Allergy::getName)
+                .containsExactlyInAnyOrder("Peanuts", "Walnuts");
+        assertThat(statistics.getQueryCacheHitCount()).isZero();
+    }
+
+    @Test
+    void findCapacity_SecondCallIsServedFromEntityCache() {
+        UUID facilityId = UUID.randomUUID();
+        Timestamp now = Timestamp.from(Instant.now());
+        jdbcTemplate.update("INSERT INTO facilities (id, name, max_capacity, created_at, updated_at) " +
+                "VALUES (?, ?, ?, ?, ?)", facilityId, "Facility", 12, now, now);
+
+        assertThat(facilityCapacities.findCapacity(facilityId)).contains(new FacilityCapacity(facilityId, 12));
+        assertThat(facilityCapacities.findCapacity(facilityId)).contains(new FacilityCapacity(facilityId, 12));
+
+        assertThat(statistics.getDomainDataRegionStatistics(ReferenceDataCache.FACILITIES).getHitCount()).isEqualTo(1);
+    }
+
+    @Test
+    void regions_AreExportedAsCacheMeters() {
+        for (String region : ReferenceDataCache.REGIONS) {
+            assertThat(meterRegistry.find("cache.gets").tag("cache", region).functionCounters()).hasSize(2);
+            assertThat(meterRegistry.find("cache.evictions").tag("cache", region).functionCounter()).isNotNull();
+        }
+    }
+
+    private static Allergy allergy(String name) {
+        Allergy allergy = new Allergy();
+        allergy.setName(name);
+        allergy.setSeverity("HIGH");
+        return allergy;
+    }
+}
@@ -0,0 +1,90 @@
+package com.careconnect.coreapi.common.events;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Compaction against H2, where the archive is a plain table: only publications completed
+ * before the retention cutoff leave {@code event_publication}, in batches of two.
+ */
+@SpringBootTest(properties = {
+        "app.events.compaction.enabled=false",
+        "app.events.compaction.retention=P7D",
+        "app.events.compaction.batch-size=2"
+})
+@ActiveProfiles("test")
+class EventPublicationCompactionTest {
+
+    private static final String INSERT_SQL = "INSERT INTO event_publication " +
+            "(id, listener_id, event_type, serialized_event, publication_date, completion_date) VALUES (?, ?, ?, ?, ?, ?)";
+
+    private static final Instant NOW = Instant.parse("2024-09-16T02:00:00Z");
+
+    @Autowired
+    private EventPublicationCompaction compaction;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void emptyTables() {
+        jdbcTemplate.update("DELETE FROM event_publication");
+        jdbcTemplate.update("DELETE FROM event_publication_archive");
+    }
+
+    @Test
+    void compact_ArchivesPublicationsCompletedBeforeRetention() {
+        for (int i = 0; i < 5; i++) {
+            insert(NOW.minus(Duration.ofDays(10)), NOW.minus(Duration.ofDays(9)));
+        }
+        UUID recent = insert(NOW.minus(Duration.ofDays(2)), NOW.minus(Duration.ofDays(1)));
+        UUID incomplete = insert(NOW.minus(Duration.ofDays(30)), null);
+
+        int compacted = compaction.compact(NOW);
+
+        assertThat(compacted).isEqualTo(5);
+        assertThat(jdbcTemplate.queryForList("SELECT id FROM event_publication", UUID.class))
+                .containsExactlyInAnyOrder(recent, incomplete);
+        assertThat(count("event_publication_archive")).isEqualTo(5);
+        assertThat(compaction.compact(NOW)).isZero();
+    }
+
+    @Test
+    void compact_DeletesWithoutArchivingInDeleteMode() {
+        insert(NOW.minus(Duration.ofDays(10)), NOW.minus(Duration.ofDays(9)));
+        insert(NOW.minus(Duration.ofDays(10)), NOW.minus(Duration.ofDays(9)));
+        insert(NOW.minus(Duration.ofDays(10)), NOW.minus(Duration.ofDays(9)));
+        ReflectionTestUtils.setField(compaction, "mode", "delete");
+        try {
+            assertThat(compaction.compact(NOW)).isEqualTo(3);
+        } finally {
+            ReflectionTestUtils.setField(compaction, "mode", "archive");
+        }
+
+        assertThat(count("event_publication")).isZero();
+        assertThat(count("event_publication_archive")).isZero();
+    }
+
+    private UUID insert(Instant publishedAt, Instant completedAt) {
+        UUID id = UUID.randomUUID();
+        jdbcTemplate.update(INSERT_SQL, id, "listener", "java.lang.String", "\"event\"",
+                Timestamp.from(publishedAt), completedAt == null ? null : Timestamp.from(completedAt));
+        return id;
+    }
+
+    private long count(String table) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + table, Long.class);
+    }
+}
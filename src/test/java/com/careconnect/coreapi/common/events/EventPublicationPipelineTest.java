@@ -0,0 +1,142 @@
+package com.careconnect.coreapi.common.events;
+
+import com.careconnect.coreapi.user.api.RegisterUserCommand;
+import com.careconnect.coreapi.user.api.UserManagement;
+import com.careconnect.coreapi.user.events.UserRegisteredEvent;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.modulith.events.ApplicationModuleListener;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * The whole pipeline on H2: a registered user's event is recorded in {@code event_publication},
+ * handed to a listener on a virtual thread after commit, and marked completed when the queued
+ * completions are written. The flush interval is an hour, so that happens only when a test flushes.
+ */
+@SpringBootTest(properties = "app.events.completion.flush-interval=PT1H")
+@ActiveProfiles("test")
+class EventPublicationPipelineTest {
+
+    private static final String COMPLETION_SQL =
+            "SELECT COUNT(*) FROM event_publication WHERE serialized_event LIKE ? AND completion_date IS NOT NULL";
+
+    @Autowired
+    private UserManagement userManagement;
+
+    @Autowired
+    private RegistrationListener listener;
+
+    @Autowired
+    private EventPublicationCompletions completions;
+
+    @Autowired
+    private EventPublicationMetrics metrics;
+
+    @Autowired
+    private IncompleteEventResubmission resubmission;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void registerUser_ListenerRunsOnVirtualThreadAndCompletionIsWrittenInBulk() throws Exception {
+        userManagement.registerUser(RegisterUserCommand.of("user_pipeline_1"));
+
+        assertThat(listener.invoked.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(listener.threads.get(0).isVirtual()).isTrue();
+        awaitPendingCompletions();
+        assertThat(completedPublications("user_pipeline_1")).isZero();
+        double incomplete = metrics.incomplete();
+
+        completions.flush();
+
+        assertThat(completedPublications("user_pipeline_1")).isEqualTo(1);
+        assertThat(metrics.incomplete()).isEqualTo(incomplete - 1);
+        assertThat(completions.pending()).isZero();
+    }
+
+    @Test
+    void resubmit_DeliversPublicationsStillIncompleteAgain() throws Exception {
+        userManagement.registerUser(RegisterUserCommand.of("user_pipeline_2"));
+        awaitDeliveries("user_pipeline_2", 1);
+        // The completion is still queued, so the publication is incomplete in the database
+        assertThat(completedPublications("user_pipeline_2")).isZero();
+
+        int resubmitted = resubmission.resubmit(Instant.now());
+
+        assertThat(resubmitted).isPositive();
+        awaitDeliveries("user_pipeline_2", 2);
+        awaitCompletion("user_pipeline_2");
+    }
+
+    private void awaitCompletion(String clerkUserId) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        do {
+            completions.flush();
+            if (completedPublications(clerkUserId) == 1) {
+                return;
+            }
+            Thread.sleep(10);
+        } while (System.nanoTime() < deadline);
+        assertThat(completedPublications(clerkUserId)).isEqualTo(1);
+    }
+
+    private void awaitDeliveries(String clerkUserId, long expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (listener.deliveries(clerkUserId) < expected && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(listener.deliveries(clerkUserId)).isEqualTo(expected);
+    }
+
+    private void awaitPendingCompletions() throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (completions.pending() == 0 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(completions.pending()).isPositive();
+    }
+
+    private long completedPublications(String clerkUserId) {
+        return jdbcTemplate.queryForObject(COMPLETION_SQL, Long.class, "%" + clerkUserId + "%");
+    }
+
+    @TestConfiguration
+    static class Listeners {
+
+        @Bean
+        RegistrationListener registrationListener() {
+            return new RegistrationListener();
+        }
+    }
+
+    static class RegistrationListener {
+
+        private final List<Thread> threads = new CopyOnWriteArrayList<>();
+        private final List<String> clerkUserIds = new CopyOnWriteArrayList<>();
+        private final CountDownLatch invoked = new CountDownLatch(1);
+
+        @ApplicationModuleListener
+        public void on(UserRegisteredEvent event) {
+            threads.add(Thread.currentThread());
+            clerkUserIds.add(event.getClerkUserId());
+            invoked.countDown();
+        }
+
+        long deliveries(String clerkUserId) {
+            return clerkUserIds.stream().filter(clerkUserId::equals).count();
+        }
+    }
+}
@@ -52,6 +52,18 @@ class GlobalExceptionHandlerTest {
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CONFLICT);
     }
 
+    @Test
+    void handleConflictException_ShouldReturnConflict() {
+        // Given
+        ConflictException exception = new ConflictException("Facility is at capacity");
+
+        // When
+        ResponseEntity<?> response = exceptionHandler.handleConflictException(exception);
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CONFLICT);
+    }
+
     @Test
     void handleValidationExceptions_ShouldReturnBadRequest() {
         // Given
@@ -0,0 +1,125 @@
+package com.careconnect.coreapi.common.filter;
+
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.security.KeyPairGenerator;
+import java.security.interfaces.RSAPublicKey;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Exercises the JWKS prefetch against a local stub key server.
+ */
+class ClerkJwksKeySetTest {
+
+    private static final String SECRET_KEY = "sk_test_stub";
+
+    private HttpServer server;
+    private RSAPublicKey publicKey;
+    private final AtomicInteger requests = new AtomicInteger();
+    private volatile int status = 200;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+        generator.initialize(2048);
+        publicKey = (RSAPublicKey) generator.generateKeyPair().getPublic();
+
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/v1/jwks", exchange -> {
+            requests.incrementAndGet();
+            boolean authorized = ("Bearer " + SECRET_KEY).equals(exchange.getRequestHeaders().getFirst("Authorization"));
+            byte[] body = jwks().getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(authorized ? status : 401, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        server.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    void refresh_ShouldLoadRsaKeysAsPem() throws IOException {
+        ClerkJwksKeySet keySet = new ClerkJwksKeySet(jwksUri(), SECRET_KEY, Duration.ofMinutes(10));
+
+        keySet.refresh();
+
+        String expectedPem = "-----BEGIN PUBLIC KEY-----\n"
+                + Base64.getMimeEncoder(64, "\n".getBytes(StandardCharsets.US_ASCII)).encodeToString(publicKey.getEncoded())
+                + "\n-----END PUBLIC KEY-----";
+        assertThat(keySet.findPem("ins_test_kid")).isEqualTo(expectedPem);
+        assertThat(keySet.findPem("unknown")).isNull();
+        assertThat(keySet.findPem(null)).isNull();
+        assertThat(keySet.size()).isEqualTo(1);
+    }
+
+    @Test
+    void refresh_ShouldKeepPreviousSnapshotWhenEndpointFails() throws IOException {
+        ClerkJwksKeySet keySet = new ClerkJwksKeySet(jwksUri(), SECRET_KEY, Duration.ofMinutes(10));
+        keySet.refresh();
+
+        status = 503;
+
+        assertThatThrownBy(keySet::refresh).isInstanceOf(IOException.class);
+        assertThat(keySet.findPem("ins_test_kid")).isNotNull();
+    }
+
+    @Test
+    void start_ShouldPrefetchKeysInBackground() throws InterruptedException {
+        try (ClerkJwksKeySet keySet = new ClerkJwksKeySet(jwksUri(), SECRET_KEY, Duration.ofMinutes(10))) {
+            keySet.start(null);
+
+            long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+            while (keySet.findPem("ins_test_kid") == null && System.nanoTime() < deadline) {
+                Thread.sleep(10);
+            }
+
+            assertThat(keySet.findPem("ins_test_kid")).isNotNull();
+            assertThat(requests.get()).isEqualTo(1);
+        }
+    }
+
+    @Test
+    void parse_ShouldSkipNonRsaKeys() throws IOException {
+        String body = "{\"keys\":[{\"kty\":\"EC\",\"kid\":\"ec-key\",\"crv\":\"P-256\"}]}";
+
+        assertThat(ClerkJwksKeySet.parse(body)).isEmpty();
+    }
+
+    private URI jwksUri() {
+        return URI.create("http://127.0.0.1:" + server.getAddress().getPort() + "/v1/jwks");
+    }
+
+    private String jwks() {
+        Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+        return "{\"keys\":[{\"use\":\"sig\",\"kty\":\"RSA\",\"kid\":\"ins_test_kid\",\"alg\":\"RS256\","
+                + "\"n\":\"" + encoder.encodeToString(unsigned(publicKey.getModulus().toByteArray())) + "\","
+                + "\"e\":\"" + encoder.encodeToString(unsigned(publicKey.getPublicExponent().toByteArray())) + "\"}]}";
+    }
+
+    private static byte[] unsigned(byte[] bytes) {
+        if (bytes.length > 1 && bytes[0] == 0) {
+            byte[] trimmed = new byte[bytes.length - 1];
+            System.arraycopy(bytes, 1, trimmed, 0, trimmed.length);
+            return trimmed;
+        }
+        return bytes;
+    }
+}
@@ -0,0 +1,64 @@
+package com.careconnect.coreapi.common.filter;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.util.AntPathMatcher;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PublicEndpointMatcherTest {
+
+    private static final List<String> PATTERNS = List.of(
+            "/api/test/**", "/api/public/**", "/health", "/actuator/**", "/h2-console/**",
+            "/api/users/test", "/api/children/*", "/x/**/y", "/v?/status");
+
+    private static final List<String> PATHS = List.of(
+            "/api/test", "/api/test/", "/api/test/a/b", "/api/testing", "/health", "/health/", "//health",
+            "/actuator", "/actuator/metrics", "/api/children/1", "/api/children", "/api/children/1/guardians",
+            "/x/1/2/y", "/v1/status", "/api/users/test", "/api/users/other", "", "health");
+
+    @Test
+    void matches_ShouldAgreeWithAntPathMatcher() {
+        AntPathMatcher antPathMatcher = new AntPathMatcher();
+        PublicEndpointMatcher matcher = new PublicEndpointMatcher(() -> PATTERNS);
+
+        for (String path : PATHS) {
+            boolean expected = PATTERNS.stream().anyMatch(pattern -> antPathMatcher.match(pattern, path));
+            assertThat(matcher.matches(path)).as(path).isEqualTo(expected);
+        }
+    }
+
+    @Test
+    void matches_ShouldTreatDoubleWildcardAsMatchAll() {
+        PublicEndpointMatcher matcher = new PublicEndpointMatcher(() -> List.of("/**"));
+
+        assertThat(matcher.matches("/")).isTrue();
+        assertThat(matcher.matches("/api/children/123")).isTrue();
+        assertThat(matcher.matches(null)).isFalse();
+    }
+
+    @Test
+    void matches_ShouldHandleMissingConfiguration() {
+        PublicEndpointMatcher matcher = new PublicEndpointMatcher(() -> null);
+
+        assertThat(matcher.matches("/health")).isFalse();
+    }
+
+    @Test
+    void matches_ShouldRecompileWhenPatternListIsReplaced() {
+        AtomicReference<List<String>> patterns = new AtomicReference<>(List.of("/health"));
+        PublicEndpointMatcher matcher = new PublicEndpointMatcher(patterns::get);
+
+        assertThat(matcher.matches("/api/public/info")).isFalse();
+
+        List<String> refreshed = new ArrayList<>(patterns.get());
+        refreshed.add("/api/public/**");
+        patterns.set(refreshed);
+
+        assertThat(matcher.matches("/api/public/info")).isTrue();
+        assertThat(matcher.matches("/health")).isTrue();
+    }
+}
@@ -0,0 +1,28 @@
+package com.careconnect.coreapi.common.filter;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * The filter as Boot registers it: initialised by Spring and again by the servlet container.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "app.security.enabled=true",
+        // Nothing listens here; the prefetch fails quietly and is retried on the refresh thread
+        "clerk.api.jwks-url=http://127.0.0.1:1/v1/jwks"
+})
+@ActiveProfiles("test")
+class RequestAuthenticationFilterRegistrationTest {
+
+    @Test
+    void contextStart_StartsOneJwksRefreshThread() {
+        long refreshThreads = Thread.getAllStackTraces().keySet().stream()
+                .filter(thread -> thread.getName().equals("clerk-jwks-refresh"))
+                .count();
+
+        assertThat(refreshThreads).isEqualTo(1);
+    }
+}
@@ -0,0 +1,102 @@
+package com.careconnect.coreapi.common.filter;
+
+import com.careconnect.coreapi.common.config.SecurityProperties;
+import jakarta.servlet.http.Cookie;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.concurrent.Semaphore;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RequestAuthenticationFilterTest {
+
+    @Test
+    void extractSessionToken_ShouldPreferBearerHeader() {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader("Authorization", "Bearer header-token");
+        request.setCookies(new Cookie("__session", "cookie-token"));
+
+        assertThat(RequestAuthenticationFilter.extractSessionToken(request)).isEqualTo("header-token");
+    }
+
+    @Test
+    void extractSessionToken_ShouldFallBackToSessionCookie() {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setCookies(new Cookie("__session", "cookie-token"));
+
+        assertThat(RequestAuthenticationFilter.extractSessionToken(request)).isEqualTo("cookie-token");
+    }
+
+    @Test
+    void extractSessionToken_ShouldReturnNullWithoutToken() {
+        assertThat(RequestAuthenticationFilter.extractSessionToken(new MockHttpServletRequest())).isNull();
+    }
+
+    @Test
+    void extractExpiry_ShouldReadExpClaim() {
+        String token = jwt("{\"alg\":\"RS256\",\"kid\":\"k1\"}", "{\"sub\":\"user_1\",\"exp\":1735689600}");
+
+        assertThat(RequestAuthenticationFilter.extractExpiry(token)).isEqualTo(Instant.ofEpochSecond(1735689600));
+    }
+
+    @Test
+    void extractExpiry_ShouldReturnNullForMalformedToken() {
+        assertThat(RequestAuthenticationFilter.extractExpiry("not-a-jwt")).isNull();
+        assertThat(RequestAuthenticationFilter.extractExpiry(jwt("{}", "{\"sub\":\"user_1\"}"))).isNull();
+    }
+
+    @Test
+    void doFilter_ShouldRejectWith503WhenClerkVerificationsAreSaturated() throws Exception {
+        SecurityProperties securityProperties = new SecurityProperties();
+        securityProperties.setEnabled(true);
+        RequestAuthenticationFilter filter = new RequestAuthenticationFilter(securityProperties);
+        ReflectionTestUtils.setField(filter, "tokenCache", new VerifiedTokenCache(10));
+        ReflectionTestUtils.setField(filter, "remoteVerifications", new Semaphore(0));
+        ReflectionTestUtils.setField(filter, "remoteVerificationWait", Duration.ZERO);
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/children");
+        request.addHeader("Authorization", "Bearer " + jwt("{\"alg\":\"RS256\",\"kid\":\"k1\"}", "{\"sub\":\"user_1\"}"));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+
+        filter.doFilter(request, response, chain);
+
+        assertThat(response.getStatus()).isEqualTo(503);
+        assertThat(chain.getRequest()).isNull();
+    }
+
+    @Test
+    void doFilter_ShouldRejectWith503AndKeepInterruptWhenInterruptedWaitingForVerification() throws Exception {
+        SecurityProperties securityProperties = new SecurityProperties();
+        securityProperties.setEnabled(true);
+        RequestAuthenticationFilter filter = new RequestAuthenticationFilter(securityProperties);
+        ReflectionTestUtils.setField(filter, "tokenCache", new VerifiedTokenCache(10));
+        ReflectionTestUtils.setField(filter, "remoteVerifications", new Semaphore(0));
+        ReflectionTestUtils.setField(filter, "remoteVerificationWait", Duration.ofSeconds(10));
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/children");
+        request.addHeader("Authorization", "Bearer " + jwt("{\"alg\":\"RS256\",\"kid\":\"k1\"}", "{\"sub\":\"user_1\"}"));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+
+        Thread.currentThread().interrupt();
+        filter.doFilter(request, response, chain);
+
+        // Clears the flag again so it does not leak into other tests
+        assertThat(Thread.interrupted()).isTrue();
+        assertThat(response.getStatus()).isEqualTo(503);
+        assertThat(chain.getRequest()).isNull();
+    }
+
+    private static String jwt(String header, String payload) {
+        Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+        return encoder.encodeToString(header.getBytes(StandardCharsets.UTF_8)) + "."
+                + encoder.encodeToString(payload.getBytes(StandardCharsets.UTF_8)) + ".signature";
+    }
+}
@@ -0,0 +1,107 @@
+package com.careconnect.coreapi.common.filter;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class VerifiedTokenCacheTest {
+
+    private MutableClock clock;
+    private VerifiedTokenCache cache;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock(Instant.parse("2025-01-01T00:00:00Z"));
+        cache = new VerifiedTokenCache(3, clock);
+    }
+
+    @Test
+    void get_ShouldReturnUserIdForCachedToken() {
+        cache.put("token-a", "user_1", clock.instant().plusSeconds(60));
+
+        assertThat(cache.get("token-a")).isEqualTo("user_1");
+        assertThat(cache.get("token-b")).isNull();
+        assertThat(cache.hitCount()).isEqualTo(1);
+        assertThat(cache.missCount()).isEqualTo(1);
+    }
+
+    @Test
+    void get_ShouldEvictExpiredToken() {
+        cache.put("token-a", "user_1", clock.instant().plusSeconds(60));
+
+        clock.advance(Duration.ofSeconds(61));
+
+        assertThat(cache.get("token-a")).isNull();
+        assertThat(cache.size()).isZero();
+        assertThat(cache.evictionCount()).isEqualTo(1);
+    }
+
+    @Test
+    void put_ShouldIgnoreAlreadyExpiredOrIncompleteEntries() {
+        cache.put("token-a", "user_1", clock.instant().minusSeconds(1));
+        cache.put("token-b", null, clock.instant().plusSeconds(60));
+        cache.put("token-c", "user_3", null);
+
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    void put_ShouldEvictOldestEntryWhenFull() {
+        cache.put("token-a", "user_1", clock.instant().plusSeconds(60));
+        cache.put("token-b", "user_2", clock.instant().plusSeconds(60));
+        cache.put("token-c", "user_3", clock.instant().plusSeconds(60));
+        cache.put("token-d", "user_4", clock.instant().plusSeconds(60));
+
+        assertThat(cache.size()).isEqualTo(3);
+        assertThat(cache.get("token-a")).isNull();
+        assertThat(cache.get("token-d")).isEqualTo("user_4");
+        assertThat(cache.evictionCount()).isEqualTo(1);
+    }
+
+    @Test
+    void purgeExpired_ShouldRemoveOnlyExpiredEntries() {
+        cache.put("token-a", "user_1", clock.instant().plusSeconds(30));
+        cache.put("token-b", "user_2", clock.instant().plusSeconds(90));
+
+        clock.advance(Duration.ofSeconds(60));
+        cache.purgeExpired();
+
+        assertThat(cache.size()).isEqualTo(1);
+        assertThat(cache.get("token-b")).isEqualTo("user_2");
+        assertThat(cache.evictionCount()).isEqualTo(1);
+    }
+
+    private static final class MutableClock extends Clock {
+        private Instant now;
+
+        private MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
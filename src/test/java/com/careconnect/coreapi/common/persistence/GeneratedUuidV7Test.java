@@ -0,0 +1,70 @@
+package com.careconnect.coreapi.common.persistence;
+
+import com.careconnect.coreapi.attendance.domain.Attendance;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Entity IDs come from {@link UuidV7Generator} and, being assigned before the insert, let
+ * Hibernate send inserts in JDBC batches of {@code hibernate.jdbc.batch_size} (50 in the test profile).
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+class GeneratedUuidV7Test {
+
+    private static final int ROWS = 120;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Test
+    void persist_AssignsIncreasingVersion7Ids() {
+        List<UUID> ids = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            ids.add(entityManager.persist(attendance(Instant.now())).getId());
+        }
+
+        assertThat(ids).allSatisfy(id -> assertThat(id.version()).isEqualTo(7));
+        assertThat(ids).isSorted();
+    }
+
+    @Test
+    void flush_BatchesInserts() {
+        Statistics statistics = entityManager.getEntityManager().getEntityManagerFactory()
+                .unwrap(SessionFactory.class).getStatistics();
+        Instant now = Instant.now();
+        entityManager.flush();
+        statistics.clear();
+
+        for (int i = 0; i < ROWS; i++) {
+            entityManager.persist(attendance(now));
+        }
+        entityManager.flush();
+
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(ROWS);
+        // One prepared statement per batch of 50 instead of one per row
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(3);
+    }
+
+    private static Attendance attendance(Instant now) {
+        Attendance attendance = new Attendance();
+        attendance.setChildId(UUID.randomUUID());
+        attendance.setCheckIn(now);
+        attendance.setStatus("PRESENT");
+        attendance.setCreatedAt(now);
+        attendance.setUpdatedAt(now);
+        return attendance;
+    }
+}
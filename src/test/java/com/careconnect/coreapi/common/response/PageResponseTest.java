@@ -1,6 +1,7 @@
 package com.careconnect.coreapi.common.response;
 
 import com.careconnect.coreapi.childmgmt.domain.Child;
+import com.careconnect.coreapi.common.exceptions.BadRequestException;
 import org.junit.jupiter.api.Test;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
@@ -154,6 +155,63 @@ class PageResponseTest {
         assertNotNull(links.getPrevious());
     }
 
+    @Test
+    void shouldCreateCursorPageWithNextLink() {
+        // Given
+        List<Child> children = Arrays.asList(createTestChild("John", "Doe"), createTestChild("Jane", "Smith"));
+        PageCursor next = new PageCursor("Smith", children.get(1).getId());
+
+        // When
+        PageResponse<Child> response = PageResponse.ofCursor(children, 2, "lastName,asc;id,asc", null, next, null);
+
+        // Then
+        PageResponse.PageMetadata meta = response.getMeta();
+        assertTrue(meta.isFirst());
+        assertTrue(meta.isHasNext());
+        assertFalse(meta.isHasPrevious());
+        assertEquals(-1, meta.getTotalElements());
+        assertNull(meta.getCursor());
+        assertEquals(next.encode(), meta.getNextCursor());
+
+        PageResponse.PageLinks links = response.getLinks();
+        assertEquals("?cursor=" + next.encode() + "&size=2", links.getNext());
+        assertEquals("?cursor=&size=2", links.getFirst());
+        assertNull(links.getLast());
+        assertNull(links.getPrevious());
+    }
+
+    @Test
+    void shouldMarkLastCursorPageAndCountWhenRequested() {
+        PageCursor cursor = new PageCursor("Doe", UUID.randomUUID());
+
+        PageResponse<Child> response = PageResponse.ofCursor(
+                List.of(createTestChild("Jane", "Smith")), 20, "lastName,asc;id,asc", cursor, null, 21L);
+
+        assertTrue(response.getMeta().isLast());
+        assertTrue(response.getMeta().isHasPrevious());
+        assertEquals(21, response.getMeta().getTotalElements());
+        assertEquals(2, response.getMeta().getTotalPages());
+        assertEquals(cursor.encode(), response.getMeta().getCursor());
+        assertNull(response.getLinks().getNext());
+    }
+
+    @Test
+    void shouldRoundTripPageCursor() {
+        PageCursor cursor = new PageCursor("O'Brien\nSmith", UUID.randomUUID());
+
+        String token = cursor.encode();
+
+        assertTrue(token.matches("[A-Za-z0-9_-]+"));
+        assertEquals(cursor, PageCursor.decode(token));
+        assertNull(PageCursor.decode(""));
+    }
+
+    @Test
+    void shouldRejectMalformedPageCursor() {
+        assertThrows(BadRequestException.class, () -> PageCursor.decode("not a cursor"));
+        assertThrows(BadRequestException.class, () -> PageCursor.decode("U21pdGg"));
+    }
+
     private Child createTestChild(String firstName, String lastName) {
         Child child = new Child();
         child.setId(UUID.randomUUID());
@@ -0,0 +1,54 @@
+package com.careconnect.coreapi.common.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BloomFilterTest {
+
+    @Test
+    void mightContain_EveryStringPut() {
+        BloomFilter filter = new BloomFilter(10_000, 0.01);
+
+        IntStream.range(0, 10_000).forEach(i -> filter.put("txn-" + i));
+
+        assertThat(IntStream.range(0, 10_000).allMatch(i -> filter.mightContain("txn-" + i))).isTrue();
+    }
+
+    @Test
+    void mightContain_StringsNeverPut_CloseToFalsePositiveRate() {
+        BloomFilter filter = new BloomFilter(10_000, 0.01);
+        IntStream.range(0, 10_000).forEach(i -> filter.put("txn-" + i));
+
+        long falsePositives = IntStream.range(0, 100_000).filter(i -> filter.mightContain("other-" + i)).count();
+
+        assertThat(falsePositives).isLessThan(2_000);
+    }
+
+    @Test
+    void put_ReportsWhetherFilterChanged() {
+        BloomFilter filter = new BloomFilter(1_000, 0.001);
+
+        assertThat(filter.put("txn-1")).isTrue();
+        assertThat(filter.put("txn-1")).isFalse();
+        assertThat(filter.mightContain("txn-2")).isFalse();
+    }
+
+    @Test
+    void constructor_SizesForRate() {
+        BloomFilter filter = new BloomFilter(1_000_000, 0.001);
+
+        // About 14.4 bits and 10 hash functions per string at 0.1%
+        assertThat(filter.bitSize()).isBetween(14_370_000L, 14_380_000L);
+        assertThat(filter.hashFunctions()).isEqualTo(10);
+    }
+
+    @Test
+    void constructor_RejectsInvalidArguments() {
+        assertThatThrownBy(() -> new BloomFilter(0, 0.01)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new BloomFilter(100, 1.0)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,89 @@
+package com.careconnect.coreapi.common.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class WeightedLruCacheTest {
+
+    private final WeightedLruCache<String, String> cache =
+            new WeightedLruCache<>(10, (key, value) -> value.length());
+
+    @Test
+    void get_ComputesOnceAndCountsHitsAndMisses() {
+        AtomicInteger loads = new AtomicInteger();
+
+        assertThat(cache.get("a", key -> { loads.incrementAndGet(); return "xx"; })).isEqualTo("xx");
+        assertThat(cache.get("a", key -> { loads.incrementAndGet(); return "yy"; })).isEqualTo("xx");
+
+        assertThat(loads).hasValue(1);
+        assertThat(cache.hitCount()).isEqualTo(1);
+        assertThat(cache.missCount()).isEqualTo(1);
+        assertThat(cache.hitRate()).isEqualTo(0.5);
+    }
+
+    @Test
+    void put_EvictsLeastRecentlyUsedWhenOverWeight() {
+        cache.put("a", "aaaa");
+        cache.put("b", "bbbb");
+        cache.getIfPresent("a");
+        cache.put("c", "cccc");
+
+        assertThat(cache.getIfPresent("a")).isEqualTo("aaaa");
+        assertThat(cache.getIfPresent("b")).isNull();
+        assertThat(cache.getIfPresent("c")).isEqualTo("cccc");
+        assertThat(cache.weightedSize()).isEqualTo(8);
+        assertThat(cache.evictionCount()).isEqualTo(1);
+    }
+
+    @Test
+    void getIfPresent_ValueFailingCheckCountsAsMiss() {
+        cache.put("a", "old");
+
+        assertThat(cache.getIfPresent("a", value -> value.equals("new"))).isNull();
+        assertThat(cache.getIfPresent("a", value -> value.equals("old"))).isEqualTo("old");
+
+        assertThat(cache.hitCount()).isEqualTo(1);
+        assertThat(cache.missCount()).isEqualTo(1);
+    }
+
+    @Test
+    void put_ReplacingEntryAdjustsWeight() {
+        cache.put("a", "aaaa");
+        cache.put("a", "aa");
+
+        assertThat(cache.size()).isEqualTo(1);
+        assertThat(cache.weightedSize()).isEqualTo(2);
+    }
+
+    @Test
+    void put_SkipsEntriesHeavierThanBudget() {
+        String value = cache.get("big", key -> "x".repeat(11));
+
+        assertThat(value).hasSize(11);
+        assertThat(cache.size()).isZero();
+        assertThat(cache.evictionCount()).isZero();
+    }
+
+    @Test
+    void invalidateAndClear_ReleaseWeight() {
+        cache.put("a", "aaa");
+        cache.put("b", "bbb");
+
+        cache.invalidate("a");
+        assertThat(cache.weightedSize()).isEqualTo(3);
+
+        cache.clear();
+        assertThat(cache.size()).isZero();
+        assertThat(cache.weightedSize()).isZero();
+    }
+
+    @Test
+    void constructor_RejectsNonPositiveWeight() {
+        assertThatThrownBy(() -> new WeightedLruCache<String, String>(0, (key, value) -> 1))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
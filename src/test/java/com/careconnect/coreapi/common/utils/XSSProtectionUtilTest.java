@@ -1,6 +1,12 @@
 package com.careconnect.coreapi.common.utils;
 
 import org.junit.jupiter.api.Test;
+import org.owasp.html.HtmlPolicyBuilder;
+import org.owasp.html.PolicyFactory;
+import org.owasp.html.Sanitizers;
+
+import java.util.List;
+import java.util.Random;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -76,4 +82,91 @@ public class XSSProtectionUtilTest {
         assertThat(sanitized).contains("<b>World</b>");
         assertThat(sanitized).contains("<p>paragraph text</p>");
     }
+
+    @Test
+    public void testSanitize_MemoizesPerPolicy() {
+        String input = "Memo <b>Test</b> " + System.nanoTime();
+        long hitsBefore = XSSProtectionUtil.cache().hitCount();
+
+        String first = XSSProtectionUtil.sanitizeText(input);
+        String second = XSSProtectionUtil.sanitizeText(input);
+        String formatted = XSSProtectionUtil.sanitizeFormattedText(input);
+
+        // Same policy and input is served from the cache; a different policy is not
+        assertThat(second).isSameAs(first);
+        assertThat(first).doesNotContain("<b>");
+        assertThat(formatted).contains("<b>Test</b>");
+        assertThat(XSSProtectionUtil.cache().hitCount() - hitsBefore).isGreaterThanOrEqualTo(1);
+    }
+
+    @Test
+    public void testSanitize_LongInputBypassesCache() {
+        String input = "<i>x</i>" + "a".repeat(5_000);
+        long missesBefore = XSSProtectionUtil.cache().missCount();
+
+        assertThat(XSSProtectionUtil.sanitizeText(input)).startsWith("xaaa");
+        assertThat(XSSProtectionUtil.cache().missCount()).isEqualTo(missesBefore);
+    }
+
+    @Test
+    public void testSanitizeText_PlainTextReturnsSameInstance() {
+        String name = "Zoë-Anne Müller (555) 010-2030";
+
+        assertThat(XSSProtectionUtil.isPlainText(name)).isTrue();
+        assertThat(XSSProtectionUtil.sanitizeText(name)).isSameAs(name);
+        assertThat(XSSProtectionUtil.sanitizeText("  Jane  ")).isEqualTo("Jane");
+    }
+
+    @Test
+    public void testIsPlainText_RejectsMarkupAndEncodedCharacters() {
+        for (String input : List.of("a<b", "Tom & Jerry", "a@b.com", "1+1", "x=y", "\"quoted\"", "`tick`",
+                "{{name}}", "tab\u0000", "emoji \uD83D\uDE00", "\u1FEF", "\uFFFD")) {
+            assertThat(XSSProtectionUtil.isPlainText(input)).as(input).isFalse();
+        }
+    }
+
+    @Test
+    public void testIsPlainText_AgreesWithOwaspForEveryCharacter() {
+        List<PolicyFactory> policies = owaspPolicies();
+        for (char c = 0; c < Character.MAX_VALUE; c++) {
+            String input = "a" + c + "b";
+            if (XSSProtectionUtil.isPlainText(input)) {
+                for (PolicyFactory policy : policies) {
+                    assertThat(policy.sanitize(input)).as("U+%04X", (int) c).isEqualTo(input);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testSanitize_MatchesOwaspOnRandomInput() {
+        List<PolicyFactory> policies = owaspPolicies();
+        String alphabet = "abcXYZ019 \t\n\r-.,()/:;!?#$%^*_[]{}|~éñ中\u0000\"&'+<=>@`\uD83D\uDE00\uFFFD";
+        Random random = new Random(20240325L);
+
+        for (int i = 0; i < 20_000; i++) {
+            StringBuilder builder = new StringBuilder();
+            int length = random.nextInt(24);
+            for (int j = 0; j < length; j++) {
+                builder.append(alphabet.charAt(random.nextInt(alphabet.length())));
+            }
+            String input = builder.toString();
+            if (input.isBlank()) {
+                continue;
+            }
+            assertThat(XSSProtectionUtil.sanitizeText(input)).as(input)
+                    .isEqualTo(policies.get(0).sanitize(input).trim());
+            assertThat(XSSProtectionUtil.sanitizeFormattedText(input)).as(input)
+                    .isEqualTo(policies.get(1).sanitize(input).trim());
+            assertThat(XSSProtectionUtil.sanitizeRichText(input)).as(input)
+                    .isEqualTo(policies.get(2).sanitize(input).trim());
+        }
+    }
+
+    private static List<PolicyFactory> owaspPolicies() {
+        return List.of(
+                new HtmlPolicyBuilder().toFactory(),
+                Sanitizers.FORMATTING,
+                Sanitizers.FORMATTING.and(Sanitizers.BLOCKS));
+    }
 }
@@ -0,0 +1,191 @@
+package com.careconnect.coreapi.communications.internal.service;
+
+import com.careconnect.coreapi.common.exceptions.ResourceNotFoundException;
+import com.careconnect.coreapi.common.response.PageCursor;
+import com.careconnect.coreapi.common.response.PageResponse;
+import com.careconnect.coreapi.communications.dto.MarkReadResult;
+import com.careconnect.coreapi.communications.dto.MessageResponseDto;
+import com.careconnect.coreapi.communications.dto.SendMessageRequestDto;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Messaging on H2: unread counts follow sends and mark-reads, and folders page by cursor.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class MessageServiceTest {
+
+    @Autowired
+    private MessageService messageService;
+
+    @Autowired
+    private UnreadCounters unreadCounters;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private UUID teacherId;
+    private UUID parentId;
+
+    @BeforeEach
+    void setUp() {
+        teacherId = insertUser();
+        parentId = insertUser();
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM messages WHERE sender_id IN (?, ?)", teacherId, parentId);
+        jdbcTemplate.update("DELETE FROM message_unread_counts WHERE user_id IN (?, ?)", teacherId, parentId);
+        jdbcTemplate.update("DELETE FROM users WHERE id IN (?, ?)", teacherId, parentId);
+    }
+
+    @Test
+    void send_AddsToRecipientUnreadCount() {
+        // When
+        send(teacherId, parentId, "Pickup");
+        send(teacherId, parentId, "Lunch");
+        send(parentId, teacherId, "Thanks");
+
+        // Then
+        assertThat(messageService.getUnreadCount(parentId).unread()).isEqualTo(2);
+        assertThat(messageService.getUnreadCount(teacherId).unread()).isEqualTo(1);
+        assertThat(messageService.getUnreadCount(UUID.randomUUID()).unread()).isZero();
+    }
+
+    @Test
+    void send_UnknownRecipient_ThrowsResourceNotFound() {
+        assertThatThrownBy(() -> send(teacherId, UUID.randomUUID(), "Hello"))
+                .isInstanceOf(ResourceNotFoundException.class);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM messages WHERE sender_id = ?", Integer.class,
+                teacherId)).isZero();
+    }
+
+    @Test
+    void getInbox_PagesNewestFirstByCursor() {
+        // Given
+        List<UUID> sent = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            sent.add(send(teacherId, parentId, "Update " + i).id());
+        }
+
+        // When
+        List<MessageResponseDto> inbox = new ArrayList<>();
+        PageCursor cursor = null;
+        int pages = 0;
+        do {
+            PageResponse<MessageResponseDto> page = messageService.getInbox(parentId, cursor, 2);
+            inbox.addAll(page.getData());
+            cursor = PageCursor.decode(page.getMeta().getNextCursor());
+            pages++;
+        } while (cursor != null);
+
+        // Then
+        assertThat(pages).isEqualTo(3);
+        assertThat(inbox).extracting(MessageResponseDto::id).containsExactlyElementsOf(sent.reversed());
+        assertThat(inbox).isSortedAccordingTo(Comparator.comparing(MessageResponseDto::createdAt).reversed());
+        assertThat(messageService.getSent(teacherId, null, 10).getData()).hasSize(5);
+        assertThat(messageService.getSent(parentId, null, 10).getData()).isEmpty();
+    }
+
+    @Test
+    void markRead_SelectedMessages_TakesThemOffUnreadCount() {
+        // Given
+        UUID first = send(teacherId, parentId, "One").id();
+        UUID second = send(teacherId, parentId, "Two").id();
+        send(teacherId, parentId, "Three");
+        UUID toTeacher = send(parentId, teacherId, "Reply").id();
+
+        // When
+        MarkReadResult result = messageService.markRead(parentId, List.of(first, second, toTeacher));
+
+        // Then: the teacher's message is not in the parent's inbox
+        assertThat(result.marked()).isEqualTo(2);
+        assertThat(result.unread()).isEqualTo(1);
+        assertThat(messageService.markRead(parentId, List.of(first)).marked()).isZero();
+        assertThat(messageService.getUnreadCount(parentId).unread()).isEqualTo(1);
+        assertThat(messageService.getUnreadCount(teacherId).unread()).isEqualTo(1);
+    }
+
+    @Test
+    void markRead_NoIds_MarksWholeInbox() {
+        send(teacherId, parentId, "One");
+        send(teacherId, parentId, "Two");
+
+        MarkReadResult result = messageService.markRead(parentId, null);
+
+        assertThat(result.marked()).isEqualTo(2);
+        assertThat(result.unread()).isZero();
+        assertThat(messageService.getInbox(parentId, null, 10).getData()).allMatch(MessageResponseDto::read);
+    }
+
+    @Test
+    void flush_AddsChangesToStoredCounts() {
+        // Given
+        UUID first = send(teacherId, parentId, "One").id();
+        send(teacherId, parentId, "Two");
+        send(teacherId, parentId, "Three");
+        messageService.markRead(parentId, List.of(first));
+
+        // When
+        unreadCounters.flush();
+
+        // Then
+        assertThat(jdbcTemplate.queryForObject("SELECT unread FROM message_unread_counts WHERE user_id = ?",
+                Integer.class, parentId)).isEqualTo(2);
+    }
+
+    @Test
+    void refresh_PicksUpChangesStoredByOtherInstances() {
+        // Given
+        send(teacherId, parentId, "One");
+        unreadCounters.flush();
+        send(teacherId, parentId, "Two");
+        // Another instance flushes three messages it accepted for the same recipient
+        jdbcTemplate.update("UPDATE message_unread_counts SET unread = unread + 3, updated_at = ? WHERE user_id = ?",
+                Timestamp.from(Instant.now()), parentId);
+
+        // When
+        unreadCounters.refresh();
+
+        // Then
+        assertThat(messageService.getUnreadCount(parentId).unread()).isEqualTo(5);
+        unreadCounters.flush();
+        assertThat(jdbcTemplate.queryForObject("SELECT unread FROM message_unread_counts WHERE user_id = ?",
+                Integer.class, parentId)).isEqualTo(5);
+        assertThat(messageService.getUnreadCount(parentId).unread()).isEqualTo(5);
+    }
+
+    private MessageResponseDto send(UUID senderId, UUID recipientId, String subject) {
+        return messageService.send(SendMessageRequestDto.builder()
+                .senderId(senderId)
+                .recipientId(recipientId)
+                .subject(subject)
+                .content("Message about " + subject)
+                .build());
+    }
+
+    private UUID insertUser() {
+        UUID id = UUID.randomUUID();
+        Timestamp now = Timestamp.from(Instant.now());
+        jdbcTemplate.update("INSERT INTO users (id, clerk_user_id, created_at, updated_at) VALUES (?, ?, ?, ?)",
+                id, "user_" + id, now, now);
+        return id;
+    }
+}